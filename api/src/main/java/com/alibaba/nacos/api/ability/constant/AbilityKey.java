@@ -47,6 +47,22 @@ public enum AbilityKey {
      */
     SERVER_TEST_2("test_2", "just for junit test", AbilityMode.SERVER),
     
+    /**
+     * Server support decoding and encoding request payload by binary codec.
+     */
+    SERVER_SUPPORT_BINARY_PAYLOAD("supportBinaryPayload", "support binary payload codec", AbilityMode.SERVER),
+    
+    /**
+     * Sdk client support apply naming delta push.
+     */
+    SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH("supportNamingDeltaPush",
+            "support apply naming delta push", AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support decoding and encoding request payload by binary codec.
+     */
+    SDK_CLIENT_SUPPORT_BINARY_PAYLOAD("supportBinaryPayload", "support binary payload codec", AbilityMode.SDK_CLIENT),
+    
     /**
      * For Test temporarily.
      */
@@ -34,6 +34,12 @@ public class ConfigBatchListenRequest extends AbstractConfigRequest {
     
     private List<ConfigListenContext> configListenContexts = new ArrayList<>();
     
+    /**
+     * Digest of all configs listened on the connection, if set, server checks it with the listen context of the
+     * connection instead of checking each config.
+     */
+    private String listenDigest;
+    
     /**
      * add listen config.
      *
@@ -87,6 +93,14 @@ public class ConfigBatchListenRequest extends AbstractConfigRequest {
         this.listen = listen;
     }
     
+    public String getListenDigest() {
+        return listenDigest;
+    }
+    
+    public void setListenDigest(String listenDigest) {
+        this.listenDigest = listenDigest;
+    }
+    
     public static class ConfigListenContext {
         
         String group;
@@ -28,6 +28,17 @@ public class ConfigQueryRequest extends AbstractConfigRequest {
     
     private String tag;
     
+    /**
+     * Index of the content chunk requested, -1 means the whole content is requested. Client which supports chunked
+     * transfer requests chunk 0 first, and the server returns whole content if it is not large.
+     */
+    private int chunkIndex = -1;
+    
+    /**
+     * Md5 of the content returned with chunk 0, the following chunks are only returned if the content is not changed.
+     */
+    private String chunkMd5;
+    
     /**
      * request builder.
      *
@@ -62,6 +73,22 @@ public class ConfigQueryRequest extends AbstractConfigRequest {
         this.tag = tag;
     }
     
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+    
+    public void setChunkIndex(int chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+    
+    public String getChunkMd5() {
+        return chunkMd5;
+    }
+    
+    public void setChunkMd5(String chunkMd5) {
+        this.chunkMd5 = chunkMd5;
+    }
+    
     public boolean isNotify() {
         String notify = getHeader(Constants.Config.NOTIFY_HEADER, Boolean.FALSE.toString());
         return Boolean.parseBoolean(notify);
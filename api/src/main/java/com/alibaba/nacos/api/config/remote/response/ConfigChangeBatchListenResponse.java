@@ -32,6 +32,12 @@ public class ConfigChangeBatchListenResponse extends Response {
     
     List<ConfigContext> changedConfigs = new ArrayList<>();
     
+    /**
+     * Whether the listen digest of request matches the listen context of server, always false for the server which
+     * doesn't support listen digest.
+     */
+    boolean digestMatched;
+    
     public ConfigChangeBatchListenResponse() {
     }
     
@@ -68,6 +74,14 @@ public class ConfigChangeBatchListenResponse extends Response {
         this.changedConfigs = changedConfigs;
     }
     
+    public boolean isDigestMatched() {
+        return digestMatched;
+    }
+    
+    public void setDigestMatched(boolean digestMatched) {
+        this.digestMatched = digestMatched;
+    }
+    
     /**
      * build fail response.
      *
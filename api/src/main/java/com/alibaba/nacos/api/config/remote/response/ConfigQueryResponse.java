@@ -46,6 +46,19 @@ public class ConfigQueryResponse extends Response {
     
     String tag;
     
+    /**
+     * Count of content chunks, 0 means the whole content is returned. Otherwise the content is one chunk of the UTF-8
+     * bytes of content encoded by base64, and the md5 is the md5 of whole content.
+     */
+    int chunkCount;
+    
+    int chunkIndex;
+    
+    /**
+     * Whether the chunk bytes are compressed by gzip before encoded.
+     */
+    boolean compressed;
+    
     public ConfigQueryResponse() {
     }
     
@@ -82,6 +95,30 @@ public class ConfigQueryResponse extends Response {
         this.tag = tag;
     }
     
+    public int getChunkCount() {
+        return chunkCount;
+    }
+    
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+    
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+    
+    public void setChunkIndex(int chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+    
+    public boolean isCompressed() {
+        return compressed;
+    }
+    
+    public void setCompressed(boolean compressed) {
+        this.compressed = compressed;
+    }
+    
     public String getMd5() {
         return md5;
     }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+
+/**
+ * Notify subscriber with the delta of instances, only pushed to clients which support
+ * {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH}.
+ *
+ * <p>The {@link #serviceInfo} carries the newest service info without hosts, its checksum is the checksum of the
+ * newest instances. Client should apply the delta only when the checksum of local instances equals to
+ * {@link #baseChecksum}, otherwise should query the full instances from server.
+ *
+ * @author Nacos
+ */
+public class NotifySubscriberDeltaRequest extends ServerRequest {
+    
+    private ServiceInfo serviceInfo;
+    
+    private String baseChecksum;
+    
+    private List<Instance> addedHosts = new ArrayList<>();
+    
+    private List<Instance> removedHosts = new ArrayList<>();
+    
+    private List<Instance> modifiedHosts = new ArrayList<>();
+    
+    public NotifySubscriberDeltaRequest() {
+    }
+    
+    @Override
+    public String getModule() {
+        return NAMING_MODULE;
+    }
+    
+    /**
+     * Build delta request for the newest service info, the hosts of the service info are not carried.
+     *
+     * @param serviceInfo   newest service info
+     * @param baseChecksum  checksum of the instances which the delta based on
+     * @param addedHosts    instances added since the base
+     * @param removedHosts  instances removed since the base
+     * @param modifiedHosts instances modified since the base
+     * @return delta request
+     */
+    public static NotifySubscriberDeltaRequest buildNotifySubscriberDeltaRequest(ServiceInfo serviceInfo,
+            String baseChecksum, List<Instance> addedHosts, List<Instance> removedHosts,
+            List<Instance> modifiedHosts) {
+        ServiceInfo withoutHosts = new ServiceInfo();
+        withoutHosts.setName(serviceInfo.getName());
+        withoutHosts.setGroupName(serviceInfo.getGroupName());
+        withoutHosts.setClusters(serviceInfo.getClusters());
+        withoutHosts.setCacheMillis(serviceInfo.getCacheMillis());
+        withoutHosts.setLastRefTime(serviceInfo.getLastRefTime());
+        withoutHosts.setChecksum(serviceInfo.getChecksum());
+        withoutHosts.setAllIPs(serviceInfo.isAllIPs());
+        withoutHosts.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        NotifySubscriberDeltaRequest result = new NotifySubscriberDeltaRequest();
+        result.setServiceInfo(withoutHosts);
+        result.setBaseChecksum(baseChecksum);
+        result.setAddedHosts(addedHosts);
+        result.setRemovedHosts(removedHosts);
+        result.setModifiedHosts(modifiedHosts);
+        return result;
+    }
+    
+    public ServiceInfo getServiceInfo() {
+        return serviceInfo;
+    }
+    
+    public void setServiceInfo(ServiceInfo serviceInfo) {
+        this.serviceInfo = serviceInfo;
+    }
+    
+    public String getBaseChecksum() {
+        return baseChecksum;
+    }
+    
+    public void setBaseChecksum(String baseChecksum) {
+        this.baseChecksum = baseChecksum;
+    }
+    
+    public List<Instance> getAddedHosts() {
+        return addedHosts;
+    }
+    
+    public void setAddedHosts(List<Instance> addedHosts) {
+        this.addedHosts = addedHosts;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+    
+    public void setRemovedHosts(List<Instance> removedHosts) {
+        this.removedHosts = removedHosts;
+    }
+    
+    public List<Instance> getModifiedHosts() {
+        return modifiedHosts;
+    }
+    
+    public void setModifiedHosts(List<Instance> modifiedHosts) {
+        this.modifiedHosts = modifiedHosts;
+    }
+}
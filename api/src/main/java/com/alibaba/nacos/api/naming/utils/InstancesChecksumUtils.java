@@ -0,0 +1,86 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.utils;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Checksum utils for instances of service, used to check whether the instances of client and server are same when
+ * apply delta push.
+ *
+ * <p>The checksum is order-independent, so client and server can calculate it with different orders of instances.
+ *
+ * @author Nacos
+ */
+public class InstancesChecksumUtils {
+    
+    private static final long FNV_64_INIT = 0xcbf29ce484222325L;
+    
+    private static final long FNV_64_PRIME = 0x100000001b3L;
+    
+    private static final char SEPARATOR = '#';
+    
+    /**
+     * Calculate checksum of instances.
+     *
+     * @param instances instances
+     * @return checksum of instances
+     */
+    public static String calculate(Collection<Instance> instances) {
+        long result = 0L;
+        for (Instance each : instances) {
+            result += hash(buildCanonicalString(each));
+        }
+        return Long.toHexString(result) + SEPARATOR + instances.size();
+    }
+    
+    /**
+     * Get the identity key of instance, instance with same ip, port and cluster is regarded as the same one.
+     *
+     * @param instance instance
+     * @return identity key
+     */
+    public static String getInstanceKey(Instance instance) {
+        return instance.getIp() + SEPARATOR + instance.getPort() + SEPARATOR + instance.getClusterName();
+    }
+    
+    private static String buildCanonicalString(Instance instance) {
+        StringBuilder result = new StringBuilder(getInstanceKey(instance));
+        result.append(SEPARATOR).append(instance.getInstanceId()).append(SEPARATOR).append(instance.getServiceName())
+                .append(SEPARATOR).append(instance.getWeight()).append(SEPARATOR).append(instance.isHealthy())
+                .append(SEPARATOR).append(instance.isEnabled()).append(SEPARATOR).append(instance.isEphemeral());
+        if (null != instance.getMetadata()) {
+            for (Map.Entry<String, String> entry : new TreeMap<>(instance.getMetadata()).entrySet()) {
+                result.append(SEPARATOR).append(entry.getKey()).append('=').append(entry.getValue());
+            }
+        }
+        return result.toString();
+    }
+    
+    private static long hash(String value) {
+        long result = FNV_64_INIT;
+        for (int i = 0; i < value.length(); i++) {
+            result ^= value.charAt(i);
+            result *= FNV_64_PRIME;
+        }
+        return result;
+    }
+}
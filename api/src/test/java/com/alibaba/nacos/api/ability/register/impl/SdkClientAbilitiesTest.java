@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.api.ability.register.impl;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -24,7 +25,7 @@ class SdkClientAbilitiesTest {
     
     @Test
     void testGetStaticAbilities() {
-        // TODO add the sdk client abilities.
-        assertTrue(SdkClientAbilities.getStaticAbilities().isEmpty());
+        assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH));
+        assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD));
     }
 }
\ No newline at end of file
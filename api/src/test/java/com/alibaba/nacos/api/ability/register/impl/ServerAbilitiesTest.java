@@ -32,5 +32,6 @@ class ServerAbilitiesTest {
     @Test
     void testSupportPersistentInstanceByGrpcAbilities() {
         assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC));
+        assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_BINARY_PAYLOAD));
     }
 }
\ No newline at end of file
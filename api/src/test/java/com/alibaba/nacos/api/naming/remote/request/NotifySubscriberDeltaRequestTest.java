@@ -0,0 +1,84 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotifySubscriberDeltaRequestTest {
+    
+    private static ObjectMapper mapper;
+    
+    @BeforeAll
+    static void setUp() throws Exception {
+        mapper = new ObjectMapper();
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+    
+    @Test
+    void testBuildWithoutHosts() {
+        ServiceInfo serviceInfo = new ServiceInfo("group@@service@@cluster");
+        serviceInfo.setHosts(Collections.singletonList(createInstance(1)));
+        serviceInfo.setChecksum("new");
+        NotifySubscriberDeltaRequest request = NotifySubscriberDeltaRequest
+                .buildNotifySubscriberDeltaRequest(serviceInfo, "base", Collections.singletonList(createInstance(2)),
+                        Collections.emptyList(), Collections.emptyList());
+        assertEquals(serviceInfo.getKey(), request.getServiceInfo().getKey());
+        assertEquals("new", request.getServiceInfo().getChecksum());
+        assertTrue(request.getServiceInfo().getHosts().isEmpty());
+        assertEquals("base", request.getBaseChecksum());
+        assertEquals(1, request.getAddedHosts().size());
+        assertEquals(NAMING_MODULE, request.getModule());
+    }
+    
+    @Test
+    void testSerializeAndDeserialize() throws JsonProcessingException {
+        ServiceInfo serviceInfo = new ServiceInfo("group@@service");
+        NotifySubscriberDeltaRequest request = NotifySubscriberDeltaRequest
+                .buildNotifySubscriberDeltaRequest(serviceInfo, "base", Collections.emptyList(),
+                        Collections.singletonList(createInstance(1)), Collections.singletonList(createInstance(2)));
+        String json = mapper.writeValueAsString(request);
+        assertTrue(json.contains("\"baseChecksum\":\"base\""));
+        assertTrue(json.contains("\"module\":\"" + NAMING_MODULE + "\""));
+        NotifySubscriberDeltaRequest actual = mapper.readValue(json, NotifySubscriberDeltaRequest.class);
+        assertEquals("group@@service", actual.getServiceInfo().getKey());
+        assertEquals("base", actual.getBaseChecksum());
+        assertTrue(actual.getAddedHosts().isEmpty());
+        assertEquals(1, actual.getRemovedHosts().get(0).getPort());
+        assertEquals(2, actual.getModifiedHosts().get(0).getPort());
+    }
+    
+    private Instance createInstance(int port) {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(port);
+        return instance;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.utils;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class InstancesChecksumUtilsTest {
+    
+    @Test
+    void testCalculateIndependentOfOrder() {
+        Instance instance1 = createInstance("1.1.1.1", 1);
+        Instance instance2 = createInstance("1.1.1.2", 2);
+        assertEquals(InstancesChecksumUtils.calculate(Arrays.asList(instance1, instance2)),
+                InstancesChecksumUtils.calculate(Arrays.asList(instance2, instance1)));
+    }
+    
+    @Test
+    void testCalculateWithChangedInstance() {
+        Instance instance = createInstance("1.1.1.1", 1);
+        String checksum = InstancesChecksumUtils.calculate(Collections.singletonList(instance));
+        instance.setHealthy(false);
+        assertNotEquals(checksum, InstancesChecksumUtils.calculate(Collections.singletonList(instance)));
+        instance.setHealthy(true);
+        instance.getMetadata().put("k", "v");
+        assertNotEquals(checksum, InstancesChecksumUtils.calculate(Collections.singletonList(instance)));
+    }
+    
+    @Test
+    void testCalculateWithMetadataOrder() {
+        Instance instance1 = createInstance("1.1.1.1", 1);
+        instance1.getMetadata().put("a", "1");
+        instance1.getMetadata().put("b", "2");
+        Instance instance2 = createInstance("1.1.1.1", 1);
+        instance2.getMetadata().put("b", "2");
+        instance2.getMetadata().put("a", "1");
+        assertEquals(InstancesChecksumUtils.calculate(Collections.singletonList(instance1)),
+                InstancesChecksumUtils.calculate(Collections.singletonList(instance2)));
+    }
+    
+    @Test
+    void testCalculateEmpty() {
+        assertEquals("0#0", InstancesChecksumUtils.calculate(Collections.emptyList()));
+    }
+    
+    @Test
+    void testGetInstanceKey() {
+        Instance instance = createInstance("1.1.1.1", 1);
+        instance.setClusterName("c");
+        assertEquals("1.1.1.1#1#c", InstancesChecksumUtils.getInstanceKey(instance));
+    }
+    
+    private Instance createInstance(String ip, int port) {
+        Instance instance = new Instance();
+        instance.setIp(ip);
+        instance.setPort(port);
+        return instance;
+    }
+}
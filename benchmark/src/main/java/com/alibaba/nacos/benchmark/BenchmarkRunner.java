@@ -0,0 +1,59 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry of nacos benchmarks.
+ *
+ * <p>Accepts all the JMH command line options, and exports the results as JSON to {@code nacos-benchmark-result.json}
+ * unless {@code -rf} or {@code -rff} is specified, so that the results can be compared between versions. For example:
+ *
+ * <pre>
+ * mvn -Pbenchmark -pl benchmark -am package -DskipTests
+ * java -jar benchmark/target/nacos-benchmarks.jar ConfigCacheServiceBenchmark -rff result.json
+ * </pre>
+ *
+ * @author Nacos
+ */
+public class BenchmarkRunner {
+    
+    private static final String DEFAULT_RESULT_FILE = "nacos-benchmark-result.json";
+    
+    /**
+     * Run benchmarks.
+     *
+     * @param args JMH command line options
+     * @throws Exception any exception during running
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(builder.build()).run();
+    }
+}
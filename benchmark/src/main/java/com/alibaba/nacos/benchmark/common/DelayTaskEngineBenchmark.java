@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
+import com.alibaba.nacos.common.task.engine.TimingWheelDelayTaskExecuteEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for adding and merging tasks into {@link NacosDelayTaskExecuteEngine}, such as push and dump tasks.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+public class DelayTaskEngineBenchmark {
+    
+    private static final int KEY_COUNT = 1024;
+    
+    private static final long TASK_INTERVAL = 1000L;
+    
+    private static final long PROCESS_INTERVAL = 100L;
+    
+    @Param({"scan", "timing-wheel"})
+    private String engineType;
+    
+    private NacosDelayTaskExecuteEngine engine;
+    
+    private String[] keys;
+    
+    /**
+     * Prepare engine and task keys.
+     */
+    @Setup
+    public void setUp() {
+        String name = "nacos.benchmark.delay.task";
+        engine = "timing-wheel".equals(engineType)
+                ? new TimingWheelDelayTaskExecuteEngine(name, KEY_COUNT, null, PROCESS_INTERVAL)
+                : new NacosDelayTaskExecuteEngine(name, KEY_COUNT, null, PROCESS_INTERVAL);
+        engine.setDefaultTaskProcessor(task -> true);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "benchmark-task-" + i;
+        }
+    }
+    
+    @TearDown
+    public void tearDown() throws NacosException {
+        engine.shutdown();
+    }
+    
+    @Benchmark
+    public void addTask() {
+        engine.addTask(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)], new BenchmarkDelayTask());
+    }
+    
+    private static class BenchmarkDelayTask extends AbstractDelayTask {
+        
+        private BenchmarkDelayTask() {
+            setTaskInterval(TASK_INTERVAL);
+            setLastProcessTime(System.currentTimeMillis());
+        }
+        
+        @Override
+        public void merge(AbstractDelayTask task) {
+        }
+    }
+}
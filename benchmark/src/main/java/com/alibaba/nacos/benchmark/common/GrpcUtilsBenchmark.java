@@ -0,0 +1,131 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for converting and parsing grpc payloads, which is done for each request, response and push.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GrpcUtilsBenchmark {
+    
+    @Param({"10", "100"})
+    private int instanceCount;
+    
+    /**
+     * Codec of requests, responses are always encoded by json.
+     */
+    @Param({"json", "binary"})
+    private String codecType;
+    
+    private PayloadCodec codec;
+    
+    private NotifySubscriberRequest notifySubscriberRequest;
+    
+    private ConfigQueryRequest configQueryRequest;
+    
+    private ConfigQueryResponse configQueryResponse;
+    
+    private Payload notifySubscriberPayload;
+    
+    private Payload configQueryResponsePayload;
+    
+    /**
+     * Prepare requests, responses and their payloads.
+     */
+    @Setup
+    public void setUp() {
+        PayloadRegistry.init();
+        codec = PayloadCodecManager.selectCodec(NotifySubscriberRequest.class, "binary".equals(codecType));
+        ServiceInfo serviceInfo = new ServiceInfo("DEFAULT_GROUP@@benchmark.service", "");
+        List<Instance> hosts = new ArrayList<>(instanceCount);
+        for (int i = 0; i < instanceCount; i++) {
+            Instance instance = new Instance();
+            instance.setIp("10.0." + (i / 256) + "." + (i % 256));
+            instance.setPort(8080);
+            instance.setClusterName("DEFAULT");
+            instance.setServiceName(serviceInfo.getName());
+            instance.addMetadata("version", "1.0.0");
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        notifySubscriberRequest = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        notifySubscriberRequest.setRequestId("1");
+        configQueryRequest = ConfigQueryRequest.build("benchmark.properties", "DEFAULT_GROUP", "");
+        configQueryResponse = ConfigQueryResponse.buildSuccessResponse("benchmark.content=" + instanceCount);
+        configQueryResponse.setMd5("d41d8cd98f00b204e9800998ecf8427e");
+        notifySubscriberPayload = GrpcUtils.convert(notifySubscriberRequest, codec);
+        configQueryResponsePayload = GrpcUtils.convert(configQueryResponse);
+    }
+    
+    @Benchmark
+    public Payload convertNotifySubscriberRequest() {
+        return GrpcUtils.convert(notifySubscriberRequest, codec);
+    }
+    
+    @Benchmark
+    public Object parseNotifySubscriberRequest() {
+        return GrpcUtils.parse(notifySubscriberPayload);
+    }
+    
+    @Benchmark
+    public Payload convertConfigQueryRequest() {
+        return GrpcUtils.convert(configQueryRequest, codec);
+    }
+    
+    @Benchmark
+    public Payload convertConfigQueryResponse() {
+        return GrpcUtils.convert(configQueryResponse);
+    }
+    
+    @Benchmark
+    public Object parseConfigQueryResponse() {
+        return GrpcUtils.parse(configQueryResponsePayload);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.common.notify.DefaultPublisher;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.EventPublisher;
+import com.alibaba.nacos.common.notify.EventPublisherFactory;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.RingBufferPublisherFactory;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmark for publishing events by {@link NotifyCenter} with different publishers.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+public class NotifyCenterPublishBenchmark {
+    
+    private static final int QUEUE_MAX_SIZE = 16384;
+    
+    @Param({"default", "ring-buffer"})
+    private String publisherType;
+    
+    private final LongAdder received = new LongAdder();
+    
+    private Subscriber<BenchmarkEvent> subscriber;
+    
+    private BenchmarkEvent event;
+    
+    /**
+     * Register publisher and subscriber of benchmark event.
+     */
+    @Setup
+    public void setUp() {
+        EventPublisherFactory factory = "ring-buffer".equals(publisherType) ? RingBufferPublisherFactory.getInstance()
+                : NotifyCenterPublishBenchmark::newDefaultPublisher;
+        NotifyCenter.registerToPublisher(BenchmarkEvent.class, factory, QUEUE_MAX_SIZE);
+        subscriber = new Subscriber<BenchmarkEvent>() {
+            
+            @Override
+            public void onEvent(BenchmarkEvent event) {
+                received.increment();
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return BenchmarkEvent.class;
+            }
+        };
+        NotifyCenter.registerSubscriber(subscriber, factory);
+        event = new BenchmarkEvent();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        NotifyCenter.deregisterSubscriber(subscriber);
+        NotifyCenter.deregisterPublisher(BenchmarkEvent.class);
+    }
+    
+    @Benchmark
+    public boolean publishEvent() {
+        return NotifyCenter.publishEvent(event);
+    }
+    
+    private static EventPublisher newDefaultPublisher(Class<? extends Event> eventType, Integer maxQueueSize) {
+        DefaultPublisher publisher = new DefaultPublisher();
+        publisher.init(eventType, maxQueueSize);
+        return publisher;
+    }
+    
+    public static class BenchmarkEvent extends Event {
+        
+        private static final long serialVersionUID = 3462081719652361408L;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for md5 checking of config cache, which is called for each listened config of each listen request.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+public class ConfigCacheServiceBenchmark {
+    
+    @Param({"10000"})
+    private int configCount;
+    
+    private String[] groupKeys;
+    
+    private String[] md5s;
+    
+    /**
+     * Prepare config cache.
+     */
+    @Setup
+    public void setUp() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        groupKeys = new String[configCount];
+        md5s = new String[configCount];
+        for (int i = 0; i < configCount; i++) {
+            String content = "benchmark.content=" + i;
+            groupKeys[i] = GroupKey2.getKey("benchmark-" + i, "DEFAULT_GROUP", "");
+            md5s[i] = MD5Utils.md5Hex(content, "UTF-8");
+            ConfigCacheService.updateMd5(groupKeys[i], md5s[i], content, System.currentTimeMillis(), null);
+        }
+    }
+    
+    @Benchmark
+    public boolean isUptodate() {
+        int index = ThreadLocalRandom.current().nextInt(configCount);
+        return ConfigCacheService.isUptodate(groupKeys[index], md5s[index], null, null);
+    }
+    
+    @Benchmark
+    public boolean isUptodateWithClientIp() {
+        int index = ThreadLocalRandom.current().nextInt(configCount);
+        return ConfigCacheService.isUptodate(groupKeys[index], md5s[index], "127.0.0.1", null);
+    }
+    
+    @Benchmark
+    public String getContentMd5() {
+        return ConfigCacheService.getContentMd5(groupKeys[ThreadLocalRandom.current().nextInt(configCount)]);
+    }
+}
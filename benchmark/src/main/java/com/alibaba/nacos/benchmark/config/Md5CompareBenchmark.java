@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.MD5Util;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for comparing md5 of a long polling listen request.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Md5CompareBenchmark {
+    
+    @Param({"100", "1000"})
+    private int listenCount;
+    
+    /**
+     * Percent of listened configs which client md5 is out of date.
+     */
+    @Param({"0", "10"})
+    private int changedPercent;
+    
+    private String probeModify;
+    
+    private Map<String, String> clientMd5Map;
+    
+    private MockHttpServletRequest request;
+    
+    private MockHttpServletResponse response;
+    
+    /**
+     * Prepare config cache and listen request.
+     */
+    @Setup
+    public void setUp() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        StringBuilder probeModifyBuilder = new StringBuilder();
+        for (int i = 0; i < listenCount; i++) {
+            String dataId = "benchmark-" + i;
+            String content = "benchmark.content=" + i;
+            String md5 = MD5Utils.md5Hex(content, "UTF-8");
+            ConfigCacheService
+                    .updateMd5(GroupKey2.getKey(dataId, "DEFAULT_GROUP", ""), md5, content, System.currentTimeMillis(),
+                            null);
+            String clientMd5 = i * 100 < changedPercent * listenCount ? "outdated" : md5;
+            probeModifyBuilder.append(dataId).append(Constants.WORD_SEPARATOR).append("DEFAULT_GROUP")
+                    .append(Constants.WORD_SEPARATOR).append(clientMd5).append(Constants.LINE_SEPARATOR);
+        }
+        probeModify = probeModifyBuilder.toString();
+        clientMd5Map = MD5Util.getClientMd5Map(probeModify);
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+        response = new MockHttpServletResponse();
+    }
+    
+    @Benchmark
+    public List<String> compareMd5() {
+        return MD5Util.compareMd5(request, response, clientMd5Map);
+    }
+    
+    @Benchmark
+    public Map<String, String> parseClientMd5Map() {
+        return MD5Util.getClientMd5Map(probeModify);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.consistency;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.serialize.HessianSerializer;
+import com.alibaba.nacos.consistency.serialize.JacksonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for serializers used by consistency protocols.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SerializerBenchmark {
+    
+    @Param({"hessian", "jackson"})
+    private String serializerType;
+    
+    @Param({"10", "100"})
+    private int instanceCount;
+    
+    private Serializer serializer;
+    
+    private InstancesData data;
+    
+    private byte[] serializedData;
+    
+    /**
+     * Prepare serializer and data.
+     */
+    @Setup
+    public void setUp() {
+        serializer = "hessian".equals(serializerType) ? new HessianSerializer() : new JacksonSerializer();
+        List<Instance> instances = new ArrayList<>(instanceCount);
+        for (int i = 0; i < instanceCount; i++) {
+            Instance instance = new Instance();
+            instance.setIp("10.0." + (i / 256) + "." + (i % 256));
+            instance.setPort(8080);
+            instance.setClusterName("DEFAULT");
+            instance.setServiceName("DEFAULT_GROUP@@benchmark.service");
+            instance.addMetadata("version", "1.0.0");
+            instances.add(instance);
+        }
+        data = new InstancesData();
+        data.setInstances(instances);
+        serializedData = serializer.serialize(data);
+    }
+    
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(data);
+    }
+    
+    @Benchmark
+    public InstancesData deserialize() {
+        return serializer.deserialize(serializedData, InstancesData.class);
+    }
+    
+    public static class InstancesData implements Serializable {
+        
+        private static final long serialVersionUID = -6387432109371098546L;
+        
+        private List<Instance> instances;
+        
+        public List<Instance> getInstances() {
+            return instances;
+        }
+        
+        public void setInstances(List<Instance> instances) {
+            this.instances = instances;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.control;
+
+import com.alibaba.nacos.plugin.control.tps.DefaultTpsControlManager;
+import com.alibaba.nacos.plugin.control.tps.MonitorType;
+import com.alibaba.nacos.plugin.control.tps.barrier.DefaultNacosTpsBarrier;
+import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
+import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
+import com.alibaba.nacos.plugin.control.tps.rule.RuleDetail;
+import com.alibaba.nacos.plugin.control.tps.rule.TpsControlRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for tps checking, which is done for each request with tps control point.
+ *
+ * <p>The {@link DefaultTpsControlManager} does not limit anything, so the barrier with a monitor rule is benchmarked too.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+public class TpsControlBenchmark {
+    
+    private static final String POINT_NAME = "ConfigQuery";
+    
+    private DefaultTpsControlManager tpsControlManager;
+    
+    private DefaultNacosTpsBarrier tpsBarrier;
+    
+    /**
+     * Prepare tps control manager and barrier.
+     */
+    @Setup
+    public void setUp() {
+        tpsControlManager = new DefaultTpsControlManager();
+        tpsBarrier = new DefaultNacosTpsBarrier(POINT_NAME);
+        RuleDetail ruleDetail = new RuleDetail();
+        ruleDetail.setMaxCount(Long.MAX_VALUE);
+        ruleDetail.setPeriod(TimeUnit.SECONDS);
+        ruleDetail.setMonitorType(MonitorType.MONITOR.getType());
+        TpsControlRule rule = new TpsControlRule();
+        rule.setPointName(POINT_NAME);
+        rule.setPointRule(ruleDetail);
+        tpsBarrier.applyRule(rule);
+    }
+    
+    @Benchmark
+    public TpsCheckResponse checkByManager() {
+        return tpsControlManager.check(newRequest());
+    }
+    
+    @Benchmark
+    public TpsCheckResponse applyTpsByBarrier() {
+        return tpsBarrier.applyTps(newRequest());
+    }
+    
+    private TpsCheckRequest newRequest() {
+        return new TpsCheckRequest(POINT_NAME, "benchmark-connection", "127.0.0.1");
+    }
+}
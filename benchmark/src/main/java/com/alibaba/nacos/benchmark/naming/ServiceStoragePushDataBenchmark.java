@@ -0,0 +1,110 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.client.manager.impl.ConnectionBasedClientManager;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for generating push data of a service, which is done for each service changed event.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ServiceStoragePushDataBenchmark {
+    
+    @Param({"100", "1000", "10000"})
+    private int instanceCount;
+    
+    private Service service;
+    
+    private ServiceStorage serviceStorage;
+    
+    private InstancePublishInfo changingInstance;
+    
+    /**
+     * Register instances of one service, each instance is published by one connection based client.
+     */
+    @Setup
+    public void setUp() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        service = ServiceManager.getInstance()
+                .getSingleton(Service.newService("public", "DEFAULT_GROUP", "benchmark.service"));
+        ClientServiceIndexesManager indexesManager = new ClientServiceIndexesManager();
+        ConnectionBasedClientManager clientManager = new ConnectionBasedClientManager();
+        for (int i = 0; i < instanceCount; i++) {
+            ConnectionBasedClient client = new ConnectionBasedClient("benchmark-connection-" + i, true, 0L);
+            InstancePublishInfo instance = new InstancePublishInfo("10.0." + (i / 256) + "." + (i % 256), 8080);
+            instance.setCluster("DEFAULT");
+            instance.setHealthy(true);
+            client.addServiceInstance(service, instance);
+            clientManager.clientConnected(client);
+            indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, client.getClientId()));
+            changingInstance = instance;
+        }
+        serviceStorage = new ServiceStorage(indexesManager, new ClientManagerDelegate(clientManager, null, null),
+                new SwitchDomain(), new NamingMetadataManager());
+        serviceStorage.getPushData(service);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        ServiceManager.getInstance().removeSingleton(service);
+    }
+    
+    @Benchmark
+    public ServiceInfo getPushDataUnchanged() {
+        return serviceStorage.getPushData(service);
+    }
+    
+    @Benchmark
+    public ServiceInfo getPushDataOneInstanceChanged() {
+        changingInstance.setHealthy(!changingInstance.isHealthy());
+        return serviceStorage.getPushData(service);
+    }
+}
@@ -64,8 +64,10 @@ import com.alibaba.nacos.common.remote.client.RpcClientTlsConfig;
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfigFactory;
 import com.alibaba.nacos.common.remote.client.ServerListFactory;
 import com.alibaba.nacos.common.utils.ConnLabelsUtils;
+import com.alibaba.nacos.common.utils.ContentChunkUtils;
 import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.ListenDigest;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.common.utils.ThreadUtils;
@@ -75,9 +77,14 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import org.slf4j.Logger;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -89,6 +96,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -125,9 +133,9 @@ public class ClientWorker implements Closeable {
     private static final String ENCRYPTED_DATA_KEY_PARAM = "encryptedDataKey";
     
     /**
-     * groupKey -> cacheData.
+     * groupKey -> cacheData, the map is updated in place, mutations are synchronized on it for the task id counting.
      */
-    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new HashMap<>());
+    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new ConcurrentHashMap<>());
     
     private final DefaultLabelsCollectorManager defaultLabelsCollectorManager = new DefaultLabelsCollectorManager();
     
@@ -289,12 +297,10 @@ public class ClientWorker implements Closeable {
     void removeCache(String dataId, String group, String tenant) {
         String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            CacheData remove = copy.remove(groupKey);
+            CacheData remove = cacheMap.get().remove(groupKey);
             if (remove != null) {
                 decreaseTaskIdCount(remove.getTaskId());
             }
-            cacheMap.set(copy);
         }
         LOGGER.info("[{}] [unsubscribe] {}", agent.getName(), groupKey);
         
@@ -366,9 +372,7 @@ public class ClientWorker implements Closeable {
                 cache.setTaskId(taskId);
             }
             
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.get().put(key, cache);
         }
         
         LOGGER.info("[{}] [subscribe] {}", this.agent.getName(), key);
@@ -414,9 +418,7 @@ public class ClientWorker implements Closeable {
                 }
             }
             
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.get().put(key, cache);
         }
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
@@ -433,9 +435,7 @@ public class ClientWorker implements Closeable {
      */
     private void putCache(String key, CacheData cache) {
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.get().put(key, cache);
         }
     }
     
@@ -810,6 +810,7 @@ public class ClientWorker implements Closeable {
             
             Map<String, List<CacheData>> listenCachesMap = new HashMap<>(16);
             Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
+            Map<String, List<CacheData>> allSyncCachesMap = new HashMap<>(16);
             long now = System.currentTimeMillis();
             boolean needAllSync = now - lastAllSyncTime >= ALL_SYNC_INTERNAL;
             for (CacheData cache : cacheMap.get().values()) {
@@ -831,7 +832,11 @@ public class ClientWorker implements Closeable {
                         continue;
                     }
                     
-                    if (!cache.isDiscard()) {
+                    if (cache.isConsistentWithServer() && !cache.isDiscard()) {
+                        // consistent caches are checked by listen digest, and only listened again if mismatched.
+                        allSyncCachesMap.computeIfAbsent(String.valueOf(cache.getTaskId()), k -> new LinkedList<>())
+                                .add(cache);
+                    } else if (!cache.isDiscard()) {
                         List<CacheData> cacheDatas = listenCachesMap.computeIfAbsent(String.valueOf(cache.getTaskId()),
                                 k -> new LinkedList<>());
                         cacheDatas.add(cache);
@@ -850,6 +855,11 @@ public class ClientWorker implements Closeable {
             //execute check remove listen.
             checkRemoveListenCache(removeListenCachesMap);
             
+            //execute full listen for the tasks whose listen digest mismatched with server.
+            if (!allSyncCachesMap.isEmpty()) {
+                hasChangedKeys |= checkListenCache(checkListenDigest(allSyncCachesMap, listenCachesMap));
+            }
+            
             if (needAllSync) {
                 lastAllSyncTime = now;
             }
@@ -1088,6 +1098,43 @@ public class ClientWorker implements Closeable {
             return hasChangedKeys.get();
         }
         
+        /**
+         * Check the digest of listened caches of each task with server, instead of listening all caches again.
+         *
+         * @param allSyncCachesMap consistent caches to be checked, key is task id
+         * @param listenCachesMap  caches just listened in this round, key is task id
+         * @return consistent caches of the tasks whose digest mismatched or not supported by server
+         */
+        private Map<String, List<CacheData>> checkListenDigest(Map<String, List<CacheData>> allSyncCachesMap,
+                Map<String, List<CacheData>> listenCachesMap) {
+            Map<String, List<CacheData>> mismatchedCachesMap = new HashMap<>(allSyncCachesMap.size());
+            for (Map.Entry<String, List<CacheData>> entry : allSyncCachesMap.entrySet()) {
+                String taskId = entry.getKey();
+                ListenDigest digest = new ListenDigest();
+                for (CacheData cacheData : entry.getValue()) {
+                    digest.add(GroupKey.getKeyTenant(cacheData.dataId, cacheData.group, cacheData.tenant),
+                            cacheData.getMd5());
+                }
+                for (CacheData cacheData : listenCachesMap.getOrDefault(taskId, Collections.emptyList())) {
+                    digest.add(GroupKey.getKeyTenant(cacheData.dataId, cacheData.group, cacheData.tenant),
+                            cacheData.getMd5());
+                }
+                ConfigBatchListenRequest digestRequest = new ConfigBatchListenRequest();
+                digestRequest.setListenDigest(digest.digest());
+                try {
+                    ConfigChangeBatchListenResponse response = (ConfigChangeBatchListenResponse) requestProxy(
+                            ensureRpcClient(taskId), digestRequest);
+                    if (response.isSuccess() && response.isDigestMatched()) {
+                        continue;
+                    }
+                } catch (Throwable e) {
+                    LOGGER.warn("[{}] [check-listen-digest] failed, taskId={}", agent.getName(), taskId, e);
+                }
+                mismatchedCachesMap.put(taskId, entry.getValue());
+            }
+            return mismatchedCachesMap;
+        }
+        
         private RpcClient ensureRpcClient(String taskId) throws NacosException {
             synchronized (ClientWorker.this) {
                 Map<String, String> labels = getLabels();
@@ -1162,10 +1209,14 @@ public class ClientWorker implements Closeable {
                 long readTimeouts, boolean notify) throws NacosException {
             ConfigQueryRequest request = ConfigQueryRequest.build(dataId, group, tenant);
             request.putHeader(NOTIFY_HEADER, String.valueOf(notify));
+            request.setChunkIndex(0);
             
             ConfigQueryResponse response = (ConfigQueryResponse) requestProxy(rpcClient, request, readTimeouts);
             
             ConfigResponse configResponse = new ConfigResponse();
+            if (response.isSuccess() && response.getChunkCount() > 0) {
+                response.setContent(queryRestChunks(rpcClient, request, response, readTimeouts));
+            }
             if (response.isSuccess()) {
                 LocalConfigInfoProcessor.saveSnapshot(this.getName(), dataId, group, tenant, response.getContent());
                 configResponse.setContent(response.getContent());
@@ -1201,6 +1252,50 @@ public class ClientWorker implements Closeable {
             }
         }
         
+        /**
+         * Query the rest chunks of large config and merge them with the first chunk, the md5 of merged content is
+         * checked, and conflict is thrown if the config is changed between chunks.
+         */
+        private String queryRestChunks(RpcClient rpcClient, ConfigQueryRequest firstRequest,
+                ConfigQueryResponse firstResponse, long readTimeouts) throws NacosException {
+            String dataId = firstRequest.getDataId();
+            String group = firstRequest.getGroup();
+            String tenant = firstRequest.getTenant();
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            try {
+                content.write(ContentChunkUtils.decodeChunk(firstResponse.getContent(), firstResponse.isCompressed()));
+                for (int i = 1; i < firstResponse.getChunkCount(); i++) {
+                    ConfigQueryRequest request = ConfigQueryRequest.build(dataId, group, tenant);
+                    request.putHeader(NOTIFY_HEADER, firstRequest.getHeader(NOTIFY_HEADER));
+                    request.setChunkIndex(i);
+                    request.setChunkMd5(firstResponse.getMd5());
+                    ConfigQueryResponse response = (ConfigQueryResponse) requestProxy(rpcClient, request,
+                            readTimeouts);
+                    if (!isExpectedChunk(response, firstResponse, i)) {
+                        throw new NacosException(NacosException.CONFLICT,
+                                "data being modified, dataId=" + dataId + ",group=" + group + ",tenant=" + tenant);
+                    }
+                    content.write(ContentChunkUtils.decodeChunk(response.getContent(), response.isCompressed()));
+                }
+                byte[] bytes = content.toByteArray();
+                if (!StringUtils.equals(MD5Utils.md5Hex(bytes), firstResponse.getMd5())) {
+                    LOGGER.error("[{}] [sub-server-error] md5 of merged chunks mismatched, dataId={}, group={}, "
+                            + "tenant={}", this.getName(), dataId, group, tenant);
+                    throw new NacosException(NacosException.CONFLICT,
+                            "data being modified, dataId=" + dataId + ",group=" + group + ",tenant=" + tenant);
+                }
+                return new String(bytes, StandardCharsets.UTF_8);
+            } catch (IOException | NoSuchAlgorithmException e) {
+                throw new NacosException(NacosException.CONFLICT,
+                        "merge chunks failed, dataId=" + dataId + ",group=" + group + ",tenant=" + tenant, e);
+            }
+        }
+        
+        private boolean isExpectedChunk(ConfigQueryResponse response, ConfigQueryResponse firstResponse, int index) {
+            return response.isSuccess() && response.getChunkIndex() == index
+                    && response.getChunkCount() == firstResponse.getChunkCount();
+        }
+        
         private Response requestProxy(RpcClient rpcClientInner, Request request) throws NacosException {
             return requestProxy(rpcClientInner, request, requestTimeout);
         }
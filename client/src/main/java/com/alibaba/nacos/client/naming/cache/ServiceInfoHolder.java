@@ -18,7 +18,10 @@ package com.alibaba.nacos.client.naming.cache;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
+import com.alibaba.nacos.api.naming.utils.InstancesChecksumUtils;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
@@ -32,6 +35,9 @@ import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -119,6 +125,66 @@ public class ServiceInfoHolder implements Closeable {
      * @return service info
      */
     public ServiceInfo processServiceInfo(ServiceInfo serviceInfo) {
+        return doProcessServiceInfo(serviceInfo, null);
+    }
+    
+    /**
+     * Process delta of service info pushed by server.
+     *
+     * <p>The delta is applied only when the checksum of local instances equals to the base checksum of delta, and the
+     * checksum of applied instances equals to the newest checksum, otherwise caller should get the full service info.
+     *
+     * @param deltaRequest delta request pushed by server
+     * @return service info after applying delta, {@code null} if the delta can't be applied to local service info
+     */
+    public ServiceInfo processServiceInfoDelta(NotifySubscriberDeltaRequest deltaRequest) {
+        ServiceInfo deltaServiceInfo = deltaRequest.getServiceInfo();
+        ServiceInfo oldService = serviceInfoMap.get(deltaServiceInfo.getKey());
+        if (null == oldService || !StringUtils.equals(deltaRequest.getBaseChecksum(), getChecksum(oldService))) {
+            return null;
+        }
+        Map<String, Instance> instances = new LinkedHashMap<>();
+        for (Instance each : oldService.getHosts()) {
+            instances.put(InstancesChecksumUtils.getInstanceKey(each), each);
+        }
+        for (Instance each : deltaRequest.getRemovedHosts()) {
+            instances.remove(InstancesChecksumUtils.getInstanceKey(each));
+        }
+        for (Instance each : deltaRequest.getAddedHosts()) {
+            instances.put(InstancesChecksumUtils.getInstanceKey(each), each);
+        }
+        for (Instance each : deltaRequest.getModifiedHosts()) {
+            instances.put(InstancesChecksumUtils.getInstanceKey(each), each);
+        }
+        List<Instance> hosts = new ArrayList<>(instances.values());
+        if (!StringUtils.equals(deltaServiceInfo.getChecksum(), InstancesChecksumUtils.calculate(hosts))) {
+            NAMING_LOGGER.warn("process service info delta but checksum mismatch, serviceKey: {}",
+                    deltaServiceInfo.getKey());
+            return null;
+        }
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName(deltaServiceInfo.getName());
+        serviceInfo.setGroupName(deltaServiceInfo.getGroupName());
+        serviceInfo.setClusters(deltaServiceInfo.getClusters());
+        serviceInfo.setCacheMillis(deltaServiceInfo.getCacheMillis());
+        serviceInfo.setLastRefTime(deltaServiceInfo.getLastRefTime());
+        serviceInfo.setChecksum(deltaServiceInfo.getChecksum());
+        serviceInfo.setAllIPs(deltaServiceInfo.isAllIPs());
+        serviceInfo.setReachProtectionThreshold(deltaServiceInfo.isReachProtectionThreshold());
+        serviceInfo.setHosts(hosts);
+        return doProcessServiceInfo(serviceInfo,
+                new InstancesDiff(deltaRequest.getAddedHosts(), deltaRequest.getRemovedHosts(),
+                        deltaRequest.getModifiedHosts()));
+    }
+    
+    private String getChecksum(ServiceInfo serviceInfo) {
+        if (StringUtils.isBlank(serviceInfo.getChecksum())) {
+            serviceInfo.setChecksum(InstancesChecksumUtils.calculate(serviceInfo.getHosts()));
+        }
+        return serviceInfo.getChecksum();
+    }
+    
+    private ServiceInfo doProcessServiceInfo(ServiceInfo serviceInfo, InstancesDiff knownDiff) {
         String serviceKey = serviceInfo.getKey();
         if (serviceKey == null) {
             NAMING_LOGGER.warn("process service info but serviceKey is null, service host: {}",
@@ -133,7 +199,7 @@ public class ServiceInfoHolder implements Closeable {
             return oldService;
         }
         serviceInfoMap.put(serviceInfo.getKey(), serviceInfo);
-        InstancesDiff diff = getServiceInfoDiff(oldService, serviceInfo);
+        InstancesDiff diff = null == knownDiff ? getServiceInfoDiff(oldService, serviceInfo) : knownDiff;
         if (StringUtils.isBlank(serviceInfo.getJsonFromServer())) {
             serviceInfo.setJsonFromServer(JacksonUtils.toJson(serviceInfo));
         }
@@ -16,10 +16,12 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
 import com.alibaba.nacos.common.remote.client.Connection;
 import com.alibaba.nacos.common.remote.client.ServerRequestHandler;
@@ -44,6 +46,14 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
             serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
             return new NotifySubscriberResponse();
         }
+        if (request instanceof NotifySubscriberDeltaRequest) {
+            NotifySubscriberResponse response = new NotifySubscriberResponse();
+            if (null == serviceInfoHolder.processServiceInfoDelta((NotifySubscriberDeltaRequest) request)) {
+                // Fail the push so that server will retry to push full service info to this client.
+                response.setErrorInfo(ResponseCode.FAIL.getCode(), "Local instances mismatch the base of delta.");
+            }
+            return response;
+        }
         return null;
     }
 }
@@ -40,6 +40,7 @@ import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import com.alibaba.nacos.common.remote.client.RpcClientFactory;
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfig;
+import com.alibaba.nacos.common.utils.ContentChunkUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -55,6 +56,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -428,6 +430,58 @@ class ClientWorkerTest {
         
     }
     
+    @Test
+    void testGeConfigConfigByChunks() throws Exception {
+        
+        Properties prop = new Properties();
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        
+        String content = "key1=值1\nkey2=值2";
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String md5 = MD5Utils.md5Hex(bytes);
+        Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong())).thenAnswer(invocation -> {
+            int chunkIndex = ((ConfigQueryRequest) invocation.getArgument(0)).getChunkIndex();
+            byte[] chunk = Arrays.copyOfRange(bytes, chunkIndex * 8, Math.min(bytes.length, chunkIndex * 8 + 8));
+            ConfigQueryResponse response = ConfigQueryResponse.buildSuccessResponse(
+                    ContentChunkUtils.encodeChunk(chunk, true));
+            response.setMd5(md5);
+            response.setCompressed(true);
+            response.setChunkCount(3);
+            response.setChunkIndex(chunkIndex);
+            return response;
+        });
+        
+        ConfigResponse configResponse = clientWorker.getServerConfig("a", "b", "c", 100, true);
+        assertEquals(content, configResponse.getContent());
+        Mockito.verify(rpcClient, times(3)).request(any(ConfigQueryRequest.class), anyLong());
+    }
+    
+    @Test
+    void testGeConfigConfigByChunksChanged() throws NacosException {
+        
+        Properties prop = new Properties();
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        
+        ConfigQueryResponse firstChunk = ConfigQueryResponse.buildSuccessResponse(
+                ContentChunkUtils.encodeChunk("chunk0".getBytes(StandardCharsets.UTF_8), false));
+        firstChunk.setMd5("md5");
+        firstChunk.setChunkCount(2);
+        ConfigQueryResponse conflict = new ConfigQueryResponse();
+        conflict.setErrorInfo(ConfigQueryResponse.CONFIG_QUERY_CONFLICT, "config is being modified");
+        Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong())).thenReturn(firstChunk, conflict);
+        
+        try {
+            clientWorker.getServerConfig("a", "b", "c", 100, true);
+            fail();
+        } catch (NacosException e) {
+            assertEquals(NacosException.CONFLICT, e.getErrCode());
+        }
+    }
+    
     @Test
     void testGeConfigConfigNotFound() throws NacosException {
         
@@ -581,6 +635,53 @@ class ClientWorkerTest {
         
     }
     
+    @Test
+    void testExecuteConfigListenCheckDigest() throws Exception {
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        Mockito.when(agent.getName()).thenReturn("mocktest");
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(new Properties());
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        clientWorker.shutdown();
+        
+        String dataId = "dataIdConsistent" + System.currentTimeMillis();
+        CacheData cacheConsistent = normalNotConsistentCache(filter, agent.getName(), dataId, "group", "tenant");
+        cacheConsistent.setConsistentWithServer(true);
+        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
+        cacheMap.setAccessible(true);
+        ((AtomicReference<Map<String, CacheData>>) cacheMap.get(clientWorker)).get()
+                .put(GroupKey.getKeyTenant(dataId, "group", "tenant"), cacheConsistent);
+        
+        RpcClient rpcClientInner = Mockito.mock(RpcClient.class);
+        rpcClientFactoryMockedStatic.when(
+                () -> RpcClientFactory.createClient(anyString(), any(ConnectionType.class), any(Map.class),
+                        any(RpcClientTlsConfig.class))).thenReturn(rpcClientInner);
+        List<ConfigBatchListenRequest> requests = new ArrayList<>();
+        ConfigChangeBatchListenResponse matched = new ConfigChangeBatchListenResponse();
+        matched.setDigestMatched(true);
+        Mockito.when(rpcClientInner.request(any(ConfigBatchListenRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return 1 == requests.size() ? new ConfigChangeBatchListenResponse() : matched;
+        });
+        Field lastAllSyncTime = clientWorker.getAgent().getClass().getDeclaredField("lastAllSyncTime");
+        lastAllSyncTime.setAccessible(true);
+        
+        // mismatched digest, listen all configs again.
+        lastAllSyncTime.set(clientWorker.getAgent(), 0L);
+        clientWorker.getAgent().executeConfigListen();
+        assertEquals(2, requests.size());
+        assertNotNull(requests.get(0).getListenDigest());
+        assertTrue(requests.get(0).getConfigListenContexts().isEmpty());
+        assertEquals(1, requests.get(1).getConfigListenContexts().size());
+        
+        // matched digest, no need to listen again.
+        lastAllSyncTime.set(clientWorker.getAgent(), 0L);
+        clientWorker.getAgent().executeConfigListen();
+        assertEquals(3, requests.size());
+        assertEquals(requests.get(0).getListenDigest(), requests.get(2).getListenDigest());
+        assertTrue(cacheConsistent.isConsistentWithServer());
+    }
+    
     private CacheData discardCache(ConfigFilterChainManager filter, String envName, String dataId, String group,
             String tenant) {
         CacheData cacheData = new CacheData(filter, envName, dataId, group, tenant);
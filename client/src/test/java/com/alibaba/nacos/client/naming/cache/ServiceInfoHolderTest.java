@@ -22,6 +22,8 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
+import com.alibaba.nacos.api.naming.utils.InstancesChecksumUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
 import org.junit.jupiter.api.AfterEach;
@@ -30,6 +32,7 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -91,6 +94,54 @@ class ServiceInfoHolderTest {
         assertEquals(info2, actual2);
     }
     
+    @Test
+    void testProcessServiceInfoDelta() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        holder.processServiceInfo(info);
+        
+        Instance modified = createInstance("1.1.1.1", 1);
+        modified.setWeight(2.0);
+        Instance added = createInstance("1.1.1.3", 3);
+        List<Instance> expectedHosts = new ArrayList<>();
+        expectedHosts.add(modified);
+        expectedHosts.add(added);
+        ServiceInfo newInfo = new ServiceInfo("a@@b@@c");
+        newInfo.setChecksum(InstancesChecksumUtils.calculate(expectedHosts));
+        NotifySubscriberDeltaRequest request = NotifySubscriberDeltaRequest
+                .buildNotifySubscriberDeltaRequest(newInfo, InstancesChecksumUtils.calculate(hosts),
+                        Collections.singletonList(added), Collections.singletonList(createInstance("1.1.1.2", 2)),
+                        Collections.singletonList(modified));
+        ServiceInfo actual = holder.processServiceInfoDelta(request);
+        assertEquals(2, actual.getHosts().size());
+        assertTrue(actual.getHosts().contains(modified));
+        assertTrue(actual.getHosts().contains(added));
+        assertEquals(actual, holder.getServiceInfoMap().get("a@@b@@c"));
+    }
+    
+    @Test
+    void testProcessServiceInfoDeltaWithMismatchBase() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        holder.processServiceInfo(info);
+        NotifySubscriberDeltaRequest request = NotifySubscriberDeltaRequest
+                .buildNotifySubscriberDeltaRequest(new ServiceInfo("a@@b@@c"), "mismatch", Collections.emptyList(),
+                        Collections.emptyList(), Collections.emptyList());
+        assertNull(holder.processServiceInfoDelta(request));
+        assertEquals(info, holder.getServiceInfoMap().get("a@@b@@c"));
+    }
+    
+    @Test
+    void testProcessServiceInfoDeltaWithoutLocal() {
+        NotifySubscriberDeltaRequest request = NotifySubscriberDeltaRequest
+                .buildNotifySubscriberDeltaRequest(new ServiceInfo("a@@b@@c"), "base", Collections.emptyList(),
+                        Collections.emptyList(), Collections.emptyList());
+        assertNull(holder.processServiceInfoDelta(request));
+    }
+    
     private Instance createInstance(String ip, int port) {
         Instance instance = new Instance();
         instance.setIp(ip);
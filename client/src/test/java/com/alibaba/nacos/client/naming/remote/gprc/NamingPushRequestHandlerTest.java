@@ -19,6 +19,7 @@
 package com.alibaba.nacos.client.naming.remote.gprc;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
@@ -29,11 +30,15 @@ import com.alibaba.nacos.client.naming.remote.TestConnection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class NamingPushRequestHandlerTest {
     
@@ -51,6 +56,32 @@ class NamingPushRequestHandlerTest {
         verify(holder, times(1)).processServiceInfo(info);
     }
     
+    @Test
+    void testRequestReplyDelta() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        NotifySubscriberDeltaRequest req = NotifySubscriberDeltaRequest
+                .buildNotifySubscriberDeltaRequest(info, "base", Collections.emptyList(), Collections.emptyList(),
+                        Collections.emptyList());
+        when(holder.processServiceInfoDelta(req)).thenReturn(info);
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response instanceof NotifySubscriberResponse);
+        assertTrue(response.isSuccess());
+    }
+    
+    @Test
+    void testRequestReplyDeltaMismatch() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        NotifySubscriberDeltaRequest req = NotifySubscriberDeltaRequest
+                .buildNotifySubscriberDeltaRequest(new ServiceInfo("name", "cluster1"), "base",
+                        Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response instanceof NotifySubscriberResponse);
+        assertFalse(response.isSuccess());
+    }
+    
     @Test
     void testRequestReplyOtherType() {
         ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
@@ -0,0 +1,154 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for multiple producers and a single consumer.
+ *
+ * <p>All slots are allocated when created. Producers claim a sequence by CAS and then fill the slot, the consumer
+ * takes the slots in sequence order and releases them by advancing its own sequence, so that no lock is held on
+ * either side.
+ *
+ * @author Nacos
+ */
+final class MpscRingBuffer<E> {
+    
+    private static final AtomicLongFieldUpdater<MpscRingBuffer> CONSUMER_SEQUENCE_UPDATER = AtomicLongFieldUpdater
+            .newUpdater(MpscRingBuffer.class, "consumerSequence");
+    
+    private final int capacity;
+    
+    private final int mask;
+    
+    private final AtomicReferenceArray<E> slots;
+    
+    private final long[] publishTimes;
+    
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    private volatile long consumerSequence;
+    
+    MpscRingBuffer(int requestedCapacity) {
+        this.capacity = roundUpToPowerOfTwo(requestedCapacity);
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.publishTimes = new long[capacity];
+    }
+    
+    private static int roundUpToPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        return Integer.highestOneBit(value - 1) << 1;
+    }
+    
+    /**
+     * Offer element into the ring buffer.
+     *
+     * @param element element, must not be null
+     * @return {@code false} if the ring buffer is full
+     */
+    boolean offer(E element) {
+        long sequence;
+        do {
+            sequence = producerSequence.get();
+            if (sequence - consumerSequence >= capacity) {
+                return false;
+            }
+        } while (!producerSequence.compareAndSet(sequence, sequence + 1));
+        int index = (int) sequence & mask;
+        publishTimes[index] = System.nanoTime();
+        slots.lazySet(index, element);
+        return true;
+    }
+    
+    /**
+     * Drain the published elements in order by the only consumer.
+     *
+     * @param handler      handler of each element and the nanos it stayed in the ring buffer
+     * @param maxBatchSize max count of elements to drain
+     * @return count of drained elements
+     */
+    int drain(LagAwareConsumer<E> handler, int maxBatchSize) {
+        long sequence = consumerSequence;
+        int result = 0;
+        while (result < maxBatchSize) {
+            int index = (int) sequence & mask;
+            E element = slots.get(index);
+            if (null == element) {
+                break;
+            }
+            long lagNanos = System.nanoTime() - publishTimes[index];
+            slots.lazySet(index, null);
+            CONSUMER_SEQUENCE_UPDATER.lazySet(this, ++sequence);
+            handler.accept(element, lagNanos);
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Whether no element is claimed by producers but not consumed yet.
+     *
+     * <p>It is checked by the producer sequence rather than the slot, because the slot is published lazily and might
+     * be invisible to the consumer after the producer has read the waiting flag of consumer. The sequence is updated
+     * by CAS before the producer reads the flag, so either the consumer sees the element or the producer sees the
+     * flag. An element claimed but not published yet makes it non-empty, and the consumer should retry draining.
+     *
+     * @return {@code true} if there is no element to consume
+     */
+    boolean isEmpty() {
+        return producerSequence.get() == consumerSequence;
+    }
+    
+    long size() {
+        return Math.max(0L, producerSequence.get() - consumerSequence);
+    }
+    
+    int capacity() {
+        return capacity;
+    }
+    
+    /**
+     * Drop all published elements, only called by the consumer or after the consumer stopped.
+     */
+    void clear() {
+        drain((element, lagNanos) -> {
+        }, capacity);
+    }
+    
+    /**
+     * Consumer of element with the nanos it stayed in the ring buffer.
+     *
+     * @param <E> type of element
+     */
+    @FunctionalInterface
+    interface LagAwareConsumer<E> {
+        
+        /**
+         * Handle element.
+         *
+         * @param element  element
+         * @param lagNanos nanos from publishing to consuming
+         */
+        void accept(E element, long lagNanos);
+    }
+}
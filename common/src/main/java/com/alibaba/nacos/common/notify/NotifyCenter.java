@@ -52,6 +52,8 @@ public class NotifyCenter {
     
     private static final AtomicBoolean CLOSED = new AtomicBoolean(false);
     
+    private static final String RING_BUFFER_PUBLISHER_TYPE = "ring-buffer";
+    
     private static final EventPublisherFactory DEFAULT_PUBLISHER_FACTORY;
     
     private static final NotifyCenter INSTANCE = new NotifyCenter();
@@ -78,8 +80,13 @@ public class NotifyCenter {
         final Collection<EventPublisher> publishers = NacosServiceLoader.load(EventPublisher.class);
         Iterator<EventPublisher> iterator = publishers.iterator();
         
+        // The publisher used when no EventPublisher is loaded by SPI, `default` or `ring-buffer`.
+        String publisherTypeProperty = "nacos.core.notify.publisher-type";
+        
         if (iterator.hasNext()) {
             clazz = iterator.next().getClass();
+        } else if (RING_BUFFER_PUBLISHER_TYPE.equalsIgnoreCase(System.getProperty(publisherTypeProperty))) {
+            clazz = RingBufferPublisher.class;
         } else {
             clazz = DefaultPublisher.class;
         }
@@ -0,0 +1,285 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.utils.ThreadUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.alibaba.nacos.common.notify.NotifyCenter.ringBufferSize;
+
+/**
+ * Event publisher based on a pre-allocated lock-free ring buffer.
+ *
+ * <p>Compared with {@link DefaultPublisher}, publishing events from many threads does not compete for the lock of
+ * {@link java.util.concurrent.ArrayBlockingQueue}, and the consumer drains events in batches. How the consumer waits
+ * for new events is decided by {@link WaitStrategy}, which can be set by system property
+ * {@code nacos.core.notify.ring-buffer.wait-strategy}.
+ *
+ * @author Nacos
+ */
+public class RingBufferPublisher extends DefaultPublisher {
+    
+    private static final String WAIT_STRATEGY_PROPERTY = "nacos.core.notify.ring-buffer.wait-strategy";
+    
+    private static final String BATCH_SIZE_PROPERTY = "nacos.core.notify.ring-buffer.batch-size";
+    
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    
+    private static final int MAX_WAIT_SUBSCRIBER_TIMES = 60;
+    
+    private final WaitStrategy waitStrategy;
+    
+    private final int batchSize;
+    
+    private final LongAdder publishedCount = new LongAdder();
+    
+    private final LongAdder synchronizedCount = new LongAdder();
+    
+    private volatile boolean shutdown = false;
+    
+    private volatile boolean consumerWaiting = false;
+    
+    private volatile long lastLagNanos;
+    
+    private volatile long maxLagNanos;
+    
+    private String publisherName;
+    
+    private MpscRingBuffer<Event> ringBuffer;
+    
+    public RingBufferPublisher() {
+        this(WaitStrategy.of(System.getProperty(WAIT_STRATEGY_PROPERTY)),
+                Integer.getInteger(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE));
+    }
+    
+    public RingBufferPublisher(WaitStrategy waitStrategy, int batchSize) {
+        this.waitStrategy = waitStrategy;
+        this.batchSize = Math.max(1, batchSize);
+    }
+    
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        setDaemon(true);
+        this.publisherName = type.getName();
+        setName("nacos.publisher-" + publisherName);
+        this.ringBuffer = new MpscRingBuffer<>(-1 == bufferSize ? ringBufferSize : bufferSize);
+        start();
+    }
+    
+    @Override
+    public long currentEventSize() {
+        return ringBuffer.size();
+    }
+    
+    @Override
+    void openEventHandler() {
+        try {
+            int waitTimes = MAX_WAIT_SUBSCRIBER_TIMES;
+            // To ensure that messages are not lost, enable EventHandler when
+            // waiting for the first Subscriber to register
+            while (!shutdown && subscribers.isEmpty() && waitTimes > 0) {
+                ThreadUtils.sleep(1000L);
+                waitTimes--;
+            }
+            int idleCounter = 0;
+            while (!shutdown) {
+                int drained = ringBuffer.drain(this::handleEvent, batchSize);
+                if (drained > 0) {
+                    idleCounter = 0;
+                    continue;
+                }
+                idleCounter = idle(idleCounter);
+            }
+        } catch (Throwable ex) {
+            LOGGER.error("Event listener exception : ", ex);
+        } finally {
+            ringBuffer.clear();
+        }
+    }
+    
+    private void handleEvent(Event event, long lagNanos) {
+        lastLagNanos = lagNanos;
+        if (lagNanos > maxLagNanos) {
+            maxLagNanos = lagNanos;
+        }
+        receiveEvent(event);
+        if (event.sequence() > lastEventSequence) {
+            lastEventSequence = event.sequence();
+        }
+    }
+    
+    private int idle(int idleCounter) {
+        if (WaitStrategy.BLOCKING != waitStrategy) {
+            return waitStrategy.idle(idleCounter);
+        }
+        consumerWaiting = true;
+        try {
+            // Check again after marking waiting. The producer claims the sequence before reading the waiting flag, so
+            // either the event is seen here or the producer unparks this thread, and the park can not miss the event.
+            if (ringBuffer.isEmpty() && !shutdown) {
+                LockSupport.parkNanos(this, WaitStrategy.MAX_PARK_NANOS);
+            }
+        } finally {
+            consumerWaiting = false;
+        }
+        return 0;
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        if (!ringBuffer.offer(event)) {
+            LOGGER.warn("Unable to plug in due to ring buffer full, synchronize sending time, event : {}", event);
+            synchronizedCount.increment();
+            receiveEvent(event);
+            return true;
+        }
+        publishedCount.increment();
+        if (consumerWaiting) {
+            LockSupport.unpark(this);
+        }
+        return true;
+    }
+    
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        LockSupport.unpark(this);
+    }
+    
+    /**
+     * Get the nanos which the latest consumed event stayed in the ring buffer.
+     *
+     * @return lag nanos of latest consumed event
+     */
+    public long getLastLagNanos() {
+        return lastLagNanos;
+    }
+    
+    /**
+     * Get the max nanos which consumed events stayed in the ring buffer.
+     *
+     * @return max lag nanos
+     */
+    public long getMaxLagNanos() {
+        return maxLagNanos;
+    }
+    
+    /**
+     * Get the count of events published into the ring buffer.
+     *
+     * @return published count
+     */
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+    
+    /**
+     * Get the count of events handled by the publishing thread because the ring buffer is full.
+     *
+     * @return synchronized count
+     */
+    public long getSynchronizedCount() {
+        return synchronizedCount.sum();
+    }
+    
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+    
+    public String getStatus() {
+        return String.format("Publisher %-30s: shutdown=%5s, queue=%7d/%-7d, lag=%dms, maxLag=%dms", publisherName,
+                shutdown, currentEventSize(), ringBuffer.capacity(), TimeUnit.NANOSECONDS.toMillis(lastLagNanos),
+                TimeUnit.NANOSECONDS.toMillis(maxLagNanos));
+    }
+    
+    /**
+     * How the consumer waits when there is no event in ring buffer.
+     */
+    public enum WaitStrategy {
+        
+        /**
+         * Park the consumer until a new event is published, lowest cpu usage and default strategy.
+         */
+        BLOCKING,
+        
+        /**
+         * Spin, then yield, then park for a short time, balance the latency and cpu usage.
+         */
+        SLEEPING,
+        
+        /**
+         * Spin, then yield the cpu, low latency but use cpu when idle.
+         */
+        YIELDING,
+        
+        /**
+         * Always spin, lowest latency but use one cpu core when idle.
+         */
+        BUSY_SPIN;
+        
+        static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+        
+        private static final long SLEEP_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+        
+        private static final int SPIN_TRIES = 100;
+        
+        private static final int YIELD_TRIES = 200;
+        
+        /**
+         * Parse wait strategy by name, return {@link #BLOCKING} if the name is unknown.
+         *
+         * @param name name of wait strategy
+         * @return wait strategy
+         */
+        public static WaitStrategy of(String name) {
+            for (WaitStrategy each : values()) {
+                if (each.name().equalsIgnoreCase(name)) {
+                    return each;
+                }
+            }
+            return BLOCKING;
+        }
+        
+        int idle(int idleCounter) {
+            switch (this) {
+                case BUSY_SPIN:
+                    return idleCounter;
+                case YIELDING:
+                    if (idleCounter >= SPIN_TRIES) {
+                        Thread.yield();
+                    }
+                    return idleCounter + 1;
+                case SLEEPING:
+                    if (idleCounter >= YIELD_TRIES) {
+                        LockSupport.parkNanos(SLEEP_PARK_NANOS);
+                        return idleCounter;
+                    }
+                    if (idleCounter >= SPIN_TRIES) {
+                        Thread.yield();
+                    }
+                    return idleCounter + 1;
+                default:
+                    LockSupport.parkNanos(SLEEP_PARK_NANOS);
+                    return idleCounter;
+            }
+        }
+    }
+}
@@ -19,6 +19,8 @@ package com.alibaba.nacos.common.remote.client;
 import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.remote.Requester;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 
 import java.util.Map;
 
@@ -58,6 +60,17 @@ public abstract class Connection implements Requester {
         return  abilityTable.get(abilityKey.getName()) ? AbilityStatus.SUPPORTED : AbilityStatus.NOT_SUPPORTED;
     }
 
+    /**
+     * Get codec to encode the request sent by this connection.
+     *
+     * @param requestType class of request
+     * @return binary codec if server supports it for the request, otherwise json codec
+     */
+    public PayloadCodec getPayloadCodec(Class<?> requestType) {
+        return PayloadCodecManager.selectCodec(requestType,
+                AbilityStatus.SUPPORTED == getConnectionAbility(AbilityKey.SERVER_SUPPORT_BINARY_PAYLOAD));
+    }
+    
     public boolean isAbilitiesSet() {
         return abilityTable != null;
     }
@@ -24,14 +24,14 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
-import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.google.protobuf.Any;
-import com.google.protobuf.ByteString;
 import com.google.protobuf.UnsafeByteOperations;
 
-import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -61,7 +61,7 @@ public class GrpcUtils {
         payloadBuilder.setMetadata(metaBuilder.build());
         
         // request body .
-        byte[] jsonBytes = convertRequestToByte(request);
+        byte[] jsonBytes = convertRequestToByte(request, PayloadCodecManager.getJsonCodec());
         return payloadBuilder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes))).build();
         
     }
@@ -73,16 +73,62 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, PayloadCodecManager.getJsonCodec());
+    }
+    
+    /**
+     * convert request to payload with codec.
+     *
+     * @param request request.
+     * @param codec   codec to encode request body, should be selected by the abilities of peer.
+     * @return payload.
+     */
+    public static Payload convert(Request request, PayloadCodec codec) {
+        
+        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
+                .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
+        
+        byte[] bodyBytes = convertRequestToByte(request, codec);
+        
+        Payload.Builder builder = Payload.newBuilder();
+        
+        return builder.setBody(buildBody(bodyBytes, codec)).setMetadata(newMeta).build();
+        
+    }
+    
+    /**
+     * convert request to payload with pre-encoded request body.
+     *
+     * <p>The pre-encoded body should be generated by {@link #convertRequestBodyWithoutId(Request)}, so that the
+     * same body can be shared by requests which only differ in request id, such as server push to lots of clients.
+     *
+     * @param request        request.
+     * @param preEncodedBody pre-encoded body without request id.
+     * @return payload.
+     */
+    public static Payload convert(Request request, byte[] preEncodedBody) {
+        return convert(request, PayloadCodecManager.getJsonCodec(), preEncodedBody);
+    }
+    
+    /**
+     * convert request to payload with pre-encoded request body.
+     *
+     * @param request        request.
+     * @param codec          codec which encoded the body, generated by
+     *                       {@link #convertRequestBodyWithoutId(Request, PayloadCodec)}.
+     * @param preEncodedBody pre-encoded body without request id.
+     * @return payload.
+     */
+    public static Payload convert(Request request, PayloadCodec codec, byte[] preEncodedBody) {
         
         Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
                 .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
         
-        byte[] jsonBytes = convertRequestToByte(request);
+        byte[] bodyBytes = codec.appendRequestId(preEncodedBody, request.getRequestId());
         
         Payload.Builder builder = Payload.newBuilder();
         
-        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(newMeta).build();
+        return builder.setBody(buildBody(bodyBytes, codec)).setMetadata(newMeta).build();
         
     }
     
@@ -100,12 +146,48 @@ public class GrpcUtils {
                 .setMetadata(metaBuilder.build()).build();
     }
     
-    private static byte[] convertRequestToByte(Request request) {
+    private static Any buildBody(byte[] bodyBytes, PayloadCodec codec) {
+        Any.Builder result = Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(bodyBytes));
+        // Keep type url empty for json so that peers which do not know codec can still parse it.
+        if (StringUtils.isNotEmpty(codec.getType())) {
+            result.setTypeUrl(codec.getType());
+        }
+        return result.build();
+    }
+    
+    private static byte[] convertRequestToByte(Request request, PayloadCodec codec) {
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
-        byte[] jsonBytes = JacksonUtils.toJsonBytes(request);
+        byte[] bodyBytes = codec.encode(request);
         request.putAllHeader(requestHeaders);
-        return jsonBytes;
+        return bodyBytes;
+    }
+    
+    /**
+     * Encode request body without request id and headers.
+     *
+     * @param request request.
+     * @return json bytes of request body without request id.
+     */
+    public static byte[] convertRequestBodyWithoutId(Request request) {
+        return convertRequestBodyWithoutId(request, PayloadCodecManager.getJsonCodec());
+    }
+    
+    /**
+     * Encode request body without request id and headers by codec.
+     *
+     * @param request request.
+     * @param codec   codec to encode request body.
+     * @return bytes of request body without request id.
+     */
+    public static byte[] convertRequestBodyWithoutId(Request request, PayloadCodec codec) {
+        String requestId = request.getRequestId();
+        request.setRequestId(null);
+        try {
+            return convertRequestToByte(request, codec);
+        } finally {
+            request.setRequestId(requestId);
+        }
     }
     
     /**
@@ -117,9 +199,8 @@ public class GrpcUtils {
     public static Object parse(Payload payload) {
         Class classType = PayloadRegistry.getClassByType(payload.getMetadata().getType());
         if (classType != null) {
-            ByteString byteString = payload.getBody().getValue();
-            ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            PayloadCodec codec = PayloadCodecManager.getCodec(payload.getBody().getTypeUrl());
+            Object obj = codec.decode(payload.getBody().getValue(), classType);
             if (obj instanceof Request) {
                 ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
             }
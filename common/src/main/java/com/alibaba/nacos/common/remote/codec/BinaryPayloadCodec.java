@@ -0,0 +1,602 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary payload codec for the most frequent requests, which encodes them in protobuf wire format.
+ *
+ * <p>The field numbers of each type should never be changed or reused. Unknown fields are skipped when decoding, so
+ * new fields can be added compatibly. The request id is always field {@link #REQUEST_ID_FIELD}, and protobuf allows
+ * fields in any order, so the request id can be appended to the shared encoded body directly.
+ *
+ * @author Nacos
+ */
+public class BinaryPayloadCodec implements PayloadCodec {
+    
+    public static final String TYPE = "nacos-binary";
+    
+    private static final int REQUEST_ID_FIELD = 1;
+    
+    private static final Map<Class<?>, BodyCodec<?>> BODY_CODECS = new HashMap<>(4);
+    
+    static {
+        BODY_CODECS.put(InstanceRequest.class, new InstanceRequestCodec());
+        BODY_CODECS.put(ConfigQueryRequest.class, new ConfigQueryRequestCodec());
+        BODY_CODECS.put(NotifySubscriberRequest.class, new NotifySubscriberRequestCodec());
+    }
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+    
+    @Override
+    public boolean isSupported(Class<?> type) {
+        return BODY_CODECS.containsKey(type);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object body) {
+        BodyCodec<Object> codec = (BodyCodec<Object>) getBodyCodec(body.getClass());
+        String requestId = ((Request) body).getRequestId();
+        // Compute size first so that the body is written into the result array directly without any copy.
+        NestedSizes sizes = new NestedSizes();
+        byte[] result = new byte[stringSize(REQUEST_ID_FIELD, requestId) + codec.computeSize(body, sizes)];
+        CodedOutputStream output = CodedOutputStream.newInstance(result);
+        try {
+            writeString(output, REQUEST_ID_FIELD, requestId);
+            codec.write(body, output, sizes);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+        return result;
+    }
+    
+    @Override
+    public Object decode(ByteString data, Class<?> type) {
+        BodyCodec<?> codec = getBodyCodec(type);
+        try {
+            CodedInputStream input = data.newCodedInput();
+            Request result = (Request) codec.newInstance();
+            int tag;
+            while (0 != (tag = input.readTag())) {
+                if (REQUEST_ID_FIELD == WireFormat.getTagFieldNumber(tag)) {
+                    result.setRequestId(input.readStringRequireUtf8());
+                } else {
+                    readField(codec, result, input, tag);
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.BAD_GATEWAY, e);
+        }
+    }
+    
+    @Override
+    public byte[] appendRequestId(byte[] encodedWithoutId, String requestId) {
+        if (null == requestId) {
+            return encodedWithoutId;
+        }
+        int size = CodedOutputStream.computeStringSize(REQUEST_ID_FIELD, requestId);
+        byte[] result = new byte[encodedWithoutId.length + size];
+        System.arraycopy(encodedWithoutId, 0, result, 0, encodedWithoutId.length);
+        CodedOutputStream output = CodedOutputStream.newInstance(result, encodedWithoutId.length, size);
+        try {
+            output.writeString(REQUEST_ID_FIELD, requestId);
+            output.flush();
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+        return result;
+    }
+    
+    private static BodyCodec<?> getBodyCodec(Class<?> type) {
+        BodyCodec<?> result = BODY_CODECS.get(type);
+        if (null == result) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Unsupported binary payload type:" + type);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> void readField(BodyCodec<T> codec, Object target, CodedInputStream input, int tag)
+            throws IOException {
+        if (!codec.read((T) target, input, WireFormat.getTagFieldNumber(tag))) {
+            input.skipField(tag);
+        }
+    }
+    
+    private static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (null != value) {
+            output.writeString(field, value);
+        }
+    }
+    
+    private static int stringSize(int field, String value) {
+        return null == value ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+    
+    private static <T> void writeMessage(CodedOutputStream output, int field, T message, BodyCodec<T> codec,
+            NestedSizes sizes) throws IOException {
+        if (null != message) {
+            writeMessageHeader(output, field, sizes);
+            codec.write(message, output, sizes);
+        }
+    }
+    
+    private static void writeMessageHeader(CodedOutputStream output, int field, NestedSizes sizes)
+            throws IOException {
+        output.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(sizes.next());
+    }
+    
+    private static <T> int messageSize(int field, T message, BodyCodec<T> codec, NestedSizes sizes) {
+        if (null == message) {
+            return 0;
+        }
+        // Reserve the size before the nested messages of message, so that sizes are in the order of writing.
+        int index = sizes.reserve();
+        int size = codec.computeSize(message, sizes);
+        sizes.set(index, size);
+        return messageSize(field, size);
+    }
+    
+    private static int messageSize(int field, int size) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+    
+    private static <T> T readMessage(CodedInputStream input, BodyCodec<T> codec) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        T result = codec.newInstance();
+        int tag;
+        while (0 != (tag = input.readTag())) {
+            if (!codec.read(result, input, WireFormat.getTagFieldNumber(tag))) {
+                input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        return result;
+    }
+    
+    private static void readMetadataEntry(CodedInputStream input, Map<String, String> metadata) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        String key = null;
+        String value = null;
+        int tag;
+        while (0 != (tag = input.readTag())) {
+            int field = WireFormat.getTagFieldNumber(tag);
+            if (1 == field) {
+                key = input.readStringRequireUtf8();
+            } else if (2 == field) {
+                value = input.readStringRequireUtf8();
+            } else {
+                input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        metadata.put(key, value);
+    }
+    
+    /**
+     * Codec of fields of one type.
+     *
+     * @param <T> type
+     */
+    private interface BodyCodec<T> {
+        
+        /**
+         * Create an empty value to read fields into.
+         *
+         * @return empty value
+         */
+        T newInstance();
+        
+        /**
+         * Compute the encoded size of all fields of value, except the request id.
+         *
+         * @param value value to write
+         * @param sizes sizes of nested messages, which are recorded for writing
+         * @return encoded size
+         */
+        int computeSize(T value, NestedSizes sizes);
+        
+        /**
+         * Write all fields of value, except the request id.
+         *
+         * @param value  value to write
+         * @param output output
+         * @param sizes  sizes of nested messages recorded by {@link #computeSize(Object, NestedSizes)}
+         * @throws IOException when write failed
+         */
+        void write(T value, CodedOutputStream output, NestedSizes sizes) throws IOException;
+        
+        /**
+         * Read one field into value.
+         *
+         * @param value  value to set field
+         * @param input  input positioned after the tag
+         * @param field  field number
+         * @return {@code false} if field is unknown and should be skipped
+         * @throws IOException when read failed
+         */
+        boolean read(T value, CodedInputStream input, int field) throws IOException;
+    }
+    
+    private static class InstanceCodec implements BodyCodec<Instance> {
+        
+        private static final InstanceCodec INSTANCE = new InstanceCodec();
+        
+        @Override
+        public Instance newInstance() {
+            return new Instance();
+        }
+        
+        @Override
+        public int computeSize(Instance value, NestedSizes sizes) {
+            int result = stringSize(1, value.getInstanceId()) + stringSize(2, value.getIp());
+            result += CodedOutputStream.computeInt32Size(3, value.getPort());
+            result += CodedOutputStream.computeDoubleSize(4, value.getWeight());
+            result += CodedOutputStream.computeBoolSize(5, value.isHealthy());
+            result += CodedOutputStream.computeBoolSize(6, value.isEnabled());
+            result += CodedOutputStream.computeBoolSize(7, value.isEphemeral());
+            result += stringSize(8, value.getClusterName()) + stringSize(9, value.getServiceName());
+            if (null != value.getMetadata()) {
+                // Metadata entries are encoded as map entries of protobuf directly, without wrapping them.
+                for (Map.Entry<String, String> entry : value.getMetadata().entrySet()) {
+                    int size = stringSize(1, entry.getKey()) + stringSize(2, entry.getValue());
+                    sizes.set(sizes.reserve(), size);
+                    result += messageSize(10, size);
+                }
+            }
+            return result;
+        }
+        
+        @Override
+        public void write(Instance value, CodedOutputStream output, NestedSizes sizes) throws IOException {
+            writeString(output, 1, value.getInstanceId());
+            writeString(output, 2, value.getIp());
+            output.writeInt32(3, value.getPort());
+            output.writeDouble(4, value.getWeight());
+            output.writeBool(5, value.isHealthy());
+            output.writeBool(6, value.isEnabled());
+            output.writeBool(7, value.isEphemeral());
+            writeString(output, 8, value.getClusterName());
+            writeString(output, 9, value.getServiceName());
+            if (null != value.getMetadata()) {
+                for (Map.Entry<String, String> entry : value.getMetadata().entrySet()) {
+                    writeMessageHeader(output, 10, sizes);
+                    writeString(output, 1, entry.getKey());
+                    writeString(output, 2, entry.getValue());
+                }
+            }
+        }
+        
+        @Override
+        public boolean read(Instance value, CodedInputStream input, int field) throws IOException {
+            switch (field) {
+                case 1:
+                    value.setInstanceId(input.readStringRequireUtf8());
+                    return true;
+                case 2:
+                    value.setIp(input.readStringRequireUtf8());
+                    return true;
+                case 3:
+                    value.setPort(input.readInt32());
+                    return true;
+                case 4:
+                    value.setWeight(input.readDouble());
+                    return true;
+                case 5:
+                    value.setHealthy(input.readBool());
+                    return true;
+                case 6:
+                    value.setEnabled(input.readBool());
+                    return true;
+                case 7:
+                    value.setEphemeral(input.readBool());
+                    return true;
+                case 8:
+                    value.setClusterName(input.readStringRequireUtf8());
+                    return true;
+                case 9:
+                    value.setServiceName(input.readStringRequireUtf8());
+                    return true;
+                case 10:
+                    readMetadataEntry(input, value.getMetadata());
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    private static class ServiceInfoCodec implements BodyCodec<ServiceInfo> {
+        
+        private static final ServiceInfoCodec INSTANCE = new ServiceInfoCodec();
+        
+        @Override
+        public ServiceInfo newInstance() {
+            return new ServiceInfo();
+        }
+        
+        @Override
+        public int computeSize(ServiceInfo value, NestedSizes sizes) {
+            int result = stringSize(1, value.getName()) + stringSize(2, value.getGroupName());
+            result += stringSize(3, value.getClusters());
+            result += CodedOutputStream.computeInt64Size(4, value.getCacheMillis());
+            if (value.isValid()) {
+                for (Instance each : value.getHosts()) {
+                    result += messageSize(5, each, InstanceCodec.INSTANCE, sizes);
+                }
+            }
+            result += CodedOutputStream.computeInt64Size(6, value.getLastRefTime());
+            result += stringSize(7, value.getChecksum());
+            result += CodedOutputStream.computeBoolSize(8, value.isAllIPs());
+            result += CodedOutputStream.computeBoolSize(9, value.isReachProtectionThreshold());
+            return result;
+        }
+        
+        @Override
+        public void write(ServiceInfo value, CodedOutputStream output, NestedSizes sizes) throws IOException {
+            writeString(output, 1, value.getName());
+            writeString(output, 2, value.getGroupName());
+            writeString(output, 3, value.getClusters());
+            output.writeInt64(4, value.getCacheMillis());
+            if (value.isValid()) {
+                for (Instance each : value.getHosts()) {
+                    writeMessage(output, 5, each, InstanceCodec.INSTANCE, sizes);
+                }
+            }
+            output.writeInt64(6, value.getLastRefTime());
+            writeString(output, 7, value.getChecksum());
+            output.writeBool(8, value.isAllIPs());
+            output.writeBool(9, value.isReachProtectionThreshold());
+        }
+        
+        @Override
+        public boolean read(ServiceInfo value, CodedInputStream input, int field) throws IOException {
+            switch (field) {
+                case 1:
+                    value.setName(input.readStringRequireUtf8());
+                    return true;
+                case 2:
+                    value.setGroupName(input.readStringRequireUtf8());
+                    return true;
+                case 3:
+                    value.setClusters(input.readStringRequireUtf8());
+                    return true;
+                case 4:
+                    value.setCacheMillis(input.readInt64());
+                    return true;
+                case 5:
+                    value.addHost(readMessage(input, InstanceCodec.INSTANCE));
+                    return true;
+                case 6:
+                    value.setLastRefTime(input.readInt64());
+                    return true;
+                case 7:
+                    value.setChecksum(input.readStringRequireUtf8());
+                    return true;
+                case 8:
+                    value.setAllIPs(input.readBool());
+                    return true;
+                case 9:
+                    value.setReachProtectionThreshold(input.readBool());
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    private static class InstanceRequestCodec implements BodyCodec<InstanceRequest> {
+        
+        @Override
+        public InstanceRequest newInstance() {
+            return new InstanceRequest();
+        }
+        
+        @Override
+        public int computeSize(InstanceRequest value, NestedSizes sizes) {
+            int result = stringSize(2, value.getNamespace()) + stringSize(3, value.getServiceName());
+            result += stringSize(4, value.getGroupName()) + stringSize(5, value.getType());
+            return result + messageSize(6, value.getInstance(), InstanceCodec.INSTANCE, sizes);
+        }
+        
+        @Override
+        public void write(InstanceRequest value, CodedOutputStream output, NestedSizes sizes) throws IOException {
+            writeString(output, 2, value.getNamespace());
+            writeString(output, 3, value.getServiceName());
+            writeString(output, 4, value.getGroupName());
+            writeString(output, 5, value.getType());
+            writeMessage(output, 6, value.getInstance(), InstanceCodec.INSTANCE, sizes);
+        }
+        
+        @Override
+        public boolean read(InstanceRequest value, CodedInputStream input, int field) throws IOException {
+            switch (field) {
+                case 2:
+                    value.setNamespace(input.readStringRequireUtf8());
+                    return true;
+                case 3:
+                    value.setServiceName(input.readStringRequireUtf8());
+                    return true;
+                case 4:
+                    value.setGroupName(input.readStringRequireUtf8());
+                    return true;
+                case 5:
+                    value.setType(input.readStringRequireUtf8());
+                    return true;
+                case 6:
+                    value.setInstance(readMessage(input, InstanceCodec.INSTANCE));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    private static class ConfigQueryRequestCodec implements BodyCodec<ConfigQueryRequest> {
+        
+        @Override
+        public ConfigQueryRequest newInstance() {
+            return new ConfigQueryRequest();
+        }
+        
+        @Override
+        public int computeSize(ConfigQueryRequest value, NestedSizes sizes) {
+            int result = stringSize(2, value.getDataId()) + stringSize(3, value.getGroup());
+            result += stringSize(4, value.getTenant()) + stringSize(5, value.getTag());
+            if (value.getChunkIndex() >= 0) {
+                result += CodedOutputStream.computeInt32Size(6, value.getChunkIndex());
+            }
+            return result + stringSize(7, value.getChunkMd5());
+        }
+        
+        @Override
+        public void write(ConfigQueryRequest value, CodedOutputStream output, NestedSizes sizes) throws IOException {
+            writeString(output, 2, value.getDataId());
+            writeString(output, 3, value.getGroup());
+            writeString(output, 4, value.getTenant());
+            writeString(output, 5, value.getTag());
+            // -1 is absent, which is the default value of request.
+            if (value.getChunkIndex() >= 0) {
+                output.writeInt32(6, value.getChunkIndex());
+            }
+            writeString(output, 7, value.getChunkMd5());
+        }
+        
+        @Override
+        public boolean read(ConfigQueryRequest value, CodedInputStream input, int field) throws IOException {
+            switch (field) {
+                case 2:
+                    value.setDataId(input.readStringRequireUtf8());
+                    return true;
+                case 3:
+                    value.setGroup(input.readStringRequireUtf8());
+                    return true;
+                case 4:
+                    value.setTenant(input.readStringRequireUtf8());
+                    return true;
+                case 5:
+                    value.setTag(input.readStringRequireUtf8());
+                    return true;
+                case 6:
+                    value.setChunkIndex(input.readInt32());
+                    return true;
+                case 7:
+                    value.setChunkMd5(input.readStringRequireUtf8());
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    private static class NotifySubscriberRequestCodec implements BodyCodec<NotifySubscriberRequest> {
+        
+        @Override
+        public NotifySubscriberRequest newInstance() {
+            return new NotifySubscriberRequest();
+        }
+        
+        @Override
+        public int computeSize(NotifySubscriberRequest value, NestedSizes sizes) {
+            int result = stringSize(2, value.getNamespace()) + stringSize(3, value.getServiceName());
+            result += stringSize(4, value.getGroupName());
+            return result + messageSize(5, value.getServiceInfo(), ServiceInfoCodec.INSTANCE, sizes);
+        }
+        
+        @Override
+        public void write(NotifySubscriberRequest value, CodedOutputStream output, NestedSizes sizes) throws IOException {
+            writeString(output, 2, value.getNamespace());
+            writeString(output, 3, value.getServiceName());
+            writeString(output, 4, value.getGroupName());
+            writeMessage(output, 5, value.getServiceInfo(), ServiceInfoCodec.INSTANCE, sizes);
+        }
+        
+        @Override
+        public boolean read(NotifySubscriberRequest value, CodedInputStream input, int field) throws IOException {
+            switch (field) {
+                case 2:
+                    value.setNamespace(input.readStringRequireUtf8());
+                    return true;
+                case 3:
+                    value.setServiceName(input.readStringRequireUtf8());
+                    return true;
+                case 4:
+                    value.setGroupName(input.readStringRequireUtf8());
+                    return true;
+                case 5:
+                    value.setServiceInfo(readMessage(input, ServiceInfoCodec.INSTANCE));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    /**
+     * Sizes of nested messages recorded when computing size, so that each size is computed only once like the memoized
+     * size of protobuf messages. The sizes are recorded and read in the order of writing.
+     */
+    private static class NestedSizes {
+        
+        private static final int INITIAL_CAPACITY = 16;
+        
+        private int[] sizes = new int[INITIAL_CAPACITY];
+        
+        private int count;
+        
+        private int position;
+        
+        private int reserve() {
+            if (count == sizes.length) {
+                sizes = Arrays.copyOf(sizes, count << 1);
+            }
+            return count++;
+        }
+        
+        private void set(int index, int size) {
+            sizes[index] = size;
+        }
+        
+        private int next() {
+            return sizes[position++];
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.google.protobuf.ByteString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Json payload codec, which supports all requests and responses.
+ *
+ * @author Nacos
+ */
+public class JsonPayloadCodec implements PayloadCodec {
+    
+    private static final String REQUEST_ID_FIELD_PREFIX = "{\"requestId\":";
+    
+    private static final int EMPTY_JSON_OBJECT_LENGTH = 2;
+    
+    @Override
+    public String getType() {
+        return StringUtils.EMPTY;
+    }
+    
+    @Override
+    public boolean isSupported(Class<?> type) {
+        return true;
+    }
+    
+    @Override
+    public byte[] encode(Object body) {
+        return JacksonUtils.toJsonBytes(body);
+    }
+    
+    @Override
+    public Object decode(ByteString data, Class<?> type) {
+        return JacksonUtils.toObj(new ByteBufferBackedInputStream(data.asReadOnlyByteBuffer()), type);
+    }
+    
+    @Override
+    public byte[] appendRequestId(byte[] encodedWithoutId, String requestId) {
+        if (null == requestId) {
+            return encodedWithoutId;
+        }
+        byte[] requestIdField = (REQUEST_ID_FIELD_PREFIX + JacksonUtils.toJson(requestId))
+                .getBytes(StandardCharsets.UTF_8);
+        // body without id is a json object and starts with '{', empty object is '{}'.
+        if (encodedWithoutId.length <= EMPTY_JSON_OBJECT_LENGTH) {
+            byte[] result = Arrays.copyOf(requestIdField, requestIdField.length + 1);
+            result[requestIdField.length] = '}';
+            return result;
+        }
+        byte[] result = Arrays.copyOf(requestIdField, requestIdField.length + encodedWithoutId.length);
+        result[requestIdField.length] = ',';
+        System.arraycopy(encodedWithoutId, 1, result, requestIdField.length + 1, encodedWithoutId.length - 1);
+        return result;
+    }
+}
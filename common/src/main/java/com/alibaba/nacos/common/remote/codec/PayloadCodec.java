@@ -0,0 +1,70 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Codec of the body of grpc payload.
+ *
+ * @author Nacos
+ */
+public interface PayloadCodec {
+    
+    /**
+     * Type of this codec, which is carried by the type url of payload body so that the receiver can decode it.
+     *
+     * @return type of codec, empty for json to be compatible with versions which do not know codec
+     */
+    String getType();
+    
+    /**
+     * Whether this codec can encode and decode the class.
+     *
+     * @param type class of request or response
+     * @return {@code true} if supported
+     */
+    boolean isSupported(Class<?> type);
+    
+    /**
+     * Encode the request or response to bytes. Headers of request are carried by payload metadata, so they should be
+     * cleared before encoding.
+     *
+     * @param body request or response
+     * @return encoded bytes
+     */
+    byte[] encode(Object body);
+    
+    /**
+     * Decode bytes to request or response.
+     *
+     * @param data encoded bytes
+     * @param type class of request or response
+     * @return request or response
+     */
+    Object decode(ByteString data, Class<?> type);
+    
+    /**
+     * Append request id to the request encoded without request id, so that the encoded body can be shared by requests
+     * which only differ in request id.
+     *
+     * @param encodedWithoutId request encoded without request id
+     * @param requestId        request id
+     * @return encoded request with request id
+     */
+    byte[] appendRequestId(byte[] encodedWithoutId, String requestId);
+}
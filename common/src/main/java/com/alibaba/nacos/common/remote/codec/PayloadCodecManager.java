@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+/**
+ * Payload codec manager, select the codec for request by the abilities of peer.
+ *
+ * <p>Binary codec can be disabled by system property {@link #BINARY_ENABLED_PROPERTY}, then all requests are sent by
+ * json, but the binary requests sent by peers can still be decoded.
+ *
+ * @author Nacos
+ */
+public class PayloadCodecManager {
+    
+    public static final String BINARY_ENABLED_PROPERTY = "nacos.remote.payload.codec.binary.enabled";
+    
+    private static final PayloadCodec JSON_CODEC = new JsonPayloadCodec();
+    
+    private static final PayloadCodec BINARY_CODEC = new BinaryPayloadCodec();
+    
+    private static final boolean BINARY_ENABLED = Boolean
+            .parseBoolean(System.getProperty(BINARY_ENABLED_PROPERTY, Boolean.TRUE.toString()));
+    
+    public static PayloadCodec getJsonCodec() {
+        return JSON_CODEC;
+    }
+    
+    /**
+     * Get codec by type carried in payload.
+     *
+     * @param type codec type, empty for json
+     * @return codec
+     * @throws RemoteException if the codec type is unknown
+     */
+    public static PayloadCodec getCodec(String type) {
+        if (StringUtils.isEmpty(type)) {
+            return JSON_CODEC;
+        }
+        if (BINARY_CODEC.getType().equals(type)) {
+            return BINARY_CODEC;
+        }
+        throw new RemoteException(NacosException.SERVER_ERROR, "Unknown payload codec type:" + type);
+    }
+    
+    /**
+     * Select codec to encode the request sent to peer.
+     *
+     * @param type               class of request
+     * @param peerSupportsBinary whether the peer declared the ability of binary payload
+     * @return binary codec if both sides support it for the type, otherwise json codec
+     */
+    public static PayloadCodec selectCodec(Class<?> type, boolean peerSupportsBinary) {
+        if (!BINARY_ENABLED || !peerSupportsBinary) {
+            return JSON_CODEC;
+        }
+        return BINARY_CODEC.isSupported(type) ? BINARY_CODEC : JSON_CODEC;
+    }
+}
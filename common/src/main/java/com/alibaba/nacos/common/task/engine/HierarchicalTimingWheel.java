@@ -0,0 +1,222 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel which schedules keys by absolute tick.
+ *
+ * <p>Each level has {@link #WHEEL_SIZE} slots, and one slot of level {@code n} covers {@code WHEEL_SIZE^n} ticks. A key
+ * is put into the lowest level which can hold its deadline, and is moved down when the slot of the higher level is
+ * reached, so that advancing one tick only touches the slots which are due. Deadlines beyond the highest level are put
+ * into its farthest slot and re-scheduled when reached.
+ *
+ * <p>Each key is scheduled at most once at a time: scheduling a key again with a later deadline is ignored, the caller
+ * should re-schedule it when the earlier deadline is reached. This class is not thread safe.
+ *
+ * @author Nacos
+ */
+final class HierarchicalTimingWheel<K> {
+    
+    private static final int SLOT_BITS = 6;
+    
+    static final int WHEEL_SIZE = 1 << SLOT_BITS;
+    
+    private static final int SLOT_MASK = WHEEL_SIZE - 1;
+    
+    private static final int LEVELS = 4;
+    
+    private final List<Entry<K>>[][] slots;
+    
+    private final Map<K, Long> deadlines = new HashMap<>();
+    
+    private List<K> expired = new ArrayList<>();
+    
+    private long currentTick;
+    
+    @SuppressWarnings("unchecked")
+    HierarchicalTimingWheel(long startTick) {
+        this.currentTick = startTick;
+        this.slots = new List[LEVELS][WHEEL_SIZE];
+    }
+    
+    /**
+     * Schedule key at deadline tick.
+     *
+     * @param key          key
+     * @param deadlineTick deadline tick, the key will be expired in next advance if it is not after current tick
+     * @return {@code true} if scheduled, {@code false} if the key has been scheduled with a not later deadline
+     */
+    boolean schedule(K key, long deadlineTick) {
+        Long scheduled = deadlines.get(key);
+        if (null != scheduled && scheduled <= deadlineTick) {
+            return false;
+        }
+        deadlines.put(key, deadlineTick);
+        place(new Entry<>(key, deadlineTick));
+        return true;
+    }
+    
+    /**
+     * Cancel the scheduled key.
+     *
+     * @param key key
+     */
+    void cancel(K key) {
+        // The entry is left in the slot and will be skipped when it is reached.
+        deadlines.remove(key);
+    }
+    
+    /**
+     * Advance the wheel to target tick, and collect the keys which are expired or reached their deadlines.
+     *
+     * @param targetTick target tick
+     * @param dueKeys    collection to add due keys into
+     */
+    void advance(long targetTick, Collection<K> dueKeys) {
+        List<K> previousExpired = expired;
+        expired = new ArrayList<>();
+        for (K each : previousExpired) {
+            collectIfScheduled(each, null, dueKeys);
+        }
+        if (deadlines.isEmpty()) {
+            // Nothing pending, only stale entries might be left in slots, jump over the idle ticks.
+            if (currentTick < targetTick) {
+                clearSlots();
+                currentTick = targetTick;
+            }
+            return;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if (0 == (currentTick & ((1L << (SLOT_BITS * level)) - 1))) {
+                    cascade(level);
+                }
+            }
+            List<Entry<K>> due = takeSlot(0, (int) (currentTick & SLOT_MASK));
+            if (null != due) {
+                for (Entry<K> each : due) {
+                    collectIfScheduled(each.key, each.deadlineTick, dueKeys);
+                }
+            }
+        }
+    }
+    
+    long getCurrentTick() {
+        return currentTick;
+    }
+    
+    int size() {
+        return deadlines.size();
+    }
+    
+    void clear() {
+        deadlines.clear();
+        expired.clear();
+        clearSlots();
+    }
+    
+    private void clearSlots() {
+        for (List<Entry<K>>[] each : slots) {
+            Arrays.fill(each, null);
+        }
+    }
+    
+    private void collectIfScheduled(K key, Long deadlineTick, Collection<K> dueKeys) {
+        Long scheduled = deadlines.get(key);
+        // Skip the canceled keys and the stale entries which have been re-scheduled earlier.
+        if (null == scheduled) {
+            return;
+        }
+        if (null != deadlineTick && !scheduled.equals(deadlineTick)) {
+            return;
+        }
+        deadlines.remove(key);
+        dueKeys.add(key);
+    }
+    
+    private void cascade(int level) {
+        List<Entry<K>> entries = takeSlot(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+        if (null == entries) {
+            return;
+        }
+        for (Entry<K> each : entries) {
+            Long scheduled = deadlines.get(each.key);
+            if (null == scheduled || scheduled != each.deadlineTick) {
+                continue;
+            }
+            if (each.deadlineTick <= currentTick) {
+                // Reached in this tick, the level 0 slot of current tick will be taken after cascading.
+                addToSlot(0, (int) (currentTick & SLOT_MASK), each);
+            } else {
+                place(each);
+            }
+        }
+    }
+    
+    private void place(Entry<K> entry) {
+        if (entry.deadlineTick <= currentTick) {
+            expired.add(entry.key);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            long slotOfDeadline = entry.deadlineTick >>> shift;
+            if (slotOfDeadline - (currentTick >>> shift) < WHEEL_SIZE) {
+                addToSlot(level, (int) (slotOfDeadline & SLOT_MASK), entry);
+                return;
+            }
+        }
+        // Too far away, park it in the farthest slot of the highest level.
+        int shift = SLOT_BITS * (LEVELS - 1);
+        addToSlot(LEVELS - 1, (int) (((currentTick >>> shift) + SLOT_MASK) & SLOT_MASK), entry);
+    }
+    
+    private void addToSlot(int level, int index, Entry<K> entry) {
+        List<Entry<K>> slot = slots[level][index];
+        if (null == slot) {
+            slot = new ArrayList<>();
+            slots[level][index] = slot;
+        }
+        slot.add(entry);
+    }
+    
+    private List<Entry<K>> takeSlot(int level, int index) {
+        List<Entry<K>> result = slots[level][index];
+        slots[level][index] = null;
+        return result;
+    }
+    
+    private static class Entry<K> {
+        
+        private final K key;
+        
+        private final long deadlineTick;
+        
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -136,16 +136,26 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
             if (null == task) {
                 continue;
             }
-            NacosTaskProcessor processor = getProcessor(taskKey);
-            try {
-                // ReAdd task if process failed
-                if (!processor.process(task)) {
-                    retryFailedTask(taskKey, task);
-                }
-            } catch (Throwable e) {
-                getEngineLog().error("Nacos task execute error ", e);
+            processTask(taskKey, task);
+        }
+    }
+    
+    /**
+     * process one task which has been removed from execute engine.
+     *
+     * @param taskKey task key
+     * @param task    task
+     */
+    protected void processTask(Object taskKey, AbstractDelayTask task) {
+        NacosTaskProcessor processor = getProcessor(taskKey);
+        try {
+            // ReAdd task if process failed
+            if (!processor.process(task)) {
                 retryFailedTask(taskKey, task);
             }
+        } catch (Throwable e) {
+            getEngineLog().error("Nacos task execute error ", e);
+            retryFailedTask(taskKey, task);
         }
     }
     
@@ -0,0 +1,188 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Nacos delay task execute engine based on hierarchical timing wheel.
+ *
+ * <p>Tasks are still merged by key as {@link NacosDelayTaskExecuteEngine}, but each key is also scheduled into a
+ * timing wheel by the time it should be processed, so each round only visits the keys which are due instead of
+ * scanning all pending tasks. It is suitable for engines holding lots of pending tasks, such as push and distro.
+ *
+ * @author Nacos
+ */
+public class TimingWheelDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
+    
+    private final long tickMillis;
+    
+    private final HierarchicalTimingWheel<Object> timingWheel;
+    
+    private final LongAdder addedTaskCount = new LongAdder();
+    
+    private final LongAdder mergedTaskCount = new LongAdder();
+    
+    private volatile long lastDueLagMillis;
+    
+    private volatile long maxDueLagMillis;
+    
+    public TimingWheelDelayTaskExecuteEngine(String name) {
+        this(name, null);
+    }
+    
+    public TimingWheelDelayTaskExecuteEngine(String name, Logger logger) {
+        this(name, 32, logger, 100L);
+    }
+    
+    public TimingWheelDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval) {
+        super(name, initCapacity, logger, processInterval);
+        this.tickMillis = processInterval;
+        this.timingWheel = new HierarchicalTimingWheel<>(System.currentTimeMillis() / tickMillis);
+    }
+    
+    @Override
+    public void addTask(Object key, AbstractDelayTask newTask) {
+        lock.lock();
+        try {
+            if (tasks.containsKey(key)) {
+                mergedTaskCount.increment();
+            }
+            super.addTask(key, newTask);
+            addedTaskCount.increment();
+            timingWheel.schedule(key, toDueTick(newTask));
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void shutdown() throws NacosException {
+        super.shutdown();
+        lock.lock();
+        try {
+            timingWheel.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    protected void processTasks() {
+        if (null == timingWheel) {
+            // The processing is scheduled by super constructor, skip until this engine is initialized.
+            return;
+        }
+        List<Object> dueKeys = new ArrayList<>();
+        lock.lock();
+        try {
+            timingWheel.advance(System.currentTimeMillis() / tickMillis, dueKeys);
+        } finally {
+            lock.unlock();
+        }
+        for (Object each : dueKeys) {
+            AbstractDelayTask task = removeTask(each);
+            if (null == task) {
+                rescheduleIfPresent(each);
+                continue;
+            }
+            recordDueLag(task);
+            processTask(each, task);
+        }
+    }
+    
+    /**
+     * The task might be removed, or be merged or modified to be processed later.
+     */
+    private void rescheduleIfPresent(Object key) {
+        lock.lock();
+        try {
+            AbstractDelayTask task = tasks.get(key);
+            if (null != task) {
+                timingWheel.schedule(key, toDueTick(task));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private long toDueTick(AbstractDelayTask task) {
+        long dueTime = task.getLastProcessTime() + task.getTaskInterval();
+        // Round up to make sure the task should be processed when the tick is reached.
+        return (dueTime + tickMillis - 1) / tickMillis;
+    }
+    
+    private void recordDueLag(AbstractDelayTask task) {
+        long lag = Math.max(0L, System.currentTimeMillis() - task.getLastProcessTime() - task.getTaskInterval());
+        lastDueLagMillis = lag;
+        if (lag > maxDueLagMillis) {
+            maxDueLagMillis = lag;
+        }
+    }
+    
+    /**
+     * Get the lag between the due time and the processing time of the last processed task.
+     *
+     * @return lag in milliseconds
+     */
+    public long getLastDueLagMillis() {
+        return lastDueLagMillis;
+    }
+    
+    /**
+     * Get the max lag between the due time and the processing time of processed tasks.
+     *
+     * @return lag in milliseconds
+     */
+    public long getMaxDueLagMillis() {
+        return maxDueLagMillis;
+    }
+    
+    /**
+     * Get the count of tasks added into this engine, including the retried tasks.
+     *
+     * @return added task count
+     */
+    public long getAddedTaskCount() {
+        return addedTaskCount.sum();
+    }
+    
+    /**
+     * Get the count of tasks merged with the pending task of the same key.
+     *
+     * @return merged task count
+     */
+    public long getMergedTaskCount() {
+        return mergedTaskCount.sum();
+    }
+    
+    /**
+     * Get the ratio of merged tasks to added tasks.
+     *
+     * @return merge ratio between 0 and 1
+     */
+    public double getMergeRatio() {
+        long added = addedTaskCount.sum();
+        return 0 == added ? 0D : (double) mergedTaskCount.sum() / added;
+    }
+}
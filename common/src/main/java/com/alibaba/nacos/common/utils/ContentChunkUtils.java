@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import com.alibaba.nacos.common.codec.Base64;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content chunk tool methods, used to transfer large content in several requests.
+ *
+ * <p>The chunks are split from the UTF-8 bytes of content, so one chunk may end in the middle of a character and is
+ * carried as base64 string, optionally compressed by gzip.
+ *
+ * @author Nacos
+ */
+public class ContentChunkUtils {
+    
+    private ContentChunkUtils() {
+    }
+    
+    /**
+     * Get count of chunks of content.
+     *
+     * @param contentLength length of content bytes
+     * @param chunkSize     max bytes of one chunk
+     * @return chunk count
+     */
+    public static int getChunkCount(long contentLength, int chunkSize) {
+        return (int) ((contentLength + chunkSize - 1) / chunkSize);
+    }
+    
+    /**
+     * Encode chunk bytes to string.
+     *
+     * @param chunk    chunk bytes
+     * @param compress whether compress by gzip
+     * @return encoded chunk
+     */
+    public static String encodeChunk(byte[] chunk, boolean compress) {
+        byte[] result = compress ? compress(chunk) : chunk;
+        return new String(Base64.encodeBase64(result), StandardCharsets.US_ASCII);
+    }
+    
+    /**
+     * Decode chunk bytes from string.
+     *
+     * @param chunk      encoded chunk
+     * @param compressed whether compressed by gzip
+     * @return chunk bytes
+     * @throws IOException if decompress failed
+     */
+    public static byte[] decodeChunk(String chunk, boolean compressed) throws IOException {
+        byte[] result = Base64.decodeBase64(chunk.getBytes(StandardCharsets.US_ASCII));
+        if (!compressed) {
+            return result;
+        }
+        try {
+            return IoUtils.tryDecompress(result);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+    
+    private static byte[] compress(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 16);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Order independent digest of a set of listened keys with their md5.
+ *
+ * <p>Client and server build the digest of the keys listened on one connection separately, the same digest means
+ * both sides agree on the keys and the md5 of each key, so the whole set doesn't need to be sent for checking.
+ *
+ * @author Nacos
+ */
+public class ListenDigest {
+    
+    private static final char SEPARATOR = 2;
+    
+    private final MessageDigest messageDigest;
+    
+    private long high;
+    
+    private long low;
+    
+    private int count;
+    
+    public ListenDigest() {
+        try {
+            this.messageDigest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    /**
+     * Add one listened key, each key should be added only once.
+     *
+     * @param key listened key
+     * @param md5 md5 of the key, null is treated as empty
+     * @return this digest
+     */
+    public ListenDigest add(String key, String md5) {
+        String entry = key + SEPARATOR + (null == md5 ? StringUtils.EMPTY : md5);
+        byte[] hash = messageDigest.digest(entry.getBytes(StandardCharsets.UTF_8));
+        high ^= toLong(hash, 0);
+        low ^= toLong(hash, Long.BYTES);
+        count++;
+        return this;
+    }
+    
+    public int getCount() {
+        return count;
+    }
+    
+    /**
+     * Get the digest string of all added keys.
+     *
+     * @return digest string
+     */
+    public String digest() {
+        return String.format("%d-%016x%016x", count, high, low);
+    }
+    
+    private static long toLong(byte[] bytes, int offset) {
+        long result = 0L;
+        for (int i = offset; i < offset + Long.BYTES; i++) {
+            result = (result << Byte.SIZE) | (bytes[i] & 0xFF);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MpscRingBufferTest {
+    
+    @Test
+    void testCapacityRoundUp() {
+        assertEquals(1, new MpscRingBuffer<Integer>(0).capacity());
+        assertEquals(1, new MpscRingBuffer<Integer>(1).capacity());
+        assertEquals(4, new MpscRingBuffer<Integer>(3).capacity());
+        assertEquals(16, new MpscRingBuffer<Integer>(16).capacity());
+    }
+    
+    @Test
+    void testOfferAndDrainInOrder() {
+        MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ringBuffer.offer(i));
+        }
+        assertFalse(ringBuffer.offer(4));
+        assertEquals(4, ringBuffer.size());
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, ringBuffer.drain((element, lagNanos) -> drained.add(element), 3));
+        assertEquals(1, ringBuffer.size());
+        assertTrue(ringBuffer.offer(4));
+        assertEquals(2, ringBuffer.drain((element, lagNanos) -> drained.add(element), 10));
+        assertEquals(0, ringBuffer.drain((element, lagNanos) -> drained.add(element), 10));
+        assertTrue(ringBuffer.isEmpty());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, drained.get(i));
+        }
+    }
+    
+    @Test
+    void testDrainWithLag() {
+        MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(2);
+        ringBuffer.offer(1);
+        AtomicLong lag = new AtomicLong(-1L);
+        ringBuffer.drain((element, lagNanos) -> lag.set(lagNanos), 1);
+        assertTrue(lag.get() >= 0);
+    }
+    
+    @Test
+    void testClear() {
+        MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(2);
+        ringBuffer.offer(1);
+        ringBuffer.offer(2);
+        ringBuffer.clear();
+        assertEquals(0, ringBuffer.size());
+        assertTrue(ringBuffer.offer(3));
+    }
+    
+    @Test
+    void testMultipleProducers() throws InterruptedException {
+        final int producers = 4;
+        final int countPerProducer = 10000;
+        MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(64);
+        CountDownLatch latch = new CountDownLatch(producers);
+        for (int i = 0; i < producers; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < countPerProducer; j++) {
+                    while (!ringBuffer.offer(j)) {
+                        Thread.yield();
+                    }
+                }
+                latch.countDown();
+            }).start();
+        }
+        long[] sum = new long[1];
+        int consumed = 0;
+        while (consumed < producers * countPerProducer) {
+            consumed += ringBuffer.drain((element, lagNanos) -> sum[0] += element, 16);
+        }
+        latch.await();
+        assertEquals((long) producers * countPerProducer * (countPerProducer - 1) / 2, sum[0]);
+        assertTrue(ringBuffer.isEmpty());
+    }
+}
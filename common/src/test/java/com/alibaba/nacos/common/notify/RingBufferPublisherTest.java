@@ -0,0 +1,172 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RingBufferPublisherTest {
+    
+    private RingBufferPublisher publisher;
+    
+    @Mock
+    private Subscriber<MockEvent> subscriber;
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        if (null != publisher) {
+            publisher.shutdown();
+        }
+    }
+    
+    @Test
+    void testWaitStrategyOf() {
+        assertEquals(RingBufferPublisher.WaitStrategy.BLOCKING, RingBufferPublisher.WaitStrategy.of(null));
+        assertEquals(RingBufferPublisher.WaitStrategy.BLOCKING, RingBufferPublisher.WaitStrategy.of("unknown"));
+        assertEquals(RingBufferPublisher.WaitStrategy.BUSY_SPIN, RingBufferPublisher.WaitStrategy.of("busy_spin"));
+    }
+    
+    @Test
+    void testCurrentEventSize() {
+        publisher = new RingBufferPublisher();
+        publisher.init(MockEvent.class, 4);
+        assertEquals(0, publisher.currentEventSize());
+        // No subscriber, publisher thread is waiting for subscriber.
+        publisher.publish(new MockEvent());
+        assertEquals(1, publisher.currentEventSize());
+        assertEquals(1, publisher.getPublishedCount());
+    }
+    
+    @Test
+    void testPublishWhenRingBufferFull() {
+        publisher = new RingBufferPublisher();
+        publisher.init(MockEvent.class, 1);
+        publisher.publish(new MockEvent());
+        when(subscriber.scopeMatches(any(MockEvent.class))).thenReturn(true);
+        publisher.addSubscriber(subscriber);
+        MockEvent event = new MockEvent();
+        publisher.publish(event);
+        verify(subscriber).onEvent(event);
+        assertEquals(1, publisher.getSynchronizedCount());
+    }
+    
+    @Test
+    void testPublishWithEachWaitStrategy() throws InterruptedException {
+        for (RingBufferPublisher.WaitStrategy each : RingBufferPublisher.WaitStrategy.values()) {
+            publisher = new RingBufferPublisher(each, 8);
+            publisher.init(MockEvent.class, 16);
+            CountingSubscriber countingSubscriber = new CountingSubscriber(100);
+            publisher.addSubscriber(countingSubscriber);
+            for (int i = 0; i < 100; i++) {
+                publisher.publish(new MockEvent());
+            }
+            assertTrue(countingSubscriber.latch.await(5, TimeUnit.SECONDS), each.name());
+            assertTrue(publisher.getMaxLagNanos() >= publisher.getLastLagNanos());
+            assertTrue(publisher.getStatus().contains(MockEvent.class.getName()));
+            publisher.shutdown();
+        }
+    }
+    
+    @Test
+    void testPublishConcurrently() throws InterruptedException {
+        final int producers = 4;
+        final int countPerProducer = 5000;
+        publisher = new RingBufferPublisher();
+        publisher.init(MockEvent.class, 64);
+        CountingSubscriber countingSubscriber = new CountingSubscriber(producers * countPerProducer);
+        publisher.addSubscriber(countingSubscriber);
+        for (int i = 0; i < producers; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < countPerProducer; j++) {
+                    publisher.publish(new MockEvent());
+                }
+            }).start();
+        }
+        assertTrue(countingSubscriber.latch.await(10, TimeUnit.SECONDS));
+        assertEquals(producers * countPerProducer, countingSubscriber.count.get());
+    }
+    
+    @Test
+    void testBlockingConsumerWokenUpByEachPublish() throws InterruptedException {
+        final int rounds = 50;
+        publisher = new RingBufferPublisher(RingBufferPublisher.WaitStrategy.BLOCKING, 8);
+        publisher.init(MockEvent.class, 16);
+        CountingSubscriber countingSubscriber = new CountingSubscriber(rounds);
+        publisher.addSubscriber(countingSubscriber);
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            // Let the consumer park before publishing, the event should wake it up rather than the park timeout.
+            TimeUnit.MILLISECONDS.sleep(1L);
+            publisher.publish(new MockEvent());
+            while (countingSubscriber.count.get() <= i) {
+                Thread.yield();
+            }
+        }
+        long costNanos = System.nanoTime() - start;
+        assertTrue(costNanos < rounds * RingBufferPublisher.WaitStrategy.MAX_PARK_NANOS / 2, "cost " + costNanos);
+    }
+    
+    @Test
+    void testFactory() {
+        EventPublisher eventPublisher = RingBufferPublisherFactory.getInstance().apply(MockEvent.class, 16);
+        assertTrue(eventPublisher instanceof RingBufferPublisher);
+        publisher = (RingBufferPublisher) eventPublisher;
+        assertTrue(publisher.isInitialized());
+    }
+    
+    private static class CountingSubscriber extends Subscriber<MockEvent> {
+        
+        private final AtomicInteger count = new AtomicInteger();
+        
+        private final CountDownLatch latch;
+        
+        private CountingSubscriber(int expectedCount) {
+            this.latch = new CountDownLatch(expectedCount);
+        }
+        
+        @Override
+        public void onEvent(MockEvent event) {
+            count.incrementAndGet();
+            latch.countDown();
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return MockEvent.class;
+        }
+    }
+    
+    private static class MockEvent extends Event {
+        
+        private static final long serialVersionUID = 5396127592237283452L;
+    }
+}
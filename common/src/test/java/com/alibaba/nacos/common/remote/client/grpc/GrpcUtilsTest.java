@@ -18,16 +18,21 @@
 
 package com.alibaba.nacos.common.remote.client.grpc;
 
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
 import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -114,6 +119,66 @@ class GrpcUtilsTest {
         
     }
     
+    @Test
+    void testConvertRequestWithPreEncodedBody() {
+        request.setRequestId("1");
+        final byte[] preEncodedBody = GrpcUtils.convertRequestBodyWithoutId(request);
+        assertEquals("1", request.getRequestId());
+        assertEquals("v1", request.getHeader("h1"));
+        request.setRequestId("2");
+        Payload convert = GrpcUtils.convert(request, preEncodedBody);
+        assertEquals(request.getClass().getSimpleName(), convert.getMetadata().getType());
+        assertEquals("v1", convert.getMetadata().getHeadersMap().get("h1"));
+        ServiceQueryRequest actual = (ServiceQueryRequest) GrpcUtils.parse(convert);
+        assertEquals("2", actual.getRequestId());
+        assertEquals(request.getCluster(), actual.getCluster());
+        assertEquals(request.isHealthyOnly(), actual.isHealthyOnly());
+        assertEquals(request.getNamespace(), actual.getNamespace());
+    }
+    
+    @Test
+    void testConvertRequestWithPreEncodedEmptyBody() {
+        request.setRequestId("3");
+        Payload convert = GrpcUtils.convert(request, "{}".getBytes(StandardCharsets.UTF_8));
+        ServiceQueryRequest actual = (ServiceQueryRequest) GrpcUtils.parse(convert);
+        assertEquals("3", actual.getRequestId());
+    }
+    
+    @Test
+    void testConvertAndParseByBinaryCodec() {
+        ConfigQueryRequest configQueryRequest = ConfigQueryRequest.build("dataId", "group", "tenant");
+        configQueryRequest.setRequestId("4");
+        configQueryRequest.putHeader("h1", "v1");
+        PayloadCodec codec = PayloadCodecManager.selectCodec(ConfigQueryRequest.class, true);
+        Payload convert = GrpcUtils.convert(configQueryRequest, codec);
+        assertEquals(BinaryPayloadCodec.TYPE, convert.getBody().getTypeUrl());
+        assertEquals("v1", convert.getMetadata().getHeadersMap().get("h1"));
+        ConfigQueryRequest actual = (ConfigQueryRequest) GrpcUtils.parse(convert);
+        assertEquals("4", actual.getRequestId());
+        assertEquals("v1", actual.getHeader("h1"));
+        assertEquals("dataId", actual.getDataId());
+        assertEquals("group", actual.getGroup());
+        assertEquals("tenant", actual.getTenant());
+    }
+    
+    @Test
+    void testConvertRequestWithPreEncodedBodyByBinaryCodec() {
+        ConfigQueryRequest configQueryRequest = ConfigQueryRequest.build("dataId", "group", "tenant");
+        PayloadCodec codec = PayloadCodecManager.selectCodec(ConfigQueryRequest.class, true);
+        byte[] preEncodedBody = GrpcUtils.convertRequestBodyWithoutId(configQueryRequest, codec);
+        configQueryRequest.setRequestId("5");
+        ConfigQueryRequest actual = (ConfigQueryRequest) GrpcUtils
+                .parse(GrpcUtils.convert(configQueryRequest, codec, preEncodedBody));
+        assertEquals("5", actual.getRequestId());
+        assertEquals("dataId", actual.getDataId());
+    }
+    
+    @Test
+    void testConvertRequestByJsonCodecWithoutTypeUrl() {
+        Payload convert = GrpcUtils.convert(request, PayloadCodecManager.selectCodec(request.getClass(), true));
+        assertEquals("", convert.getBody().getTypeUrl());
+    }
+    
     @Test
     void testParseNullType() {
         assertThrows(RemoteException.class, () -> {
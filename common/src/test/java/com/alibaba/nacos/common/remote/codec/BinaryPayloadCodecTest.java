@@ -0,0 +1,144 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryPayloadCodecTest {
+    
+    private final BinaryPayloadCodec codec = new BinaryPayloadCodec();
+    
+    @Test
+    void testIsSupported() {
+        assertTrue(codec.isSupported(InstanceRequest.class));
+        assertTrue(codec.isSupported(ConfigQueryRequest.class));
+        assertTrue(codec.isSupported(NotifySubscriberRequest.class));
+        assertFalse(codec.isSupported(ServiceQueryRequest.class));
+    }
+    
+    @Test
+    void testInstanceRequest() {
+        InstanceRequest request = new InstanceRequest("ns", "service", "group", "registerInstance",
+                buildInstance("1.1.1.1", 8848));
+        request.setRequestId("1");
+        assertRoundTrip(request, InstanceRequest.class);
+    }
+    
+    @Test
+    void testConfigQueryRequest() {
+        ConfigQueryRequest request = ConfigQueryRequest.build("dataId", "group", null);
+        request.setTag("tag");
+        request.setRequestId("2");
+        assertRoundTrip(request, ConfigQueryRequest.class);
+    }
+    
+    @Test
+    void testConfigQueryRequestWithChunk() {
+        ConfigQueryRequest request = ConfigQueryRequest.build("dataId", "group", "tenant");
+        request.setChunkIndex(0);
+        request.setRequestId("2");
+        assertRoundTrip(request, ConfigQueryRequest.class);
+        request.setChunkIndex(3);
+        request.setChunkMd5("md5");
+        assertRoundTrip(request, ConfigQueryRequest.class);
+    }
+    
+    @Test
+    void testNotifySubscriberRequest() {
+        ServiceInfo serviceInfo = new ServiceInfo("group@@service");
+        serviceInfo.setChecksum("checksum");
+        serviceInfo.setLastRefTime(100L);
+        serviceInfo.setReachProtectionThreshold(true);
+        serviceInfo.setHosts(Arrays.asList(buildInstance("1.1.1.1", 8848), buildInstance("2.2.2.2", 8849)));
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setRequestId("3");
+        assertRoundTrip(request, NotifySubscriberRequest.class);
+    }
+    
+    @Test
+    void testAppendRequestId() {
+        ConfigQueryRequest request = ConfigQueryRequest.build("dataId", "group", "tenant");
+        byte[] encodedWithoutId = codec.encode(request);
+        ConfigQueryRequest actual = (ConfigQueryRequest) codec
+                .decode(ByteString.copyFrom(codec.appendRequestId(encodedWithoutId, "4")), ConfigQueryRequest.class);
+        assertEquals("4", actual.getRequestId());
+        assertEquals("dataId", actual.getDataId());
+        assertSame(encodedWithoutId, codec.appendRequestId(encodedWithoutId, null));
+    }
+    
+    @Test
+    void testSkipUnknownField() throws IOException {
+        ConfigQueryRequest request = ConfigQueryRequest.build("dataId", "group", "tenant");
+        ByteArrayOutputStream unknownField = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(unknownField);
+        output.writeString(100, "unknown");
+        output.writeInt64(101, 1L);
+        output.flush();
+        ByteString data = ByteString.copyFrom(codec.encode(request))
+                .concat(ByteString.copyFrom(unknownField.toByteArray()));
+        ConfigQueryRequest actual = (ConfigQueryRequest) codec.decode(data, ConfigQueryRequest.class);
+        assertEquals("dataId", actual.getDataId());
+        assertEquals("tenant", actual.getTenant());
+        assertNull(actual.getTag());
+    }
+    
+    @Test
+    void testUnsupportedType() {
+        assertThrows(RemoteException.class, () -> codec.encode(new ServiceQueryRequest()));
+        assertThrows(RemoteException.class, () -> codec.decode(ByteString.EMPTY, ServiceQueryRequest.class));
+    }
+    
+    private void assertRoundTrip(Object expected, Class<?> type) {
+        Object actual = codec.decode(ByteString.copyFrom(codec.encode(expected)), type);
+        assertEquals(JacksonUtils.toJson(expected), JacksonUtils.toJson(actual));
+    }
+    
+    private Instance buildInstance(String ip, int port) {
+        Instance result = new Instance();
+        result.setInstanceId(ip + "#" + port);
+        result.setIp(ip);
+        result.setPort(port);
+        result.setWeight(2.5D);
+        result.setHealthy(false);
+        result.setClusterName("cluster");
+        result.setServiceName("group@@service");
+        result.getMetadata().put("k1", "v1");
+        result.getMetadata().put("k2", "");
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PayloadCodecManagerTest {
+    
+    @Test
+    void testGetCodec() {
+        assertSame(PayloadCodecManager.getJsonCodec(), PayloadCodecManager.getCodec(""));
+        assertSame(PayloadCodecManager.getJsonCodec(), PayloadCodecManager.getCodec(null));
+        assertEquals(BinaryPayloadCodec.TYPE, PayloadCodecManager.getCodec(BinaryPayloadCodec.TYPE).getType());
+        assertThrows(RemoteException.class, () -> PayloadCodecManager.getCodec("unknown"));
+    }
+    
+    @Test
+    void testSelectCodec() {
+        assertEquals(BinaryPayloadCodec.TYPE, PayloadCodecManager.selectCodec(InstanceRequest.class, true).getType());
+        assertSame(PayloadCodecManager.getJsonCodec(), PayloadCodecManager.selectCodec(InstanceRequest.class, false));
+        assertSame(PayloadCodecManager.getJsonCodec(),
+                PayloadCodecManager.selectCodec(ServiceQueryRequest.class, true));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+    
+    private final HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(1000L);
+    
+    @Test
+    void testExpiredKeyDueInNextAdvance() {
+        timingWheel.schedule("a", 1000L);
+        timingWheel.schedule("b", 10L);
+        List<String> dueKeys = new ArrayList<>();
+        timingWheel.advance(1000L, dueKeys);
+        Collections.sort(dueKeys);
+        assertEquals(2, dueKeys.size());
+        assertEquals("a", dueKeys.get(0));
+        assertEquals("b", dueKeys.get(1));
+        assertEquals(0, timingWheel.size());
+    }
+    
+    @Test
+    void testKeyDueExactlyAtDeadline() {
+        long[] deadlines = {1001L, 1063L, 1064L, 1100L, 5096L, 1000L + 64L * 64L * 64L + 7L};
+        for (long each : deadlines) {
+            HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000L);
+            wheel.schedule("key", each);
+            List<String> dueKeys = new ArrayList<>();
+            wheel.advance(each - 1, dueKeys);
+            assertTrue(dueKeys.isEmpty(), "due too early for deadline " + each);
+            wheel.advance(each, dueKeys);
+            assertEquals(Collections.singletonList("key"), dueKeys, "not due for deadline " + each);
+        }
+    }
+    
+    @Test
+    void testDeadlineBeyondHighestLevel() {
+        long deadline = 1000L + 64L * 64L * 64L * 64L * 2L + 3L;
+        timingWheel.schedule("key", deadline);
+        List<String> dueKeys = new ArrayList<>();
+        timingWheel.advance(deadline - 1, dueKeys);
+        assertTrue(dueKeys.isEmpty());
+        timingWheel.advance(deadline, dueKeys);
+        assertEquals(Collections.singletonList("key"), dueKeys);
+    }
+    
+    @Test
+    void testScheduleLaterDeadlineIgnored() {
+        assertTrue(timingWheel.schedule("key", 1010L));
+        assertFalse(timingWheel.schedule("key", 1020L));
+        assertTrue(timingWheel.schedule("key", 1005L));
+        List<String> dueKeys = new ArrayList<>();
+        timingWheel.advance(1005L, dueKeys);
+        assertEquals(Collections.singletonList("key"), dueKeys);
+        dueKeys.clear();
+        // The stale entry at 1010 should be skipped.
+        timingWheel.advance(1100L, dueKeys);
+        assertTrue(dueKeys.isEmpty());
+    }
+    
+    @Test
+    void testCancel() {
+        timingWheel.schedule("key", 1010L);
+        timingWheel.cancel("key");
+        assertEquals(0, timingWheel.size());
+        List<String> dueKeys = new ArrayList<>();
+        timingWheel.advance(1100L, dueKeys);
+        assertTrue(dueKeys.isEmpty());
+        assertEquals(1100L, timingWheel.getCurrentTick());
+    }
+    
+    @Test
+    void testRandomDeadlines() {
+        Random random = new Random(17L);
+        int count = 2000;
+        long[] deadlines = new long[count];
+        for (int i = 0; i < count; i++) {
+            deadlines[i] = 1001L + random.nextInt(300000);
+            timingWheel.schedule(String.valueOf(i), deadlines[i]);
+        }
+        List<String> dueKeys = new ArrayList<>();
+        long tick = 1000L;
+        int dueCount = 0;
+        while (dueCount < count) {
+            tick += 1 + random.nextInt(50);
+            timingWheel.advance(tick, dueKeys);
+            for (String each : dueKeys) {
+                long deadline = deadlines[Integer.parseInt(each)];
+                assertTrue(deadline <= tick && deadline > tick - 51, "wrong due tick for deadline " + deadline);
+            }
+            dueCount += dueKeys.size();
+            dueKeys.clear();
+        }
+        assertEquals(0, timingWheel.size());
+    }
+}
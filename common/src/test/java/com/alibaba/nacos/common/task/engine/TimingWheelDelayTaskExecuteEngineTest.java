@@ -0,0 +1,138 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimingWheelDelayTaskExecuteEngineTest {
+    
+    private TimingWheelDelayTaskExecuteEngine executeEngine;
+    
+    @Mock
+    private NacosTaskProcessor taskProcessor;
+    
+    @BeforeEach
+    void setUp() {
+        executeEngine = new TimingWheelDelayTaskExecuteEngine(TimingWheelDelayTaskExecuteEngineTest.class.getName(),
+                32, null, 10L);
+        executeEngine.setDefaultTaskProcessor(taskProcessor);
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        executeEngine.shutdown();
+    }
+    
+    @Test
+    void testProcessDueTask() throws InterruptedException {
+        MockDelayTask task = new MockDelayTask(0L);
+        when(taskProcessor.process(task)).thenReturn(true);
+        executeEngine.addTask("test", task);
+        TimeUnit.MILLISECONDS.sleep(100L);
+        verify(taskProcessor).process(task);
+        assertTrue(executeEngine.isEmpty());
+    }
+    
+    @Test
+    void testTaskNotDue() throws InterruptedException {
+        MockDelayTask task = new MockDelayTask(10000L);
+        executeEngine.addTask("test", task);
+        TimeUnit.MILLISECONDS.sleep(100L);
+        verify(taskProcessor, never()).process(task);
+        assertEquals(1, executeEngine.size());
+    }
+    
+    @Test
+    void testTaskDelayedAfterAdded() throws InterruptedException {
+        MockDelayTask task = new MockDelayTask(0L);
+        executeEngine.addTask("test", task);
+        task.setTaskInterval(200L);
+        TimeUnit.MILLISECONDS.sleep(100L);
+        verify(taskProcessor, never()).process(task);
+        when(taskProcessor.process(task)).thenReturn(true);
+        TimeUnit.MILLISECONDS.sleep(250L);
+        verify(taskProcessor).process(task);
+    }
+    
+    @Test
+    void testMergeTask() throws InterruptedException {
+        MockDelayTask task = new MockDelayTask(10000L);
+        MockDelayTask newTask = new MockDelayTask(0L);
+        when(taskProcessor.process(newTask)).thenReturn(true);
+        executeEngine.addTask("test", task);
+        executeEngine.addTask("test", newTask);
+        TimeUnit.MILLISECONDS.sleep(100L);
+        verify(taskProcessor).process(newTask);
+        assertEquals(1, newTask.mergedCount);
+        assertEquals(2, executeEngine.getAddedTaskCount());
+        assertEquals(1, executeEngine.getMergedTaskCount());
+        assertEquals(0.5D, executeEngine.getMergeRatio());
+    }
+    
+    @Test
+    void testRetryTaskAfterFail() throws InterruptedException {
+        MockDelayTask task = new MockDelayTask(0L);
+        when(taskProcessor.process(task)).thenReturn(false, true);
+        executeEngine.addTask("test", task);
+        TimeUnit.MILLISECONDS.sleep(100L);
+        verify(taskProcessor, times(2)).process(task);
+        assertTrue(executeEngine.isEmpty());
+    }
+    
+    @Test
+    void testDueLag() throws InterruptedException {
+        MockDelayTask task = new MockDelayTask(0L);
+        task.setLastProcessTime(System.currentTimeMillis() - 1000L);
+        when(taskProcessor.process(task)).thenReturn(true);
+        executeEngine.addTask("test", task);
+        TimeUnit.MILLISECONDS.sleep(100L);
+        assertTrue(executeEngine.getLastDueLagMillis() >= 1000L);
+        assertTrue(executeEngine.getMaxDueLagMillis() >= executeEngine.getLastDueLagMillis());
+    }
+    
+    private static class MockDelayTask extends AbstractDelayTask {
+        
+        private int mergedCount;
+        
+        private MockDelayTask(long interval) {
+            setTaskInterval(interval);
+            setLastProcessTime(System.currentTimeMillis());
+        }
+        
+        @Override
+        public void merge(AbstractDelayTask task) {
+            mergedCount++;
+        }
+    }
+}
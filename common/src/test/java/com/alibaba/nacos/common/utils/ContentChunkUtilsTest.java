@@ -0,0 +1,54 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ContentChunkUtilsTest {
+    
+    @Test
+    void testGetChunkCount() {
+        assertEquals(0, ContentChunkUtils.getChunkCount(0, 10));
+        assertEquals(1, ContentChunkUtils.getChunkCount(10, 10));
+        assertEquals(2, ContentChunkUtils.getChunkCount(11, 10));
+    }
+    
+    @Test
+    void testEncodeAndDecodeChunks() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append("key").append(i).append("=值").append(i).append('\n');
+        }
+        String content = builder.toString();
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        int chunkSize = 100;
+        for (boolean compress : new boolean[] {true, false}) {
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            for (int i = 0; i < ContentChunkUtils.getChunkCount(bytes.length, chunkSize); i++) {
+                byte[] chunk = Arrays.copyOfRange(bytes, i * chunkSize, Math.min(bytes.length, (i + 1) * chunkSize));
+                result.write(ContentChunkUtils.decodeChunk(ContentChunkUtils.encodeChunk(chunk, compress), compress));
+            }
+            assertEquals(content, new String(result.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ListenDigestTest {
+    
+    @Test
+    void testDigestIndependentOfOrder() {
+        String digest = new ListenDigest().add("a+g", "md5a").add("b+g", "md5b").digest();
+        assertEquals(digest, new ListenDigest().add("b+g", "md5b").add("a+g", "md5a").digest());
+        assertNotEquals(digest, new ListenDigest().add("a+g", "md5a").add("b+g", "md5c").digest());
+        assertNotEquals(digest, new ListenDigest().add("a+g", "md5a").digest());
+    }
+    
+    @Test
+    void testEmptyDigest() {
+        ListenDigest digest = new ListenDigest();
+        assertEquals(0, digest.getCount());
+        assertEquals(new ListenDigest().digest(), digest.digest());
+        assertEquals(digest.add("a+g", null).digest(), new ListenDigest().add("a+g", "").digest());
+    }
+}
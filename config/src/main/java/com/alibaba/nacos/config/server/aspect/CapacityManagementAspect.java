@@ -321,13 +321,7 @@ public class CapacityManagementAspect {
     }
     
     private Capacity getCapacity(String group, String tenant, boolean hasTenant) {
-        Capacity capacity;
-        if (hasTenant) {
-            capacity = capacityService.getTenantCapacity(tenant);
-        } else {
-            capacity = capacityService.getGroupCapacity(group);
-        }
-        return capacity;
+        return capacityService.getCapacityForLimitCheck(group, hasTenant ? tenant : null);
     }
     
     private boolean isSizeLimited(String group, String tenant, int currentSize, boolean hasTenant, boolean isAggr,
@@ -33,8 +33,26 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     
     private int maxPushRetryTimes = 50;
     
+    /**
+     * Max count of config change pushes per second, not limited if less than or equal 0.
+     */
+    private int maxPushRatePerSecond = 0;
+    
+    /**
+     * Max count of config change pushes waiting to be paced, the pushes over it are sent without pacing.
+     */
+    private int maxPacedPushCount = 100000;
+    
     private boolean derbyOpsEnabled = false;
     
+    /**
+     * Max bytes of one chunk when client queries large config by chunks, chunked query is disabled if less than or
+     * equal 0.
+     */
+    private int queryChunkSize = 1024 * 1024;
+    
+    private boolean queryChunkCompressEnabled = true;
+    
     private ConfigCommonConfig() {
         super(CONFIG_COMMON);
         resetConfig();
@@ -52,6 +70,22 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         this.maxPushRetryTimes = maxPushRetryTimes;
     }
     
+    public int getMaxPushRatePerSecond() {
+        return maxPushRatePerSecond;
+    }
+    
+    public void setMaxPushRatePerSecond(int maxPushRatePerSecond) {
+        this.maxPushRatePerSecond = maxPushRatePerSecond;
+    }
+    
+    public int getMaxPacedPushCount() {
+        return maxPacedPushCount;
+    }
+    
+    public void setMaxPacedPushCount(int maxPacedPushCount) {
+        this.maxPacedPushCount = maxPacedPushCount;
+    }
+    
     public boolean isDerbyOpsEnabled() {
         return derbyOpsEnabled;
     }
@@ -60,10 +94,31 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         this.derbyOpsEnabled = derbyOpsEnabled;
     }
     
+    public int getQueryChunkSize() {
+        return queryChunkSize;
+    }
+    
+    public void setQueryChunkSize(int queryChunkSize) {
+        this.queryChunkSize = queryChunkSize;
+    }
+    
+    public boolean isQueryChunkCompressEnabled() {
+        return queryChunkCompressEnabled;
+    }
+    
+    public void setQueryChunkCompressEnabled(boolean queryChunkCompressEnabled) {
+        this.queryChunkCompressEnabled = queryChunkCompressEnabled;
+    }
+    
     @Override
     protected void getConfigFromEnv() {
         maxPushRetryTimes = EnvUtil.getProperty("nacos.config.push.maxRetryTime", Integer.class, 50);
+        maxPushRatePerSecond = EnvUtil.getProperty("nacos.config.push.maxRatePerSecond", Integer.class, 0);
+        maxPacedPushCount = EnvUtil.getProperty("nacos.config.push.maxPacedCount", Integer.class, 100000);
         derbyOpsEnabled = EnvUtil.getProperty("nacos.config.derby.ops.enabled", Boolean.class, false);
+        queryChunkSize = EnvUtil.getProperty("nacos.config.query.chunk.size", Integer.class, 1024 * 1024);
+        queryChunkCompressEnabled = EnvUtil.getProperty("nacos.config.query.chunk.compress.enabled", Boolean.class,
+                true);
     }
     
     @Override
@@ -73,7 +128,9 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     
     @Override
     public String toString() {
-        return "ConfigCommonConfig{" + "maxPushRetryTimes=" + maxPushRetryTimes + ", derbyOpsEnabled=" + derbyOpsEnabled
-                + '}';
+        return "ConfigCommonConfig{" + "maxPushRetryTimes=" + maxPushRetryTimes + ", maxPushRatePerSecond="
+                + maxPushRatePerSecond + ", maxPacedPushCount=" + maxPacedPushCount + ", derbyOpsEnabled="
+                + derbyOpsEnabled + ", queryChunkSize=" + queryChunkSize + ", queryChunkCompressEnabled="
+                + queryChunkCompressEnabled + '}';
     }
 }
@@ -53,6 +53,8 @@ public class PropertiesConstant {
     
     public static final String INITIAL_EXPANSION_PERCENT = "initialExpansionPercent";
     
+    public static final String CAPACITY_USAGE_FLUSH_INTERVAL = "capacityUsageFlushInterval";
+    
     public static final String SEARCH_MAX_CAPACITY = "nacos.config.search.max_capacity";
     
     public static final String SEARCH_MAX_THREAD = "nacos.config.search.max_thread";
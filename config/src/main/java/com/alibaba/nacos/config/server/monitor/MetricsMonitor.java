@@ -194,6 +194,11 @@ public class MetricsMonitor {
         return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "notifyRt");
     }
     
+    public static Timer getPushConvergenceRtTimer() {
+        return NacosMeterRegistryCenter
+                .timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "pushConvergenceRt");
+    }
+    
     public static Timer getDumpRtTimer() {
         return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "dumpRt");
     }
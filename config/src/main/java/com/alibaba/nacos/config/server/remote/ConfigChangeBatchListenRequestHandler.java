@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenRespo
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.common.utils.ListenDigest;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
@@ -35,6 +36,8 @@ import com.alibaba.nacos.plugin.auth.constant.SignType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 /**
  * config change listen request handler.
  *
@@ -78,8 +81,30 @@ public class ConfigChangeBatchListenRequestHandler
             }
         }
         
+        String listenDigest = configChangeListenRequest.getListenDigest();
+        if (null != listenDigest) {
+            configChangeBatchListenResponse.setDigestMatched(
+                    listenDigest.equals(buildListenDigest(connectionId, tag, meta)));
+        }
+        
         return configChangeBatchListenResponse;
         
     }
     
+    /**
+     * Build the digest of configs listened by the connection with the md5 should be seen by the client, which is
+     * compared with the digest built by client for periodic full check.
+     */
+    private String buildListenDigest(String connectionId, String tag, RequestMeta meta) {
+        ListenDigest digest = new ListenDigest();
+        Map<String, String> listenKeys = configChangeListenContext.getListenKeys(connectionId);
+        if (null != listenKeys) {
+            for (String groupKey : listenKeys.keySet()) {
+                digest.add(groupKey,
+                        ConfigCacheService.getContentMd5(groupKey, meta.getClientIp(), tag, meta.getAppLabels()));
+            }
+        }
+        return digest.digest();
+    }
+    
 }
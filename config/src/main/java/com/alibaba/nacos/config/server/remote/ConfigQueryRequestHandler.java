@@ -22,6 +22,8 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.common.utils.ContentChunkUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
@@ -81,6 +83,9 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
             String clientIp = meta.getClientIp();
             
             ConfigQueryChainRequest chainRequest = ConfigChainRequestExtractorService.getExtractor().extract(request, meta);
+            chainRequest.setChunkIndex(request.getChunkIndex());
+            chainRequest.setChunkMd5(request.getChunkMd5());
+            chainRequest.setChunkSize(ConfigCommonConfig.getInstance().getQueryChunkSize());
             ConfigQueryChainResponse chainResponse = configQueryChainService.handle(chainRequest);
             
             if (ResponseCode.FAIL.getCode() == chainResponse.getResultCode()) {
@@ -116,15 +121,22 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
             response.setContent(chainResponse.getContent());
             response.setContentType(chainResponse.getConfigType());
             response.setLastModified(chainResponse.getLastModified());
+            if (chainResponse.getContentChunk() != null) {
+                fillChunk(response, chainResponse, request.getChunkIndex());
+            }
             
             String pullType = ConfigTraceService.PULL_TYPE_OK;
-            if (chainResponse.getContent() == null) {
+            if (response.getContent() == null) {
                 pullType = ConfigTraceService.PULL_TYPE_NOTFOUND;
                 response.setErrorInfo(ConfigQueryResponse.CONFIG_NOT_FOUND, "config data not exist");
             } else {
                 response.setResultCode(ResponseCode.SUCCESS.getCode());
             }
             
+            if (request.getChunkIndex() > 0) {
+                // only the first chunk is logged as one pull.
+                return response;
+            }
             String pullEvent = resolvePullEventType(chainResponse, request.getTag());
             LogUtil.PULL_CHECK_LOG.warn("{}|{}|{}|{}", groupKey, clientIp, response.getMd5(), TimeUtils.getCurrentTimeStr());
             final long delayed = System.currentTimeMillis() - response.getLastModified();
@@ -140,6 +152,14 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         
     }
     
+    private void fillChunk(ConfigQueryResponse response, ConfigQueryChainResponse chainResponse, int chunkIndex) {
+        boolean compress = ConfigCommonConfig.getInstance().isQueryChunkCompressEnabled();
+        response.setContent(ContentChunkUtils.encodeChunk(chainResponse.getContentChunk(), compress));
+        response.setCompressed(compress);
+        response.setChunkCount(chainResponse.getChunkCount());
+        response.setChunkIndex(chunkIndex);
+    }
+    
     private ConfigQueryResponse handlerConfigConflict(String clientIp, String groupKey) {
         ConfigQueryResponse response = new ConfigQueryResponse();
         
@@ -24,6 +24,7 @@ import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey;
 import com.alibaba.nacos.core.remote.Connection;
@@ -38,8 +39,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ConfigChangeNotifier.
@@ -56,6 +62,28 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     
     private static final String POINT_CONFIG_PUSH_FAIL = "CONFIG_PUSH_FAIL";
     
+    private static final long PACE_INTERVAL_MS = 100L;
+    
+    private static final String PENDING_KEY_SEPARATOR = "+";
+    
+    /**
+     * connectionId + groupKey -> push task not sent yet, the later changes of the same config are coalesced into it.
+     */
+    private final Map<String, RpcPushTask> pendingPushes = new ConcurrentHashMap<>();
+    
+    /**
+     * push tasks waiting to be dispatched when push rate is limited. There is at most one task of the same connection
+     * and groupKey as the changes are coalesced, and the count is bounded by max paced push count.
+     */
+    private final Queue<RpcPushTask> pacedPushes = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger pacedPushCount = new AtomicInteger();
+    
+    /**
+     * permits of paced pushes accumulated in milli unit.
+     */
+    private long pacedPermitsMilli = 0L;
+    
     TpsControlManager tpsControlManager = ControlManagerCenter.getInstance().getTpsControlManager();
     
     public RpcConfigChangeNotifier() {
@@ -70,6 +98,12 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         
     }
     
+    @PostConstruct
+    void startPushPacer() {
+        ConfigExecutor.scheduleConfigTask(this::dispatchPacedPushes, PACE_INTERVAL_MS, PACE_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+    }
+    
     @Autowired
     ConfigChangeListenContext configChangeListenContext;
     
@@ -91,6 +125,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return;
         }
         int notifyClientCount = 0;
+        int coalescedCount = 0;
         for (final String client : listeners) {
             Connection connection = connectionManager.getConnection(client);
             if (connection == null) {
@@ -104,10 +139,60 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             
             RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest,
                     ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), client, clientIp, metaInfo.getAppName());
-            push(rpcPushRetryTask, connectionManager);
+            // client queries the newest config after notified, so the change is coalesced into the push not sent.
+            rpcPushRetryTask.pendingKey = client + PENDING_KEY_SEPARATOR + groupKey;
+            if (pendingPushes.putIfAbsent(rpcPushRetryTask.pendingKey, rpcPushRetryTask) != null) {
+                coalescedCount++;
+                continue;
+            }
+            dispatch(rpcPushRetryTask);
             notifyClientCount++;
         }
-        Loggers.REMOTE_PUSH.info("push [{}] clients, groupKey=[{}]", notifyClientCount, groupKey);
+        Loggers.REMOTE_PUSH.info("push [{}] clients, coalesced [{}] clients, groupKey=[{}]", notifyClientCount,
+                coalescedCount, groupKey);
+    }
+    
+    private void dispatch(RpcPushTask rpcPushTask) {
+        ConfigCommonConfig config = ConfigCommonConfig.getInstance();
+        if (config.getMaxPushRatePerSecond() > 0) {
+            if (pacedPushCount.getAndIncrement() < config.getMaxPacedPushCount()) {
+                pacedPushes.offer(rpcPushTask);
+                return;
+            }
+            // too many pushes waiting, send it directly rather than queueing without bound.
+            pacedPushCount.decrementAndGet();
+        }
+        push(rpcPushTask, connectionManager);
+    }
+    
+    /**
+     * Dispatch paced push tasks every {@link #PACE_INTERVAL_MS}, at most max push rate per second, so the change of a
+     * config listened by lots of clients does not flood the push executor.
+     */
+    synchronized void dispatchPacedPushes() {
+        if (pacedPushes.isEmpty()) {
+            pacedPermitsMilli = 0L;
+            return;
+        }
+        int maxRate = ConfigCommonConfig.getInstance().getMaxPushRatePerSecond();
+        long permits = Long.MAX_VALUE;
+        if (maxRate > 0) {
+            pacedPermitsMilli += maxRate * PACE_INTERVAL_MS;
+            permits = pacedPermitsMilli / TimeUnit.SECONDS.toMillis(1);
+            pacedPermitsMilli -= permits * TimeUnit.SECONDS.toMillis(1);
+        }
+        for (long i = 0; i < permits; i++) {
+            RpcPushTask rpcPushTask = pacedPushes.poll();
+            if (rpcPushTask == null) {
+                break;
+            }
+            pacedPushCount.decrementAndGet();
+            push(rpcPushTask, connectionManager);
+        }
+    }
+    
+    int getPacedPushCount() {
+        return pacedPushCount.get();
     }
     
     @Override
@@ -142,6 +227,10 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         
         String appName;
         
+        String pendingKey;
+        
+        long createTime = System.currentTimeMillis();
+        
         public RpcPushTask(ConfigChangeNotifyRequest notifyRequest, int maxRetryTimes, String connectionId,
                 String clientIp, String appName) {
             this.notifyRequest = notifyRequest;
@@ -179,8 +268,23 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return connectionId;
         }
         
+        public long getCreateTime() {
+            return createTime;
+        }
+        
+        /**
+         * Discard the task not to be sent, so the later changes are not coalesced into it.
+         */
+        public void discard() {
+            if (pendingKey != null) {
+                pendingPushes.remove(pendingKey, this);
+            }
+        }
+        
         @Override
         public void run() {
+            // changes after sent are pushed by new task.
+            discard();
             tryTimes++;
             TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
             
@@ -216,6 +320,8 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
             tpsCheckRequest.setPointName(POINT_CONFIG_PUSH_SUCCESS);
             tpsControlManager.check(tpsCheckRequest);
+            MetricsMonitor.getPushConvergenceRtTimer()
+                    .record(System.currentTimeMillis() - rpcPushTask.getCreateTime(), TimeUnit.MILLISECONDS);
         }
         
         @Override
@@ -237,12 +343,14 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
                     "push callback retry fail over times. dataId={},group={},tenant={},clientId={}, will unregister client.",
                     notifyRequest.getDataId(), notifyRequest.getGroup(), notifyRequest.getTenant(),
                     retryTask.getConnectionId());
+            retryTask.discard();
             connectionManager.unregister(retryTask.getConnectionId());
         } else if (connectionManager.getConnection(retryTask.getConnectionId()) != null) {
             // first time:delay 0s; second time:delay 2s; third time:delay 4s
             ConfigExecutor.scheduleClientConfigNotifier(retryTask, retryTask.getTryTimes() * 2, TimeUnit.SECONDS);
         } else {
             // client is already offline, ignore task.
+            retryTask.discard();
         }
     }
     
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.config.server.service;
 
 import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.core.cluster.health.AbstractModuleHealthChecker;
 import com.alibaba.nacos.core.utils.Loggers;
@@ -38,6 +39,10 @@ public class ConfigReadinessCheckService extends AbstractModuleHealthChecker {
     
     @Override
     public boolean readiness() {
+        if (!DumpService.isStartupDumpFinished()) {
+            Loggers.CLUSTER.warn("Config health check fail, dumping all config-info is not finished.");
+            return false;
+        }
         // check db
         try {
             configInfoPersistService.configInfoCount("");
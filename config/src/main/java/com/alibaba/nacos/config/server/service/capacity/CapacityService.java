@@ -62,6 +62,8 @@ public class CapacityService {
     @Autowired
     private ConfigInfoPersistService configInfoPersistService;
     
+    private final CapacityUsageLedger usageLedger = new CapacityUsageLedger();
+    
     /**
      * Init.
      */
@@ -78,6 +80,33 @@ public class CapacityService {
             LOGGER.info("[capacityManagement] end correct usage, cost: {}s", watch.getTotalTimeSeconds());
             
         }, PropertyUtil.getCorrectUsageDelay(), PropertyUtil.getCorrectUsageDelay(), TimeUnit.SECONDS);
+        long flushInterval = PropertyUtil.getCapacityUsageFlushInterval();
+        if (flushInterval > 0) {
+            ConfigExecutor.scheduleCorrectUsageTask(this::flushUsage, flushInterval, flushInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Flush the usage changed in memory to database. The usage is corrected by the count of configs rather than adding
+     * the delta, so it is idempotent for all servers, then the usage is loaded again for checking quota locally.
+     */
+    public void flushUsage() {
+        for (CapacityUsageLedger.Entry entry : usageLedger.collectChangedEntries()) {
+            int flushedDelta = entry.getDelta();
+            try {
+                if (null != entry.getTenant()) {
+                    correctTenantUsage(entry.getTenant());
+                    entry.commit(getTenantCapacity(entry.getTenant()), flushedDelta);
+                } else {
+                    correctGroupUsage(entry.getGroup());
+                    entry.commit(getGroupCapacity(entry.getGroup()), flushedDelta);
+                }
+            } catch (Exception e) {
+                LOGGER.warn("[capacityManagement] flush usage failed, group: {}, tenant: {}", entry.getGroup(),
+                        entry.getTenant(), e);
+            }
+        }
     }
     
     public void correctUsage() {
@@ -187,7 +216,7 @@ public class CapacityService {
      * @return the result of update cluster usage.
      */
     public boolean insertAndUpdateClusterUsage(CounterMode counterMode, boolean ignoreQuotaLimit) {
-        Capacity capacity = groupCapacityPersistService.getClusterCapacity();
+        Capacity capacity = getCapacityForLimitCheck(GroupCapacityPersistService.CLUSTER, null);
         if (capacity == null) {
             insertGroupCapacity(GroupCapacityPersistService.CLUSTER);
         }
@@ -210,7 +239,7 @@ public class CapacityService {
      * @return operate successfully or not.
      */
     public boolean insertAndUpdateGroupUsage(CounterMode counterMode, String group, boolean ignoreQuotaLimit) {
-        GroupCapacity groupCapacity = getGroupCapacity(group);
+        Capacity groupCapacity = getCapacityForLimitCheck(group, null);
         if (groupCapacity == null) {
             initGroupCapacity(group, null, null, null, null);
         }
@@ -223,6 +252,10 @@ public class CapacityService {
     
     private boolean updateGroupUsage(CounterMode counterMode, String group, int defaultQuota,
             boolean ignoreQuotaLimit) {
+        if (isUsageWriteBehind()) {
+            return usageLedger.update(group, null, counterMode, ignoreQuotaLimit, defaultQuota,
+                    () -> getGroupCapacity(group));
+        }
         final Timestamp now = TimeUtils.getCurrentTime();
         GroupCapacity groupCapacity = new GroupCapacity();
         groupCapacity.setGroup(group);
@@ -240,6 +273,10 @@ public class CapacityService {
         return groupCapacityPersistService.decrementUsage(groupCapacity);
     }
     
+    private boolean isUsageWriteBehind() {
+        return PropertyUtil.getCapacityUsageFlushInterval() > 0;
+    }
+    
     public GroupCapacity getGroupCapacity(String group) {
         return groupCapacityPersistService.getGroupCapacity(group);
     }
@@ -319,6 +356,25 @@ public class CapacityService {
         return getGroupCapacity(group);
     }
     
+    /**
+     * Get capacity for checking the limits of writing. If the usage is written behind, the capacity is read from the
+     * usage ledger rather than database, and the usage of it might be stale.
+     *
+     * @param group  group string value.
+     * @param tenant tenant string value, it is capacity of group if the tenant is blank.
+     * @return capacity, {@code null} if not exist.
+     */
+    public Capacity getCapacityForLimitCheck(String group, String tenant) {
+        boolean isTenant = StringUtils.isNotBlank(tenant);
+        if (!isUsageWriteBehind()) {
+            return isTenant ? getTenantCapacity(tenant) : getGroupCapacity(group);
+        }
+        if (isTenant) {
+            return usageLedger.getCapacity(null, tenant, () -> getTenantCapacity(tenant));
+        }
+        return usageLedger.getCapacity(group, null, () -> getGroupCapacity(group));
+    }
+    
     public Capacity getCapacityWithDefault(String group, String tenant) {
         Capacity capacity;
         boolean isTenant = StringUtils.isNotBlank(tenant);
@@ -415,7 +471,7 @@ public class CapacityService {
      * @return operate successfully or not.
      */
     public boolean insertAndUpdateTenantUsage(CounterMode counterMode, String tenant, boolean ignoreQuotaLimit) {
-        TenantCapacity tenantCapacity = getTenantCapacity(tenant);
+        Capacity tenantCapacity = getCapacityForLimitCheck(null, tenant);
         if (tenantCapacity == null) {
             // Init capacity information.
             initTenantCapacity(tenant);
@@ -424,6 +480,10 @@ public class CapacityService {
     }
     
     private boolean updateTenantUsage(CounterMode counterMode, String tenant, boolean ignoreQuotaLimit) {
+        if (isUsageWriteBehind()) {
+            return usageLedger.update(null, tenant, counterMode, ignoreQuotaLimit,
+                    PropertyUtil.getDefaultTenantQuota(), () -> getTenantCapacity(tenant));
+        }
         final Timestamp now = TimeUtils.getCurrentTime();
         TenantCapacity tenantCapacity = new TenantCapacity();
         tenantCapacity.setTenant(tenant);
@@ -530,12 +590,21 @@ public class CapacityService {
             if (capacity == null) {
                 return initTenantCapacity(tenant, quota, maxSize, maxAggrCount, maxAggrSize);
             }
-            return tenantCapacityPersistService.updateTenantCapacity(tenant, quota, maxSize, maxAggrCount, maxAggrSize);
+            boolean result = tenantCapacityPersistService
+                    .updateTenantCapacity(tenant, quota, maxSize, maxAggrCount, maxAggrSize);
+            if (result && isUsageWriteBehind()) {
+                usageLedger.refreshLimits(null, tenant, getTenantCapacity(tenant));
+            }
+            return result;
         }
         Capacity capacity = groupCapacityPersistService.getGroupCapacity(group);
         if (capacity == null) {
             return initGroupCapacity(group, quota, maxSize, maxAggrCount, maxAggrSize);
         }
-        return groupCapacityPersistService.updateGroupCapacity(group, quota, maxSize, maxAggrCount, maxAggrSize);
+        boolean result = groupCapacityPersistService.updateGroupCapacity(group, quota, maxSize, maxAggrCount, maxAggrSize);
+        if (result && isUsageWriteBehind()) {
+            usageLedger.refreshLimits(group, null, getGroupCapacity(group));
+        }
+        return result;
     }
 }
@@ -0,0 +1,253 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.capacity;
+
+import com.alibaba.nacos.config.server.constant.CounterMode;
+import com.alibaba.nacos.config.server.model.capacity.Capacity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * In-memory ledger of capacity usage, which makes the usage written behind to database.
+ *
+ * <p>Each group or tenant has its own counter of the usage changed since the usage was loaded from database, so the
+ * quota is checked locally without updating the same row of database by every write. The changed entries are flushed
+ * periodically by correcting the usage in database, and the usage is loaded again after flushing.
+ *
+ * @author Nacos
+ */
+class CapacityUsageLedger {
+    
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    
+    /**
+     * Get the capacity loaded from database, which is used to check the limits without querying database by each write.
+     *
+     * @param group  group, {@code null} if it is tenant
+     * @param tenant tenant, {@code null} if it is group
+     * @param loader loader of capacity from database, which is called if the entry is absent
+     * @return capacity, {@code null} if it is absent in database
+     */
+    Capacity getCapacity(String group, String tenant, Supplier<Capacity> loader) {
+        String key = buildKey(group, tenant);
+        Entry entry = entries.get(key);
+        if (null != entry && null != entry.capacity) {
+            return entry.capacity;
+        }
+        Capacity capacity = loader.get();
+        if (null == capacity) {
+            // Not cached, the capacity will be inserted by the caller and loaded again.
+            return null;
+        }
+        entries.compute(key, (k, current) -> {
+            if (null == current) {
+                return new Entry(group, tenant, capacity);
+            }
+            if (null == current.capacity) {
+                current.resetLimits(capacity);
+            }
+            return current;
+        });
+        return capacity;
+    }
+    
+    /**
+     * Update the usage in memory.
+     *
+     * @param group            group, {@code null} if it is tenant
+     * @param tenant           tenant, {@code null} if it is group
+     * @param counterMode      increase or decrease mode
+     * @param ignoreQuotaLimit whether to ignore the quota
+     * @param defaultQuota     default quota if the quota of capacity is 0
+     * @param loader           loader of capacity from database, which is called if the entry is absent
+     * @return {@code false} if it is over quota or the usage is already 0 when decreasing, otherwise {@code true}
+     */
+    boolean update(String group, String tenant, CounterMode counterMode, boolean ignoreQuotaLimit, int defaultQuota,
+            Supplier<Capacity> loader) {
+        String key = buildKey(group, tenant);
+        while (true) {
+            // Load the capacity outside the mapping, so that the database is not queried with the entry locked.
+            boolean absent = !entries.containsKey(key);
+            Capacity capacity = absent ? loader.get() : null;
+            Boolean[] result = new Boolean[1];
+            // Update inside the mapping, so the entry is not evicted by collecting between loading and updating.
+            entries.compute(key, (k, current) -> {
+                if (null == current && !absent) {
+                    // Evicted after checking, the capacity should be loaded again.
+                    return null;
+                }
+                Entry entry = null == current ? new Entry(group, tenant, capacity) : current;
+                entry.changed = true;
+                if (CounterMode.INCREMENT == counterMode) {
+                    result[0] = entry.increment(ignoreQuotaLimit ? Integer.MAX_VALUE : entry.getQuota(defaultQuota));
+                } else {
+                    result[0] = entry.decrement();
+                }
+                return entry;
+            });
+            if (null != result[0]) {
+                return result[0];
+            }
+        }
+    }
+    
+    /**
+     * Refresh the limits of the entry if present, such as the quota is updated by API.
+     *
+     * @param group    group, {@code null} if it is tenant
+     * @param tenant   tenant, {@code null} if it is group
+     * @param capacity capacity loaded from database
+     */
+    void refreshLimits(String group, String tenant, Capacity capacity) {
+        entries.computeIfPresent(buildKey(group, tenant), (key, entry) -> {
+            entry.resetLimits(capacity);
+            return entry;
+        });
+    }
+    
+    /**
+     * Get entries changed since last flushing, and remove the entries not changed, which will be loaded again when
+     * used next time.
+     *
+     * @return changed entries
+     */
+    List<Entry> collectChangedEntries() {
+        List<Entry> result = new ArrayList<>();
+        for (String each : entries.keySet()) {
+            // Check and evict inside the mapping, so an update in progress is not lost with the evicted entry.
+            entries.computeIfPresent(each, (key, entry) -> {
+                if (!entry.changed && entry.delta.get() == 0) {
+                    return null;
+                }
+                entry.changed = false;
+                result.add(entry);
+                return entry;
+            });
+        }
+        return result;
+    }
+    
+    int size() {
+        return entries.size();
+    }
+    
+    private static String buildKey(String group, String tenant) {
+        return null != tenant ? "tenant@" + tenant : "group@" + group;
+    }
+    
+    /**
+     * Usage entry of one group or tenant.
+     */
+    static class Entry {
+        
+        private final String group;
+        
+        private final String tenant;
+        
+        private final AtomicInteger delta = new AtomicInteger();
+        
+        private volatile int usage;
+        
+        private volatile int quota;
+        
+        private volatile boolean changed;
+        
+        private volatile Capacity capacity;
+        
+        private Entry(String group, String tenant, Capacity capacity) {
+            this.group = group;
+            this.tenant = tenant;
+            reset(capacity);
+        }
+        
+        String getGroup() {
+            return group;
+        }
+        
+        String getTenant() {
+            return tenant;
+        }
+        
+        int getDelta() {
+            return delta.get();
+        }
+        
+        int getUsage() {
+            return usage + delta.get();
+        }
+        
+        private int getQuota(int defaultQuota) {
+            return 0 == quota ? defaultQuota : quota;
+        }
+        
+        private boolean increment(int limit) {
+            while (true) {
+                int current = delta.get();
+                if (usage + current >= limit) {
+                    return false;
+                }
+                if (delta.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+        
+        private boolean decrement() {
+            while (true) {
+                int current = delta.get();
+                if (usage + current <= 0) {
+                    return false;
+                }
+                if (delta.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+        
+        /**
+         * Reset the usage loaded from database after the flushed delta is corrected into database.
+         *
+         * @param capacity     capacity loaded from database
+         * @param flushedDelta delta flushed
+         */
+        void commit(Capacity capacity, int flushedDelta) {
+            reset(capacity);
+            delta.addAndGet(-flushedDelta);
+        }
+        
+        private void reset(Capacity capacity) {
+            if (null == capacity) {
+                return;
+            }
+            usage = null == capacity.getUsage() ? 0 : capacity.getUsage();
+            resetLimits(capacity);
+        }
+        
+        private void resetLimits(Capacity capacity) {
+            if (null == capacity) {
+                return;
+            }
+            quota = null == capacity.getQuota() ? 0 : capacity.getQuota();
+            this.capacity = capacity;
+        }
+    }
+}
@@ -96,6 +96,11 @@ public abstract class DumpService {
     
     int total = 0;
     
+    /**
+     * Whether all configs are dumped when starting up, server is not ready to serve config before finished.
+     */
+    private static volatile boolean startupDumpFinished = false;
+    
     /**
      * Here you inject the dependent objects constructively, ensuring that some of the dependent functionality is
      * initialized ahead of time.
@@ -219,6 +224,9 @@ public abstract class DumpService {
                 LogUtil.DEFAULT_LOG.info("start clear all config-info-gray.");
                 ConfigDiskServiceFactory.getInstance().clearAllGray();
                 dumpAllGrayProcessor.process(new DumpAllGrayTask());
+                startupDumpFinished = true;
+                LogUtil.DEFAULT_LOG.info("dump all config-info on startup finished, dumped={}, cost={}ms.",
+                        dumpAllProcessor.getLastDumpAllCount(), dumpAllProcessor.getLastDumpAllCostMillis());
                 
             } catch (Exception e) {
                 LogUtil.FATAL_LOG.error(
@@ -258,6 +266,15 @@ public abstract class DumpService {
         
     }
     
+    /**
+     * Whether all configs are dumped to local cache when starting up.
+     *
+     * @return {@code true} if the startup dump is finished
+     */
+    public static boolean isStartupDumpFinished() {
+        return startupDumpFinished;
+    }
+    
     private void dumpAllConfigInfoOnStartup(DumpAllProcessor dumpAllProcessor) {
         
         try {
@@ -17,6 +17,8 @@
 package com.alibaba.nacos.config.server.service.dump.disk;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * config disk service.
@@ -90,6 +92,42 @@ public interface ConfigDiskService {
      */
     String getContent(String dataId, String group, String tenant) throws IOException;
     
+    /**
+     * Returns the byte length of the content in UTF-8.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     * @return byte length, -1 if not exist.
+     * @throws IOException io exception.
+     */
+    default long getContentLength(String dataId, String group, String tenant) throws IOException {
+        String content = getContent(dataId, group, tenant);
+        return null == content ? -1L : content.getBytes(StandardCharsets.UTF_8).length;
+    }
+    
+    /**
+     * Returns a range of the content bytes in UTF-8.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     * @param offset offset of the range.
+     * @param length max length of the range.
+     * @return bytes of the range, null if not exist.
+     * @throws IOException io exception.
+     */
+    default byte[] readContent(String dataId, String group, String tenant, long offset, int length)
+            throws IOException {
+        String content = getContent(dataId, group, tenant);
+        if (null == content) {
+            return null;
+        }
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        int from = (int) Math.min(offset, bytes.length);
+        return Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + length));
+    }
+    
     /**
      * Clear all config file.
      */
@@ -0,0 +1,412 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * config off-heap disk service.
+ *
+ * <p>Config contents are kept in direct memory blocks from {@link OffHeapBlockPool} instead of files, and contents
+ * larger than {@link #COMPRESS_THRESHOLD_BYTES} are deflated if it saves space. Only the keys and the small block
+ * objects are kept on heap, so lots of large configs do not increase the old generation. All contents are dumped from
+ * database when server starts, so nothing is lost by not persisting them.
+ *
+ * <p>The content is deflated by independent blocks of {@link #COMPRESS_BLOCK_BYTES}, so a range of content is read by
+ * inflating only the blocks in range. The blocks of removed contents are reused after all reading finished, and the
+ * direct memory is limited by system property {@code config_off_heap_max_bytes}.
+ *
+ * @author Nacos
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigOffHeapDiskService implements ConfigDiskService {
+    
+    static final int COMPRESS_THRESHOLD_BYTES = 1024;
+    
+    static final int COMPRESS_BLOCK_BYTES = 64 * 1024;
+    
+    private static final String MAX_BYTES_PROPERTY = "config_off_heap_max_bytes";
+    
+    private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    
+    private static final byte FLAG_RAW = 0;
+    
+    private static final byte FLAG_DEFLATED = 1;
+    
+    /**
+     * Flag, raw length and block count of deflated content.
+     */
+    private static final int DEFLATED_HEADER_BYTES = 1 + Integer.BYTES * 2;
+    
+    private static final String GRAY_KEY_SEPARATOR = "+";
+    
+    private final Map<String, StoredContent> contents = new ConcurrentHashMap<>();
+    
+    private final Map<String, StoredContent> grayContents = new ConcurrentHashMap<>();
+    
+    private final AtomicLong storedBytes = new AtomicLong();
+    
+    private final OffHeapBlockPool blockPool;
+    
+    public ConfigOffHeapDiskService() {
+        this(Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES));
+    }
+    
+    ConfigOffHeapDiskService(long maxBytes) {
+        this.blockPool = new OffHeapBlockPool(maxBytes);
+        LogUtil.DEFAULT_LOG.info("config content is stored in off-heap memory, max {} bytes.", maxBytes);
+    }
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        put(contents, GroupKey2.getKey(dataId, group, tenant), content);
+    }
+    
+    @Override
+    public void saveGrayToDisk(String dataId, String group, String tenant, String grayName, String content)
+            throws IOException {
+        put(grayContents, getGrayKey(dataId, group, tenant, grayName), content);
+    }
+    
+    @Override
+    public void removeConfigInfo4Gray(String dataId, String group, String tenant, String grayName) {
+        release(grayContents.remove(getGrayKey(dataId, group, tenant, grayName)));
+    }
+    
+    @Override
+    public String getGrayContent(String dataId, String group, String tenant, String grayName) throws IOException {
+        return read(grayContents, getGrayKey(dataId, group, tenant, grayName));
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        release(contents.remove(GroupKey2.getKey(dataId, group, tenant)));
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) throws IOException {
+        return read(contents, GroupKey2.getKey(dataId, group, tenant));
+    }
+    
+    /**
+     * The length is kept in the header, nothing is inflated.
+     */
+    @Override
+    public long getContentLength(String dataId, String group, String tenant) {
+        StoredContent stored = acquire(contents, GroupKey2.getKey(dataId, group, tenant));
+        if (null == stored) {
+            return -1L;
+        }
+        try {
+            return stored.getRawLength();
+        } finally {
+            release(stored);
+        }
+    }
+    
+    /**
+     * Only the compress blocks in range are inflated.
+     */
+    @Override
+    public byte[] readContent(String dataId, String group, String tenant, long offset, int length)
+            throws IOException {
+        StoredContent stored = acquire(contents, GroupKey2.getKey(dataId, group, tenant));
+        if (null == stored) {
+            return null;
+        }
+        try {
+            return stored.readRange(offset, length);
+        } finally {
+            release(stored);
+        }
+    }
+    
+    @Override
+    public void clearAll() {
+        clear(contents);
+        LogUtil.DEFAULT_LOG.info("clear all config-info success.");
+    }
+    
+    @Override
+    public void clearAllGray() {
+        clear(grayContents);
+        LogUtil.DEFAULT_LOG.info("clear all config-info-gray success.");
+    }
+    
+    /**
+     * Get the bytes of memory blocks used by stored contents.
+     *
+     * @return stored bytes
+     */
+    public long getStoredBytes() {
+        return storedBytes.get();
+    }
+    
+    /**
+     * Get the bytes of direct memory reserved by the block pool, including the free blocks to reuse.
+     *
+     * @return reserved bytes
+     */
+    public long getReservedBytes() {
+        return blockPool.getReservedBytes();
+    }
+    
+    private void put(Map<String, StoredContent> target, String key, String content) {
+        byte[] encoded = encode(content);
+        ByteBuffer[] blocks = new ByteBuffer[(encoded.length + OffHeapBlockPool.MAX_BLOCK_BYTES - 1)
+                / OffHeapBlockPool.MAX_BLOCK_BYTES];
+        long blockBytes = 0L;
+        for (int i = 0; i < blocks.length; i++) {
+            int from = i * OffHeapBlockPool.MAX_BLOCK_BYTES;
+            int length = Math.min(OffHeapBlockPool.MAX_BLOCK_BYTES, encoded.length - from);
+            blocks[i] = blockPool.allocate(length);
+            blocks[i].duplicate().put(encoded, from, length);
+            blockBytes += blocks[i].capacity();
+        }
+        storedBytes.addAndGet(blockBytes);
+        release(target.put(key, new StoredContent(blocks, encoded.length, blockBytes)));
+    }
+    
+    private String read(Map<String, StoredContent> target, String key) throws IOException {
+        StoredContent stored = acquire(target, key);
+        if (null == stored) {
+            return null;
+        }
+        try {
+            return new String(stored.readRange(0L, stored.getRawLength()), StandardCharsets.UTF_8);
+        } finally {
+            release(stored);
+        }
+    }
+    
+    private void clear(Map<String, StoredContent> target) {
+        for (String each : target.keySet()) {
+            release(target.remove(each));
+        }
+    }
+    
+    /**
+     * Get the stored content and retain it, so that the blocks are not reused until it is released by reader.
+     */
+    private static StoredContent acquire(Map<String, StoredContent> target, String key) {
+        while (true) {
+            StoredContent result = target.get(key);
+            if (null == result || result.retain()) {
+                return result;
+            }
+            // Released by removing or replacing concurrently, get the current one again.
+        }
+    }
+    
+    private void release(StoredContent stored) {
+        if (null != stored && stored.release()) {
+            for (ByteBuffer each : stored.blocks) {
+                blockPool.release(each);
+            }
+            storedBytes.addAndGet(-stored.blockBytes);
+        }
+    }
+    
+    private static String getGrayKey(String dataId, String group, String tenant, String grayName) {
+        return GroupKey2.getKey(dataId, group, tenant) + GRAY_KEY_SEPARATOR + grayName;
+    }
+    
+    /**
+     * Encode content to raw bytes with flag, or to blocks deflated independently if it saves space.
+     *
+     * <p>The deflated format is flag, raw length, block count, the deflated length of each block, and then the deflated
+     * blocks, each block is {@link #COMPRESS_BLOCK_BYTES} of raw bytes except the last one.
+     */
+    static byte[] encode(String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length > COMPRESS_THRESHOLD_BYTES) {
+            int blockCount = (raw.length + COMPRESS_BLOCK_BYTES - 1) / COMPRESS_BLOCK_BYTES;
+            byte[][] deflatedBlocks = new byte[blockCount][];
+            int encodedLength = DEFLATED_HEADER_BYTES + Integer.BYTES * blockCount;
+            for (int i = 0; i < blockCount; i++) {
+                int from = i * COMPRESS_BLOCK_BYTES;
+                deflatedBlocks[i] = deflate(raw, from, Math.min(COMPRESS_BLOCK_BYTES, raw.length - from));
+                encodedLength += deflatedBlocks[i].length;
+            }
+            if (encodedLength < raw.length) {
+                ByteBuffer result = ByteBuffer.allocate(encodedLength);
+                result.put(FLAG_DEFLATED).putInt(raw.length).putInt(blockCount);
+                for (byte[] each : deflatedBlocks) {
+                    result.putInt(each.length);
+                }
+                for (byte[] each : deflatedBlocks) {
+                    result.put(each);
+                }
+                return result.array();
+            }
+        }
+        byte[] result = new byte[1 + raw.length];
+        result[0] = FLAG_RAW;
+        System.arraycopy(raw, 0, result, 1, raw.length);
+        return result;
+    }
+    
+    private static byte[] deflate(byte[] raw, int offset, int length) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw, offset, length);
+            deflater.finish();
+            ByteArrayOutputStream result = new ByteArrayOutputStream(length / 2);
+            byte[] buffer = new byte[COMPRESS_THRESHOLD_BYTES];
+            while (!deflater.finished()) {
+                result.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return result.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    private static void inflate(byte[] deflated, byte[] raw) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(deflated);
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, length, raw.length - length);
+                if (0 == inflated && inflater.needsInput()) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != raw.length) {
+                throw new IOException("Inflated length " + length + " does not match " + raw.length);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+    
+    /**
+     * Encoded content stored in memory blocks, each block is {@link OffHeapBlockPool#MAX_BLOCK_BYTES} except the last
+     * one. It is referenced by the map and readers, and the blocks are released to pool when no one references it.
+     */
+    static final class StoredContent {
+        
+        private final ByteBuffer[] blocks;
+        
+        private final int encodedLength;
+        
+        private final long blockBytes;
+        
+        private final AtomicInteger references = new AtomicInteger(1);
+        
+        StoredContent(ByteBuffer[] blocks, int encodedLength, long blockBytes) {
+            this.blocks = blocks;
+            this.encodedLength = encodedLength;
+            this.blockBytes = blockBytes;
+        }
+        
+        private boolean retain() {
+            while (true) {
+                int current = references.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+        
+        private boolean release() {
+            return 0 == references.decrementAndGet();
+        }
+        
+        private boolean isDeflated() {
+            return FLAG_DEFLATED == blocks[0].get(0);
+        }
+        
+        int getRawLength() {
+            return isDeflated() ? readInt(1) : encodedLength - 1;
+        }
+        
+        /**
+         * Read raw bytes in range [offset, offset + length), truncated by the raw length.
+         */
+        byte[] readRange(long offset, int length) throws IOException {
+            int rawLength = getRawLength();
+            int from = (int) Math.min(offset, rawLength);
+            byte[] result = new byte[Math.min(length, rawLength - from)];
+            if (0 == result.length) {
+                return result;
+            }
+            if (!isDeflated()) {
+                copy(1 + from, result, 0, result.length);
+                return result;
+            }
+            int blockCount = readInt(1 + Integer.BYTES);
+            int position = DEFLATED_HEADER_BYTES + Integer.BYTES * blockCount;
+            int to = from + result.length;
+            for (int i = 0; i < blockCount && i * COMPRESS_BLOCK_BYTES < to; i++) {
+                int deflatedLength = readInt(DEFLATED_HEADER_BYTES + Integer.BYTES * i);
+                int blockFrom = i * COMPRESS_BLOCK_BYTES;
+                int blockTo = Math.min(blockFrom + COMPRESS_BLOCK_BYTES, rawLength);
+                if (blockTo > from) {
+                    byte[] deflated = new byte[deflatedLength];
+                    copy(position, deflated, 0, deflatedLength);
+                    byte[] raw = new byte[blockTo - blockFrom];
+                    inflate(deflated, raw);
+                    int copyFrom = Math.max(from, blockFrom);
+                    System.arraycopy(raw, copyFrom - blockFrom, result, copyFrom - from,
+                            Math.min(to, blockTo) - copyFrom);
+                }
+                position += deflatedLength;
+            }
+            return result;
+        }
+        
+        private int readInt(int position) {
+            byte[] bytes = new byte[Integer.BYTES];
+            copy(position, bytes, 0, Integer.BYTES);
+            return ByteBuffer.wrap(bytes).getInt();
+        }
+        
+        private void copy(int position, byte[] target, int offset, int length) {
+            int copied = 0;
+            while (copied < length) {
+                int current = position + copied;
+                // Duplicate to read concurrently without changing the position of the shared block.
+                ByteBuffer block = blocks[current / OffHeapBlockPool.MAX_BLOCK_BYTES].duplicate();
+                block.position(current % OffHeapBlockPool.MAX_BLOCK_BYTES);
+                int count = Math.min(length - copied, block.remaining());
+                block.get(target, offset + copied, count);
+                copied += count;
+            }
+        }
+    }
+}
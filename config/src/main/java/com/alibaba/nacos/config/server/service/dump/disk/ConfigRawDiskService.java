@@ -30,6 +30,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 
@@ -171,6 +172,32 @@ public class ConfigRawDiskService implements ConfigDiskService {
         }
     }
     
+    @Override
+    public long getContentLength(String dataId, String group, String tenant) {
+        File file = targetFile(dataId, group, tenant);
+        return file.exists() ? file.length() : -1L;
+    }
+    
+    /**
+     * Read a range of the cache file directly, large config is not loaded whole into memory for each chunk.
+     */
+    @Override
+    public byte[] readContent(String dataId, String group, String tenant, long offset, int length) throws IOException {
+        File file = targetFile(dataId, group, tenant);
+        if (!file.exists()) {
+            return null;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            long from = Math.min(offset, raf.length());
+            byte[] result = new byte[(int) Math.min(length, raf.length() - from)];
+            raf.seek(from);
+            raf.readFully(result);
+            return result;
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+    
     /**
      * Clear all config file.
      */
@@ -29,7 +29,11 @@ import org.rocksdb.RocksDBException;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
@@ -51,8 +55,12 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private static final long DEFAULT_WRITE_BUFFER_MB = 32;
     
+    private static final byte[] EMPTY_VALUE = new byte[0];
+    
     Map<String, RocksDB> rocksDbMap = new HashMap<>();
     
+    private final RangeReadCache rangeReadCache = new RangeReadCache(RangeReadCache.DEFAULT_MAX_BYTES);
+    
     private void createDirIfNotExist(String dir) {
         File roskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
         if (!roskDataDir.exists()) {
@@ -123,7 +131,9 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void saveToDiskInner(String type, String dataId, String group, String tenant, String tag, String content)
             throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
+            byte[] key = getKeyByte(dataId, group, tenant, tag);
+            initAndGetDB(type).put(key, content.getBytes(ENCODE_UTF8));
+            invalidateRangeRead(type, key);
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -234,7 +244,9 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private void removeContentInner(String type, String dataId, String group, String tenant, String tag) {
         try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, tag));
+            byte[] key = getKeyByte(dataId, group, tenant, tag);
+            initAndGetDB(type).delete(key);
+            invalidateRangeRead(type, key);
         } catch (Exception e) {
             LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
                     group, tenant, e.getCause());
@@ -261,6 +273,50 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         return getContentInner(BASE_DIR, dataId, group, tenant);
     }
     
+    /**
+     * Get the size of value without copying it.
+     */
+    @Override
+    public long getContentLength(String dataId, String group, String tenant) throws IOException {
+        try {
+            int size = initAndGetDB(BASE_DIR).get(getKeyByte(dataId, group, tenant, null), EMPTY_VALUE);
+            return RocksDB.NOT_FOUND == size ? -1L : size;
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        }
+    }
+    
+    /**
+     * RocksDB can not read a range of value, so the value is cached for the following chunks of the same config.
+     */
+    @Override
+    public byte[] readContent(String dataId, String group, String tenant, long offset, int length)
+            throws IOException {
+        byte[] key = getKeyByte(dataId, group, tenant, null);
+        String cacheKey = new String(key, StandardCharsets.UTF_8);
+        byte[] bytes = rangeReadCache.get(cacheKey);
+        if (null == bytes) {
+            long version = rangeReadCache.getVersion();
+            try {
+                bytes = initAndGetDB(BASE_DIR).get(key);
+            } catch (RocksDBException e) {
+                throw new IOException(e);
+            }
+            if (null == bytes) {
+                return null;
+            }
+            rangeReadCache.put(cacheKey, bytes, version);
+        }
+        int from = (int) Math.min(offset, bytes.length);
+        return Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + length));
+    }
+    
+    private void invalidateRangeRead(String type, byte[] key) {
+        if (BASE_DIR.equals(type)) {
+            rangeReadCache.invalidate(new String(key, StandardCharsets.UTF_8));
+        }
+    }
+    
     public String getLocalConfigMd5(String dataId, String group, String tenant, String encode) throws IOException {
         return MD5Utils.md5Hex(getContentInner(BASE_DIR, dataId, group, tenant), encode);
     }
@@ -321,6 +377,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void clearAll() {
         try {
+            rangeReadCache.invalidateAll();
             if (rocksDbMap.containsKey(BASE_DIR)) {
                 rocksDbMap.get(BASE_DIR).close();
                 RocksDB.destroyDB(EnvUtil.getNacosHome() + BASE_DIR, new Options());
@@ -349,4 +406,61 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         }
     }
     
+    /**
+     * Cache of values read by ranges, bounded by total bytes and evicted by least recently used.
+     *
+     * <p>The version is increased by each invalidating, and the value read before an invalidating is not cached, so
+     * the cache never holds the value older than database.
+     */
+    private static class RangeReadCache {
+        
+        private static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+        
+        private final long maxBytes;
+        
+        private final LinkedHashMap<String, byte[]> values = new LinkedHashMap<>(16, 0.75f, true);
+        
+        private long cachedBytes;
+        
+        private long version;
+        
+        private RangeReadCache(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+        
+        private synchronized byte[] get(String key) {
+            return values.get(key);
+        }
+        
+        private synchronized long getVersion() {
+            return version;
+        }
+        
+        private synchronized void put(String key, byte[] value, long readVersion) {
+            if (readVersion != version || value.length > maxBytes) {
+                return;
+            }
+            byte[] previous = values.put(key, value);
+            cachedBytes += value.length - (null == previous ? 0 : previous.length);
+            Iterator<byte[]> iterator = values.values().iterator();
+            while (cachedBytes > maxBytes && iterator.hasNext()) {
+                cachedBytes -= iterator.next().length;
+                iterator.remove();
+            }
+        }
+        
+        private synchronized void invalidate(String key) {
+            version++;
+            byte[] previous = values.remove(key);
+            if (null != previous) {
+                cachedBytes -= previous.length;
+            }
+        }
+        
+        private synchronized void invalidateAll() {
+            version++;
+            values.clear();
+            cachedBytes = 0;
+        }
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of direct memory blocks for {@link ConfigOffHeapDiskService}.
+ *
+ * <p>Direct memory is allocated in slabs of {@link #SLAB_BYTES}, and each slab is carved into blocks of one size class,
+ * from {@link #MIN_BLOCK_BYTES} to {@link #MAX_BLOCK_BYTES} in powers of two. Released blocks are reused by the same
+ * size class, so the direct memory is not left to the garbage collector. The slabs are never freed, and no more slab is
+ * allocated after {@code maxBytes} is reached, then a block is allocated on heap if no block of its size class is free.
+ *
+ * @author Nacos
+ */
+class OffHeapBlockPool {
+    
+    static final int MIN_BLOCK_BYTES = 64;
+    
+    static final int MAX_BLOCK_BYTES = 4096;
+    
+    static final int SLAB_BYTES = 1 << 20;
+    
+    private static final int MIN_BLOCK_SHIFT = Integer.numberOfTrailingZeros(MIN_BLOCK_BYTES);
+    
+    private final long maxBytes;
+    
+    private final SizeClass[] sizeClasses;
+    
+    private final AtomicLong reservedBytes = new AtomicLong();
+    
+    private final AtomicBoolean exhaustedLogged = new AtomicBoolean();
+    
+    OffHeapBlockPool(long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.sizeClasses = new SizeClass[Integer.numberOfTrailingZeros(MAX_BLOCK_BYTES) - MIN_BLOCK_SHIFT + 1];
+        for (int i = 0; i < sizeClasses.length; i++) {
+            sizeClasses[i] = new SizeClass(MIN_BLOCK_BYTES << i);
+        }
+    }
+    
+    /**
+     * Allocate a block which capacity is the smallest size class not less than the size.
+     *
+     * @param size size in bytes, not greater than {@link #MAX_BLOCK_BYTES}
+     * @return block with position 0, direct if the budget is not exhausted
+     */
+    ByteBuffer allocate(int size) {
+        SizeClass sizeClass = sizeClasses[indexOf(size)];
+        ByteBuffer result = sizeClass.freeBlocks.poll();
+        if (null != result) {
+            return result;
+        }
+        result = sizeClass.carve();
+        if (null != result) {
+            return result;
+        }
+        if (exhaustedLogged.compareAndSet(false, true)) {
+            LogUtil.DEFAULT_LOG.warn("off-heap config content reached the max {} bytes, allocate on heap instead.",
+                    maxBytes);
+        }
+        return ByteBuffer.allocate(sizeClass.blockBytes);
+    }
+    
+    /**
+     * Return the block to the pool, the block must not be used after released.
+     *
+     * @param block block allocated by this pool
+     */
+    void release(ByteBuffer block) {
+        if (block.isDirect()) {
+            block.clear();
+            sizeClasses[indexOf(block.capacity())].freeBlocks.offer(block);
+        }
+    }
+    
+    /**
+     * Get the bytes of direct memory allocated by slabs.
+     *
+     * @return reserved bytes
+     */
+    long getReservedBytes() {
+        return reservedBytes.get();
+    }
+    
+    private static int indexOf(int size) {
+        if (size <= MIN_BLOCK_BYTES) {
+            return 0;
+        }
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size - 1) - MIN_BLOCK_SHIFT;
+    }
+    
+    private boolean reserveSlab() {
+        while (true) {
+            long current = reservedBytes.get();
+            if (current + SLAB_BYTES > maxBytes) {
+                return false;
+            }
+            if (reservedBytes.compareAndSet(current, current + SLAB_BYTES)) {
+                return true;
+            }
+        }
+    }
+    
+    private class SizeClass {
+        
+        private final int blockBytes;
+        
+        private final Queue<ByteBuffer> freeBlocks = new ConcurrentLinkedQueue<>();
+        
+        private ByteBuffer slab;
+        
+        private SizeClass(int blockBytes) {
+            this.blockBytes = blockBytes;
+        }
+        
+        private synchronized ByteBuffer carve() {
+            if (null == slab || slab.remaining() < blockBytes) {
+                if (!reserveSlab()) {
+                    return null;
+                }
+                slab = ByteBuffer.allocateDirect(SLAB_BYTES);
+            }
+            slab.limit(slab.position() + blockBytes);
+            ByteBuffer result = slab.slice();
+            slab.position(slab.limit());
+            slab.limit(slab.capacity());
+            return result;
+        }
+    }
+}
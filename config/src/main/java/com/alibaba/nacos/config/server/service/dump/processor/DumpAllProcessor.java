@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.config.server.service.dump.processor;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.utils.MD5Utils;
@@ -30,10 +32,16 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.persistence.model.Page;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
@@ -41,11 +49,30 @@ import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 /**
  * Dump all processor.
  *
+ * <p>When starting up, the id range of configs is split into partitions which are read from database in parallel, and
+ * the read configs are dumped by a bounded executor, so that the memory is bounded by the page size and partition
+ * count. Otherwise, only the changed configs are dumped and all configs are checked in one partition.
+ *
  * @author Nacos
  * @date 2020/7/5 12:19 PM
  */
 public class DumpAllProcessor implements NacosTaskProcessor {
     
+    /**
+     * Database connections are shared with requests, so the reading partitions are limited.
+     */
+    private static final int MAX_PARTITION_COUNT = 8;
+    
+    private static final long PROGRESS_LOG_INTERVAL_MILLIS = 5000L;
+    
+    private final LongAdder dumpedCount = new LongAdder();
+    
+    private final LongAdder readCount = new LongAdder();
+    
+    private volatile long lastDumpAllCostMillis;
+    
+    private volatile long lastDumpAllCount;
+    
     public DumpAllProcessor(ConfigInfoPersistService configInfoPersistService) {
         this.configInfoPersistService = configInfoPersistService;
     }
@@ -61,21 +88,108 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         DumpAllTask dumpAllTask = (DumpAllTask) task;
         
         long currentMaxId = configInfoPersistService.findConfigMaxId();
-        long lastMaxId = 0;
         ThreadPoolExecutor executorService = null;
+        int partitionCount = 1;
         if (dumpAllTask.isStartUp()) {
             executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
                     Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
                     new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
                     r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
+            partitionCount = getPartitionCount(currentMaxId);
         } else {
             executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
                     r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
         }
         
-        DEFAULT_LOG.info("start dump all config-info...");
+        DEFAULT_LOG.info("start dump all config-info with {} partitions...", partitionCount);
+        final long start = System.currentTimeMillis();
+        dumpedCount.reset();
+        readCount.reset();
         
-        while (lastMaxId < currentMaxId) {
+        try {
+            if (partitionCount > 1) {
+                dumpPartitionsInParallel(dumpAllTask, currentMaxId, partitionCount, executorService);
+            } else {
+                dumpPartition(dumpAllTask, 0, 0, currentMaxId, executorService);
+            }
+        } catch (RuntimeException e) {
+            executorService.shutdownNow();
+            throw e;
+        }
+        
+        //wait all task are finished and then shutdown executor.
+        try {
+            int unfinishedTaskCount = 0;
+            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
+                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
+                Thread.sleep(1000L);
+            }
+            executorService.shutdown();
+            
+        } catch (Exception e) {
+            DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
+        }
+        lastDumpAllCostMillis = System.currentTimeMillis() - start;
+        lastDumpAllCount = dumpedCount.sum();
+        DEFAULT_LOG.info("success to  dump all config-info, read={}, dumped={}, cost={}ms, throughput={}/s。",
+                readCount.sum(), lastDumpAllCount, lastDumpAllCostMillis,
+                toThroughput(lastDumpAllCount, lastDumpAllCostMillis));
+        return true;
+    }
+    
+    int getPartitionCount(long currentMaxId) {
+        int pageSize = PropertyUtil.getAllDumpPageSize();
+        long pages = (currentMaxId + pageSize - 1) / pageSize;
+        return (int) Math.max(1, Math.min(pages, Math.min(MAX_PARTITION_COUNT,
+                Runtime.getRuntime().availableProcessors())));
+    }
+    
+    private void dumpPartitionsInParallel(DumpAllTask dumpAllTask, long currentMaxId, int partitionCount,
+            ThreadPoolExecutor executorService) {
+        ExecutorService readExecutor = new ThreadPoolExecutor(partitionCount, partitionCount, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> new Thread(r, "dump all reader"));
+        long partitionSize = (currentMaxId + partitionCount - 1) / partitionCount;
+        List<Future<?>> futures = new ArrayList<>(partitionCount);
+        try {
+            for (int i = 0; i < partitionCount; i++) {
+                final int partition = i;
+                final long startId = partitionSize * i;
+                final long endId = Math.min(currentMaxId, startId + partitionSize);
+                futures.add(readExecutor
+                        .submit(() -> dumpPartition(dumpAllTask, partition, startId, endId, executorService)));
+            }
+            for (Future<?> each : futures) {
+                each.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(futures);
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR,
+                    "[all-dump] interrupted when reading config-info", e);
+        } catch (ExecutionException e) {
+            // Fail the whole dump, otherwise the configs of failed partition are missing after starting up.
+            cancelAll(futures);
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, "[all-dump] read config-info error",
+                    e.getCause());
+        } finally {
+            readExecutor.shutdownNow();
+        }
+    }
+    
+    private void cancelAll(List<Future<?>> futures) {
+        for (Future<?> each : futures) {
+            each.cancel(true);
+        }
+    }
+    
+    /**
+     * Dump configs which id is in range (startId, endId] by pages.
+     */
+    private void dumpPartition(DumpAllTask dumpAllTask, int partition, long startId, long endId,
+            ThreadPoolExecutor executorService) {
+        long lastMaxId = startId;
+        long lastProgressLogTime = System.currentTimeMillis();
+        while (lastMaxId < endId) {
             
             long start = System.currentTimeMillis();
             
@@ -87,77 +201,107 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             }
             
             for (ConfigInfoWrapper cf : page.getPageItems()) {
-                lastMaxId = Math.max(cf.getId(), lastMaxId);
-                //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
-                if (!dumpAllTask.isStartUp()) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    //check md5 & update local disk cache.
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
-                                cf.getLastModified(), cf.getMd5());
-                        cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    } else {
-                        continue;
-                    }
-                }
-                
-                if (cf == null) {
-                    continue;
-                }
-                
-                if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                    ClientIpWhiteList.load(cf.getContent());
+                if (cf.getId() > endId) {
+                    // The rest belongs to the next partition.
+                    lastMaxId = endId;
+                    break;
                 }
-                
-                if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
-                    SwitchService.load(cf.getContent());
-                }
-                
-                final String content = cf.getContent();
-                final String dataId = cf.getDataId();
-                final String group = cf.getGroup();
-                final String tenant = cf.getTenant();
-                final long lastModified = cf.getLastModified();
-                final String type = cf.getType();
-                final String encryptedDataKey = cf.getEncryptedDataKey();
-                
-                executorService.execute(() -> {
-                    final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
-                    boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8,
-                            lastModified, type, encryptedDataKey);
-                    if (result) {
-                        LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}",
-                                GroupKey2.getKey(dataId, group), lastModified, content.length(), md5Utf8);
-                    } else {
-                        LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
-                    }
-                    
-                });
-                
+                lastMaxId = Math.max(cf.getId(), lastMaxId);
+                readCount.increment();
+                dumpConfig(dumpAllTask, cf, executorService);
             }
             
             long diskStamp = System.currentTimeMillis();
-            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId, currentMaxId,
-                    (dbTimeStamp - start), (diskStamp - dbTimeStamp));
+            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, partition={}, dbTime={},diskTime={}", lastMaxId,
+                    endId, partition, (dbTimeStamp - start), (diskStamp - dbTimeStamp));
+            if (diskStamp - lastProgressLogTime >= PROGRESS_LOG_INTERVAL_MILLIS) {
+                lastProgressLogTime = diskStamp;
+                DEFAULT_LOG.info("[all-dump] progress read={}, dumped={}", readCount.sum(), dumpedCount.sum());
+            }
+        }
+    }
+    
+    private void dumpConfig(DumpAllTask dumpAllTask, ConfigInfoWrapper cf, ThreadPoolExecutor executorService) {
+        //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
+        if (!dumpAllTask.isStartUp()) {
+            final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+            //check md5 & update local disk cache.
+            String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
+            boolean md5Update = !localContentMd5.equals(cf.getMd5());
+            if (newLastModified || md5Update) {
+                LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey, cf.getLastModified(),
+                        cf.getMd5());
+                cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            } else {
+                return;
+            }
         }
         
-        //wait all task are finished and then shutdown executor.
-        try {
-            int unfinishedTaskCount = 0;
-            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
-                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
-                Thread.sleep(1000L);
+        if (cf == null) {
+            return;
+        }
+        
+        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+            SwitchService.load(cf.getContent());
+        }
+        
+        final String content = cf.getContent();
+        final String dataId = cf.getDataId();
+        final String group = cf.getGroup();
+        final String tenant = cf.getTenant();
+        final long lastModified = cf.getLastModified();
+        final String type = cf.getType();
+        final String encryptedDataKey = cf.getEncryptedDataKey();
+        
+        executorService.execute(() -> {
+            final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
+            boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8, lastModified,
+                    type, encryptedDataKey);
+            if (result) {
+                dumpedCount.increment();
+                LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}", GroupKey2.getKey(dataId, group),
+                        lastModified, content.length(), md5Utf8);
+            } else {
+                LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
             }
-            executorService.shutdown();
             
-        } catch (Exception e) {
-            DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
-        }
-        DEFAULT_LOG.info("success to  dump all config-info。");
-        return true;
+        });
+    }
+    
+    private static long toThroughput(long count, long costMillis) {
+        return 0 == costMillis ? count : count * 1000L / costMillis;
+    }
+    
+    /**
+     * Get the count of configs dumped by the running or last dump all task.
+     *
+     * @return dumped count
+     */
+    public long getDumpedCount() {
+        return dumpedCount.sum();
+    }
+    
+    /**
+     * Get the count of configs dumped by the last finished dump all task.
+     *
+     * @return dumped count
+     */
+    public long getLastDumpAllCount() {
+        return lastDumpAllCount;
+    }
+    
+    /**
+     * Get the cost of the last finished dump all task.
+     *
+     * @return cost in milliseconds
+     */
+    public long getLastDumpAllCostMillis() {
+        return lastDumpAllCostMillis;
     }
     
     final ConfigInfoPersistService configInfoPersistService;
@@ -16,8 +16,10 @@
 
 package com.alibaba.nacos.config.server.service.query.handler;
 
+import com.alibaba.nacos.common.utils.ContentChunkUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
@@ -49,6 +51,9 @@ public class FormalHandler extends AbstractConfigQueryHandler {
         
         CacheItem cacheItem = ConfigChainEntryHandler.getThreadLocalCacheItem();
         String md5 = cacheItem.getConfigCache().getMd5();
+        if (request.isChunked() && handleChunk(request, cacheItem, md5, response)) {
+            return response;
+        }
         String content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
         if (StringUtils.isBlank(content)) {
             response.setStatus(ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_NOT_FOUND);
@@ -66,4 +71,43 @@ public class FormalHandler extends AbstractConfigQueryHandler {
         
         return response;
     }
+    
+    /**
+     * Handle the chunked query, the content is read by range from disk.
+     *
+     * @return true if the response is a chunk or conflict, false if the content is small enough to be returned whole.
+     */
+    private boolean handleChunk(ConfigQueryChainRequest request, CacheItem cacheItem, String md5,
+            ConfigQueryChainResponse response) throws IOException {
+        int chunkIndex = request.getChunkIndex();
+        if (chunkIndex > 0 && !StringUtils.equals(md5, request.getChunkMd5())) {
+            // content changed after the first chunk returned, client should query again from the first chunk.
+            response.setStatus(ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_QUERY_CONFLICT);
+            return true;
+        }
+        String dataId = request.getDataId();
+        String group = request.getGroup();
+        String tenant = request.getTenant();
+        ConfigDiskService diskService = ConfigDiskServiceFactory.getInstance();
+        long length = diskService.getContentLength(dataId, group, tenant);
+        int chunkSize = request.getChunkSize();
+        if (0 == chunkIndex && length <= chunkSize) {
+            return false;
+        }
+        int chunkCount = ContentChunkUtils.getChunkCount(length, chunkSize);
+        byte[] chunk = chunkIndex < chunkCount ? diskService.readContent(dataId, group, tenant,
+                (long) chunkIndex * chunkSize, chunkSize) : null;
+        if (null == chunk) {
+            response.setStatus(ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_QUERY_CONFLICT);
+            return true;
+        }
+        response.setContentChunk(chunk);
+        response.setChunkCount(chunkCount);
+        response.setMd5(md5);
+        response.setLastModified(cacheItem.getConfigCache().getLastModifiedTs());
+        response.setEncryptedDataKey(cacheItem.getConfigCache().getEncryptedDataKey());
+        response.setConfigType(cacheItem.getType());
+        response.setStatus(ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_FOUND_FORMAL);
+        return true;
+    }
 }
\ No newline at end of file
@@ -36,6 +36,21 @@ public class ConfigQueryChainRequest {
     
     private Map<String, String> appLabels;
     
+    /**
+     * Index of the content chunk to query, -1 means querying the whole content.
+     */
+    private int chunkIndex = -1;
+    
+    /**
+     * Md5 of the whole content returned by the first chunk, used to check the content is not changed between chunks.
+     */
+    private String chunkMd5;
+    
+    /**
+     * Max bytes of one chunk, content not larger than it is returned whole.
+     */
+    private int chunkSize;
+    
     public String getDataId() {
         return dataId;
     }
@@ -76,6 +91,39 @@ public class ConfigQueryChainRequest {
         this.appLabels = appLabels;
     }
     
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+    
+    public void setChunkIndex(int chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+    
+    public String getChunkMd5() {
+        return chunkMd5;
+    }
+    
+    public void setChunkMd5(String chunkMd5) {
+        this.chunkMd5 = chunkMd5;
+    }
+    
+    public int getChunkSize() {
+        return chunkSize;
+    }
+    
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+    
+    /**
+     * Whether the request queries a chunk of the content.
+     *
+     * @return true if chunked query
+     */
+    public boolean isChunked() {
+        return chunkIndex >= 0 && chunkSize > 0;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -89,11 +137,14 @@ public class ConfigQueryChainRequest {
                 && Objects.equals(group, that.group)
                 && Objects.equals(tenant, that.tenant)
                 && Objects.equals(tag, that.tag)
-                && Objects.equals(appLabels, that.appLabels);
+                && Objects.equals(appLabels, that.appLabels)
+                && chunkIndex == that.chunkIndex
+                && Objects.equals(chunkMd5, that.chunkMd5)
+                && chunkSize == that.chunkSize;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(dataId, group, tenant, tag, appLabels);
+        return Objects.hash(dataId, group, tenant, tag, appLabels, chunkIndex, chunkMd5, chunkSize);
     }
 }
\ No newline at end of file
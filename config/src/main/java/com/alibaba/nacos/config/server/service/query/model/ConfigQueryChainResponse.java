@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service.query.model;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.service.query.enums.ResponseCode;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -48,6 +49,16 @@ public class ConfigQueryChainResponse {
     
     private ConfigQueryStatus status;
     
+    /**
+     * Bytes of the queried chunk, null if the whole content is returned.
+     */
+    private byte[] contentChunk;
+    
+    /**
+     * Count of the chunks of content, 0 if the whole content is returned.
+     */
+    private int chunkCount;
+    
     public enum ConfigQueryStatus {
         /**
          * Indicates that the configuration was found and is formal.
@@ -155,6 +166,22 @@ public class ConfigQueryChainResponse {
         this.status = status;
     }
     
+    public byte[] getContentChunk() {
+        return contentChunk;
+    }
+    
+    public void setContentChunk(byte[] contentChunk) {
+        this.contentChunk = contentChunk;
+    }
+    
+    public int getChunkCount() {
+        return chunkCount;
+    }
+    
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+    
     /**
      * Build fail response.
      *
@@ -190,11 +217,14 @@ public class ConfigQueryChainResponse {
                 && Objects.equals(matchedGray, that.matchedGray)
                 && Objects.equals(resultCode, that.resultCode)
                 && Objects.equals(message, that.message)
-                && status == that.status;
+                && status == that.status
+                && chunkCount == that.chunkCount
+                && Arrays.equals(contentChunk, that.contentChunk);
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(content, contentType, encryptedDataKey, md5, lastModified, matchedGray, resultCode, message, status);
+        return Objects.hash(content, contentType, encryptedDataKey, md5, lastModified, matchedGray, resultCode, message, status,
+                chunkCount) * 31 + Arrays.hashCode(contentChunk);
     }
 }
\ No newline at end of file
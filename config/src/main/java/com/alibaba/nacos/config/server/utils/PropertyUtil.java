@@ -108,6 +108,12 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static int correctUsageDelay = 10 * 60;
     
+    /**
+     * Interval of flushing the capacity usage counted in memory to database, the unit is in milliseconds. The usage is
+     * updated to database synchronously if it is not greater than 0.
+     */
+    private static long capacityUsageFlushInterval = 0L;
+    
     private static boolean dumpChangeOn = true;
     
     /**
@@ -269,6 +275,14 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.correctUsageDelay = correctUsageDelay;
     }
     
+    public static long getCapacityUsageFlushInterval() {
+        return capacityUsageFlushInterval;
+    }
+    
+    public static void setCapacityUsageFlushInterval(long capacityUsageFlushInterval) {
+        PropertyUtil.capacityUsageFlushInterval = capacityUsageFlushInterval;
+    }
+    
     public static int getConfigRententionDays() {
         return configRententionDays;
     }
@@ -321,6 +335,8 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDefaultMaxAggrSize(getInt(PropertiesConstant.DEFAULT_MAX_AGGR_SIZE, defaultMaxAggrSize));
             setCorrectUsageDelay(getInt(PropertiesConstant.CORRECT_USAGE_DELAY, correctUsageDelay));
             setInitialExpansionPercent(getInt(PropertiesConstant.INITIAL_EXPANSION_PERCENT, initialExpansionPercent));
+            setCapacityUsageFlushInterval(
+                    getLong(PropertiesConstant.CAPACITY_USAGE_FLUSH_INTERVAL, capacityUsageFlushInterval));
             setConfigRententionDays();
             setDumpChangeOn(getBoolean(PropertiesConstant.DUMP_CHANGE_ON, dumpChangeOn));
             setDumpChangeWorkerInterval(
@@ -155,7 +155,7 @@ class CapacityManagementAspectTest {
         when(configInfoPersistService.findConfigInfo(any(), any(), any())).thenReturn(null);
         when(capacityService.insertAndUpdateClusterUsage(any(), anyBoolean())).thenReturn(true);
         
-        when(capacityService.getTenantCapacity(eq(mockTenant))).thenReturn(null);
+        when(capacityService.getCapacityForLimitCheck(any(), eq(mockTenant))).thenReturn(null);
         when(capacityService.updateTenantUsage(eq(CounterMode.INCREMENT), eq(mockTenant))).thenReturn(true);
         
         MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest();
@@ -182,7 +182,7 @@ class CapacityManagementAspectTest {
         when(configInfoPersistService.findConfigInfo(any(), any(), any())).thenReturn(null);
         when(capacityService.insertAndUpdateClusterUsage(any(), anyBoolean())).thenReturn(true);
         
-        when(capacityService.getGroupCapacity(eq(mockGroup))).thenReturn(null);
+        when(capacityService.getCapacityForLimitCheck(eq(mockGroup), any())).thenReturn(null);
         when(capacityService.updateGroupUsage(eq(CounterMode.INCREMENT), eq(mockGroup))).thenReturn(true);
         
         MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest();
@@ -214,7 +214,7 @@ class CapacityManagementAspectTest {
         localTenantCapacity.setTenant(mockTenant);
         localTenantCapacity.setMaxSize(0);
         localTenantCapacity.setMaxAggrCount(0);
-        when(capacityService.getTenantCapacity(eq(mockTenant))).thenReturn(localTenantCapacity);
+        when(capacityService.getCapacityForLimitCheck(any(), eq(mockTenant))).thenReturn(localTenantCapacity);
         
         MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest();
         MockHttpServletResponse mockHttpServletResponse = new MockHttpServletResponse();
@@ -261,7 +261,7 @@ class CapacityManagementAspectTest {
         localGroupCapacity.setGroup(mockGroup);
         localGroupCapacity.setMaxSize(0);
         localGroupCapacity.setMaxAggrCount(0);
-        when(capacityService.getGroupCapacity(eq(mockGroup))).thenReturn(localGroupCapacity);
+        when(capacityService.getCapacityForLimitCheck(eq(mockGroup), any())).thenReturn(localGroupCapacity);
         
         MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest();
         MockHttpServletResponse mockHttpServletResponse = new MockHttpServletResponse();
@@ -307,7 +307,7 @@ class CapacityManagementAspectTest {
         localTenantCapacity.setTenant(mockTenant);
         localTenantCapacity.setMaxSize(10 * 1024);
         localTenantCapacity.setMaxAggrCount(1024);
-        when(capacityService.getTenantCapacity(eq(mockTenant))).thenReturn(localTenantCapacity);
+        when(capacityService.getCapacityForLimitCheck(any(), eq(mockTenant))).thenReturn(localTenantCapacity);
         
         MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest();
         MockHttpServletResponse mockHttpServletResponse = new MockHttpServletResponse();
@@ -317,7 +317,7 @@ class CapacityManagementAspectTest {
         assertEquals(localMockResult, mockProceedingJoinPointResult);
         Mockito.verify(capacityService, Mockito.times(0)).initTenantCapacity(eq(mockTenant));
         Mockito.verify(capacityService, Mockito.times(0)).updateTenantUsage(eq(CounterMode.INCREMENT), eq(mockTenant));
-        Mockito.verify(capacityService, Mockito.times(1)).getTenantCapacity(eq(mockTenant));
+        Mockito.verify(capacityService, Mockito.times(1)).getCapacityForLimitCheck(any(), eq(mockTenant));
         Mockito.verify(proceedingJoinPoint, Mockito.times(1)).proceed();
     }
     
@@ -338,7 +338,7 @@ class CapacityManagementAspectTest {
         localGroupCapacity.setGroup(mockGroup);
         localGroupCapacity.setMaxSize(10 * 1024);
         localGroupCapacity.setMaxAggrCount(1024);
-        when(capacityService.getGroupCapacity(eq(mockGroup))).thenReturn(localGroupCapacity);
+        when(capacityService.getCapacityForLimitCheck(eq(mockGroup), any())).thenReturn(localGroupCapacity);
         
         MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest();
         MockHttpServletResponse mockHttpServletResponse = new MockHttpServletResponse();
@@ -347,7 +347,7 @@ class CapacityManagementAspectTest {
                 null);
         assertEquals(localMockResult, mockProceedingJoinPointResult);
         Mockito.verify(capacityService, Mockito.times(0)).initGroupCapacity(eq(mockGroup));
-        Mockito.verify(capacityService, Mockito.times(1)).getGroupCapacity(eq(mockGroup));
+        Mockito.verify(capacityService, Mockito.times(1)).getCapacityForLimitCheck(eq(mockGroup), any());
         Mockito.verify(capacityService, Mockito.times(0)).updateGroupUsage(eq(CounterMode.INCREMENT), eq(mockGroup));
         Mockito.verify(proceedingJoinPoint, Mockito.times(1)).proceed();
     }
@@ -371,7 +371,7 @@ class CapacityManagementAspectTest {
         localTenantCapacity.setTenant(mockTenant);
         localTenantCapacity.setMaxSize(10 * 1024);
         localTenantCapacity.setMaxAggrCount(1024);
-        when(capacityService.getTenantCapacity(eq(mockTenant))).thenReturn(localTenantCapacity);
+        when(capacityService.getCapacityForLimitCheck(any(), eq(mockTenant))).thenReturn(localTenantCapacity);
         
         String localMockResult = null;
         MockHttpServletRequest mockHttpServletRequest = new MockHttpServletRequest();
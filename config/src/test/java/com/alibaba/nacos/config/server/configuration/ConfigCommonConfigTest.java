@@ -73,9 +73,13 @@ class ConfigCommonConfigTest {
     void testUpgradeFromEvent() {
         environment.setProperty("nacos.config.push.maxRetryTime", "100");
         environment.setProperty("nacos.config.derby.ops.enabled", "true");
+        environment.setProperty("nacos.config.query.chunk.size", "1024");
+        environment.setProperty("nacos.config.query.chunk.compress.enabled", "false");
         commonConfig.onEvent(ServerConfigChangeEvent.newEvent());
         assertEquals(100, commonConfig.getMaxPushRetryTimes());
         assertTrue(commonConfig.isDerbyOpsEnabled());
+        assertEquals(1024, commonConfig.getQueryChunkSize());
+        assertFalse(commonConfig.isQueryChunkCompressEnabled());
     }
     
     @Test
@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.common.utils.ListenDigest;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.core.utils.StringPool;
@@ -32,6 +33,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -87,4 +89,20 @@ class ConfigChangeBatchListenRequestHandlerTest {
         }
     }
     
-}
\ No newline at end of file
+    @Test
+    void testHandleListenDigest() throws NacosException {
+        String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        requestMeta.setConnectionId("connectionId");
+        configChangeListenContext.addListen(groupKey, "oldMd5", "connectionId");
+        ConfigBatchListenRequest configChangeListenRequest = new ConfigBatchListenRequest();
+        configChangeListenRequest.setListenDigest(new ListenDigest().add(groupKey, "md5").digest());
+        try (MockedStatic<ConfigCacheService> configCacheServiceMockedStatic = Mockito.mockStatic(
+                ConfigCacheService.class)) {
+            configCacheServiceMockedStatic.when(
+                    () -> ConfigCacheService.getContentMd5(eq(groupKey), Mockito.any(), Mockito.any(), Mockito.any()))
+                    .thenReturn("md5", "newMd5");
+            assertTrue(configQueryRequestHandler.handle(configChangeListenRequest, requestMeta).isDigestMatched());
+            assertFalse(configQueryRequestHandler.handle(configChangeListenRequest, requestMeta).isDigestMatched());
+        }
+    }
+}
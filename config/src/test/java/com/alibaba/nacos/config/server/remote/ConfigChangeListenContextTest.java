@@ -23,10 +23,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeListenContextTest {
@@ -70,6 +75,42 @@ class ConfigChangeListenContextTest {
         assertNull(connectionIdAfter);
     }
     
+    @Test
+    void testClearContextRemovesListeners() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId");
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId2");
+        configChangeListenContext.addListen("groupKey2", "md5", "connectionId");
+        configChangeListenContext.clearContextForConnectionId("connectionId");
+        assertEquals(1, configChangeListenContext.getListeners("groupKey").size());
+        assertTrue(configChangeListenContext.getListeners("groupKey").contains("connectionId2"));
+        assertNull(configChangeListenContext.getListeners("groupKey2"));
+        assertEquals(1, configChangeListenContext.getConnectionCount());
+    }
+    
+    @Test
+    void testConcurrentAddAndRemoveListen() throws InterruptedException {
+        int threadCount = 8;
+        int connectionsPerThread = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            final int thread = i;
+            executorService.execute(() -> {
+                for (int j = 0; j < connectionsPerThread; j++) {
+                    String connectionId = thread + "-" + j;
+                    configChangeListenContext.addListen("groupKey", "md5", connectionId);
+                    configChangeListenContext.addListen("groupKey2", "md5", connectionId);
+                    configChangeListenContext.removeListen("groupKey2", connectionId);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        assertEquals(threadCount * connectionsPerThread, configChangeListenContext.getListeners("groupKey").size());
+        assertNull(configChangeListenContext.getListeners("groupKey2"));
+    }
+    
     @Test
     void testGetListenKeys() {
         configChangeListenContext.addListen("groupKey", "md5", "connectionId");
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.config.server.remote;
 
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -33,6 +34,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -47,6 +49,7 @@ import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
@@ -195,4 +198,96 @@ class RpcConfigChangeNotifierTest {
         
     }
     
+    @Test
+    void testCoalescePushes() {
+        final String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        mockConnections(groupKey, "con1");
+        Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class)))
+                .thenReturn(new TpsCheckResponse(true, 200, "success"));
+        MockedStatic<ConfigExecutor> configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
+        try {
+            rpcConfigChangeNotifier.configDataChanged(groupKey, "dataId", "group", "tenant");
+            rpcConfigChangeNotifier.configDataChanged(groupKey, "dataId", "group", "tenant");
+            ArgumentCaptor<RpcConfigChangeNotifier.RpcPushTask> captor = ArgumentCaptor
+                    .forClass(RpcConfigChangeNotifier.RpcPushTask.class);
+            //expect changes before push sent are coalesced.
+            configExecutorMockedStatic.verify(
+                    () -> ConfigExecutor.scheduleClientConfigNotifier(captor.capture(), eq(0L), eq(TimeUnit.SECONDS)),
+                    times(1));
+            captor.getValue().run();
+            Mockito.verify(rpcPushService, times(1)).pushWithCallback(eq("con1"), any(ConfigChangeNotifyRequest.class),
+                    any(RpcConfigChangeNotifier.RpcPushCallback.class), any());
+            //expect change after push sent is pushed again.
+            rpcConfigChangeNotifier.configDataChanged(groupKey, "dataId", "group", "tenant");
+            verifyPushScheduled(configExecutorMockedStatic, 2);
+        } finally {
+            configExecutorMockedStatic.close();
+        }
+    }
+    
+    @Test
+    void testPacedPushes() {
+        final String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        mockConnections(groupKey, "con1", "con2", "con3");
+        MockedStatic<ConfigExecutor> configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
+        int originalRate = ConfigCommonConfig.getInstance().getMaxPushRatePerSecond();
+        ConfigCommonConfig.getInstance().setMaxPushRatePerSecond(20);
+        try {
+            rpcConfigChangeNotifier.configDataChanged(groupKey, "dataId", "group", "tenant");
+            assertEquals(3, rpcConfigChangeNotifier.getPacedPushCount());
+            verifyPushScheduled(configExecutorMockedStatic, 0);
+            //expect 20 pushes per second dispatched 2 pushes every 100 milliseconds.
+            rpcConfigChangeNotifier.dispatchPacedPushes();
+            assertEquals(1, rpcConfigChangeNotifier.getPacedPushCount());
+            verifyPushScheduled(configExecutorMockedStatic, 2);
+            rpcConfigChangeNotifier.dispatchPacedPushes();
+            assertEquals(0, rpcConfigChangeNotifier.getPacedPushCount());
+        } finally {
+            ConfigCommonConfig.getInstance().setMaxPushRatePerSecond(originalRate);
+            configExecutorMockedStatic.close();
+        }
+    }
+    
+    @Test
+    void testPacedPushesBounded() {
+        final String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        mockConnections(groupKey, "con1", "con2", "con3");
+        MockedStatic<ConfigExecutor> configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
+        int originalRate = ConfigCommonConfig.getInstance().getMaxPushRatePerSecond();
+        int originalCount = ConfigCommonConfig.getInstance().getMaxPacedPushCount();
+        ConfigCommonConfig.getInstance().setMaxPushRatePerSecond(20);
+        ConfigCommonConfig.getInstance().setMaxPacedPushCount(2);
+        try {
+            rpcConfigChangeNotifier.configDataChanged(groupKey, "dataId", "group", "tenant");
+            //expect the push over max paced count sent without pacing.
+            assertEquals(2, rpcConfigChangeNotifier.getPacedPushCount());
+            verifyPushScheduled(configExecutorMockedStatic, 1);
+            rpcConfigChangeNotifier.dispatchPacedPushes();
+            assertEquals(0, rpcConfigChangeNotifier.getPacedPushCount());
+            verifyPushScheduled(configExecutorMockedStatic, 3);
+        } finally {
+            ConfigCommonConfig.getInstance().setMaxPushRatePerSecond(originalRate);
+            ConfigCommonConfig.getInstance().setMaxPacedPushCount(originalCount);
+            configExecutorMockedStatic.close();
+        }
+    }
+    
+    private void verifyPushScheduled(MockedStatic<ConfigExecutor> configExecutorMockedStatic, int times) {
+        configExecutorMockedStatic.verify(
+                () -> ConfigExecutor.scheduleClientConfigNotifier(any(RpcConfigChangeNotifier.RpcPushTask.class),
+                        eq(0L), eq(TimeUnit.SECONDS)), times(times));
+    }
+    
+    private void mockConnections(String groupKey, String... connectionIds) {
+        Set<String> mockConnectionIds = new HashSet<>();
+        for (String each : connectionIds) {
+            mockConnectionIds.add(each);
+            GrpcConnection mockConn = Mockito.mock(GrpcConnection.class);
+            Mockito.when(connectionManager.getConnection(eq(each))).thenReturn(mockConn);
+            Mockito.lenient().when(mockConn.getMetaInfo()).thenReturn(
+                    new ConnectionMeta(each, "192.168.0.1", "192.168.0.2", 34567, 9848, "GRPC", "2.2.0", null,
+                            new HashMap<>()));
+        }
+        Mockito.when(configChangeListenContext.getListeners(eq(groupKey))).thenReturn(mockConnectionIds);
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigReadinessCheckServiceTest {
+
+    @Mock
+    private ConfigInfoPersistService configInfoPersistService;
+
+    private MockedStatic<DumpService> dumpServiceMockedStatic;
+
+    private ConfigReadinessCheckService readinessCheckService;
+
+    @BeforeEach
+    void setUp() {
+        dumpServiceMockedStatic = Mockito.mockStatic(DumpService.class);
+        readinessCheckService = new ConfigReadinessCheckService(configInfoPersistService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dumpServiceMockedStatic.close();
+    }
+
+    @Test
+    void testReadinessBeforeStartupDumpFinished() {
+        dumpServiceMockedStatic.when(DumpService::isStartupDumpFinished).thenReturn(false);
+        assertFalse(readinessCheckService.readiness());
+        verify(configInfoPersistService, never()).configInfoCount(anyString());
+    }
+
+    @Test
+    void testReadinessAfterStartupDumpFinished() {
+        dumpServiceMockedStatic.when(DumpService::isStartupDumpFinished).thenReturn(true);
+        when(configInfoPersistService.configInfoCount("")).thenReturn(0);
+        assertTrue(readinessCheckService.readiness());
+        when(configInfoPersistService.configInfoCount("")).thenThrow(new RuntimeException("test"));
+        assertFalse(readinessCheckService.readiness());
+    }
+}
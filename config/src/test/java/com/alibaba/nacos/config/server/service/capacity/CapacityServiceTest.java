@@ -37,6 +37,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -117,6 +119,79 @@ class CapacityServiceTest {
         Mockito.verify(tenantCapacityPersistService, times(1)).correctUsage(eq("testTenant"), any());
     }
     
+    @Test
+    void testUpdateGroupUsageWriteBehind() {
+        PropertyUtil.setCapacityUsageFlushInterval(1000L);
+        try {
+            GroupCapacity groupCapacity = new GroupCapacity();
+            groupCapacity.setGroup("testGroup");
+            groupCapacity.setUsage(1);
+            groupCapacity.setQuota(2);
+            when(groupCapacityPersistService.getGroupCapacity("testGroup")).thenReturn(groupCapacity);
+            
+            assertTrue(service.updateGroupUsage(CounterMode.INCREMENT, "testGroup"));
+            assertFalse(service.updateGroupUsage(CounterMode.INCREMENT, "testGroup"));
+            assertTrue(service.updateGroupUsage(CounterMode.DECREMENT, "testGroup"));
+            assertTrue(service.updateGroupUsage(CounterMode.DECREMENT, "testGroup"));
+            assertFalse(service.updateGroupUsage(CounterMode.DECREMENT, "testGroup"));
+            Mockito.verify(groupCapacityPersistService, times(1)).getGroupCapacity("testGroup");
+            Mockito.verify(groupCapacityPersistService, Mockito.never()).incrementUsageWithDefaultQuotaLimit(any());
+            Mockito.verify(groupCapacityPersistService, Mockito.never()).decrementUsage(any());
+        } finally {
+            PropertyUtil.setCapacityUsageFlushInterval(0L);
+        }
+    }
+    
+    @Test
+    void testInsertAndUpdateGroupUsageWriteBehind() {
+        PropertyUtil.setCapacityUsageFlushInterval(1000L);
+        try {
+            GroupCapacity groupCapacity = new GroupCapacity();
+            groupCapacity.setGroup("testGroup");
+            groupCapacity.setUsage(0);
+            groupCapacity.setQuota(0);
+            groupCapacity.setMaxSize(100);
+            when(groupCapacityPersistService.getGroupCapacity("testGroup")).thenReturn(groupCapacity);
+            
+            for (int i = 0; i < 3; i++) {
+                assertTrue(service.insertAndUpdateGroupUsage(CounterMode.INCREMENT, "testGroup", false));
+                assertEquals(100, service.getCapacityForLimitCheck("testGroup", null).getMaxSize().intValue());
+            }
+            // the existence and limits are read from the ledger after loaded
+            Mockito.verify(groupCapacityPersistService, times(1)).getGroupCapacity("testGroup");
+            Mockito.verify(groupCapacityPersistService, Mockito.never()).insertGroupCapacity(any());
+        } finally {
+            PropertyUtil.setCapacityUsageFlushInterval(0L);
+        }
+    }
+    
+    @Test
+    void testFlushUsage() {
+        PropertyUtil.setCapacityUsageFlushInterval(1000L);
+        try {
+            TenantCapacity tenantCapacity = new TenantCapacity();
+            tenantCapacity.setTenant("testTenant");
+            tenantCapacity.setUsage(0);
+            tenantCapacity.setQuota(0);
+            TenantCapacity corrected = new TenantCapacity();
+            corrected.setTenant("testTenant");
+            corrected.setUsage(1);
+            corrected.setQuota(0);
+            when(tenantCapacityPersistService.getTenantCapacity("testTenant")).thenReturn(tenantCapacity, corrected);
+            
+            assertTrue(service.updateTenantUsage(CounterMode.INCREMENT, "testTenant"));
+            service.flushUsage();
+            Mockito.verify(tenantCapacityPersistService, times(1)).correctUsage(eq("testTenant"), any());
+            Mockito.verify(tenantCapacityPersistService, times(2)).getTenantCapacity("testTenant");
+            
+            // not changed since last flushing, evicted without correcting again
+            service.flushUsage();
+            Mockito.verify(tenantCapacityPersistService, times(1)).correctUsage(eq("testTenant"), any());
+        } finally {
+            PropertyUtil.setCapacityUsageFlushInterval(0L);
+        }
+    }
+    
     @Test
     void testInitAllCapacity() {
         List<String> groupList = new ArrayList<>();
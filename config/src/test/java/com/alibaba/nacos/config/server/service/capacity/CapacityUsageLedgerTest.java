@@ -0,0 +1,131 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.capacity;
+
+import com.alibaba.nacos.config.server.constant.CounterMode;
+import com.alibaba.nacos.config.server.model.capacity.Capacity;
+import com.alibaba.nacos.config.server.model.capacity.TenantCapacity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CapacityUsageLedgerTest {
+    
+    private final CapacityUsageLedger ledger = new CapacityUsageLedger();
+    
+    @Test
+    void testUpdateWithDefaultQuota() {
+        assertTrue(ledger.update(null, "tenant", CounterMode.INCREMENT, false, 1, () -> buildCapacity(0, 0)));
+        assertFalse(ledger.update(null, "tenant", CounterMode.INCREMENT, false, 1, () -> buildCapacity(0, 0)));
+        assertTrue(ledger.update(null, "tenant", CounterMode.INCREMENT, true, 1, () -> buildCapacity(0, 0)));
+        assertEquals(1, ledger.size());
+    }
+    
+    @Test
+    void testUpdateLoadCapacityOnlyIfAbsent() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Supplier<Capacity> loader = () -> {
+            loadCount.incrementAndGet();
+            return buildCapacity(3, 0);
+        };
+        assertTrue(ledger.update("group", null, CounterMode.INCREMENT, false, 10, loader));
+        assertTrue(ledger.update("group", null, CounterMode.DECREMENT, false, 10, loader));
+        assertEquals(1, loadCount.get());
+        assertEquals(3, ledger.collectChangedEntries().get(0).getUsage());
+    }
+    
+    @Test
+    void testCollectChangedEntries() {
+        ledger.update("group", null, CounterMode.INCREMENT, false, 10, () -> buildCapacity(3, 0));
+        ledger.update("group", null, CounterMode.INCREMENT, false, 10, () -> buildCapacity(3, 0));
+        List<CapacityUsageLedger.Entry> entries = ledger.collectChangedEntries();
+        assertEquals(1, entries.size());
+        CapacityUsageLedger.Entry entry = entries.get(0);
+        assertEquals("group", entry.getGroup());
+        assertEquals(2, entry.getDelta());
+        assertEquals(5, entry.getUsage());
+        
+        // the delta is kept if the entry is not committed, such as flushing failed
+        assertEquals(1, ledger.collectChangedEntries().size());
+        entry.commit(buildCapacity(5, 0), 2);
+        assertEquals(0, entry.getDelta());
+        assertEquals(5, entry.getUsage());
+        assertTrue(ledger.collectChangedEntries().isEmpty());
+        assertEquals(0, ledger.size());
+    }
+    
+    @Test
+    void testGetCapacity() {
+        assertNull(ledger.getCapacity("group", null, () -> null));
+        assertEquals(0, ledger.size());
+        Capacity capacity = buildCapacity(3, 0);
+        assertSame(capacity, ledger.getCapacity("group", null, () -> capacity));
+        // loaded only once
+        assertSame(capacity, ledger.getCapacity("group", null, () -> buildCapacity(4, 0)));
+        assertTrue(ledger.update("group", null, CounterMode.INCREMENT, false, 4, () -> buildCapacity(4, 0)));
+        assertFalse(ledger.update("group", null, CounterMode.INCREMENT, false, 4, () -> buildCapacity(4, 0)));
+        
+        Capacity expanded = buildCapacity(3, 10);
+        ledger.refreshLimits("group", null, expanded);
+        assertSame(expanded, ledger.getCapacity("group", null, () -> null));
+        assertTrue(ledger.update("group", null, CounterMode.INCREMENT, false, 4, () -> buildCapacity(4, 0)));
+    }
+    
+    @Test
+    void testUpdateConcurrentlyWithCollecting() throws InterruptedException {
+        final int count = 10000;
+        Thread updater = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                ledger.update("group", null, CounterMode.INCREMENT, true, 0, () -> buildCapacity(0, 0));
+            }
+        });
+        updater.start();
+        int flushed = 0;
+        while (updater.isAlive()) {
+            flushed += commitAll(ledger.collectChangedEntries());
+        }
+        updater.join();
+        flushed += commitAll(ledger.collectChangedEntries());
+        // No update is lost with the evicted entry.
+        assertEquals(count, flushed);
+    }
+    
+    private int commitAll(List<CapacityUsageLedger.Entry> entries) {
+        int result = 0;
+        for (CapacityUsageLedger.Entry each : entries) {
+            int delta = each.getDelta();
+            each.commit(buildCapacity(0, 0), delta);
+            result += delta;
+        }
+        return result;
+    }
+    
+    private Capacity buildCapacity(int usage, int quota) {
+        TenantCapacity capacity = new TenantCapacity();
+        capacity.setUsage(usage);
+        capacity.setQuota(quota);
+        return capacity;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigOffHeapDiskServiceTest {
+    
+    private ConfigOffHeapDiskService diskService;
+    
+    @BeforeEach
+    void setUp() {
+        diskService = new ConfigOffHeapDiskService();
+    }
+    
+    @Test
+    void testSaveAndGetContent() throws IOException {
+        diskService.saveToDisk("dataId", "group", "", "content");
+        diskService.saveToDisk("dataId", "group", "tenant", "tenantContent");
+        assertEquals("content", diskService.getContent("dataId", "group", null));
+        assertEquals("tenantContent", diskService.getContent("dataId", "group", "tenant"));
+        assertNull(diskService.getContent("dataId", "otherGroup", ""));
+        diskService.saveToDisk("dataId", "group", "", "newContent");
+        assertEquals("newContent", diskService.getContent("dataId", "group", ""));
+    }
+    
+    @Test
+    void testCompressLargeContent() throws IOException {
+        String content = buildLargeContent();
+        diskService.saveToDisk("dataId", "group", "", content);
+        assertTrue(diskService.getStoredBytes() < content.length() / 2);
+        assertEquals(content, diskService.getContent("dataId", "group", ""));
+    }
+    
+    @Test
+    void testNotCompressSmallOrRandomContent() throws IOException {
+        assertEquals(1 + "small".length(), ConfigOffHeapDiskService.encode("small").length);
+        StringBuilder random = new StringBuilder();
+        for (int i = 0; i < ConfigOffHeapDiskService.COMPRESS_THRESHOLD_BYTES; i++) {
+            random.append((char) ('一' + i * 7 % 20000));
+        }
+        diskService.saveToDisk("dataId", "group", "", random.toString());
+        assertEquals(random.toString(), diskService.getContent("dataId", "group", ""));
+        // Read again to make sure the shared blocks are not consumed by reading.
+        assertEquals(random.toString(), diskService.getContent("dataId", "group", ""));
+    }
+    
+    @Test
+    void testReadRangeOfCompressedContent() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < ConfigOffHeapDiskService.COMPRESS_BLOCK_BYTES * 3) {
+            builder.append(buildLargeContent());
+        }
+        String content = builder.toString();
+        diskService.saveToDisk("dataId", "group", "", content);
+        assertTrue(diskService.getStoredBytes() < content.length() / 2);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        assertEquals(bytes.length, diskService.getContentLength("dataId", "group", ""));
+        int offset = ConfigOffHeapDiskService.COMPRESS_BLOCK_BYTES - 10;
+        assertArrayEquals(Arrays.copyOfRange(bytes, offset, offset + 100),
+                diskService.readContent("dataId", "group", "", offset, 100));
+        assertArrayEquals(Arrays.copyOfRange(bytes, bytes.length - 5, bytes.length),
+                diskService.readContent("dataId", "group", "", bytes.length - 5, 100));
+        assertEquals(0, diskService.readContent("dataId", "group", "", bytes.length, 100).length);
+        assertEquals(-1L, diskService.getContentLength("dataId", "otherGroup", ""));
+        assertNull(diskService.readContent("dataId", "otherGroup", "", 0, 100));
+    }
+    
+    @Test
+    void testReadRangeOfRawContent() throws IOException {
+        diskService.saveToDisk("dataId", "group", "", "0123456789");
+        assertEquals(10L, diskService.getContentLength("dataId", "group", ""));
+        assertArrayEquals("345".getBytes(StandardCharsets.UTF_8),
+                diskService.readContent("dataId", "group", "", 3L, 3));
+    }
+    
+    @Test
+    void testReuseReleasedBlocks() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            diskService.saveToDisk("dataId", "group", "", buildLargeContent() + i);
+        }
+        long reservedBytes = diskService.getReservedBytes();
+        assertTrue(reservedBytes > 0);
+        for (int i = 0; i < 1000; i++) {
+            diskService.saveToDisk("dataId", "group", "", buildLargeContent() + i);
+        }
+        assertEquals(reservedBytes, diskService.getReservedBytes());
+    }
+    
+    @Test
+    void testAllocateOnHeapWhenExceedMaxBytes() throws IOException {
+        diskService = new ConfigOffHeapDiskService(0L);
+        String content = buildLargeContent();
+        diskService.saveToDisk("dataId", "group", "", content);
+        assertEquals(content, diskService.getContent("dataId", "group", ""));
+        assertEquals(0, diskService.getReservedBytes());
+        diskService.removeConfigInfo("dataId", "group", "");
+        assertEquals(0, diskService.getStoredBytes());
+    }
+    
+    @Test
+    void testGrayContent() throws IOException {
+        diskService.saveGrayToDisk("dataId", "group", "", "beta", "betaContent");
+        diskService.saveGrayToDisk("dataId", "group", "", "tag_a", "tagContent");
+        assertEquals("betaContent", diskService.getGrayContent("dataId", "group", "", "beta"));
+        assertEquals("tagContent", diskService.getGrayContent("dataId", "group", "", "tag_a"));
+        assertNull(diskService.getContent("dataId", "group", ""));
+        diskService.removeConfigInfo4Gray("dataId", "group", "", "beta");
+        assertNull(diskService.getGrayContent("dataId", "group", "", "beta"));
+        diskService.clearAllGray();
+        assertNull(diskService.getGrayContent("dataId", "group", "", "tag_a"));
+    }
+    
+    @Test
+    void testRemoveAndClear() throws IOException {
+        diskService.saveToDisk("dataId1", "group", "", "content1");
+        diskService.saveToDisk("dataId2", "group", "", buildLargeContent());
+        diskService.removeConfigInfo("dataId1", "group", "");
+        assertNull(diskService.getContent("dataId1", "group", ""));
+        assertTrue(diskService.getStoredBytes() > 0);
+        diskService.clearAll();
+        assertNull(diskService.getContent("dataId2", "group", ""));
+        assertEquals(0, diskService.getStoredBytes());
+    }
+    
+    private String buildLargeContent() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            result.append("spring.datasource.pool").append(i).append(".max-active=100\n");
+        }
+        return result.toString();
+    }
+}
@@ -23,10 +23,13 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ConfigRawDiskServiceTest {
@@ -98,4 +101,22 @@ class ConfigRawDiskServiceTest {
         
     }
     
+    @Test
+    void testReadContentByRange() throws Exception {
+        ConfigRawDiskService diskService = new ConfigRawDiskService();
+        String dataId = "testReadContentByRange";
+        String content = "0123456789值";
+        try {
+            diskService.saveToDisk(dataId, "testG", "testNS", content);
+            assertEquals(13L, diskService.getContentLength(dataId, "testG", "testNS"));
+            assertArrayEquals("456".getBytes(StandardCharsets.UTF_8),
+                    diskService.readContent(dataId, "testG", "testNS", 4L, 3));
+            assertArrayEquals("值".getBytes(StandardCharsets.UTF_8),
+                    diskService.readContent(dataId, "testG", "testNS", 10L, 5));
+        } finally {
+            diskService.removeConfigInfo(dataId, "testG", "testNS");
+        }
+        assertEquals(-1L, diskService.getContentLength(dataId, "testG", "testNS"));
+        assertNull(diskService.readContent(dataId, "testG", "testNS", 0L, 3));
+    }
 }
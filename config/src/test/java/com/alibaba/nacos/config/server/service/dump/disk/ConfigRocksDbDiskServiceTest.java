@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigRocksDbDiskServiceTest {
+    
+    @TempDir
+    Path nacosHome;
+    
+    private MockedStatic<EnvUtil> envUtilMockedStatic;
+    
+    private ConfigRocksDbDiskService diskService;
+    
+    @BeforeEach
+    void setUp() {
+        envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
+        envUtilMockedStatic.when(EnvUtil::getNacosHome).thenReturn(nacosHome.toString());
+        diskService = new ConfigRocksDbDiskService();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        diskService.clearAll();
+        diskService.clearAllGray();
+        envUtilMockedStatic.close();
+    }
+    
+    @Test
+    void testReadContentByRange() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "hello你好world");
+        assertEquals(16L, diskService.getContentLength("dataId", "group", "tenant"));
+        assertArrayEquals("你好".getBytes(StandardCharsets.UTF_8),
+                diskService.readContent("dataId", "group", "tenant", 5L, 6));
+        assertArrayEquals("world".getBytes(StandardCharsets.UTF_8),
+                diskService.readContent("dataId", "group", "tenant", 11L, 10));
+        assertEquals(0, diskService.readContent("dataId", "group", "tenant", 16L, 10).length);
+        assertEquals(-1L, diskService.getContentLength("dataId", "otherGroup", "tenant"));
+        assertNull(diskService.readContent("dataId", "otherGroup", "tenant", 0L, 10));
+    }
+    
+    @Test
+    void testReadContentAfterChanged() throws IOException {
+        diskService.saveToDisk("dataId", "group", "", "0123456789");
+        assertArrayEquals("012".getBytes(StandardCharsets.UTF_8),
+                diskService.readContent("dataId", "group", "", 0L, 3));
+        diskService.saveToDisk("dataId", "group", "", "abcdefghij");
+        assertArrayEquals("def".getBytes(StandardCharsets.UTF_8),
+                diskService.readContent("dataId", "group", "", 3L, 3));
+        diskService.removeConfigInfo("dataId", "group", "");
+        assertEquals(-1L, diskService.getContentLength("dataId", "group", ""));
+        assertNull(diskService.readContent("dataId", "group", "", 0L, 3));
+    }
+}
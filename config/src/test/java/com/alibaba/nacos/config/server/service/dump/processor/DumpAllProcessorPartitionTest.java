@@ -0,0 +1,85 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Failure of reading partitions in {@link DumpAllProcessor}, which does not touch the disk unlike
+ * {@link DumpAllProcessorTest}.
+ *
+ * @author Nacos
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DumpAllProcessorPartitionTest {
+    
+    private static final int PAGE_SIZE = 100;
+    
+    private static final int PARTITION_COUNT = 4;
+    
+    @Mock
+    private ConfigInfoPersistService configInfoPersistService;
+    
+    private MockedStatic<PropertyUtil> propertyUtilMockedStatic;
+    
+    private DumpAllProcessor dumpAllProcessor;
+    
+    @BeforeEach
+    void setUp() {
+        propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class);
+        propertyUtilMockedStatic.when(PropertyUtil::getAllDumpPageSize).thenReturn(PAGE_SIZE);
+        dumpAllProcessor = spy(new DumpAllProcessor(configInfoPersistService));
+        // Read in parallel even if there is only one processor.
+        doReturn(PARTITION_COUNT).when(dumpAllProcessor).getPartitionCount(anyLong());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        propertyUtilMockedStatic.close();
+    }
+    
+    @Test
+    void testDumpAllOnStartUpFailedWhenOnePartitionFailed() {
+        when(configInfoPersistService.findConfigMaxId()).thenReturn(PAGE_SIZE * 100L);
+        when(configInfoPersistService.findAllConfigInfoFragment(anyLong(), anyInt(), eq(true))).thenReturn(null);
+        when(configInfoPersistService.findAllConfigInfoFragment(eq(0L), anyInt(), eq(true)))
+                .thenThrow(new IllegalStateException("mock database error"));
+        assertThrows(NacosRuntimeException.class, () -> dumpAllProcessor.process(new DumpAllTask(true)));
+    }
+}
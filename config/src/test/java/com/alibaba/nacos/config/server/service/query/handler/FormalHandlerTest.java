@@ -35,6 +35,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -111,6 +112,68 @@ class FormalHandlerTest {
         assertEquals(ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_FOUND_FORMAL, response.getStatus());
     }
     
+    @Test
+    void handleChunkShouldReturnRangeOfContent() throws IOException {
+        when(cacheItem.getConfigCache()).thenReturn(configCache);
+        when(configCache.getMd5()).thenReturn("mockMd5");
+        when(configDiskService.getContentLength("dataId", "group", "tenant")).thenReturn(25L);
+        when(configDiskService.readContent("dataId", "group", "tenant", 10L, 10)).thenReturn(new byte[10]);
+        
+        ConfigQueryChainRequest request = new ConfigQueryChainRequest();
+        request.setDataId("dataId");
+        request.setGroup("group");
+        request.setTenant("tenant");
+        request.setChunkIndex(1);
+        request.setChunkMd5("mockMd5");
+        request.setChunkSize(10);
+        
+        ConfigQueryChainResponse response = formalHandler.handle(request);
+        
+        assertEquals(3, response.getChunkCount());
+        assertEquals(10, response.getContentChunk().length);
+        assertEquals("mockMd5", response.getMd5());
+        assertEquals(ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_FOUND_FORMAL, response.getStatus());
+    }
+    
+    @Test
+    void handleChunkOfSmallContentShouldReturnWholeContent() throws IOException {
+        when(cacheItem.getConfigCache()).thenReturn(configCache);
+        when(configCache.getMd5()).thenReturn("mockMd5");
+        when(configDiskService.getContentLength("dataId", "group", "tenant")).thenReturn(11L);
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("mockContent");
+        
+        ConfigQueryChainRequest request = new ConfigQueryChainRequest();
+        request.setDataId("dataId");
+        request.setGroup("group");
+        request.setTenant("tenant");
+        request.setChunkIndex(0);
+        request.setChunkSize(20);
+        
+        ConfigQueryChainResponse response = formalHandler.handle(request);
+        
+        assertEquals("mockContent", response.getContent());
+        assertNull(response.getContentChunk());
+        assertEquals(0, response.getChunkCount());
+    }
+    
+    @Test
+    void handleChunkOfChangedContentShouldReturnConflict() throws IOException {
+        when(cacheItem.getConfigCache()).thenReturn(configCache);
+        when(configCache.getMd5()).thenReturn("newMd5");
+        
+        ConfigQueryChainRequest request = new ConfigQueryChainRequest();
+        request.setDataId("dataId");
+        request.setGroup("group");
+        request.setTenant("tenant");
+        request.setChunkIndex(1);
+        request.setChunkMd5("oldMd5");
+        request.setChunkSize(10);
+        
+        ConfigQueryChainResponse response = formalHandler.handle(request);
+        
+        assertEquals(ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_QUERY_CONFLICT, response.getStatus());
+    }
+    
     @Test
     public void testGetName() {
         assertEquals("formalHandler", formalHandler.getName());
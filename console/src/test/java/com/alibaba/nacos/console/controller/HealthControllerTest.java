@@ -17,6 +17,7 @@
 package com.alibaba.nacos.console.controller;
 
 import com.alibaba.nacos.config.server.service.ConfigReadinessCheckService;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.core.cluster.health.ModuleHealthCheckerHolder;
 import com.alibaba.nacos.naming.cluster.NamingReadinessCheckService;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
@@ -50,8 +52,12 @@ class HealthControllerTest {
     @Mock
     private ServerStatusManager serverStatusManager;
     
+    private MockedStatic<DumpService> dumpServiceMockedStatic;
+    
     @BeforeEach
     void setUp() {
+        dumpServiceMockedStatic = Mockito.mockStatic(DumpService.class);
+        dumpServiceMockedStatic.when(DumpService::isStartupDumpFinished).thenReturn(true);
         // auto register to module health checker holder.
         new NamingReadinessCheckService(serverStatusManager);
         new ConfigReadinessCheckService(configInfoPersistService);
@@ -59,6 +65,7 @@ class HealthControllerTest {
     
     @AfterEach
     void tearDown() throws IllegalAccessException, NoSuchFieldException {
+        dumpServiceMockedStatic.close();
         Field moduleHealthCheckersField = ModuleHealthCheckerHolder.class.getDeclaredField("moduleHealthCheckers");
         moduleHealthCheckersField.setAccessible(true);
         ((List) moduleHealthCheckersField.get(ModuleHealthCheckerHolder.getInstance())).clear();
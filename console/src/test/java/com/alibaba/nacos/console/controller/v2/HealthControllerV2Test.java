@@ -18,6 +18,7 @@ package com.alibaba.nacos.console.controller.v2;
 
 import com.alibaba.nacos.api.model.v2.Result;
 import com.alibaba.nacos.config.server.service.ConfigReadinessCheckService;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.core.cluster.health.ModuleHealthCheckerHolder;
 import com.alibaba.nacos.naming.cluster.NamingReadinessCheckService;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -55,8 +57,12 @@ class HealthControllerV2Test {
     @Mock
     private ServerStatusManager serverStatusManager;
     
+    private MockedStatic<DumpService> dumpServiceMockedStatic;
+    
     @BeforeEach
     void setUp() {
+        dumpServiceMockedStatic = Mockito.mockStatic(DumpService.class);
+        dumpServiceMockedStatic.when(DumpService::isStartupDumpFinished).thenReturn(true);
         // auto register to module health checker holder.
         new NamingReadinessCheckService(serverStatusManager);
         new ConfigReadinessCheckService(configInfoPersistService);
@@ -64,6 +70,7 @@ class HealthControllerV2Test {
     
     @AfterEach
     void tearDown() throws IllegalAccessException, NoSuchFieldException {
+        dumpServiceMockedStatic.close();
         Field moduleHealthCheckersField = ModuleHealthCheckerHolder.class.getDeclaredField("moduleHealthCheckers");
         moduleHealthCheckersField.setAccessible(true);
         ((List) moduleHealthCheckersField.get(ModuleHealthCheckerHolder.getInstance())).clear();
@@ -46,12 +46,21 @@ public class DistroModuleStateBuilder implements ModuleStateBuilder {
         moduleState.newState(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS));
+        moduleState.newState(DistroConstants.DATA_VERIFY_BUCKET_COUNT_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_VERIFY_BUCKET_COUNT, Integer.class,
+                        DistroConstants.DEFAULT_DATA_VERIFY_BUCKET_COUNT));
         moduleState.newState(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS));
         moduleState.newState(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS));
+        moduleState.newState(DistroConstants.DATA_LOAD_CHUNK_COUNT_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_LOAD_CHUNK_COUNT, Integer.class,
+                        DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT));
+        moduleState.newState(DistroConstants.DATA_LOAD_PARALLELISM_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_LOAD_PARALLELISM, Integer.class,
+                        DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM));
         return moduleState;
     }
     
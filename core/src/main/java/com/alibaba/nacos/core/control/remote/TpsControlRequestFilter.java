@@ -72,6 +72,7 @@ public class TpsControlRequestFilter extends AbstractRequestFilter {
                 if (StringUtils.isBlank(tpsCheckRequest.getPointName())) {
                     tpsCheckRequest.setPointName(pointName);
                 }
+                fillConnectionInfo(tpsCheckRequest, meta);
                 
                 initTpsControlManager();
                 
@@ -100,6 +101,24 @@ public class TpsControlRequestFilter extends AbstractRequestFilter {
         return null;
     }
     
+    /**
+     * Fill the connection info not set by parser, which are used as monitor keys of tps rule.
+     */
+    private void fillConnectionInfo(TpsCheckRequest tpsCheckRequest, RequestMeta meta) {
+        if (meta == null) {
+            return;
+        }
+        if (StringUtils.isBlank(tpsCheckRequest.getConnectionId())) {
+            tpsCheckRequest.setConnectionId(meta.getConnectionId());
+        }
+        if (StringUtils.isBlank(tpsCheckRequest.getClientIp())) {
+            tpsCheckRequest.setClientIp(meta.getClientIp());
+        }
+        if (tpsCheckRequest.getLabels() == null) {
+            tpsCheckRequest.setLabels(meta.getAppLabels());
+        }
+    }
+    
     private void initTpsControlManager() {
         if (tpsControlManager == null) {
             tpsControlManager = ControlManagerCenter.getInstance().getTpsControlManager();
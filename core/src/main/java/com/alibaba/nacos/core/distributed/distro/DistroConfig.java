@@ -40,10 +40,16 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long verifyTimeoutMillis = DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS;
     
+    private int verifyBucketCount = DistroConstants.DEFAULT_DATA_VERIFY_BUCKET_COUNT;
+    
     private long loadDataRetryDelayMillis = DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS;
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private int loadDataChunkCount = DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT;
+    
+    private int loadDataParallelism = DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -61,10 +67,16 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS);
         verifyTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS);
+        verifyBucketCount = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_BUCKET_COUNT, Integer.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_BUCKET_COUNT);
         loadDataRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        loadDataChunkCount = EnvUtil.getProperty(DistroConstants.DATA_LOAD_CHUNK_COUNT, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT);
+        loadDataParallelism = EnvUtil.getProperty(DistroConstants.DATA_LOAD_PARALLELISM, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM);
     }
     
     public static DistroConfig getInstance() {
@@ -111,6 +123,14 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.verifyTimeoutMillis = verifyTimeoutMillis;
     }
     
+    public int getVerifyBucketCount() {
+        return verifyBucketCount;
+    }
+    
+    public void setVerifyBucketCount(int verifyBucketCount) {
+        this.verifyBucketCount = verifyBucketCount;
+    }
+    
     public long getLoadDataRetryDelayMillis() {
         return loadDataRetryDelayMillis;
     }
@@ -127,11 +147,29 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public int getLoadDataChunkCount() {
+        return loadDataChunkCount;
+    }
+    
+    public void setLoadDataChunkCount(int loadDataChunkCount) {
+        this.loadDataChunkCount = loadDataChunkCount;
+    }
+    
+    public int getLoadDataParallelism() {
+        return loadDataParallelism;
+    }
+    
+    public void setLoadDataParallelism(int loadDataParallelism) {
+        this.loadDataParallelism = loadDataParallelism;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
                 + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
-                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
-                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + '}';
+                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", verifyBucketCount=" + verifyBucketCount
+                + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis + ", loadDataTimeoutMillis="
+                + loadDataTimeoutMillis + ", loadDataChunkCount=" + loadDataChunkCount + ", loadDataParallelism="
+                + loadDataParallelism + '}';
     }
 }
@@ -55,6 +55,12 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS = 3000L;
     
+    public static final String DATA_VERIFY_BUCKET_COUNT = "nacos.core.protocol.distro.data.verify.bucketCount";
+    
+    public static final String DATA_VERIFY_BUCKET_COUNT_STATE = "data_verify_bucketCount";
+    
+    public static final int DEFAULT_DATA_VERIFY_BUCKET_COUNT = 0;
+    
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.load.retryDelayMs";
     
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE = "data_load_retryDelayMs";
@@ -67,4 +73,16 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_CHUNK_COUNT = "nacos.core.protocol.distro.data.load.chunkCount";
+    
+    public static final String DATA_LOAD_CHUNK_COUNT_STATE = "data_load_chunkCount";
+    
+    public static final int DEFAULT_DATA_LOAD_CHUNK_COUNT = 16;
+    
+    public static final String DATA_LOAD_PARALLELISM = "nacos.core.protocol.distro.data.load.parallelism";
+    
+    public static final String DATA_LOAD_PARALLELISM_STATE = "data_load_parallelism";
+    
+    public static final int DEFAULT_DATA_LOAD_PARALLELISM = 4;
+    
 }
@@ -26,15 +26,19 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
 import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
 import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadDataTask;
+import com.alibaba.nacos.core.distributed.distro.task.verify.DistroVerifyExecuteTask;
 import com.alibaba.nacos.core.distributed.distro.task.verify.DistroVerifyTimedTask;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Distro protocol.
  *
@@ -135,6 +139,22 @@ public class DistroProtocol {
         }
     }
     
+    /**
+     * Start to verify data to target server.
+     *
+     * @param resourceType resource type of verify data
+     * @param verifyData   verify data
+     * @param targetServer target server
+     */
+    public void verifyToTarget(String resourceType, List<DistroData> verifyData, String targetServer) {
+        DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(resourceType);
+        if (null == transportAgent || verifyData.isEmpty()) {
+            return;
+        }
+        distroTaskEngineHolder.getExecuteWorkersManager().addTask(targetServer + resourceType,
+                new DistroVerifyExecuteTask(transportAgent, verifyData, targetServer, resourceType));
+    }
+    
     /**
      * Query data from specified server.
      *
@@ -224,4 +244,22 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query one chunk of datum snapshot.
+     *
+     * @param type       datum type
+     * @param chunk      chunk index
+     * @param chunkCount total count of chunks
+     * @return datum of the chunk
+     */
+    public DistroData onSnapshot(String type, int chunk, int chunkCount) {
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (null == distroDataStorage) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data storage for received key {}", type);
+            return new DistroData(new DistroKey(new DistroSnapshotChunk(chunk, chunkCount).toResourceKey(), type),
+                    new byte[0]);
+        }
+        return distroDataStorage.getDatumSnapshot(chunk, chunkCount);
+    }
 }
@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 
 import java.util.List;
 
@@ -57,6 +58,20 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get one chunk of distro datum snapshot.
+     *
+     * <p>The resource key of returned data should be {@link DistroSnapshotChunk#toResourceKey()} of the chunk. The
+     * default implementation returns the whole snapshot, which is loaded as all chunks.
+     *
+     * @param chunk      chunk index, from 0 to {@code chunkCount - 1}
+     * @param chunkCount total count of chunks
+     * @return datum of the chunk
+     */
+    default DistroData getDatumSnapshot(int chunk, int chunkCount) {
+        return getDatumSnapshot();
+    }
+    
     /**
      * Get verify datum.
      *
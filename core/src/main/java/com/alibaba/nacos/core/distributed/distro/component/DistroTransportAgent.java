@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 
 /**
  * Distro transport agent.
@@ -89,4 +90,20 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Get one chunk of datum snapshot from target server.
+     *
+     * <p>The default implementation gets the whole snapshot. The target server might also return the whole snapshot
+     * if it does not support chunk, which can be distinguished by {@link DistroSnapshotChunk#parse(String)} of the
+     * resource key of returned data.
+     *
+     * @param targetServer target server.
+     * @param chunk        chunk index
+     * @param chunkCount   total count of chunks
+     * @return distro data
+     */
+    default DistroData getDatumSnapshot(String targetServer, int chunk, int chunkCount) {
+        return getDatumSnapshot(targetServer);
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+/**
+ * Chunk of distro snapshot.
+ *
+ * <p>The snapshot is split into {@code chunkCount} chunks by the storage, such as hashing the resource key, the chunk
+ * is carried as the resource key of {@link DistroKey} in both request and response.
+ *
+ * @author Nacos
+ */
+public class DistroSnapshotChunk {
+    
+    private static final String CHUNK_KEY_PREFIX = "snapshot-chunk@";
+    
+    private static final String SEPARATOR = "/";
+    
+    private static final int KEY_PARTS = 2;
+    
+    private final int chunk;
+    
+    private final int chunkCount;
+    
+    public DistroSnapshotChunk(int chunk, int chunkCount) {
+        this.chunk = chunk;
+        this.chunkCount = chunkCount;
+    }
+    
+    public int getChunk() {
+        return chunk;
+    }
+    
+    public int getChunkCount() {
+        return chunkCount;
+    }
+    
+    public String toResourceKey() {
+        return CHUNK_KEY_PREFIX + chunk + SEPARATOR + chunkCount;
+    }
+    
+    /**
+     * Parse chunk from resource key of distro key.
+     *
+     * @param resourceKey resource key
+     * @return chunk, or {@code null} if the resource key is not a chunk, which means the whole snapshot
+     */
+    public static DistroSnapshotChunk parse(String resourceKey) {
+        if (null == resourceKey || !resourceKey.startsWith(CHUNK_KEY_PREFIX)) {
+            return null;
+        }
+        String[] parts = resourceKey.substring(CHUNK_KEY_PREFIX.length()).split(SEPARATOR);
+        if (parts.length != KEY_PARTS) {
+            return null;
+        }
+        try {
+            return new DistroSnapshotChunk(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "DistroSnapshotChunk{" + "chunk=" + chunk + ", chunkCount=" + chunkCount + '}';
+    }
+}
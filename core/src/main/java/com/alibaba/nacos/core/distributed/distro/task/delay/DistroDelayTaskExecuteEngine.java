@@ -17,8 +17,9 @@
 package com.alibaba.nacos.core.distributed.distro.task.delay;
 
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
-import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
+import com.alibaba.nacos.common.task.engine.TimingWheelDelayTaskExecuteEngine;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.utils.Loggers;
 
 /**
@@ -26,10 +27,11 @@ import com.alibaba.nacos.core.utils.Loggers;
  *
  * @author xiweng.yy
  */
-public class DistroDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
+public class DistroDelayTaskExecuteEngine extends TimingWheelDelayTaskExecuteEngine {
     
     public DistroDelayTaskExecuteEngine() {
         super(DistroDelayTaskExecuteEngine.class.getName(), Loggers.DISTRO);
+        MetricsMonitor.registerDelayTaskEngine("core", DistroDelayTaskExecuteEngine.class.getSimpleName(), this);
     }
     
     @Override
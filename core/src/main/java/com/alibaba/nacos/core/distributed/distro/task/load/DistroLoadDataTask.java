@@ -24,11 +24,21 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -48,6 +58,8 @@ public class DistroLoadDataTask implements Runnable {
     
     private final Map<String, Boolean> loadCompletedMap;
     
+    private final Map<String, ChunkProgress> chunkProgressMap;
+    
     public DistroLoadDataTask(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
             DistroConfig distroConfig, DistroCallback loadCallback) {
         this.memberManager = memberManager;
@@ -55,6 +67,7 @@ public class DistroLoadDataTask implements Runnable {
         this.distroConfig = distroConfig;
         this.loadCallback = loadCallback;
         loadCompletedMap = new HashMap<>(1);
+        chunkProgressMap = new HashMap<>(1);
     }
     
     @Override
@@ -89,7 +102,7 @@ public class DistroLoadDataTask implements Runnable {
         }
     }
     
-    private boolean loadAllDataSnapshotFromRemote(String resourceType) {
+    private boolean loadAllDataSnapshotFromRemote(String resourceType) throws InterruptedException {
         DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(resourceType);
         DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(resourceType);
         if (null == transportAgent || null == dataProcessor) {
@@ -97,6 +110,17 @@ public class DistroLoadDataTask implements Runnable {
                     resourceType, transportAgent, dataProcessor);
             return false;
         }
+        int chunkCount = distroConfig.getLoadDataChunkCount();
+        boolean result = chunkCount > 0 ? loadSnapshotByChunks(resourceType, transportAgent, dataProcessor, chunkCount)
+                : loadWholeSnapshot(resourceType, transportAgent, dataProcessor);
+        if (result) {
+            distroComponentHolder.findDataStorage(resourceType).finishInitial();
+        }
+        return result;
+    }
+    
+    private boolean loadWholeSnapshot(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor) {
         for (Member each : memberManager.allMembersWithoutSelf()) {
             long startTime = System.currentTimeMillis();
             try {
@@ -110,7 +134,6 @@ public class DistroLoadDataTask implements Runnable {
                         .info("[DISTRO-INIT] load snapshot {} from {} result: {}", resourceType, each.getAddress(),
                                 result);
                 if (result) {
-                    distroComponentHolder.findDataStorage(resourceType).finishInitial();
                     return true;
                 }
             } catch (Exception e) {
@@ -120,6 +143,53 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    /**
+     * Load snapshot by chunks from all other members in parallel.
+     *
+     * <p>Each chunk is loaded from the member selected by the chunk index first, and then the next members if failed.
+     * The loaded chunks are recorded, so that only the failed chunks are loaded again in the next retry. A member which
+     * does not support chunk returns the whole snapshot, so the first request to each member is sent one by one as a
+     * probe, and the other loaders stop before requesting once a whole snapshot is loaded.
+     */
+    private boolean loadSnapshotByChunks(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor, int chunkCount) throws InterruptedException {
+        ChunkProgress progress = chunkProgressMap.compute(resourceType,
+                (key, value) -> null == value || value.chunkCount != chunkCount ? new ChunkProgress(chunkCount)
+                        : value);
+        Queue<Integer> pendingChunks = new ConcurrentLinkedQueue<>(progress.getPendingChunks());
+        List<Member> members = new ArrayList<>(memberManager.allMembersWithoutSelf());
+        int parallelism = Math.max(1, Math.min(distroConfig.getLoadDataParallelism(), pendingChunks.size()));
+        Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} by {} chunks with parallelism {}, pending chunks: {}",
+                resourceType, chunkCount, parallelism, pendingChunks.size());
+        List<Future<?>> futures = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            futures.add(GlobalExecutor.submitLoadDataChunkTask(
+                    new ChunkLoader(resourceType, transportAgent, dataProcessor, progress, members, pendingChunks)));
+        }
+        for (Future<?> each : futures) {
+            try {
+                each.get();
+            } catch (ExecutionException e) {
+                Loggers.DISTRO.error("[DISTRO-INIT] load snapshot {} chunks failed.", resourceType, e.getCause());
+            }
+        }
+        updateChunkMetrics();
+        Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} chunks progress: {}/{}", resourceType,
+                progress.getLoadedCount(), chunkCount);
+        return progress.isCompleted();
+    }
+    
+    private void updateChunkMetrics() {
+        int total = 0;
+        int loaded = 0;
+        for (ChunkProgress each : chunkProgressMap.values()) {
+            total += each.chunkCount;
+            loaded += each.getLoadedCount();
+        }
+        MetricsMonitor.getDistroLoadChunkTotal().set(total);
+        MetricsMonitor.getDistroLoadChunkLoaded().set(loaded);
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
@@ -135,4 +205,165 @@ public class DistroLoadDataTask implements Runnable {
         }
         return true;
     }
+    
+    private static class ChunkLoader implements Runnable {
+        
+        private final String resourceType;
+        
+        private final DistroTransportAgent transportAgent;
+        
+        private final DistroDataProcessor dataProcessor;
+        
+        private final ChunkProgress progress;
+        
+        private final List<Member> members;
+        
+        private final Queue<Integer> pendingChunks;
+        
+        private ChunkLoader(String resourceType, DistroTransportAgent transportAgent, DistroDataProcessor dataProcessor,
+                ChunkProgress progress, List<Member> members, Queue<Integer> pendingChunks) {
+            this.resourceType = resourceType;
+            this.transportAgent = transportAgent;
+            this.dataProcessor = dataProcessor;
+            this.progress = progress;
+            this.members = members;
+            this.pendingChunks = pendingChunks;
+        }
+        
+        @Override
+        public void run() {
+            for (Integer chunk = pendingChunks.poll(); null != chunk; chunk = pendingChunks.poll()) {
+                loadChunk(chunk);
+            }
+        }
+        
+        private void loadChunk(int chunk) {
+            for (int i = 0; i < members.size(); i++) {
+                if (progress.isCompleted()) {
+                    return;
+                }
+                String address = members.get((chunk + i) % members.size()).getAddress();
+                if (loadChunkFromMember(address, chunk)) {
+                    return;
+                }
+            }
+            Loggers.DISTRO.warn("[DISTRO-INIT] load snapshot {} chunk {}/{} failed from all members, retry later.",
+                    resourceType, chunk, progress.chunkCount);
+        }
+        
+        private boolean loadChunkFromMember(String address, int chunk) {
+            if (progress.chunkMembers.contains(address)) {
+                return doLoadChunkFromMember(address, chunk);
+            }
+            // Probe the member not known to support chunk one by one, at most one whole snapshot is loaded at once.
+            synchronized (progress.probeLock) {
+                if (progress.isCompleted()) {
+                    return true;
+                }
+                return doLoadChunkFromMember(address, chunk);
+            }
+        }
+        
+        private boolean doLoadChunkFromMember(String address, int chunk) {
+            long startTime = System.currentTimeMillis();
+            try {
+                DistroData distroData = transportAgent.getDatumSnapshot(address, chunk, progress.chunkCount);
+                DistroSnapshotChunk loadedChunk = parseChunk(distroData);
+                if (null != loadedChunk) {
+                    progress.chunkMembers.add(address);
+                }
+                if (null != loadedChunk && !isExpectedChunk(loadedChunk, chunk)) {
+                    Loggers.DISTRO.warn("[DISTRO-INIT] load snapshot {} chunk {}/{} from {} but got {}.", resourceType,
+                            chunk, progress.chunkCount, address, loadedChunk);
+                    return false;
+                }
+                // The member returns whole snapshot if it does not support chunk, which needn't be processed twice.
+                if (null == loadedChunk && progress.isCompleted()) {
+                    return true;
+                }
+                boolean result = dataProcessor.processSnapshot(distroData);
+                long costTime = System.currentTimeMillis() - startTime;
+                Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} chunk {}/{} from {}, size: {}, "
+                                + "whole snapshot: {}, result: {}", costTime, resourceType, chunk, progress.chunkCount,
+                        address, getDistroDataLength(distroData), null == loadedChunk, result);
+                if (!result) {
+                    return false;
+                }
+                MetricsMonitor.getDistroLoadChunkTimer().record(costTime, TimeUnit.MILLISECONDS);
+                if (null == loadedChunk) {
+                    progress.completeAll();
+                } else {
+                    progress.complete(chunk);
+                }
+                return true;
+            } catch (Exception e) {
+                Loggers.DISTRO.error("[DISTRO-INIT] load snapshot {} chunk {}/{} from {} failed.", resourceType, chunk,
+                        progress.chunkCount, address, e);
+                return false;
+            }
+        }
+        
+        private DistroSnapshotChunk parseChunk(DistroData distroData) {
+            if (null == distroData || null == distroData.getDistroKey()) {
+                return null;
+            }
+            return DistroSnapshotChunk.parse(distroData.getDistroKey().getResourceKey());
+        }
+        
+        private boolean isExpectedChunk(DistroSnapshotChunk loadedChunk, int chunk) {
+            return loadedChunk.getChunk() == chunk && loadedChunk.getChunkCount() == progress.chunkCount;
+        }
+    }
+    
+    /**
+     * Loaded chunks of one resource type, which is kept between retries.
+     */
+    private static class ChunkProgress {
+        
+        private final int chunkCount;
+        
+        private final Set<Integer> loadedChunks = ConcurrentHashMap.newKeySet();
+        
+        /**
+         * Members which returned chunk, the other members might return whole snapshot.
+         */
+        private final Set<String> chunkMembers = ConcurrentHashMap.newKeySet();
+        
+        private final Object probeLock = new Object();
+        
+        private volatile boolean wholeLoaded;
+        
+        private ChunkProgress(int chunkCount) {
+            this.chunkCount = chunkCount;
+        }
+        
+        private List<Integer> getPendingChunks() {
+            List<Integer> result = new ArrayList<>(chunkCount);
+            if (wholeLoaded) {
+                return result;
+            }
+            for (int i = 0; i < chunkCount; i++) {
+                if (!loadedChunks.contains(i)) {
+                    result.add(i);
+                }
+            }
+            return result;
+        }
+        
+        private void complete(int chunk) {
+            loadedChunks.add(chunk);
+        }
+        
+        private void completeAll() {
+            wholeLoaded = true;
+        }
+        
+        private int getLoadedCount() {
+            return wholeLoaded ? chunkCount : loadedChunks.size();
+        }
+        
+        private boolean isCompleted() {
+            return getLoadedCount() >= chunkCount;
+        }
+    }
 }
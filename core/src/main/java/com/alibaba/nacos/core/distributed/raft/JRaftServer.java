@@ -142,6 +142,8 @@ public class JRaftServer {
     
     private int rpcRequestTimeoutMs;
     
+    private String readConsistency;
+    
     public JRaftServer() {
         this.conf = new Configuration();
     }
@@ -170,6 +172,8 @@ public class JRaftServer {
         rpcRequestTimeoutMs = ConvertUtils.toInt(raftConfig.getVal(RaftSysConstants.RAFT_RPC_REQUEST_TIMEOUT_MS),
                 RaftSysConstants.DEFAULT_RAFT_RPC_REQUEST_TIMEOUT_MS);
         
+        readConsistency = parseReadConsistency(raftConfig);
+        
         nodeOptions.setSharedElectionTimer(true);
         nodeOptions.setSharedVoteTimer(true);
         nodeOptions.setSharedStepDownTimer(true);
@@ -282,22 +286,27 @@ public class JRaftServer {
         }
         final Node node = tuple.node;
         final RequestProcessor processor = tuple.processor;
+        if (RaftSysConstants.READ_CONSISTENCY_STALE.equals(readConsistency)) {
+            MetricsMonitor.raftReadStale();
+            readFromLocal(request, processor, future);
+            return future;
+        }
         try {
             node.readIndex(BytesUtil.EMPTY_BYTES, new ReadIndexClosure() {
                 @Override
                 public void run(Status status, long index, byte[] reqCtx) {
                     if (status.isOk()) {
-                        try {
-                            Response response = processor.onRequest(request);
-                            future.complete(response);
-                        } catch (Throwable t) {
-                            MetricsMonitor.raftReadIndexFailed();
-                            future.completeExceptionally(new ConsistencyException(
-                                    "The conformance protocol is temporarily unavailable for reading", t));
-                        }
+                        MetricsMonitor.raftReadLocal();
+                        readFromLocal(request, processor, future);
                         return;
                     }
                     MetricsMonitor.raftReadIndexFailed();
+                    if (RaftSysConstants.READ_CONSISTENCY_PREFER_LINEARIZABLE.equals(readConsistency)) {
+                        Loggers.RAFT.warn("ReadIndex has error : {}, go to local stale read.", status.getErrorMsg());
+                        MetricsMonitor.raftReadStale();
+                        readFromLocal(request, processor, future);
+                        return;
+                    }
                     Loggers.RAFT.error("ReadIndex has error : {}, go to Leader read.", status.getErrorMsg());
                     MetricsMonitor.raftReadFromLeader();
                     readFromLeader(request, future);
@@ -313,6 +322,29 @@ public class JRaftServer {
         }
     }
     
+    private void readFromLocal(final ReadRequest request, final RequestProcessor processor,
+            final CompletableFuture<Response> future) {
+        try {
+            Response response = processor.onRequest(request);
+            future.complete(response);
+        } catch (Throwable t) {
+            MetricsMonitor.raftReadIndexFailed();
+            future.completeExceptionally(
+                    new ConsistencyException("The conformance protocol is temporarily unavailable for reading", t));
+        }
+    }
+    
+    private static String parseReadConsistency(RaftConfig config) {
+        String val = config.getValOfDefault(RaftSysConstants.RAFT_READ_CONSISTENCY,
+                RaftSysConstants.DEFAULT_READ_CONSISTENCY);
+        if (RaftSysConstants.READ_CONSISTENCY_LINEARIZABLE.equals(val)
+                || RaftSysConstants.READ_CONSISTENCY_PREFER_LINEARIZABLE.equals(val)
+                || RaftSysConstants.READ_CONSISTENCY_STALE.equals(val)) {
+            return val;
+        }
+        throw new IllegalArgumentException("Illegal Raft system parameters => read_consistency : [" + val + "]");
+    }
+    
     public void readFromLeader(final ReadRequest request, final CompletableFuture<Response> future) {
         commit(request.getGroup(), request, future);
     }
@@ -46,6 +46,26 @@ public final class RaftSysConstants {
      */
     public static final String DEFAULT_READ_INDEX_TYPE = "ReadOnlySafe";
     
+    /**
+     * Read by read index, and read from leader if read index failed.
+     */
+    public static final String READ_CONSISTENCY_LINEARIZABLE = "linearizable";
+    
+    /**
+     * Read by read index, and read from local if read index failed.
+     */
+    public static final String READ_CONSISTENCY_PREFER_LINEARIZABLE = "prefer_linearizable";
+    
+    /**
+     * Read from local directly, the data may be stale.
+     */
+    public static final String READ_CONSISTENCY_STALE = "stale";
+    
+    /**
+     * {@link RaftSysConstants#RAFT_READ_CONSISTENCY}
+     */
+    public static final String DEFAULT_READ_CONSISTENCY = READ_CONSISTENCY_LINEARIZABLE;
+    
     /**
      * {@link RaftSysConstants#RAFT_RPC_REQUEST_TIMEOUT_MS}
      */
@@ -162,6 +182,11 @@ public final class RaftSysConstants {
      */
     public static final String RAFT_READ_INDEX_TYPE = "read_index_type";
     
+    /**
+     * raft read consistency, defaults to linearizable
+     */
+    public static final String RAFT_READ_CONSISTENCY = "read_consistency";
+    
     /**
      * rpc request timeout, default 5 seconds
      */
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.monitor;
 
+import com.alibaba.nacos.common.notify.RingBufferPublisher;
+import com.alibaba.nacos.common.task.engine.TimingWheelDelayTaskExecuteEngine;
 import com.alibaba.nacos.common.utils.StringUtils;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.ImmutableTag;
@@ -26,10 +28,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Arrays;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
 
 /**
  * The Metrics center.
@@ -44,87 +48,124 @@ public final class MetricsMonitor {
     
     private static final DistributionSummary RAFT_FROM_LEADER;
     
+    private static final DistributionSummary RAFT_READ_LOCAL;
+    
+    private static final DistributionSummary RAFT_READ_STALE;
+    
     private static final Timer RAFT_APPLY_LOG_TIMER;
     
     private static final Timer RAFT_APPLY_READ_TIMER;
     
+    private static final Timer DISTRO_LOAD_CHUNK_TIMER;
+    
+    private static AtomicInteger distroLoadChunkTotal = new AtomicInteger();
+    
+    private static AtomicInteger distroLoadChunkLoaded = new AtomicInteger();
+    
     private static AtomicInteger longConnection = new AtomicInteger();
-
+    
     private static GrpcServerExecutorMetric sdkServerExecutorMetric = new GrpcServerExecutorMetric("grpcSdkServer");
-
+    
     private static GrpcServerExecutorMetric clusterServerExecutorMetric = new GrpcServerExecutorMetric("grpcClusterServer");
-
+    
     private static Map<String, AtomicInteger> moduleConnectionCnt = new ConcurrentHashMap<>();
-
+    
+    private static Set<String> ringBufferPublisherTopics = ConcurrentHashMap.newKeySet();
+    
     static {
         ImmutableTag immutableTag = new ImmutableTag("module", "core");
         List<Tag> tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "raft_read_index_failed"));
         RAFT_READ_INDEX_FAILED = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", tags);
-    
+        
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "raft_read_from_leader"));
         RAFT_FROM_LEADER = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", tags);
-    
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "raft_read_local"));
+        RAFT_READ_LOCAL = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", tags);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "raft_read_stale"));
+        RAFT_READ_STALE = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", tags);
+        
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "raft_apply_log_timer"));
         RAFT_APPLY_LOG_TIMER = NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_monitor", tags);
-    
+        
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "raft_apply_read_timer"));
         RAFT_APPLY_READ_TIMER = NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_monitor", tags);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "distro_load_chunk_timer"));
+        DISTRO_LOAD_CHUNK_TIMER = NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_monitor", tags);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "distro_load_chunk_total"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, distroLoadChunkTotal);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "distro_load_chunk_loaded"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, distroLoadChunkLoaded);
+        
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "longConnection"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, longConnection);
-
+        
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("type", sdkServerExecutorMetric.getType()));
         initGrpcServerExecutorMetric(tags, sdkServerExecutorMetric);
-
+        
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("type", clusterServerExecutorMetric.getType()));
         initGrpcServerExecutorMetric(tags, clusterServerExecutorMetric);
     }
-
+    
     private static void initGrpcServerExecutorMetric(List<Tag> tags, GrpcServerExecutorMetric metric) {
         List<Tag> snapshotTags = new ArrayList<>();
         snapshotTags.add(new ImmutableTag("name", "activeCount"));
         snapshotTags.addAll(tags);
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "grpc_server_executor", snapshotTags, metric.getActiveCount());
-
+        
         snapshotTags = new ArrayList<>();
         snapshotTags.add(new ImmutableTag("name", "poolSize"));
         snapshotTags.addAll(tags);
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "grpc_server_executor", snapshotTags, metric.getPoolSize());
-
+        
         snapshotTags = new ArrayList<>();
         snapshotTags.add(new ImmutableTag("name", "corePoolSize"));
         snapshotTags.addAll(tags);
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "grpc_server_executor", snapshotTags, metric.getCorePoolSize());
-
+        
         snapshotTags = new ArrayList<>();
         snapshotTags.add(new ImmutableTag("name", "maximumPoolSize"));
         snapshotTags.addAll(tags);
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "grpc_server_executor", snapshotTags, metric.getMaximumPoolSize());
-
+        
         snapshotTags = new ArrayList<>();
         snapshotTags.add(new ImmutableTag("name", "inQueueTaskCount"));
         snapshotTags.addAll(tags);
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "grpc_server_executor", snapshotTags, metric.getInQueueTaskCount());
-
+        
         snapshotTags = new ArrayList<>();
         snapshotTags.add(new ImmutableTag("name", "taskCount"));
         snapshotTags.addAll(tags);
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "grpc_server_executor", snapshotTags, metric.getTaskCount());
-
+        
         snapshotTags = new ArrayList<>();
         snapshotTags.add(new ImmutableTag("name", "completedTaskCount"));
         snapshotTags.addAll(tags);
@@ -143,6 +184,14 @@ public final class MetricsMonitor {
         RAFT_FROM_LEADER.record(1);
     }
     
+    public static void raftReadLocal() {
+        RAFT_READ_LOCAL.record(1);
+    }
+    
+    public static void raftReadStale() {
+        RAFT_READ_STALE.record(1);
+    }
+    
     public static Timer getRaftApplyLogTimer() {
         return RAFT_APPLY_LOG_TIMER;
     }
@@ -151,6 +200,18 @@ public final class MetricsMonitor {
         return RAFT_APPLY_READ_TIMER;
     }
     
+    public static Timer getDistroLoadChunkTimer() {
+        return DISTRO_LOAD_CHUNK_TIMER;
+    }
+    
+    public static AtomicInteger getDistroLoadChunkTotal() {
+        return distroLoadChunkTotal;
+    }
+    
+    public static AtomicInteger getDistroLoadChunkLoaded() {
+        return distroLoadChunkLoaded;
+    }
+    
     public static DistributionSummary getRaftReadIndexFailed() {
         return RAFT_READ_INDEX_FAILED;
     }
@@ -158,91 +219,99 @@ public final class MetricsMonitor {
     public static DistributionSummary getRaftFromLeader() {
         return RAFT_FROM_LEADER;
     }
-
+    
+    public static DistributionSummary getRaftReadLocal() {
+        return RAFT_READ_LOCAL;
+    }
+    
+    public static DistributionSummary getRaftReadStale() {
+        return RAFT_READ_STALE;
+    }
+    
     public static GrpcServerExecutorMetric getSdkServerExecutorMetric() {
         return sdkServerExecutorMetric;
     }
-
+    
     public static GrpcServerExecutorMetric getClusterServerExecutorMetric() {
         return clusterServerExecutorMetric;
     }
-
+    
     public static class GrpcServerExecutorMetric {
-
+        
         private String type;
-
+        
         /**
          * cout of thread are running job.
          */
         private AtomicInteger activeCount = new AtomicInteger();
-
+        
         /**
          * core thread count.
          */
         private AtomicInteger corePoolSize = new AtomicInteger();
-
+        
         /**
          * current thread count.
          */
         private AtomicInteger poolSize = new AtomicInteger();
-
+        
         /**
          * max thread count.
          */
         private AtomicInteger maximumPoolSize = new AtomicInteger();
-
+        
         /**
          * task count in queue.
          */
         private AtomicInteger inQueueTaskCount = new AtomicInteger();
-
+        
         /**
          * completed task count.
          */
         private AtomicLong completedTaskCount = new AtomicLong();
-
+        
         /**
          * task count.
          */
         private AtomicLong taskCount = new AtomicLong();
-
+        
         private GrpcServerExecutorMetric(String type) {
             this.type = type;
         }
-
+        
         public AtomicInteger getActiveCount() {
             return activeCount;
         }
-
+        
         public AtomicInteger getCorePoolSize() {
             return corePoolSize;
         }
-
+        
         public AtomicInteger getPoolSize() {
             return poolSize;
         }
-
+        
         public AtomicInteger getMaximumPoolSize() {
             return maximumPoolSize;
         }
-
+        
         public AtomicInteger getInQueueTaskCount() {
             return inQueueTaskCount;
         }
-
+        
         public AtomicLong getCompletedTaskCount() {
             return completedTaskCount;
         }
-
+        
         public AtomicLong getTaskCount() {
             return taskCount;
         }
-
+        
         public String getType() {
             return type;
         }
     }
-
+    
     /**
      * refresh all module connection count.
      *
@@ -275,7 +344,7 @@ public final class MetricsMonitor {
             cnt.set(0);
         });
     }
-
+    
     /**
      * getter.
      *
@@ -284,7 +353,60 @@ public final class MetricsMonitor {
     public static Map<String, AtomicInteger> getModuleConnectionCnt() {
         return moduleConnectionCnt;
     }
-
+    
+    /**
+     * Register the backlog, lag and counts of ring buffer publisher as gauges, each topic is registered only once.
+     *
+     * @param topic     topic of publisher
+     * @param publisher ring buffer publisher
+     */
+    public static void registerRingBufferPublisher(String topic, RingBufferPublisher publisher) {
+        if (!ringBufferPublisherTopics.add(topic)) {
+            return;
+        }
+        List<Tag> tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "core"));
+        tags.add(new ImmutableTag("topic", topic));
+        registerGauge("notify_publisher", tags, "backlog", publisher, RingBufferPublisher::currentEventSize);
+        registerGauge("notify_publisher", tags, "lagMillis", publisher,
+                each -> TimeUnit.NANOSECONDS.toMillis(each.getLastLagNanos()));
+        registerGauge("notify_publisher", tags, "maxLagMillis", publisher,
+                each -> TimeUnit.NANOSECONDS.toMillis(each.getMaxLagNanos()));
+        registerGauge("notify_publisher", tags, "publishedCount", publisher, RingBufferPublisher::getPublishedCount);
+        registerGauge("notify_publisher", tags, "synchronizedCount", publisher,
+                RingBufferPublisher::getSynchronizedCount);
+    }
+    
+    /**
+     * Register the pending tasks, due lag and merge counts of timing wheel delay task engine as gauges.
+     *
+     * @param module module of engine
+     * @param name   name of engine
+     * @param engine timing wheel delay task engine
+     */
+    public static void registerDelayTaskEngine(String module, String name, TimingWheelDelayTaskExecuteEngine engine) {
+        List<Tag> tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", module));
+        tags.add(new ImmutableTag("engine", name));
+        registerGauge("delay_task_engine", tags, "pendingTaskCount", engine, TimingWheelDelayTaskExecuteEngine::size);
+        registerGauge("delay_task_engine", tags, "lastDueLagMillis", engine,
+                TimingWheelDelayTaskExecuteEngine::getLastDueLagMillis);
+        registerGauge("delay_task_engine", tags, "maxDueLagMillis", engine,
+                TimingWheelDelayTaskExecuteEngine::getMaxDueLagMillis);
+        registerGauge("delay_task_engine", tags, "addedTaskCount", engine,
+                TimingWheelDelayTaskExecuteEngine::getAddedTaskCount);
+        registerGauge("delay_task_engine", tags, "mergedTaskCount", engine,
+                TimingWheelDelayTaskExecuteEngine::getMergedTaskCount);
+    }
+    
+    private static <T> void registerGauge(String name, List<Tag> tags, String valueName, T obj,
+            ToDoubleFunction<T> valueFunction) {
+        List<Tag> snapshotTags = new ArrayList<>();
+        snapshotTags.add(new ImmutableTag("name", valueName));
+        snapshotTags.addAll(tags);
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, name, snapshotTags, obj, valueFunction);
+    }
+    
     /**
      * record request event.
      *
@@ -0,0 +1,55 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.monitor;
+
+import com.alibaba.nacos.common.notify.EventPublisher;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.RingBufferPublisher;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Used to register metrics of ring buffer publishers, which are created lazily by {@link NotifyCenter}.
+ *
+ * @author Nacos
+ */
+@Component
+public class NotifyPublisherMonitor implements SchedulingConfigurer {
+    
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        Boolean enabled = EnvUtil.getProperty("nacos.metric.notify.publisher.enabled", Boolean.class, true);
+        if (!enabled) {
+            return;
+        }
+        taskRegistrar.addFixedRateTask(new IntervalTask(NotifyPublisherMonitor::registerRingBufferPublishers,
+                Integer.parseInt(EnvUtil.getProperty("nacos.metric.notify.publisher.interval", "15000")), 1000L));
+    }
+    
+    static void registerRingBufferPublishers() {
+        for (Map.Entry<String, EventPublisher> entry : NotifyCenter.getPublisherMap().entrySet()) {
+            if (entry.getValue() instanceof RingBufferPublisher) {
+                MetricsMonitor.registerRingBufferPublisher(entry.getKey(), (RingBufferPublisher) entry.getValue());
+            }
+        }
+    }
+}
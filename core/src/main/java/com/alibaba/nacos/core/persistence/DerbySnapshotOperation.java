@@ -79,20 +79,27 @@ public class DerbySnapshotOperation implements SnapshotOperation {
         this.writeLock = writeLock;
     }
     
+    /**
+     * Save snapshot.
+     *
+     * <p>The write lock is only held while derby backups the database, which freezes the data at the snapshot index.
+     * Compression and checksum of the backup files are done after the lock is released, so that applying logs is not
+     * blocked by them.
+     *
+     * @param writer      snapshot writer
+     * @param callFinally callback
+     */
     @Override
     public void onSnapshotSave(Writer writer, BiConsumer<Boolean, Throwable> callFinally) {
         PersistenceExecutor.executeSnapshot(() -> {
             TimerContext.start(DERBY_SNAPSHOT_SAVE);
-            
-            final Lock lock = writeLock;
-            lock.lock();
             try {
                 final String writePath = writer.getPath();
                 final String parentPath = Paths.get(writePath, snapshotDir).toString();
                 DiskUtils.deleteDirectory(parentPath);
                 DiskUtils.forceMkdir(parentPath);
                 
-                doDerbyBackup(parentPath);
+                doDerbyBackupWithLock(parentPath);
                 
                 final String outputFile = Paths.get(writePath, snapshotArchive).toString();
                 final Checksum checksum = new CRC64();
@@ -108,19 +115,25 @@ public class DerbySnapshotOperation implements SnapshotOperation {
                         writer.listFiles(), t);
                 callFinally.accept(false, t);
             } finally {
-                lock.unlock();
                 TimerContext.end(DERBY_SNAPSHOT_SAVE, LOGGER);
             }
         });
     }
     
+    /**
+     * Load snapshot.
+     *
+     * <p>The archive is decompressed and verified before the write lock is held, the lock is only held while the
+     * database is restored.
+     *
+     * @param reader snapshot reader
+     * @return true if load success
+     */
     @Override
     public boolean onSnapshotLoad(Reader reader) {
         final String readerPath = reader.getPath();
         final String sourceFile = Paths.get(readerPath, snapshotArchive).toString();
         TimerContext.start(DERBY_SNAPSHOT_LOAD);
-        final Lock lock = writeLock;
-        lock.lock();
         try {
             final Checksum checksum = new CRC64();
             DiskUtils.decompress(sourceFile, readerPath, checksum);
@@ -136,14 +149,20 @@ public class DerbySnapshotOperation implements SnapshotOperation {
             final String loadPath = Paths.get(readerPath, snapshotDir, PersistenceConstant.DERBY_BASE_DIR).toString();
             LOGGER.info("snapshot load from : {}, and copy to : {}", loadPath, derbyBaseDir);
             
-            doDerbyRestoreFromBackup(() -> {
-                final File srcDir = new File(loadPath);
-                final File destDir = new File(derbyBaseDir);
-                
-                DiskUtils.copyDirectory(srcDir, destDir);
-                LOGGER.info("Complete database recovery");
-                return null;
-            });
+            final Lock lock = writeLock;
+            lock.lock();
+            try {
+                doDerbyRestoreFromBackup(() -> {
+                    final File srcDir = new File(loadPath);
+                    final File destDir = new File(derbyBaseDir);
+                    
+                    DiskUtils.copyDirectory(srcDir, destDir);
+                    LOGGER.info("Complete database recovery");
+                    return null;
+                });
+            } finally {
+                lock.unlock();
+            }
             DiskUtils.deleteDirectory(loadPath);
             NotifyCenter.publishEvent(DerbyLoadEvent.INSTANCE);
             return true;
@@ -151,11 +170,23 @@ public class DerbySnapshotOperation implements SnapshotOperation {
             LOGGER.error("Fail to load snapshot, path={}, file list={}, {}.", readerPath, reader.listFiles(), t);
             return false;
         } finally {
-            lock.unlock();
             TimerContext.end(DERBY_SNAPSHOT_LOAD, LOGGER);
         }
     }
     
+    private void doDerbyBackupWithLock(String backupDirectory) throws Exception {
+        final Lock lock = writeLock;
+        lock.lock();
+        final long start = System.currentTimeMillis();
+        try {
+            doDerbyBackup(backupDirectory);
+        } finally {
+            lock.unlock();
+            LOGGER.info("derby backup to {} held the write lock for {} ms", backupDirectory,
+                    System.currentTimeMillis() - start);
+        }
+    }
+    
     private void doDerbyBackup(String backupDirectory) throws Exception {
         DataSourceService sourceService = DynamicDataSource.getInstance().getDataSource();
         DataSource dataSource = sourceService.getJdbcTemplate().getDataSource();
@@ -39,7 +39,9 @@ import com.alibaba.nacos.consistency.entity.WriteRequest;
 import com.alibaba.nacos.consistency.exception.ConsistencyException;
 import com.alibaba.nacos.consistency.snapshot.SnapshotOperation;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.core.config.RaftModuleStateBuilder;
 import com.alibaba.nacos.core.distributed.ProtocolManager;
+import com.alibaba.nacos.core.distributed.raft.RaftSysConstants;
 import com.alibaba.nacos.core.utils.ClassUtils;
 import com.alibaba.nacos.persistence.configuration.condition.ConditionDistributedEmbedStorage;
 import com.alibaba.nacos.persistence.constants.PersistenceConstant;
@@ -70,8 +72,11 @@ import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -80,6 +85,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -175,6 +181,10 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
     
     private final SqlLimiter sqlLimiter;
     
+    private EmbeddedStorageGroupCommitter groupCommitter;
+    
+    private long groupCommitTimeoutMs;
+    
     public DistributedDatabaseOperateImpl(ServerMemberManager memberManager, ProtocolManager protocolManager)
             throws Exception {
         this.memberManager = memberManager;
@@ -212,9 +222,26 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         });
         
         this.protocol.addRequestProcessors(Collections.singletonList(this));
+        if (EmbeddedStorageGroupCommitter.isEnabled()) {
+            this.groupCommitTimeoutMs = RaftModuleStateBuilder.stringToInt(RaftSysConstants.RAFT_RPC_REQUEST_TIMEOUT_MS,
+                    RaftSysConstants.DEFAULT_RAFT_RPC_REQUEST_TIMEOUT_MS);
+            this.groupCommitter = new EmbeddedStorageGroupCommitter(group(), serializer,
+                    request -> protocol.writeAsync(request));
+            LOGGER.info("group commit of embedded storage is enabled");
+        }
         LOGGER.info("use DistributedTransactionServicesImpl");
     }
     
+    /**
+     * Shutdown the group committer, the writes not committed yet are failed.
+     */
+    @PreDestroy
+    public void destroy() {
+        if (null != groupCommitter) {
+            groupCommitter.shutdown();
+        }
+    }
+    
     @JustForTest
     public void mockConsistencyProtocol(CPProtocol protocol) {
         this.protocol = protocol;
@@ -439,14 +466,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
                     .putAllExtendInfo(EmbeddedStorageContextHolder.getCurrentExtendInfo())
                     .setType(sqlContext.getClass().getCanonicalName()).build();
             if (Objects.isNull(consumer)) {
-                Response response = this.protocol.write(request);
+                Response response = null == groupCommitter ? this.protocol.write(request)
+                        : groupCommitter.submit(request).get(groupCommitTimeoutMs, TimeUnit.MILLISECONDS);
                 if (response.getSuccess()) {
                     return true;
                 }
                 LOGGER.error("execute sql modify operation failed : {}", response.getErrMsg());
                 return false;
             } else {
-                this.protocol.writeAsync(request).whenComplete((BiConsumer<Response, Throwable>) (response, ex) -> {
+                CompletableFuture<Response> future =
+                        null == groupCommitter ? this.protocol.writeAsync(request) : groupCommitter.submit(request);
+                future.whenComplete((BiConsumer<Response, Throwable>) (response, ex) -> {
                     String errMsg = Objects.isNull(ex) ? response.getErrMsg() : ExceptionUtil.getCause(ex).getMessage();
                     consumer.accept(response.getSuccess(),
                             StringUtils.isBlank(errMsg) ? null : new NJdbcException(errMsg));
@@ -523,6 +553,9 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         final Lock lock = readLock;
         lock.lock();
         try {
+            if (log.containsExtendInfo(EmbeddedStorageGroupCommitter.GROUP_COMMIT_KEY)) {
+                return onApplyGroupCommit(log);
+            }
             List<ModifyRequest> sqlContext = serializer.deserialize(byteString.toByteArray(), List.class);
             sqlLimiter.doLimitForModifyRequest(sqlContext);
             boolean isOk = false;
@@ -557,6 +590,68 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         }
     }
     
+    /**
+     * Apply the coalesced log in one transaction, each request is isolated by a savepoint so that the result of each
+     * request is the same as it is applied alone.
+     */
+    private Response onApplyGroupCommit(WriteRequest log) throws Exception {
+        final List<WriteRequest> requests = EmbeddedStorageGroupCommitter.parseRequests(serializer, log);
+        final List<Response> responses = new ArrayList<>(requests.size());
+        final List<WriteRequest> appliedRequests = new ArrayList<>(requests.size());
+        transactionTemplate.execute(status -> {
+            for (WriteRequest each : requests) {
+                responses.add(applyInSavepoint(status, each, appliedRequests));
+            }
+            return Boolean.TRUE;
+        });
+        PersistenceExecutor.executeEmbeddedDump(() -> {
+            for (WriteRequest request : appliedRequests) {
+                for (EmbeddedApplyHook each : EmbeddedApplyHookHolder.getInstance().getAllHooks()) {
+                    each.afterApply(request);
+                }
+            }
+        });
+        return EmbeddedStorageGroupCommitter.buildResponse(serializer, responses);
+    }
+    
+    private Response applyInSavepoint(TransactionStatus status, WriteRequest request,
+            List<WriteRequest> appliedRequests) {
+        final Object savepoint = status.createSavepoint();
+        String errSql = null;
+        try {
+            List<ModifyRequest> sqlContext = serializer.deserialize(request.getData().toByteArray(), List.class);
+            sqlLimiter.doLimitForModifyRequest(sqlContext);
+            sqlContext.sort(Comparator.comparingInt(ModifyRequest::getExecuteNo));
+            for (ModifyRequest each : sqlContext) {
+                errSql = each.getSql();
+                int row = jdbcTemplate.update(each.getSql(), each.getArgs());
+                if (each.isRollBackOnUpdateFail() && row < 1) {
+                    throw new IllegalTransactionStateException("Illegal transaction");
+                }
+            }
+            status.releaseSavepoint(savepoint);
+            appliedRequests.add(request);
+            return Response.newBuilder().setSuccess(true).build();
+        } catch (IllegalTransactionStateException e) {
+            LoggerUtils.printIfDebugEnabled(LOGGER, "Roll back transaction for {} ", e.getMessage());
+            status.rollbackToSavepoint(savepoint);
+            appliedRequests.add(request);
+            return Response.newBuilder().setSuccess(false).build();
+        } catch (BadSqlGrammarException | DataIntegrityViolationException e) {
+            // Keep the same as applying alone, the executed sql before the error sql are not rolled back.
+            LOGGER.error("[db-error] sql : {}, error : {}", errSql, e.toString());
+            status.releaseSavepoint(savepoint);
+            appliedRequests.add(request);
+            return Response.newBuilder().setSuccess(false).build();
+        } catch (DataAccessException e) {
+            throw e;
+        } catch (Exception e) {
+            LoggerUtils.printIfWarnEnabled(LOGGER, "onApply warn : log : {}", request, e);
+            status.rollbackToSavepoint(savepoint);
+            return Response.newBuilder().setSuccess(false).setErrMsg(e.toString()).build();
+        }
+    }
+    
     @Override
     public void onError(Throwable throwable) {
         // Trigger reversion strategy
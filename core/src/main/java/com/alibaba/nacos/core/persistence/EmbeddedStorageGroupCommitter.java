@@ -0,0 +1,275 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Group committer of embedded storage.
+ *
+ * <p>Concurrent write requests are coalesced into one raft log within {@link #WINDOW_PROPERTY} milliseconds or
+ * {@link #MAX_SIZE_PROPERTY} requests, the log is applied in one transaction and the response of each request is
+ * carried back in the response of the log.
+ *
+ * <p>It is disabled by default, because the node of old version can't apply the coalesced log, enable it by
+ * {@link #ENABLED_PROPERTY} after all nodes of the cluster are upgraded.
+ *
+ * @author Nacos
+ */
+public class EmbeddedStorageGroupCommitter {
+    
+    public static final String ENABLED_PROPERTY = "nacos.persistence.embedded.group.commit.enabled";
+    
+    public static final String WINDOW_PROPERTY = "nacos.persistence.embedded.group.commit.window.ms";
+    
+    public static final String MAX_SIZE_PROPERTY = "nacos.persistence.embedded.group.commit.max.size";
+    
+    /**
+     * Extend info key of the coalesced log.
+     */
+    public static final String GROUP_COMMIT_KEY = "00--0-group-commit-0--00";
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddedStorageGroupCommitter.class);
+    
+    private static final long DEFAULT_WINDOW_MS = 2L;
+    
+    private static final int DEFAULT_MAX_SIZE = 64;
+    
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    
+    private final String group;
+    
+    private final Serializer serializer;
+    
+    private final Function<WriteRequest, CompletableFuture<Response>> writer;
+    
+    private final long windowMs;
+    
+    private final int maxSize;
+    
+    private final ExecutorService executor;
+    
+    private volatile boolean shutdown;
+    
+    public EmbeddedStorageGroupCommitter(String group, Serializer serializer,
+            Function<WriteRequest, CompletableFuture<Response>> writer) {
+        this(group, serializer, writer, EnvUtil.getProperty(WINDOW_PROPERTY, Long.class, DEFAULT_WINDOW_MS),
+                EnvUtil.getProperty(MAX_SIZE_PROPERTY, Integer.class, DEFAULT_MAX_SIZE));
+    }
+    
+    EmbeddedStorageGroupCommitter(String group, Serializer serializer,
+            Function<WriteRequest, CompletableFuture<Response>> writer, long windowMs, int maxSize) {
+        this.group = group;
+        this.serializer = serializer;
+        this.writer = writer;
+        this.windowMs = Math.max(0L, windowMs);
+        this.maxSize = Math.max(1, maxSize);
+        this.executor = ExecutorFactory.Managed.newSingleExecutorService(
+                EmbeddedStorageGroupCommitter.class.getCanonicalName(),
+                new NameThreadFactory("com.alibaba.nacos.core.persistence.group.commit"));
+        this.executor.execute(this::run);
+    }
+    
+    public static boolean isEnabled() {
+        return EnvUtil.getProperty(ENABLED_PROPERTY, Boolean.class, false);
+    }
+    
+    /**
+     * Submit write request, which is committed with other requests in the window.
+     *
+     * @param request write request
+     * @return future of the response of this request
+     */
+    public CompletableFuture<Response> submit(WriteRequest request) {
+        PendingWrite pendingWrite = new PendingWrite(request);
+        queue.offer(pendingWrite);
+        // not drained by shutdown if offered after it.
+        if (shutdown && queue.remove(pendingWrite)) {
+            pendingWrite.future.completeExceptionally(new IllegalStateException("Group committer is shutdown"));
+        }
+        return pendingWrite.future;
+    }
+    
+    /**
+     * Shutdown the committer, the requests not committed are failed.
+     */
+    public void shutdown() {
+        shutdown = true;
+        executor.shutdownNow();
+        List<PendingWrite> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (PendingWrite each : rest) {
+            each.future.completeExceptionally(new IllegalStateException("Group committer is shutdown"));
+        }
+    }
+    
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                commit(collect());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                LOGGER.error("[group-commit] unexpected error", e);
+            }
+        }
+    }
+    
+    private List<PendingWrite> collect() throws InterruptedException {
+        List<PendingWrite> batch = new ArrayList<>();
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+        while (batch.size() < maxSize) {
+            queue.drainTo(batch, maxSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxSize || remaining <= 0) {
+                break;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (null == next) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+    
+    void commit(List<PendingWrite> batch) {
+        if (1 == batch.size()) {
+            // Single request is committed as it is, no need to be coalesced.
+            PendingWrite pendingWrite = batch.get(0);
+            write(pendingWrite.request).whenComplete((response, ex) -> {
+                if (null != ex) {
+                    pendingWrite.future.completeExceptionally(ex);
+                } else {
+                    pendingWrite.future.complete(response);
+                }
+            });
+            return;
+        }
+        List<byte[]> entries = new ArrayList<>(batch.size());
+        for (PendingWrite each : batch) {
+            entries.add(each.request.toByteArray());
+        }
+        WriteRequest request = WriteRequest.newBuilder().setGroup(group).setKey(batch.get(0).request.getKey())
+                .setData(ByteString.copyFrom(serializer.serialize(entries)))
+                .putExtendInfo(GROUP_COMMIT_KEY, Boolean.TRUE.toString()).build();
+        write(request).whenComplete((response, ex) -> complete(batch, response, ex));
+    }
+    
+    private CompletableFuture<Response> write(WriteRequest request) {
+        try {
+            return writer.apply(request);
+        } catch (Throwable e) {
+            CompletableFuture<Response> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+    }
+    
+    private void complete(List<PendingWrite> batch, Response response, Throwable ex) {
+        if (null != ex) {
+            batch.forEach(each -> each.future.completeExceptionally(ex));
+            return;
+        }
+        if (!response.getSuccess()) {
+            batch.forEach(each -> each.future.complete(response));
+            return;
+        }
+        try {
+            List<Response> responses = parseResponses(response);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(responses.get(i));
+            }
+        } catch (Throwable e) {
+            LOGGER.error("[group-commit] parse response of coalesced log failed", e);
+            batch.forEach(each -> each.future.completeExceptionally(e));
+        }
+    }
+    
+    /**
+     * Parse the requests of coalesced log.
+     *
+     * @param serializer serializer
+     * @param log        coalesced log
+     * @return requests in the log
+     * @throws InvalidProtocolBufferException if the log is broken
+     */
+    public static List<WriteRequest> parseRequests(Serializer serializer, WriteRequest log)
+            throws InvalidProtocolBufferException {
+        List<byte[]> entries = serializer.deserialize(log.getData().toByteArray(), List.class);
+        List<WriteRequest> result = new ArrayList<>(entries.size());
+        for (byte[] each : entries) {
+            result.add(WriteRequest.parseFrom(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Build the response of coalesced log.
+     *
+     * @param serializer serializer
+     * @param responses  responses of each request in the log
+     * @return response of the log
+     */
+    public static Response buildResponse(Serializer serializer, List<Response> responses) {
+        List<byte[]> entries = new ArrayList<>(responses.size());
+        for (Response each : responses) {
+            entries.add(each.toByteArray());
+        }
+        return Response.newBuilder().setSuccess(true).setData(ByteString.copyFrom(serializer.serialize(entries)))
+                .build();
+    }
+    
+    private List<Response> parseResponses(Response response) throws InvalidProtocolBufferException {
+        List<byte[]> entries = serializer.deserialize(response.getData().toByteArray(), List.class);
+        List<Response> result = new ArrayList<>(entries.size());
+        for (byte[] each : entries) {
+            result.add(Response.parseFrom(each));
+        }
+        return result;
+    }
+    
+    static class PendingWrite {
+        
+        private final WriteRequest request;
+        
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+        
+        PendingWrite(WriteRequest request) {
+            this.request = request;
+        }
+    }
+}
@@ -16,7 +16,13 @@
 
 package com.alibaba.nacos.core.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.Requester;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 
 import java.util.Map;
 
@@ -63,6 +69,19 @@ public abstract class Connection implements Requester {
         return this.abilityTable;
     }
     
+    /**
+     * Get codec to encode the request pushed by this connection. The pre-encoded body of request should be encoded by
+     * the same codec.
+     *
+     * @param requestType class of request
+     * @return binary codec if client supports it for the request, otherwise json codec
+     */
+    public PayloadCodec getPayloadCodec(Class<?> requestType) {
+        boolean clientSupportsBinary = null != abilityTable && Boolean.TRUE
+                .equals(abilityTable.get(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD.getName()));
+        return PayloadCodecManager.selectCodec(requestType, clientSupportsBinary);
+    }
+    
     /**
      * check is connected.
      *
@@ -70,6 +89,19 @@ public abstract class Connection implements Requester {
      */
     public abstract boolean isConnected();
     
+    /**
+     * Send request async with pre-encoded request body, default ignore the pre-encoded body.
+     *
+     * @param request         request.
+     * @param preEncodedBody  pre-encoded request body without request id, nullable.
+     * @param requestCallBack callback of request.
+     * @throws NacosException exception throw.
+     */
+    public void asyncRequest(Request request, byte[] preEncodedBody, RequestCallBack requestCallBack)
+            throws NacosException {
+        asyncRequest(request, requestCallBack);
+    }
+    
     /**
      * Update last Active Time to now.
      */
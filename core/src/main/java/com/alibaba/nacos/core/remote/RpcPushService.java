@@ -49,10 +49,23 @@ public class RpcPushService {
      */
     public void pushWithCallback(String connectionId, ServerRequest request, PushCallBack requestCallBack,
             Executor executor) {
+        pushWithCallback(connectionId, request, null, requestCallBack, executor);
+    }
+    
+    /**
+     * push response with pre-encoded request body, the body can be shared by pushes to different connections.
+     *
+     * @param connectionId    connectionId.
+     * @param request         request.
+     * @param preEncodedBody  pre-encoded request body without request id, nullable.
+     * @param requestCallBack requestCallBack.
+     */
+    public void pushWithCallback(String connectionId, ServerRequest request, byte[] preEncodedBody,
+            PushCallBack requestCallBack, Executor executor) {
         Connection connection = connectionManager.getConnection(connectionId);
         if (connection != null) {
             try {
-                connection.asyncRequest(request, new AbstractRequestCallBack(requestCallBack.getTimeout()) {
+                connection.asyncRequest(request, preEncodedBody, new AbstractRequestCallBack(requestCallBack.getTimeout()) {
                     
                     @Override
                     public Executor getExecutor() {
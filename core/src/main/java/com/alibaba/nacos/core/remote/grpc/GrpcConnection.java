@@ -25,6 +25,7 @@ import com.alibaba.nacos.api.remote.RequestFuture;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
 import com.alibaba.nacos.core.remote.Connection;
@@ -69,12 +70,25 @@ public class GrpcConnection extends Connection {
      * @throws NacosException NacosException
      */
     public void sendRequestNoAck(Request request) throws NacosException {
+        sendRequestNoAck(request, null);
+    }
+    
+    /**
+     * send request without ack.
+     *
+     * @param request        request data.
+     * @param preEncodedBody pre-encoded request body without request id, nullable.
+     * @throws NacosException NacosException
+     */
+    public void sendRequestNoAck(Request request, byte[] preEncodedBody) throws NacosException {
         sendQueueBlockCheck();
         Future<Boolean> executeFuture = this.channel.eventLoop().submit(() -> {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 try {
-                    Payload payload = GrpcUtils.convert(request);
+                    PayloadCodec codec = getPayloadCodec(request.getClass());
+                    Payload payload = null == preEncodedBody ? GrpcUtils.convert(request, codec)
+                            : GrpcUtils.convert(request, codec, preEncodedBody);
                     traceIfNecessary(payload);
                     streamObserver.onNext(payload);
                     return true;
@@ -142,6 +156,11 @@ public class GrpcConnection extends Connection {
     }
     
     private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack) throws NacosException {
+        return sendRequestInner(request, null, callBack);
+    }
+    
+    private DefaultRequestFuture sendRequestInner(Request request, byte[] preEncodedBody, RequestCallBack callBack)
+            throws NacosException {
         final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
         request.setRequestId(requestId);
         
@@ -149,7 +168,7 @@ public class GrpcConnection extends Connection {
                 callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId));
         
         RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture);
-        sendRequestNoAck(request);
+        sendRequestNoAck(request, preEncodedBody);
         return defaultPushFuture;
     }
     
@@ -175,6 +194,12 @@ public class GrpcConnection extends Connection {
         sendRequestInner(request, requestCallBack);
     }
     
+    @Override
+    public void asyncRequest(Request request, byte[] preEncodedBody, RequestCallBack requestCallBack)
+            throws NacosException {
+        sendRequestInner(request, preEncodedBody, requestCallBack);
+    }
+    
     @Override
     public void close() {
         String connectionId = null;
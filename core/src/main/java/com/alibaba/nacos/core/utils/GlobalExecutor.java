@@ -21,6 +21,8 @@ import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.utils.ThreadFactoryBuilder;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -42,6 +44,10 @@ public class GlobalExecutor {
             .newScheduledExecutorService(ClassUtils.getCanonicalName(GlobalExecutor.class),
                     EnvUtil.getAvailableProcessors(2), new NameThreadFactory("com.alibaba.nacos.core.protocal.distro"));
     
+    private static final ExecutorService DISTRO_LOAD_EXECUTOR = ExecutorFactory.Managed
+            .newFixedExecutorService(ClassUtils.getCanonicalName(GlobalExecutor.class),
+                    EnvUtil.getAvailableProcessors(), new NameThreadFactory("com.alibaba.nacos.core.protocal.distro.load"));
+    
     public static final ThreadPoolExecutor sdkRpcExecutor = new ThreadPoolExecutor(
             EnvUtil.getAvailableProcessors(RemoteUtils.getRemoteExecutorTimesOfProcessors()),
             EnvUtil.getAvailableProcessors(RemoteUtils.getRemoteExecutorTimesOfProcessors()), 60L, TimeUnit.SECONDS,
@@ -80,6 +86,10 @@ public class GlobalExecutor {
         DISTRO_EXECUTOR.schedule(runnable, delay, TimeUnit.MILLISECONDS);
     }
     
+    public static Future<?> submitLoadDataChunkTask(Runnable runnable) {
+        return DISTRO_LOAD_EXECUTOR.submit(runnable);
+    }
+    
     public static void schedulePartitionDataTimedSync(Runnable runnable, long interval) {
         DISTRO_EXECUTOR.scheduleWithFixedDelay(runnable, interval, interval, TimeUnit.MILLISECONDS);
     }
@@ -59,9 +59,15 @@ class DistroModuleStateBuilderTest {
                 states.get(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS,
                 states.get(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_VERIFY_BUCKET_COUNT,
+                states.get(DistroConstants.DATA_VERIFY_BUCKET_COUNT_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS,
                 states.get(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS,
                 states.get(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT,
+                states.get(DistroConstants.DATA_LOAD_CHUNK_COUNT_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM,
+                states.get(DistroConstants.DATA_LOAD_PARALLELISM_STATE));
     }
 }
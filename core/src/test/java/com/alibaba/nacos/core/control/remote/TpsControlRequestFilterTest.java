@@ -17,6 +17,7 @@
 
 package com.alibaba.nacos.core.control.remote;
 
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
@@ -32,6 +33,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -40,6 +42,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import java.util.Collections;
+
 import static org.mockito.ArgumentMatchers.any;
 
 @ExtendWith(MockitoExtension.class)
@@ -124,5 +128,23 @@ class TpsControlRequestFilterTest {
         Response filterResponse = tpsControlRequestFilter.filter(healthCheckRequest, requestMeta, HealthCheckRequestHandler.class);
         assertNull(filterResponse);
     }
+    
+    /**
+     * test connection info of request meta is filled as monitor keys.
+     */
+    @Test
+    void testFillConnectionInfo() {
+        RequestMeta requestMeta = new RequestMeta();
+        requestMeta.setConnectionId("conn1");
+        requestMeta.setClientIp("127.0.0.1");
+        requestMeta.setLabels(Collections.singletonMap(Constants.APPNAME, "app1"));
+        TpsCheckResponse tpsCheckResponse = new TpsCheckResponse(true, 200, "success");
+        ArgumentCaptor<TpsCheckRequest> captor = ArgumentCaptor.forClass(TpsCheckRequest.class);
+        Mockito.when(tpsControlManager.check(captor.capture())).thenReturn(tpsCheckResponse);
+        HealthCheckRequest healthCheckRequest = new HealthCheckRequest();
+        assertNull(tpsControlRequestFilter.filter(healthCheckRequest, requestMeta, HealthCheckRequestHandler.class));
+        assertEquals("conn1", captor.getValue().getConnectionId());
+        assertEquals("127.0.0.1", captor.getValue().getClientIp());
+        assertEquals("app1", captor.getValue().getLabels().get(Constants.APPNAME));
+    }
 }
-
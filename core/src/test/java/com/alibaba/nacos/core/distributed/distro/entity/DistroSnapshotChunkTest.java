@@ -0,0 +1,42 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DistroSnapshotChunkTest {
+    
+    @Test
+    void testParse() {
+        DistroSnapshotChunk actual = DistroSnapshotChunk.parse(new DistroSnapshotChunk(3, 16).toResourceKey());
+        assertNotNull(actual);
+        assertEquals(3, actual.getChunk());
+        assertEquals(16, actual.getChunkCount());
+    }
+    
+    @Test
+    void testParseNotChunk() {
+        assertNull(DistroSnapshotChunk.parse(null));
+        assertNull(DistroSnapshotChunk.parse("SNAPSHOT"));
+        assertNull(DistroSnapshotChunk.parse("snapshot-chunk@3"));
+        assertNull(DistroSnapshotChunk.parse("snapshot-chunk@a/16"));
+    }
+}
@@ -26,6 +26,8 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +45,11 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,8 +103,8 @@ class DistroLoadDataTaskTest {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
-        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
+        lenient().when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        lenient().when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
     
@@ -109,4 +116,65 @@ class DistroLoadDataTaskTest {
         assertTrue(loadCompletedMap.containsKey(type));
         verify(distroTransportAgent).getDatumSnapshot(any(String.class));
     }
+    
+    @Test
+    void testRunByChunks() {
+        when(distroConfig.getLoadDataChunkCount()).thenReturn(4);
+        when(distroConfig.getLoadDataParallelism()).thenReturn(2);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), anyInt(), eq(4))).thenAnswer(
+                invocation -> new DistroData(new DistroKey(
+                        new DistroSnapshotChunk(invocation.getArgument(1), 4).toResourceKey(), type), new byte[0]));
+        when(distroDataProcessor.processSnapshot(any(DistroData.class))).thenReturn(true);
+        distroLoadDataTask.run();
+        verify(distroTransportAgent, times(4)).getDatumSnapshot(any(String.class), anyInt(), eq(4));
+        verify(distroDataProcessor, times(4)).processSnapshot(any(DistroData.class));
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+    }
+    
+    @Test
+    void testRunByChunksResumeFailedChunk() {
+        when(distroConfig.getLoadDataChunkCount()).thenReturn(2);
+        when(distroConfig.getLoadDataParallelism()).thenReturn(1);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), eq(0), eq(2)))
+                .thenReturn(new DistroData(new DistroKey(new DistroSnapshotChunk(0, 2).toResourceKey(), type),
+                        new byte[0]));
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), eq(1), eq(2)))
+                .thenThrow(new RuntimeException("test")).thenThrow(new RuntimeException("test"))
+                .thenReturn(new DistroData(new DistroKey(new DistroSnapshotChunk(1, 2).toResourceKey(), type),
+                        new byte[0]));
+        when(distroDataProcessor.processSnapshot(any(DistroData.class))).thenReturn(true);
+        distroLoadDataTask.run();
+        verify(distroDataStorage, never()).finishInitial();
+        distroLoadDataTask.run();
+        verify(distroTransportAgent).getDatumSnapshot(any(String.class), eq(0), eq(2));
+        verify(distroTransportAgent, times(3)).getDatumSnapshot(any(String.class), eq(1), eq(2));
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+    }
+    
+    @Test
+    void testRunByChunksFromMemberWithoutChunk() {
+        when(distroConfig.getLoadDataChunkCount()).thenReturn(4);
+        when(distroConfig.getLoadDataParallelism()).thenReturn(1);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), anyInt(), eq(4))).thenReturn(distroData);
+        distroLoadDataTask.run();
+        verify(distroTransportAgent).getDatumSnapshot(any(String.class), anyInt(), eq(4));
+        verify(distroDataProcessor).processSnapshot(distroData);
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+    }
+    
+    @Test
+    void testRunByChunksInParallelFromMembersWithoutChunk() {
+        when(distroConfig.getLoadDataChunkCount()).thenReturn(4);
+        when(distroConfig.getLoadDataParallelism()).thenReturn(2);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), anyInt(), eq(4))).thenReturn(distroData);
+        distroLoadDataTask.run();
+        // the whole snapshot should be loaded only once, even though loaded by several loaders
+        verify(distroTransportAgent).getDatumSnapshot(any(String.class), anyInt(), eq(4));
+        verify(distroDataProcessor).processSnapshot(distroData);
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+    }
 }
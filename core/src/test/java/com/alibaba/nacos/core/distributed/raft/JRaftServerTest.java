@@ -34,8 +34,10 @@ import com.alipay.sofa.jraft.RouteTable;
 import com.alipay.sofa.jraft.Status;
 import com.alipay.sofa.jraft.conf.Configuration;
 import com.alipay.sofa.jraft.core.NodeImpl;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
 import com.alipay.sofa.jraft.core.State;
 import com.alipay.sofa.jraft.entity.PeerId;
+import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.error.RemotingException;
 import com.alipay.sofa.jraft.rpc.CliRequests;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
@@ -75,6 +77,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -340,6 +343,43 @@ class JRaftServerTest {
         assertFalse(server.isReady());
     }
     
+    @Test
+    void testGetByReadIndex() throws Exception {
+        Response expected = Response.newBuilder().setSuccess(true).build();
+        ReadRequest request = ReadRequest.newBuilder().setGroup("test_nacos").build();
+        when(requestProcessor.onRequest(request)).thenReturn(expected);
+        mockReadIndexResult(Status.OK());
+        assertTrue(server.get(request).get().getSuccess());
+        verify(requestProcessor).onRequest(request);
+    }
+    
+    @Test
+    void testGetStaleWhenReadIndexFailed() throws Exception {
+        ReflectionTestUtils.setField(server, "readConsistency", RaftSysConstants.READ_CONSISTENCY_PREFER_LINEARIZABLE);
+        ReadRequest request = ReadRequest.newBuilder().setGroup("test_nacos").build();
+        when(requestProcessor.onRequest(request)).thenReturn(Response.newBuilder().setSuccess(true).build());
+        mockReadIndexResult(new Status(RaftError.EPERM, "not ready"));
+        assertTrue(server.get(request).get().getSuccess());
+        verify(requestProcessor).onRequest(request);
+    }
+    
+    @Test
+    void testGetStale() throws Exception {
+        ReflectionTestUtils.setField(server, "readConsistency", RaftSysConstants.READ_CONSISTENCY_STALE);
+        ReadRequest request = ReadRequest.newBuilder().setGroup("test_nacos").build();
+        when(requestProcessor.onRequest(request)).thenReturn(Response.newBuilder().setSuccess(true).build());
+        assertTrue(server.get(request).get().getSuccess());
+        verify(node, never()).readIndex(any(), any(ReadIndexClosure.class));
+    }
+    
+    private void mockReadIndexResult(Status status) {
+        doAnswer(invocationOnMock -> {
+            ReadIndexClosure closure = invocationOnMock.getArgument(1);
+            closure.run(status, 1L, null);
+            return null;
+        }).when(node).readIndex(any(), any(ReadIndexClosure.class));
+    }
+    
     @AfterEach
     void shutdown() {
         server.shutdown();
@@ -16,8 +16,11 @@
 
 package com.alibaba.nacos.core.monitor;
 
+import com.alibaba.nacos.common.notify.RingBufferPublisher;
+import com.alibaba.nacos.common.task.engine.TimingWheelDelayTaskExecuteEngine;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +38,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
@@ -161,4 +165,36 @@ class MetricsMonitorTest {
         assertEquals(1, MetricsMonitor.getModuleConnectionCnt().get("naming").get());
         assertEquals(0, MetricsMonitor.getModuleConnectionCnt().get("config").get());
     }
+    
+    @Test
+    void testRegisterRingBufferPublisher() {
+        RingBufferPublisher publisher = mock(RingBufferPublisher.class);
+        when(publisher.currentEventSize()).thenReturn(3L);
+        when(publisher.getMaxLagNanos()).thenReturn(TimeUnit.MILLISECONDS.toNanos(5L));
+        when(publisher.getPublishedCount()).thenReturn(10L);
+        MetricsMonitor.registerRingBufferPublisher("testTopic", publisher);
+        MetricsMonitor.registerRingBufferPublisher("testTopic", mock(RingBufferPublisher.class));
+        CompositeMeterRegistry registry = NacosMeterRegistryCenter.getMeterRegistry(
+                NacosMeterRegistryCenter.CORE_STABLE_REGISTRY);
+        assertEquals(3D, registry.get("notify_publisher").tag("topic", "testTopic").tag("name", "backlog").gauge()
+                .value(), 0.01);
+        assertEquals(5D, registry.get("notify_publisher").tag("topic", "testTopic").tag("name", "maxLagMillis")
+                .gauge().value(), 0.01);
+        assertEquals(10D, registry.get("notify_publisher").tag("topic", "testTopic").tag("name", "publishedCount")
+                .gauge().value(), 0.01);
+    }
+    
+    @Test
+    void testRegisterDelayTaskEngine() {
+        TimingWheelDelayTaskExecuteEngine engine = mock(TimingWheelDelayTaskExecuteEngine.class);
+        when(engine.size()).thenReturn(2);
+        when(engine.getMaxDueLagMillis()).thenReturn(7L);
+        MetricsMonitor.registerDelayTaskEngine("core", "testEngine", engine);
+        CompositeMeterRegistry registry = NacosMeterRegistryCenter.getMeterRegistry(
+                NacosMeterRegistryCenter.CORE_STABLE_REGISTRY);
+        assertEquals(2D, registry.get("delay_task_engine").tag("engine", "testEngine").tag("name", "pendingTaskCount")
+                .gauge().value(), 0.01);
+        assertEquals(7D, registry.get("delay_task_engine").tag("engine", "testEngine").tag("name", "maxDueLagMillis")
+                .gauge().value(), 0.01);
+    }
 }
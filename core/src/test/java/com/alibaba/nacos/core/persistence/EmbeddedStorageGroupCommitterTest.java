@@ -0,0 +1,129 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.consistency.SerializeFactory;
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmbeddedStorageGroupCommitterTest {
+    
+    private final Serializer serializer = SerializeFactory.getDefault();
+    
+    private final List<WriteRequest> committedLogs = new CopyOnWriteArrayList<>();
+    
+    private EmbeddedStorageGroupCommitter committer;
+    
+    @AfterEach
+    void tearDown() {
+        if (null != committer) {
+            committer.shutdown();
+        }
+    }
+    
+    @Test
+    void testCoalesceRequests() throws Exception {
+        committer = new EmbeddedStorageGroupCommitter("test", serializer, this::applyEachByKey, 500L, 3);
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        futures.add(committer.submit(buildRequest("ok1")));
+        futures.add(committer.submit(buildRequest("fail")));
+        futures.add(committer.submit(buildRequest("ok2")));
+        assertTrue(futures.get(0).get(3L, TimeUnit.SECONDS).getSuccess());
+        assertFalse(futures.get(1).get(3L, TimeUnit.SECONDS).getSuccess());
+        assertEquals("fail", futures.get(1).get().getErrMsg());
+        assertTrue(futures.get(2).get(3L, TimeUnit.SECONDS).getSuccess());
+        assertEquals(1, committedLogs.size());
+        assertTrue(committedLogs.get(0).containsExtendInfo(EmbeddedStorageGroupCommitter.GROUP_COMMIT_KEY));
+    }
+    
+    @Test
+    void testSingleRequestNotCoalesced() throws Exception {
+        committer = new EmbeddedStorageGroupCommitter("test", serializer, this::applyEachByKey, 0L, 3);
+        Response response = committer.submit(buildRequest("ok")).get(3L, TimeUnit.SECONDS);
+        assertTrue(response.getSuccess());
+        assertEquals(1, committedLogs.size());
+        assertFalse(committedLogs.get(0).containsExtendInfo(EmbeddedStorageGroupCommitter.GROUP_COMMIT_KEY));
+    }
+    
+    @Test
+    void testWriteFailed() {
+        Function<WriteRequest, CompletableFuture<Response>> writer = request -> {
+            throw new IllegalStateException("no leader");
+        };
+        committer = new EmbeddedStorageGroupCommitter("test", serializer, writer, 0L, 3);
+        CompletableFuture<Response> future = committer.submit(buildRequest("ok"));
+        assertThrows(ExecutionException.class, () -> future.get(3L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testSubmitAfterShutdown() {
+        committer = new EmbeddedStorageGroupCommitter("test", serializer, this::applyEachByKey, 0L, 3);
+        committer.shutdown();
+        CompletableFuture<Response> future = committer.submit(buildRequest("ok"));
+        assertTrue(future.isCompletedExceptionally());
+        assertTrue(committedLogs.isEmpty());
+    }
+    
+    private WriteRequest buildRequest(String key) {
+        return WriteRequest.newBuilder().setGroup("test").setKey(key).setData(ByteString.copyFromUtf8(key)).build();
+    }
+    
+    /**
+     * Mock state machine, requests with key starting with {@code ok} are succeed.
+     */
+    private CompletableFuture<Response> applyEachByKey(WriteRequest log) {
+        committedLogs.add(log);
+        try {
+            if (!log.containsExtendInfo(EmbeddedStorageGroupCommitter.GROUP_COMMIT_KEY)) {
+                return CompletableFuture.completedFuture(apply(log));
+            }
+            List<Response> responses = new ArrayList<>();
+            for (WriteRequest each : EmbeddedStorageGroupCommitter.parseRequests(serializer, log)) {
+                responses.add(apply(each));
+            }
+            return CompletableFuture.completedFuture(EmbeddedStorageGroupCommitter.buildResponse(serializer, responses));
+        } catch (Exception e) {
+            CompletableFuture<Response> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+    }
+    
+    private Response apply(WriteRequest request) {
+        if (request.getKey().startsWith("ok")) {
+            return Response.newBuilder().setSuccess(true).build();
+        }
+        return Response.newBuilder().setSuccess(false).setErrMsg(request.getKey()).build();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+
+/**
+ * Information for verifying a bucket of clients.
+ *
+ * @author Nacos
+ */
+public class DistroClientBucketVerifyInfo implements Serializable {
+    
+    private static final long serialVersionUID = -2310954623460416432L;
+    
+    private int bucket;
+    
+    private int bucketCount;
+    
+    private long digest;
+    
+    private int clientCount;
+    
+    public DistroClientBucketVerifyInfo() {
+    }
+    
+    public DistroClientBucketVerifyInfo(int bucket, int bucketCount, long digest, int clientCount) {
+        this.bucket = bucket;
+        this.bucketCount = bucketCount;
+        this.digest = digest;
+        this.clientCount = clientCount;
+    }
+    
+    public int getBucket() {
+        return bucket;
+    }
+    
+    public void setBucket(int bucket) {
+        this.bucket = bucket;
+    }
+    
+    public int getBucketCount() {
+        return bucketCount;
+    }
+    
+    public void setBucketCount(int bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+    
+    public long getDigest() {
+        return digest;
+    }
+    
+    public void setDigest(long digest) {
+        this.digest = digest;
+    }
+    
+    public int getClientCount() {
+        return clientCount;
+    }
+    
+    public void setClientCount(int clientCount) {
+        this.clientCount = clientCount;
+    }
+}
@@ -20,11 +20,13 @@ import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -45,10 +47,13 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Distro processor for v2.
@@ -63,6 +68,13 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     private final DistroProtocol distroProtocol;
     
+    private final DistroClientVerifyBuckets verifyBuckets = new DistroClientVerifyBuckets();
+    
+    /**
+     * Target server -> buckets failed to verify, the clients of them are verified one by one in the next round.
+     */
+    private final Map<String, Set<Integer>> failedBuckets = new ConcurrentHashMap<>();
+    
     private volatile boolean isFinishInitial;
     
     public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
@@ -103,6 +115,11 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     }
     
     private void syncToVerifyFailedServer(ClientEvent.ClientVerifyFailedEvent event) {
+        if (DistroClientVerifyBuckets.isBucketKey(event.getClientId())) {
+            failedBuckets.computeIfAbsent(event.getTargetServer(), key -> ConcurrentHashMap.newKeySet())
+                    .add(DistroClientVerifyBuckets.parseBucket(event.getClientId()));
+            return;
+        }
         Client client = clientManager.getClient(event.getClientId());
         if (isInvalidClient(client)) {
             return;
@@ -225,15 +242,55 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public boolean processVerifyData(DistroData distroData, String sourceAddress) {
+        DistroKey distroKey = distroData.getDistroKey();
+        if (DistroClientVerifyBuckets.isBucketKey(distroKey.getResourceKey())) {
+            DistroClientBucketVerifyInfo bucketVerifyData = ApplicationUtils.getBean(Serializer.class)
+                    .deserialize(distroData.getContent(), DistroClientBucketVerifyInfo.class);
+            return processBucketVerifyData(bucketVerifyData, distroKey.getTargetServer());
+        }
         DistroClientVerifyInfo verifyData = ApplicationUtils.getBean(Serializer.class)
                 .deserialize(distroData.getContent(), DistroClientVerifyInfo.class);
         if (clientManager.verifyClient(verifyData)) {
+            verifyBuckets.addVerifiedClient(distroKey.getTargetServer(), verifyData.getClientId());
             return true;
         }
         Loggers.DISTRO.info("client {} is invalid, get new client from {}", verifyData.getClientId(), sourceAddress);
         return false;
     }
     
+    private boolean processBucketVerifyData(DistroClientBucketVerifyInfo verifyData, String sourceServer) {
+        if (null == sourceServer || !isValidBucket(verifyData)) {
+            return false;
+        }
+        Set<String> verifiedClients = verifyBuckets
+                .getVerifiedClients(sourceServer, verifyData.getBucketCount(), verifyData.getBucket());
+        List<DistroClientVerifyInfo> localClients = new LinkedList<>();
+        long digest = 0L;
+        for (String each : verifiedClients) {
+            Client client = clientManager.getClient(each);
+            if (null == client || !client.isEphemeral()) {
+                verifiedClients.remove(each);
+                continue;
+            }
+            digest ^= DistroClientVerifyBuckets.hash(each, client.getRevision());
+            localClients.add(new DistroClientVerifyInfo(each, client.getRevision()));
+        }
+        if (digest == verifyData.getDigest() && localClients.size() == verifyData.getClientCount()) {
+            // renew the clients as verified one by one.
+            localClients.forEach(clientManager::verifyClient);
+            return true;
+        }
+        // clients of the bucket will be recorded again when verified one by one.
+        verifiedClients.clear();
+        Loggers.DISTRO.info("[DISTRO-VERIFY-FAILED] bucket {} from {} is different, local count={}, remote count={}",
+                verifyData.getBucket(), sourceServer, localClients.size(), verifyData.getClientCount());
+        return false;
+    }
+    
+    private boolean isValidBucket(DistroClientBucketVerifyInfo verifyData) {
+        return verifyData.getBucket() >= 0 && verifyData.getBucket() < verifyData.getBucketCount();
+    }
+    
     @Override
     public boolean processSnapshot(DistroData distroData) {
         ClientSyncDatumSnapshot snapshot = ApplicationUtils.getBean(Serializer.class)
@@ -256,8 +313,29 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public DistroData getDatumSnapshot() {
+        return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), generateSnapshot(-1, 0));
+    }
+    
+    @Override
+    public DistroData getDatumSnapshot(int chunk, int chunkCount) {
+        String chunkKey = new DistroSnapshotChunk(chunk, chunkCount).toResourceKey();
+        return new DistroData(new DistroKey(chunkKey, TYPE), generateSnapshot(chunk, chunkCount));
+    }
+    
+    /**
+     * Generate snapshot of the clients in the chunk, the clients are split into chunks by the same hash as verify
+     * buckets.
+     *
+     * @param chunk      chunk index, all clients if {@code chunkCount} is not positive
+     * @param chunkCount total count of chunks
+     * @return serialized snapshot
+     */
+    private byte[] generateSnapshot(int chunk, int chunkCount) {
         List<ClientSyncData> datum = new LinkedList<>();
         for (String each : clientManager.allClientId()) {
+            if (chunkCount > 0 && DistroClientVerifyBuckets.bucketOf(each, chunkCount) != chunk) {
+                continue;
+            }
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
@@ -266,12 +344,15 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
         ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
         snapshot.setClientSyncDataList(datum);
-        byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
-        return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), data);
+        return ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
     }
     
     @Override
     public List<DistroData> getVerifyData() {
+        int bucketCount = DistroConfig.getInstance().getVerifyBucketCount();
+        if (bucketCount > 0) {
+            return getBucketVerifyData(bucketCount);
+        }
         List<DistroData> result = null;
         for (String each : clientManager.allClientId()) {
             Client client = clientManager.getClient(each);
@@ -293,4 +374,74 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
         return result;
     }
+    
+    /**
+     * Build the digest of each bucket, and verify the clients of the buckets failed in last round one by one.
+     *
+     * <p>The clients of all failed buckets are collected in the same pass as the digests. They are verified before
+     * the digests of this round, so that the target server has recorded them when comparing the digests.
+     */
+    private List<DistroData> getBucketVerifyData(int bucketCount) {
+        long[] digests = new long[bucketCount];
+        int[] clientCounts = new int[bucketCount];
+        Map<String, Set<Integer>> verifyFailedBuckets = drainFailedBuckets();
+        Map<String, List<DistroData>> failedClientVerifyData = new HashMap<>(verifyFailedBuckets.size());
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (isInvalidClient(client)) {
+                continue;
+            }
+            int bucket = DistroClientVerifyBuckets.bucketOf(each, bucketCount);
+            digests[bucket] ^= DistroClientVerifyBuckets.hash(each, client.getRevision());
+            clientCounts[bucket]++;
+            DistroData clientVerifyData = null;
+            for (Map.Entry<String, Set<Integer>> entry : verifyFailedBuckets.entrySet()) {
+                if (entry.getValue().contains(bucket)) {
+                    clientVerifyData = null == clientVerifyData ? buildVerifyData(client) : clientVerifyData;
+                    failedClientVerifyData.computeIfAbsent(entry.getKey(), key -> new LinkedList<>())
+                            .add(clientVerifyData);
+                }
+            }
+        }
+        for (Map.Entry<String, List<DistroData>> entry : failedClientVerifyData.entrySet()) {
+            Loggers.DISTRO.info("[DISTRO-VERIFY] buckets {} are different in {}, verify {} clients of them",
+                    verifyFailedBuckets.get(entry.getKey()), entry.getKey(), entry.getValue().size());
+            distroProtocol.verifyToTarget(TYPE, entry.getValue(), entry.getKey());
+        }
+        List<DistroData> result = new LinkedList<>();
+        for (int i = 0; i < bucketCount; i++) {
+            if (0 == clientCounts[i]) {
+                continue;
+            }
+            DistroClientBucketVerifyInfo verifyData = new DistroClientBucketVerifyInfo(i, bucketCount, digests[i],
+                    clientCounts[i]);
+            // target server of verify data is replaced by source server, so that the clients can be recorded.
+            DistroKey distroKey = new DistroKey(DistroClientVerifyBuckets.buildBucketKey(i), TYPE,
+                    EnvUtil.getLocalAddress());
+            DistroData data = new DistroData(distroKey,
+                    ApplicationUtils.getBean(Serializer.class).serialize(verifyData));
+            data.setType(DataOperation.VERIFY);
+            result.add(data);
+        }
+        return result;
+    }
+    
+    private Map<String, Set<Integer>> drainFailedBuckets() {
+        Map<String, Set<Integer>> result = new HashMap<>(failedBuckets.size());
+        for (String each : failedBuckets.keySet()) {
+            Set<Integer> buckets = failedBuckets.remove(each);
+            if (null != buckets) {
+                result.put(each, buckets);
+            }
+        }
+        return result;
+    }
+    
+    private DistroData buildVerifyData(Client client) {
+        DistroClientVerifyInfo verifyData = new DistroClientVerifyInfo(client.getClientId(), client.getRevision());
+        DistroKey distroKey = new DistroKey(client.getClientId(), TYPE, EnvUtil.getLocalAddress());
+        DistroData data = new DistroData(distroKey, ApplicationUtils.getBean(Serializer.class).serialize(verifyData));
+        data.setType(DataOperation.VERIFY);
+        return data;
+    }
 }
@@ -31,6 +31,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
@@ -184,13 +185,26 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
     
     @Override
     public DistroData getDatumSnapshot(String targetServer) {
+        DistroDataRequest request = new DistroDataRequest();
+        request.setDataOperation(DataOperation.SNAPSHOT);
+        return getDatumSnapshot(targetServer, request);
+    }
+    
+    @Override
+    public DistroData getDatumSnapshot(String targetServer, int chunk, int chunkCount) {
+        DistroKey chunkKey = new DistroKey(new DistroSnapshotChunk(chunk, chunkCount).toResourceKey(),
+                DistroClientDataProcessor.TYPE);
+        DistroDataRequest request = new DistroDataRequest(new DistroData(chunkKey, new byte[0]),
+                DataOperation.SNAPSHOT);
+        return getDatumSnapshot(targetServer, request);
+    }
+    
+    private DistroData getDatumSnapshot(String targetServer, DistroDataRequest request) {
         Member member = memberManager.find(targetServer);
         if (checkTargetServerStatusUnhealthy(member)) {
             throw new DistroException(
                     String.format("[DISTRO] Cancel get snapshot caused by target server %s unhealthy", targetServer));
         }
-        DistroDataRequest request = new DistroDataRequest();
-        request.setDataOperation(DataOperation.SNAPSHOT);
         try {
             Response response = clusterRpcClientProxy
                     .sendRequest(member, request, DistroConfig.getInstance().getLoadDataTimeoutMillis());
@@ -0,0 +1,124 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buckets of distro client verification.
+ *
+ * <p>Responsible clients are hashed into buckets by client id, the digest of a bucket is the xor of the hash of the id
+ * and revision of each client in it, so the source server only sends the digest of each bucket. The target server
+ * records the clients verified from each source server by buckets, and compares the digest with the local revision of
+ * them. Only the clients of the bucket with different digest are verified one by one again.
+ *
+ * @author Nacos
+ */
+public class DistroClientVerifyBuckets {
+    
+    private static final String BUCKET_KEY_PREFIX = "@@distro-verify-bucket@@";
+    
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    
+    /**
+     * Source server -> verified clients of each bucket.
+     */
+    private final Map<String, SourceBuckets> sourceBuckets = new ConcurrentHashMap<>();
+    
+    public static boolean isBucketKey(String resourceKey) {
+        return null != resourceKey && resourceKey.startsWith(BUCKET_KEY_PREFIX);
+    }
+    
+    public static String buildBucketKey(int bucket) {
+        return BUCKET_KEY_PREFIX + bucket;
+    }
+    
+    public static int parseBucket(String bucketKey) {
+        return Integer.parseInt(bucketKey.substring(BUCKET_KEY_PREFIX.length()));
+    }
+    
+    public static int bucketOf(String clientId, int bucketCount) {
+        return (clientId.hashCode() & Integer.MAX_VALUE) % bucketCount;
+    }
+    
+    /**
+     * Hash of client id and revision, which is xor into the digest of bucket.
+     *
+     * @param clientId client id
+     * @param revision revision of client
+     * @return hash
+     */
+    public static long hash(String clientId, long revision) {
+        long result = clientId.hashCode() * GOLDEN_RATIO + revision;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+    
+    /**
+     * Get the clients verified from source server in the bucket.
+     *
+     * @param sourceServer source server
+     * @param bucketCount  bucket count of source server, the recorded clients are reset if it is changed
+     * @param bucket       bucket
+     * @return verified clients, modifiable
+     */
+    public Set<String> getVerifiedClients(String sourceServer, int bucketCount, int bucket) {
+        SourceBuckets buckets = sourceBuckets.compute(sourceServer,
+                (key, value) -> null == value || value.bucketCount != bucketCount ? new SourceBuckets(bucketCount)
+                        : value);
+        return buckets.clients.get(bucket);
+    }
+    
+    /**
+     * Record the client verified from source server one by one, which is used to compare the digest of bucket later.
+     *
+     * @param sourceServer source server
+     * @param clientId     client id
+     */
+    public void addVerifiedClient(String sourceServer, String clientId) {
+        if (null == sourceServer) {
+            return;
+        }
+        SourceBuckets buckets = sourceBuckets.get(sourceServer);
+        if (null != buckets) {
+            buckets.clients.get(bucketOf(clientId, buckets.bucketCount)).add(clientId);
+        }
+    }
+    
+    private static class SourceBuckets {
+        
+        private final int bucketCount;
+        
+        private final List<Set<String>> clients;
+        
+        private SourceBuckets(int bucketCount) {
+            this.bucketCount = bucketCount;
+            this.clients = new ArrayList<>(bucketCount);
+            for (int i = 0; i < bucketCount; i++) {
+                clients.add(ConcurrentHashMap.newKeySet());
+            }
+        }
+    }
+}
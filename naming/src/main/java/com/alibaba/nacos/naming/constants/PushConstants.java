@@ -43,4 +43,18 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Whether push the delta of instances to clients which support delta push.
+     */
+    public static final String PUSH_DELTA_ENABLED = "nacos.naming.push.delta.enabled";
+    
+    public static final boolean DEFAULT_PUSH_DELTA_ENABLED = false;
+    
+    /**
+     * Only push delta for services which instance count is not less than this value.
+     */
+    public static final String PUSH_DELTA_MIN_INSTANCE_COUNT = "nacos.naming.push.delta.minInstanceCount";
+    
+    public static final int DEFAULT_PUSH_DELTA_MIN_INSTANCE_COUNT = 100;
 }
@@ -24,6 +24,7 @@ import com.alibaba.nacos.core.utils.WebUtils;
 import com.alibaba.nacos.naming.cluster.ServerStatusManager;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.DistroMapper;
+import com.alibaba.nacos.naming.core.v2.client.AbstractClient;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
@@ -191,6 +192,43 @@ public class OperatorController {
         return result;
     }
     
+    /**
+     * Get the estimated memory footprint of publishers and subscribers storage for each type of client.
+     *
+     * @return footprint report of each type of client
+     */
+    @GetMapping("/clients/footprint")
+    public ObjectNode clientsFootprint() {
+        ObjectNode result = JacksonUtils.createEmptyJsonNode();
+        for (String clientId : clientManager.allClientId()) {
+            Client client = clientManager.getClient(clientId);
+            if (!(client instanceof AbstractClient)) {
+                continue;
+            }
+            AbstractClient abstractClient = (AbstractClient) client;
+            String clientType = getClientType(clientId);
+            ObjectNode footprint = result.has(clientType) ? (ObjectNode) result.get(clientType)
+                    : result.putObject(clientType);
+            footprint.put("clientCount", footprint.path("clientCount").asLong() + 1);
+            footprint.put("compactClientCount",
+                    footprint.path("compactClientCount").asLong() + (abstractClient.isCompactStorage() ? 1 : 0));
+            footprint.put("publisherCount",
+                    footprint.path("publisherCount").asLong() + client.getAllPublishedService().size());
+            footprint.put("subscriberCount",
+                    footprint.path("subscriberCount").asLong() + client.getAllSubscribeService().size());
+            footprint.put("estimatedStorageBytes",
+                    footprint.path("estimatedStorageBytes").asLong() + abstractClient.estimateStorageFootprint());
+        }
+        return result;
+    }
+    
+    private String getClientType(String clientId) {
+        if (!clientId.contains(IpPortBasedClient.ID_DELIMITER)) {
+            return "connectionBasedClient";
+        }
+        return clientId.endsWith(ClientConstants.PERSISTENT_SUFFIX) ? "persistentIpPortClient" : "ephemeralIpPortClient";
+    }
+    
     @GetMapping("/distro/client")
     public ObjectNode getResponsibleServer4Client(@RequestParam String ip, @RequestParam String port) {
         ObjectNode result = JacksonUtils.createEmptyJsonNode();
@@ -19,6 +19,7 @@ package com.alibaba.nacos.naming.core.v2;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
 import java.util.HashSet;
@@ -103,7 +104,11 @@ public class ServiceManager {
         if (namespaceSingletonMaps.containsKey(service.getNamespace())) {
             namespaceSingletonMaps.get(service.getNamespace()).remove(service);
         }
-        return singletonRepository.remove(service);
+        Service result = singletonRepository.remove(service);
+        if (null != result) {
+            NotifyCenter.publishEvent(new ServiceEvent.ServiceRemovedEvent(result));
+        }
+        return result;
     }
     
     public boolean containSingleton(Service service) {
@@ -30,8 +30,6 @@ import com.alibaba.nacos.naming.utils.DistroUtils;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static com.alibaba.nacos.naming.constants.ClientConstants.REVISION;
@@ -43,9 +41,9 @@ import static com.alibaba.nacos.naming.constants.ClientConstants.REVISION;
  */
 public abstract class AbstractClient implements Client {
     
-    protected final ConcurrentHashMap<Service, InstancePublishInfo> publishers = new ConcurrentHashMap<>(16, 0.75f, 1);
+    protected final ClientServiceMap<InstancePublishInfo> publishers = new ClientServiceMap<>();
     
-    protected final ConcurrentHashMap<Service, Subscriber> subscribers = new ConcurrentHashMap<>(16, 0.75f, 1);
+    protected final ClientServiceMap<Subscriber> subscribers = new ClientServiceMap<>();
     
     protected volatile long lastUpdatedTime;
     
@@ -105,7 +103,7 @@ public abstract class AbstractClient implements Client {
     
     @Override
     public Collection<Service> getAllPublishedService() {
-        return publishers.keySet();
+        return publishers.keys();
     }
     
     @Override
@@ -131,7 +129,7 @@ public abstract class AbstractClient implements Client {
     
     @Override
     public Collection<Service> getAllSubscribeService() {
-        return subscribers.keySet();
+        return subscribers.keys();
     }
     
     @Override
@@ -147,30 +145,29 @@ public abstract class AbstractClient implements Client {
         List<InstancePublishInfo> instances = new LinkedList<>();
         List<BatchInstancePublishInfo> batchInstancePublishInfos = new LinkedList<>();
         BatchInstanceData  batchInstanceData = new BatchInstanceData();
-        for (Map.Entry<Service, InstancePublishInfo> entry : publishers.entrySet()) {
-            InstancePublishInfo instancePublishInfo = entry.getValue();
+        publishers.forEach((service, instancePublishInfo) -> {
             if (instancePublishInfo instanceof BatchInstancePublishInfo) {
                 BatchInstancePublishInfo batchInstance = (BatchInstancePublishInfo) instancePublishInfo;
                 batchInstancePublishInfos.add(batchInstance);
-                buildBatchInstanceData(batchInstanceData, batchNamespaces, batchGroupNames, batchServiceNames, entry);
+                buildBatchInstanceData(batchInstanceData, batchNamespaces, batchGroupNames, batchServiceNames, service);
                 batchInstanceData.setBatchInstancePublishInfos(batchInstancePublishInfos);
             } else {
-                namespaces.add(entry.getKey().getNamespace());
-                groupNames.add(entry.getKey().getGroup());
-                serviceNames.add(entry.getKey().getName());
-                instances.add(entry.getValue());
+                namespaces.add(service.getNamespace());
+                groupNames.add(service.getGroup());
+                serviceNames.add(service.getName());
+                instances.add(instancePublishInfo);
             }
-        }
+        });
         ClientSyncData data = new ClientSyncData(getClientId(), namespaces, groupNames, serviceNames, instances, batchInstanceData);
         data.getAttributes().addClientAttribute(REVISION, getRevision());
         return data;
     }
     
     private static BatchInstanceData buildBatchInstanceData(BatchInstanceData  batchInstanceData, List<String> batchNamespaces,
-            List<String> batchGroupNames, List<String> batchServiceNames, Map.Entry<Service, InstancePublishInfo> entry) {
-        batchNamespaces.add(entry.getKey().getNamespace());
-        batchGroupNames.add(entry.getKey().getGroup());
-        batchServiceNames.add(entry.getKey().getName());
+            List<String> batchGroupNames, List<String> batchServiceNames, Service service) {
+        batchNamespaces.add(service.getNamespace());
+        batchGroupNames.add(service.getGroup());
+        batchServiceNames.add(service.getName());
         
         batchInstanceData.setNamespaces(batchNamespaces);
         batchInstanceData.setGroupNames(batchGroupNames);
@@ -218,4 +215,18 @@ public abstract class AbstractClient implements Client {
     public void setAttributes(ClientAttributes attributes) {
         this.attributes = attributes;
     }
+    
+    /**
+     * Whether the publishers and subscribers are both stored inline.
+     */
+    public boolean isCompactStorage() {
+        return publishers.isInline() && subscribers.isInline();
+    }
+    
+    /**
+     * Estimate the retained bytes of publishers and subscribers storage.
+     */
+    public long estimateStorageFootprint() {
+        return publishers.estimateFootprint() + subscribers.estimateFootprint();
+    }
 }
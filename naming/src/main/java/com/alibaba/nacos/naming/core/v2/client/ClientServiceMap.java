@@ -0,0 +1,260 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.client;
+
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Compact map of services for client, such as publishers and subscribers.
+ *
+ * <p>Most clients only publish or subscribe a few services, so the entries are stored in one small inline array of
+ * service and value pairs, which is copied on write and read without lock. The services are the singletons from
+ * {@code ServiceManager} in most cases, so they are matched by identity before equality. The array is grown into
+ * {@link ConcurrentHashMap} only if the size is over {@link #INLINE_CAPACITY}. The views of keys and values are weakly
+ * consistent as the views of {@link ConcurrentHashMap}.
+ *
+ * @param <V> type of value
+ * @author Nacos
+ */
+public class ClientServiceMap<V> {
+    
+    public static final int INLINE_CAPACITY = 8;
+    
+    private static final Object[] EMPTY = new Object[0];
+    
+    private static final int ENTRY_LENGTH = 2;
+    
+    private static final int OBJECT_HEADER = 12;
+    
+    private static final int ARRAY_HEADER = 16;
+    
+    private static final int REFERENCE = 4;
+    
+    private static final int MAP_SHALLOW = 64;
+    
+    private static final int MAP_NODE = 32;
+    
+    private static final float MAP_LOAD_FACTOR = 0.75f;
+    
+    private static final int MAP_INITIAL_CAPACITY = INLINE_CAPACITY * 4;
+    
+    private static final int MAP_INITIAL_TABLE_SIZE = MAP_INITIAL_CAPACITY * 2;
+    
+    /**
+     * Immutable array of service and value pairs if the size is not greater than {@link #INLINE_CAPACITY}, otherwise
+     * {@link ConcurrentHashMap}.
+     */
+    private volatile Object state = EMPTY;
+    
+    /**
+     * Get the value of service.
+     *
+     * @param service service
+     * @return value, or {@code null} if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Service service) {
+        Object current = state;
+        if (current instanceof Object[]) {
+            Object[] entries = (Object[]) current;
+            int index = indexOf(entries, service);
+            return index < 0 ? null : (V) entries[index + 1];
+        }
+        return asMap(current).get(service);
+    }
+    
+    /**
+     * Put the value of service.
+     *
+     * @param service service
+     * @param value   value
+     * @return previous value, or {@code null} if absent
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V put(Service service, V value) {
+        Object current = state;
+        if (!(current instanceof Object[])) {
+            return asMap(current).put(service, value);
+        }
+        Object[] entries = (Object[]) current;
+        int index = indexOf(entries, service);
+        if (index >= 0) {
+            Object[] newEntries = entries.clone();
+            newEntries[index + 1] = value;
+            state = newEntries;
+            return (V) entries[index + 1];
+        }
+        if (entries.length / ENTRY_LENGTH < INLINE_CAPACITY) {
+            Object[] newEntries = new Object[entries.length + ENTRY_LENGTH];
+            System.arraycopy(entries, 0, newEntries, 0, entries.length);
+            newEntries[entries.length] = service;
+            newEntries[entries.length + 1] = value;
+            state = newEntries;
+            return null;
+        }
+        ConcurrentHashMap<Service, V> map = new ConcurrentHashMap<>(MAP_INITIAL_CAPACITY, MAP_LOAD_FACTOR, 1);
+        for (int i = 0; i < entries.length; i += ENTRY_LENGTH) {
+            map.put((Service) entries[i], (V) entries[i + 1]);
+        }
+        map.put(service, value);
+        state = map;
+        return null;
+    }
+    
+    /**
+     * Remove the value of service.
+     *
+     * @param service service
+     * @return removed value, or {@code null} if absent
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(Service service) {
+        Object current = state;
+        if (!(current instanceof Object[])) {
+            return asMap(current).remove(service);
+        }
+        Object[] entries = (Object[]) current;
+        int index = indexOf(entries, service);
+        if (index < 0) {
+            return null;
+        }
+        if (entries.length == ENTRY_LENGTH) {
+            state = EMPTY;
+        } else {
+            Object[] newEntries = new Object[entries.length - ENTRY_LENGTH];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + ENTRY_LENGTH, newEntries, index, entries.length - index - ENTRY_LENGTH);
+            state = newEntries;
+        }
+        return (V) entries[index + 1];
+    }
+    
+    public int size() {
+        Object current = state;
+        return current instanceof Object[] ? ((Object[]) current).length / ENTRY_LENGTH : asMap(current).size();
+    }
+    
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+    
+    /**
+     * Get all services.
+     *
+     * @return services, unmodifiable
+     */
+    public Collection<Service> keys() {
+        Object current = state;
+        if (!(current instanceof Object[])) {
+            return Collections.unmodifiableSet(asMap(current).keySet());
+        }
+        return collect((Object[]) current, 0);
+    }
+    
+    /**
+     * Get all values.
+     *
+     * @return values, unmodifiable
+     */
+    public Collection<V> values() {
+        Object current = state;
+        if (!(current instanceof Object[])) {
+            return Collections.unmodifiableCollection(asMap(current).values());
+        }
+        return collect((Object[]) current, 1);
+    }
+    
+    /**
+     * Perform the action for each service and value.
+     *
+     * @param action action
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<Service, V> action) {
+        Object current = state;
+        if (!(current instanceof Object[])) {
+            asMap(current).forEach(action);
+            return;
+        }
+        Object[] entries = (Object[]) current;
+        for (int i = 0; i < entries.length; i += ENTRY_LENGTH) {
+            action.accept((Service) entries[i], (V) entries[i + 1]);
+        }
+    }
+    
+    public boolean isInline() {
+        return state instanceof Object[];
+    }
+    
+    /**
+     * Estimate the retained bytes of this map except the services and values, which are shared or counted by others.
+     *
+     * @return estimated bytes
+     */
+    public long estimateFootprint() {
+        Object current = state;
+        long result = align(OBJECT_HEADER + REFERENCE);
+        if (current == EMPTY) {
+            return result;
+        }
+        if (current instanceof Object[]) {
+            return result + align(ARRAY_HEADER + (long) REFERENCE * ((Object[]) current).length);
+        }
+        int size = asMap(current).size();
+        int tableSize = Math.max(MAP_INITIAL_TABLE_SIZE, Integer.highestOneBit((int) (size / MAP_LOAD_FACTOR)) << 1);
+        return result + MAP_SHALLOW + align(ARRAY_HEADER + (long) REFERENCE * tableSize) + (long) MAP_NODE * size;
+    }
+    
+    private static int indexOf(Object[] entries, Service service) {
+        for (int i = 0; i < entries.length; i += ENTRY_LENGTH) {
+            if (entries[i] == service) {
+                return i;
+            }
+        }
+        for (int i = 0; i < entries.length; i += ENTRY_LENGTH) {
+            if (entries[i].equals(service)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> Collection<T> collect(Object[] entries, int offset) {
+        List<T> result = new ArrayList<>(entries.length / ENTRY_LENGTH);
+        for (int i = offset; i < entries.length; i += ENTRY_LENGTH) {
+            result.add((T) entries[i]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+    
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ConcurrentHashMap<Service, V> asMap(Object current) {
+        return (ConcurrentHashMap<Service, V>) current;
+    }
+}
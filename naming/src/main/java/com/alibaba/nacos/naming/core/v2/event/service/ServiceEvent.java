@@ -77,4 +77,27 @@ public class ServiceEvent extends Event {
         }
     }
     
+    /**
+     * Service is not subscribed by any client event.
+     */
+    public static class ServiceUnsubscribedEvent extends ServiceEvent {
+        
+        private static final long serialVersionUID = 4286361839456284716L;
+        
+        public ServiceUnsubscribedEvent(Service service) {
+            super(service);
+        }
+    }
+    
+    /**
+     * Service is removed from service manager event.
+     */
+    public static class ServiceRemovedEvent extends ServiceEvent {
+        
+        private static final long serialVersionUID = -3584619026392217358L;
+        
+        public ServiceRemovedEvent(Service service) {
+            super(service);
+        }
+    }
 }
@@ -156,6 +156,7 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
         clientIds.remove(clientId);
         if (clientIds.isEmpty()) {
             subscriberIndexes.remove(service);
+            NotifyCenter.publishEvent(new ServiceEvent.ServiceUnsubscribedEvent(service));
         }
     }
 }
@@ -0,0 +1,303 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Cached instances view of one service.
+ *
+ * <p>The instances published by each client are parsed once and cached with the publish info, healthy status and
+ * instance metadata they are parsed from. Refreshing the view still visits each registered client to compare the
+ * reference of publish info and the healthy status, which is O(clients) without parsing. The instance metadata is only
+ * looked up again after the revision of instance metadata changed. Only the clients whose source changed are parsed
+ * and hashed again, and only the slots of the changed instance keys are replaced or removed, but the previous snapshot
+ * is copied once as a reference array for any change, because the snapshot is immutable and read without lock.
+ *
+ * @author Nacos
+ */
+public class ServiceInstancesView {
+    
+    private final Map<String, ClientInstances> clientInstances = new HashMap<>();
+    
+    private final Map<String, Integer> clusterCounts = new HashMap<>();
+    
+    /**
+     * Instance key -> cached instances of all clients with the key, the first one is in the snapshot.
+     */
+    private final Map<String, List<CachedInstance>> keyHolders = new HashMap<>();
+    
+    /**
+     * Instance key -> slot of the snapshot.
+     */
+    private final Map<String, Integer> slots = new HashMap<>();
+    
+    /**
+     * Instance key of each slot of the snapshot.
+     */
+    private final List<String> slotKeys = new ArrayList<>();
+    
+    private final Set<String> changedKeys = new HashSet<>();
+    
+    private final Function<InstancePublishInfo, Instance> instanceParser;
+    
+    private final Function<String, InstanceMetadata> metadataGetter;
+    
+    private final LongSupplier metadataRevision;
+    
+    private long checkedMetadataRevision = -1L;
+    
+    private List<Instance> snapshot = Collections.emptyList();
+    
+    private Set<String> clusters = Collections.emptySet();
+    
+    private boolean clustersChanged;
+    
+    public ServiceInstancesView(Function<InstancePublishInfo, Instance> instanceParser,
+            Function<String, InstanceMetadata> metadataGetter, LongSupplier metadataRevision) {
+        this.instanceParser = instanceParser;
+        this.metadataGetter = metadataGetter;
+        this.metadataRevision = metadataRevision;
+    }
+    
+    /**
+     * Refresh the view by current registered clients of the service.
+     *
+     * @param clientIds           distinct client ids which registered the service
+     * @param publishInfoSupplier get published instance info by client id, return {@code null} if not published
+     * @return the newest immutable snapshot of instances
+     */
+    public synchronized List<Instance> refresh(Collection<String> clientIds,
+            Function<String, InstancePublishInfo> publishInfoSupplier) {
+        // read revision before the metadata, so the metadata changed during refreshing is checked next time.
+        long revision = metadataRevision.getAsLong();
+        boolean metadataChanged = revision != checkedMetadataRevision;
+        int retainedCount = 0;
+        for (String each : clientIds) {
+            if (refreshClient(each, publishInfoSupplier.apply(each), metadataChanged)) {
+                retainedCount++;
+            }
+        }
+        checkedMetadataRevision = revision;
+        if (clientInstances.size() > retainedCount) {
+            removeUnregisteredClients(clientIds);
+        }
+        if (!changedKeys.isEmpty()) {
+            applyChangedKeys();
+        }
+        if (clustersChanged) {
+            clusters = Collections.unmodifiableSet(new HashSet<>(clusterCounts.keySet()));
+            clustersChanged = false;
+        }
+        return snapshot;
+    }
+    
+    public synchronized Set<String> getClusters() {
+        return clusters;
+    }
+    
+    public synchronized int getClientCount() {
+        return clientInstances.size();
+    }
+    
+    private void removeUnregisteredClients(Collection<String> clientIds) {
+        Iterator<Map.Entry<String, ClientInstances>> iterator = clientInstances.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, ClientInstances> entry = iterator.next();
+            if (!clientIds.contains(entry.getKey())) {
+                iterator.remove();
+                removeInstances(entry.getValue());
+            }
+        }
+    }
+    
+    /**
+     * Refresh the cached instances of client.
+     *
+     * @return {@code true} if the client is cached after refreshing
+     */
+    private boolean refreshClient(String clientId, InstancePublishInfo publishInfo, boolean metadataChanged) {
+        ClientInstances previous = clientInstances.get(clientId);
+        if (null == publishInfo) {
+            if (null != previous) {
+                clientInstances.remove(clientId);
+                removeInstances(previous);
+            }
+            return false;
+        }
+        if (null != previous && previous.isUpToDate(publishInfo, metadataChanged)) {
+            return true;
+        }
+        ClientInstances current = new ClientInstances(publishInfo);
+        clientInstances.put(clientId, current);
+        if (null != previous) {
+            removeInstances(previous);
+        }
+        addInstances(current);
+        return true;
+    }
+    
+    private void addInstances(ClientInstances instances) {
+        for (CachedInstance each : instances.instances) {
+            if (null == clusterCounts.put(each.instance.getClusterName(),
+                    clusterCounts.getOrDefault(each.instance.getClusterName(), 0) + 1)) {
+                clustersChanged = true;
+            }
+            keyHolders.computeIfAbsent(each.key, key -> new ArrayList<>(1)).add(each);
+            changedKeys.add(each.key);
+        }
+    }
+    
+    private void removeInstances(ClientInstances instances) {
+        for (CachedInstance each : instances.instances) {
+            if (null == clusterCounts.computeIfPresent(each.instance.getClusterName(),
+                    (key, count) -> count > 1 ? count - 1 : null)) {
+                clustersChanged = true;
+            }
+            List<CachedInstance> holders = keyHolders.get(each.key);
+            if (null != holders) {
+                holders.removeIf(holder -> holder == each);
+                if (holders.isEmpty()) {
+                    keyHolders.remove(each.key);
+                }
+            }
+            changedKeys.add(each.key);
+        }
+    }
+    
+    /**
+     * Apply the changed keys to a copy of previous snapshot. Different clients might publish the same instance, only
+     * the first holder of the key is kept in snapshot. The removed slot is filled by the last slot.
+     */
+    private void applyChangedKeys() {
+        List<Instance> result = new ArrayList<>(snapshot);
+        for (String each : changedKeys) {
+            List<CachedInstance> holders = keyHolders.get(each);
+            Integer slot = slots.get(each);
+            if (null != holders) {
+                Instance instance = holders.get(0).instance;
+                if (null != slot) {
+                    result.set(slot, instance);
+                } else {
+                    slots.put(each, result.size());
+                    slotKeys.add(each);
+                    result.add(instance);
+                }
+            } else if (null != slot) {
+                removeSlot(result, each, slot);
+            }
+        }
+        changedKeys.clear();
+        snapshot = Collections.unmodifiableList(result);
+    }
+    
+    private void removeSlot(List<Instance> result, String key, int slot) {
+        int lastSlot = result.size() - 1;
+        Instance last = result.remove(lastSlot);
+        String lastKey = slotKeys.remove(lastSlot);
+        slots.remove(key);
+        if (slot < lastSlot) {
+            result.set(slot, last);
+            slotKeys.set(slot, lastKey);
+            slots.put(lastKey, slot);
+        }
+    }
+    
+    private class ClientInstances {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final List<CachedInstance> instances;
+        
+        private ClientInstances(InstancePublishInfo publishInfo) {
+            this.publishInfo = publishInfo;
+            if (publishInfo instanceof BatchInstancePublishInfo) {
+                List<InstancePublishInfo> publishInfos = ((BatchInstancePublishInfo) publishInfo)
+                        .getInstancePublishInfos();
+                this.instances = new ArrayList<>(publishInfos.size());
+                for (InstancePublishInfo each : publishInfos) {
+                    instances.add(new CachedInstance(each));
+                }
+            } else {
+                this.instances = Collections.singletonList(new CachedInstance(publishInfo));
+            }
+        }
+        
+        /**
+         * The publish info will be replaced when client update instance, and only healthy status might be changed in
+         * place by health checker, so comparing the references and healthy status is enough. The metadata is only
+         * compared if the revision of metadata changed.
+         */
+        private boolean isUpToDate(InstancePublishInfo publishInfo, boolean metadataChanged) {
+            if (this.publishInfo != publishInfo) {
+                return false;
+            }
+            for (CachedInstance each : instances) {
+                if (!each.isUpToDate(metadataChanged)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+    
+    private class CachedInstance {
+        
+        private final InstancePublishInfo source;
+        
+        private final String metadataId;
+        
+        private final boolean healthy;
+        
+        private final InstanceMetadata metadata;
+        
+        private final Instance instance;
+        
+        private final String key;
+        
+        private CachedInstance(InstancePublishInfo source) {
+            this.source = source;
+            this.metadataId = source.getMetadataId();
+            this.healthy = source.isHealthy();
+            this.metadata = metadataGetter.apply(metadataId);
+            this.instance = instanceParser.apply(source);
+            this.key = instance.toString();
+        }
+        
+        private boolean isUpToDate(boolean metadataChanged) {
+            if (healthy != source.isHealthy()) {
+                return false;
+            }
+            return !metadataChanged || metadata == metadataGetter.apply(metadataId);
+        }
+    }
+}
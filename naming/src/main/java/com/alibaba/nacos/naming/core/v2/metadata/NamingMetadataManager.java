@@ -34,6 +34,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Nacos naming metadata manager.
@@ -51,6 +52,11 @@ public class NamingMetadataManager extends SmartSubscriber {
     
     private static final int INITIAL_CAPACITY = 1;
     
+    /**
+     * Revision of all instance metadata, increased after any instance metadata changed.
+     */
+    private final AtomicLong instanceMetadataRevision = new AtomicLong();
+    
     public NamingMetadataManager() {
         serviceMetadataMap = new ConcurrentHashMap<>(1 << 10);
         instanceMetadataMap = new ConcurrentHashMap<>(1 << 10);
@@ -128,6 +134,7 @@ public class NamingMetadataManager extends SmartSubscriber {
      */
     public void updateInstanceMetadata(Service service, String metadataId, InstanceMetadata instanceMetadata) {
         instanceMetadataMap.computeIfAbsent(service, k -> new ConcurrentHashMap<>(INITIAL_CAPACITY)).put(metadataId, instanceMetadata);
+        instanceMetadataRevision.incrementAndGet();
     }
     
     /**
@@ -153,6 +160,7 @@ public class NamingMetadataManager extends SmartSubscriber {
             if (instanceMetadataMapForService.isEmpty()) {
                 instanceMetadataMap.remove(service);
             }
+            instanceMetadataRevision.incrementAndGet();
         }
         expiredMetadataInfos.remove(ExpiredMetadataInfo.newExpiredInstanceMetadata(service, metadataId));
     }
@@ -206,6 +214,16 @@ public class NamingMetadataManager extends SmartSubscriber {
         ConcurrentMap<Service, ConcurrentMap<String, InstanceMetadata>> oldSnapshot = instanceMetadataMap;
         instanceMetadataMap = snapshot;
         oldSnapshot.clear();
+        instanceMetadataRevision.incrementAndGet();
+    }
+    
+    /**
+     * Get the revision of instance metadata, which is increased after the instance metadata updated or removed.
+     *
+     * @return revision of instance metadata
+     */
+    public long getInstanceMetadataRevision() {
+        return instanceMetadataRevision.get();
     }
     
     public Set<ExpiredMetadataInfo> getExpiredMetadataInfos() {
@@ -30,12 +30,22 @@ import java.util.concurrent.TimeUnit;
 /**
  * Health check reactor.
  *
+ * <p>Client beat check tasks and health check tasks are scheduled by {@link HealthCheckWheel}, there may be a large
+ * number of them.
+ *
  * @author nacos
  */
 @SuppressWarnings("PMD.ThreadPoolCreationRule")
 public class HealthCheckReactor {
     
-    private static Map<String, ScheduledFuture> futureMap = new ConcurrentHashMap<>();
+    private static final long WHEEL_TICK_MILLIS = 100L;
+    
+    private static final long CLIENT_BEAT_CHECK_PERIOD_MILLIS = 5000L;
+    
+    private static final HealthCheckWheel WHEEL = new HealthCheckWheel(WHEEL_TICK_MILLIS,
+            Math.max(1, GlobalExecutor.NAMING_HEALTH_THREAD_COUNT / 2));
+    
+    private static Map<String, HealthCheckWheel.Timeout> futureMap = new ConcurrentHashMap<>();
     
     /**
      * Schedule health check task for v2.
@@ -45,7 +55,7 @@ public class HealthCheckReactor {
     public static void scheduleCheck(HealthCheckTaskV2 task) {
         task.setStartTime(System.currentTimeMillis());
         Runnable wrapperTask = new HealthCheckTaskInterceptWrapper(task);
-        GlobalExecutor.scheduleNamingHealth(wrapperTask, task.getCheckRtNormalized(), TimeUnit.MILLISECONDS);
+        WHEEL.schedule(task.getTaskId(), wrapperTask, task.getCheckRtNormalized(), TimeUnit.MILLISECONDS);
     }
     
     /**
@@ -57,8 +67,9 @@ public class HealthCheckReactor {
         Runnable wrapperTask =
                 task instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper((NacosHealthCheckTask) task)
                         : task;
-        futureMap.computeIfAbsent(task.taskKey(),
-                k -> GlobalExecutor.scheduleNamingHealth(wrapperTask, 5000, 5000, TimeUnit.MILLISECONDS));
+        futureMap.computeIfAbsent(task.taskKey(), k -> WHEEL
+                .scheduleWithFixedDelay(k, wrapperTask, CLIENT_BEAT_CHECK_PERIOD_MILLIS, CLIENT_BEAT_CHECK_PERIOD_MILLIS,
+                        TimeUnit.MILLISECONDS));
     }
     
     /**
@@ -67,12 +78,12 @@ public class HealthCheckReactor {
      * @param task client beat check task
      */
     public static void cancelCheck(BeatCheckTask task) {
-        ScheduledFuture scheduledFuture = futureMap.get(task.taskKey());
-        if (scheduledFuture == null) {
+        HealthCheckWheel.Timeout timeout = futureMap.get(task.taskKey());
+        if (timeout == null) {
             return;
         }
         try {
-            scheduledFuture.cancel(true);
+            timeout.cancel();
             futureMap.remove(task.taskKey());
         } catch (Exception e) {
             Loggers.EVT_LOG.error("[CANCEL-CHECK] cancel failed!", e);
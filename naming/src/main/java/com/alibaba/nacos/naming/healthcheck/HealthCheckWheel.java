@@ -0,0 +1,222 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashed wheel timer of health check tasks.
+ *
+ * <p>Tasks are hashed into shards by key, each shard is a wheel ticked by the naming health executor and all due
+ * tasks of the bucket are run in one tick. Scheduling or cancelling a task is O(1) without lock, instead of the
+ * O(log n) of the delayed queue of scheduled executor, which matters with a large number of heartbeat clients.
+ *
+ * @author Nacos
+ */
+public class HealthCheckWheel {
+    
+    private static final int WHEEL_SIZE = 128;
+    
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    
+    private final long tickMillis;
+    
+    private final long startTime;
+    
+    private final Shard[] shards;
+    
+    private final List<ScheduledFuture<?>> tickFutures = new ArrayList<>();
+    
+    public HealthCheckWheel(long tickMillis, int shardCount) {
+        this.tickMillis = Math.max(1L, tickMillis);
+        this.startTime = currentMillis();
+        this.shards = new Shard[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard();
+            tickFutures.add(GlobalExecutor
+                    .scheduleNamingHealth(shards[i], this.tickMillis, this.tickMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+    
+    /**
+     * Schedule a one-shot task.
+     *
+     * @param key   key of task, tasks with same key are run in the same shard
+     * @param task  task
+     * @param delay delay
+     * @param unit  time unit of delay
+     * @return timeout of the task, which can be cancelled
+     */
+    public Timeout schedule(String key, Runnable task, long delay, TimeUnit unit) {
+        return scheduleWithFixedDelay(key, task, delay, 0L, unit);
+    }
+    
+    /**
+     * Schedule a periodic task, which is run with fixed delay until cancelled.
+     *
+     * @param key          key of task, tasks with same key are run in the same shard
+     * @param task         task
+     * @param initialDelay delay of the first run
+     * @param delay        delay between the runs, one-shot task if it is not positive
+     * @param unit         time unit of delays
+     * @return timeout of the task, which can be cancelled
+     */
+    public Timeout scheduleWithFixedDelay(String key, Runnable task, long initialDelay, long delay, TimeUnit unit) {
+        long periodTicks = delay > 0 ? Math.max(1L, unit.toMillis(delay) / tickMillis) : 0L;
+        Timeout timeout = new Timeout(task, currentMillis() + unit.toMillis(initialDelay), periodTicks);
+        shards[Math.abs(Objects.hashCode(key) % shards.length)].pending.offer(timeout);
+        return timeout;
+    }
+    
+    /**
+     * Stop ticking the wheel, the tasks not run are discarded.
+     */
+    public void shutdown() {
+        tickFutures.forEach(each -> each.cancel(false));
+    }
+    
+    private static long currentMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+    
+    private class Shard implements Runnable {
+        
+        private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+        
+        private final List<List<Timeout>> buckets = new ArrayList<>(WHEEL_SIZE);
+        
+        /**
+         * The last expired tick, only accessed by the tick thread.
+         */
+        private long tick;
+        
+        private Shard() {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+        
+        @Override
+        public void run() {
+            try {
+                long now = currentMillis();
+                long currentTick = (now - startTime) / tickMillis;
+                if (tick < currentTick) {
+                    MetricsMonitor.getHealthCheckScheduleLagTimer()
+                            .record(now - startTime - (tick + 1) * tickMillis, TimeUnit.MILLISECONDS);
+                }
+                while (tick < currentTick) {
+                    tick++;
+                    transferPending();
+                    expire();
+                }
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.error("[HEALTH-CHECK] error while ticking health check wheel", e);
+            }
+        }
+        
+        private void transferPending() {
+            for (Timeout timeout = pending.poll(); null != timeout; timeout = pending.poll()) {
+                if (timeout.cancelled) {
+                    continue;
+                }
+                // Overdue tasks are put into current tick, which are run right now.
+                long deadlineTick = (timeout.deadline - startTime + tickMillis - 1) / tickMillis;
+                addToBucket(timeout, Math.max(deadlineTick, tick));
+            }
+        }
+        
+        private void expire() {
+            int index = (int) (tick & WHEEL_MASK);
+            List<Timeout> due = new ArrayList<>();
+            List<Timeout> remaining = new ArrayList<>();
+            for (Timeout each : buckets.get(index)) {
+                if (each.cancelled) {
+                    continue;
+                }
+                if (each.deadlineTick <= tick) {
+                    due.add(each);
+                } else {
+                    remaining.add(each);
+                }
+            }
+            buckets.set(index, remaining);
+            for (Timeout each : due) {
+                runTask(each);
+                if (each.periodTicks > 0 && !each.cancelled) {
+                    addToBucket(each, tick + each.periodTicks);
+                }
+            }
+        }
+        
+        private void addToBucket(Timeout timeout, long deadlineTick) {
+            timeout.deadlineTick = deadlineTick;
+            buckets.get((int) (deadlineTick & WHEEL_MASK)).add(timeout);
+        }
+        
+        private void runTask(Timeout timeout) {
+            try {
+                timeout.task.run();
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.error("[HEALTH-CHECK] error while running health check task", e);
+            }
+        }
+    }
+    
+    /**
+     * Handle of scheduled task.
+     */
+    public static class Timeout {
+        
+        private final Runnable task;
+        
+        private final long deadline;
+        
+        private final long periodTicks;
+        
+        private long deadlineTick;
+        
+        private volatile boolean cancelled;
+        
+        private Timeout(Runnable task, long deadline, long periodTicks) {
+            this.task = task;
+            this.deadline = deadline;
+            this.periodTicks = periodTicks;
+        }
+        
+        /**
+         * Cancel the task, it is removed from the wheel lazily when its bucket is expired.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+        
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limiter of the in-flight health checks to the same target.
+ *
+ * <p>Many instances of different services may share one checked ip:port, a slow target will otherwise pile up the
+ * connections and threads of the health check processors. Each permit expires after the timeout of its check, so a
+ * check finished without releasing its permit does not block the target forever.
+ *
+ * @author Nacos
+ */
+public class HealthCheckTargetLimiter {
+    
+    /**
+     * Permit without limit, release it does nothing.
+     */
+    public static final Permit NO_LIMIT_PERMIT = new Permit(null, null, Long.MAX_VALUE);
+    
+    private static final HealthCheckTargetLimiter INSTANCE = new HealthCheckTargetLimiter();
+    
+    private final Map<String, List<Permit>> inFlightChecks = new ConcurrentHashMap<>();
+    
+    HealthCheckTargetLimiter() {
+    }
+    
+    public static HealthCheckTargetLimiter getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Try to acquire the permit to check the target.
+     *
+     * @param ip             ip of target
+     * @param port           port checked of target, which might be different from the port of instance
+     * @param maxConcurrency max concurrent checks to the target, no limit if it is not positive
+     * @param timeoutMillis  timeout of the check, the permit is expired and not counted after timeout
+     * @return permit of this check, {@code null} if the target is checked by too many checks
+     */
+    public Permit tryAcquire(String ip, int port, int maxConcurrency, long timeoutMillis) {
+        if (maxConcurrency <= 0) {
+            return NO_LIMIT_PERMIT;
+        }
+        String target = ip + ":" + port;
+        long now = System.currentTimeMillis();
+        Permit permit = new Permit(this, target, now + timeoutMillis);
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        inFlightChecks.compute(target, (key, permits) -> {
+            List<Permit> result = null == permits ? new ArrayList<>(maxConcurrency) : permits;
+            result.removeIf(each -> each.isExpired(now));
+            if (result.size() < maxConcurrency) {
+                result.add(permit);
+                acquired.set(true);
+            }
+            return result.isEmpty() ? null : result;
+        });
+        return acquired.get() ? permit : null;
+    }
+    
+    int getInFlightCount(String ip, int port) {
+        long now = System.currentTimeMillis();
+        int[] result = new int[1];
+        inFlightChecks.computeIfPresent(ip + ":" + port, (key, permits) -> {
+            for (Permit each : permits) {
+                if (!each.isExpired(now)) {
+                    result[0]++;
+                }
+            }
+            return permits;
+        });
+        return result[0];
+    }
+    
+    private void release(Permit permit) {
+        inFlightChecks.computeIfPresent(permit.target, (key, permits) -> {
+            permits.remove(permit);
+            return permits.isEmpty() ? null : permits;
+        });
+    }
+    
+    /**
+     * Permit of one health check, should be released once the check finished.
+     */
+    public static class Permit {
+        
+        private final HealthCheckTargetLimiter limiter;
+        
+        private final String target;
+        
+        private final long expireTime;
+        
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        
+        private Permit(HealthCheckTargetLimiter limiter, String target, long expireTime) {
+            this.limiter = limiter;
+            this.target = target;
+            this.expireTime = expireTime;
+        }
+        
+        private boolean isExpired(long now) {
+            return now >= expireTime;
+        }
+        
+        /**
+         * Release the permit, only the first invocation takes effect.
+         */
+        public void release() {
+            if (null != limiter && released.compareAndSet(false, true)) {
+                limiter.release(this);
+            }
+        }
+    }
+}
@@ -37,6 +37,7 @@ import java.net.ConnectException;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.common.constant.RequestUrlConstants.HTTP_PREFIX;
 import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
@@ -56,6 +57,11 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
     private static final NacosAsyncRestTemplate ASYNC_REST_TEMPLATE = HttpClientManager
             .getProcessorNacosAsyncRestTemplate();
     
+    /**
+     * Waiting for pooled connection, connecting and reading are limited by the timeout of processor http client.
+     */
+    private static final long CHECK_TIMEOUT_MILLIS = HttpClientManager.PROCESSOR_TIMEOUT_MILLIS * 3L;
+    
     private final HealthCheckCommonV2 healthCheckCommon;
     
     private final SwitchDomain switchDomain;
@@ -72,6 +78,7 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         if (null == instance) {
             return;
         }
+        HealthCheckTargetLimiter.Permit permit = null;
         try {
             // TODO handle marked(white list) logic like v1.x.
             if (!instance.tryStartCheck()) {
@@ -81,9 +88,19 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
                         .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getHttpHealthParams());
                 return;
             }
+            int ckPort = metadata.isUseInstancePortForCheck() ? instance.getPort() : metadata.getHealthyCheckPort();
+            permit = HealthCheckTargetLimiter.getInstance().tryAcquire(instance.getIp(), ckPort,
+                    switchDomain.getHealthCheckTargetMaxConcurrency(), CHECK_TIMEOUT_MILLIS);
+            if (null == permit) {
+                instance.finishCheck();
+                SRV_LOG.warn("http check skipped for too many checks to the same target, service: {} : {} : {}:{}",
+                        service.getGroupedServiceName(), instance.getCluster(), instance.getIp(), instance.getPort());
+                healthCheckCommon
+                        .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getHttpHealthParams());
+                return;
+            }
             
             Http healthChecker = (Http) metadata.getHealthChecker();
-            int ckPort = metadata.isUseInstancePortForCheck() ? instance.getPort() : metadata.getHealthyCheckPort();
             URL host = new URL(HTTP_PREFIX + instance.getIp() + ":" + ckPort);
             URL target = new URL(host, healthChecker.getPath());
             Map<String, String> customHeaders = healthChecker.getCustomHeaders();
@@ -91,9 +108,12 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
             header.addAll(customHeaders);
             
             ASYNC_REST_TEMPLATE.get(target.toString(), header, Query.EMPTY, String.class,
-                    new HttpHealthCheckCallback(instance, task, service));
+                    new HttpHealthCheckCallback(instance, task, service, permit));
             MetricsMonitor.getHttpHealthCheckMonitor().incrementAndGet();
         } catch (Throwable e) {
+            if (null != permit) {
+                permit.release();
+            }
             instance.setCheckRt(switchDomain.getHttpHealthParams().getMax());
             healthCheckCommon.checkFail(task, service, "http:error:" + e.getMessage());
             healthCheckCommon.reEvaluateCheckRT(switchDomain.getHttpHealthParams().getMax(), task,
@@ -114,18 +134,26 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         private final HealthCheckInstancePublishInfo instance;
         
+        private final HealthCheckTargetLimiter.Permit permit;
+        
         private long startTime = System.currentTimeMillis();
         
         public HttpHealthCheckCallback(HealthCheckInstancePublishInfo instance, HealthCheckTaskV2 task,
                 Service service) {
+            this(instance, task, service, HealthCheckTargetLimiter.NO_LIMIT_PERMIT);
+        }
+        
+        public HttpHealthCheckCallback(HealthCheckInstancePublishInfo instance, HealthCheckTaskV2 task,
+                Service service, HealthCheckTargetLimiter.Permit permit) {
             this.instance = instance;
             this.task = task;
             this.service = service;
+            this.permit = permit;
         }
         
         @Override
         public void onReceive(RestResult<String> result) {
-            instance.setCheckRt(System.currentTimeMillis() - startTime);
+            finishRequest();
             int httpCode = result.getCode();
             if (HttpURLConnection.HTTP_OK == httpCode) {
                 healthCheckCommon.checkOk(task, service, "http:" + httpCode);
@@ -148,7 +176,7 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         @Override
         public void onError(Throwable throwable) {
             Throwable cause = throwable;
-            instance.setCheckRt(System.currentTimeMillis() - startTime);
+            finishRequest();
             int maxStackDepth = 50;
             for (int deepth = 0; deepth < maxStackDepth && cause != null; deepth++) {
                 if (HttpUtils.isTimeoutException(cause)) {
@@ -172,7 +200,14 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         @Override
         public void onCancel() {
+            permit.release();
+        }
         
+        private void finishRequest() {
+            permit.release();
+            long checkRt = System.currentTimeMillis() - startTime;
+            instance.setCheckRt(checkRt);
+            MetricsMonitor.getHealthCheckRtTimer(TYPE).record(checkRt, TimeUnit.MILLISECONDS);
         }
     }
 }
@@ -37,6 +37,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
@@ -60,6 +61,16 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
     
     public static final int CONNECT_TIMEOUT_MS = 500;
     
+    private static final int LOGIN_TIMEOUT_SECONDS = 1;
+    
+    private static final int QUERY_TIMEOUT_SECONDS = 1;
+    
+    /**
+     * Connecting, logging in and querying are limited by their own timeouts.
+     */
+    private static final long CHECK_TIMEOUT_MILLIS =
+            CONNECT_TIMEOUT_MS + TimeUnit.SECONDS.toMillis(LOGIN_TIMEOUT_SECONDS + QUERY_TIMEOUT_SECONDS);
+    
     private static final String CHECK_MYSQL_MASTER_SQL = "show global variables where variable_name='read_only'";
     
     private static final String MYSQL_SLAVE_READONLY = "ON";
@@ -84,6 +95,7 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
             return;
         }
         SRV_LOG.debug("mysql check, ip:" + instance);
+        HealthCheckTargetLimiter.Permit permit = null;
         try {
             // TODO handle marked(white list) logic like v1.x.
             if (!instance.tryStartCheck()) {
@@ -93,9 +105,22 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                         .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getMysqlHealthParams());
                 return;
             }
-            GlobalExecutor.executeMysqlCheckTask(new MysqlCheckTask(task, service, instance, metadata));
+            permit = HealthCheckTargetLimiter.getInstance().tryAcquire(instance.getIp(), instance.getPort(),
+                    switchDomain.getHealthCheckTargetMaxConcurrency(), CHECK_TIMEOUT_MILLIS);
+            if (null == permit) {
+                instance.finishCheck();
+                SRV_LOG.warn("mysql check skipped for too many checks to the same target, service: {} : {} : {}:{}",
+                        service.getGroupedServiceName(), instance.getCluster(), instance.getIp(), instance.getPort());
+                healthCheckCommon
+                        .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getMysqlHealthParams());
+                return;
+            }
+            GlobalExecutor.executeMysqlCheckTask(new MysqlCheckTask(task, service, instance, metadata, permit));
             MetricsMonitor.getMysqlHealthCheckMonitor().incrementAndGet();
         } catch (Exception e) {
+            if (null != permit) {
+                permit.release();
+            }
             instance.setCheckRt(switchDomain.getMysqlHealthParams().getMax());
             healthCheckCommon.checkFail(task, service, "mysql:error:" + e.getMessage());
             healthCheckCommon.reEvaluateCheckRT(switchDomain.getMysqlHealthParams().getMax(), task,
@@ -113,14 +138,21 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         private final ClusterMetadata metadata;
         
+        private final HealthCheckTargetLimiter.Permit permit;
+        
+        private final String connectionKey;
+        
         private long startTime = System.currentTimeMillis();
         
         public MysqlCheckTask(HealthCheckTaskV2 task, Service service, HealthCheckInstancePublishInfo instance,
-                ClusterMetadata metadata) {
+                ClusterMetadata metadata, HealthCheckTargetLimiter.Permit permit) {
             this.task = task;
             this.service = service;
             this.instance = instance;
             this.metadata = metadata;
+            this.permit = permit;
+            this.connectionKey = service.getGroupedServiceName() + ":" + instance.getCluster() + ":" + instance.getIp()
+                    + ":" + instance.getPort();
         }
         
         @Override
@@ -130,22 +162,18 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
             ResultSet resultSet = null;
             
             try {
-                String clusterName = instance.getCluster();
-                String key =
-                        service.getGroupedServiceName() + ":" + clusterName + ":" + instance.getIp() + ":" + instance
-                                .getPort();
-                Connection connection = CONNECTION_POOL.get(key);
+                Connection connection = CONNECTION_POOL.get(connectionKey);
                 Mysql config = (Mysql) metadata.getHealthChecker();
                 
                 if (connection == null || connection.isClosed()) {
                     String url = "jdbc:mysql://" + instance.getIp() + ":" + instance.getPort() + "?connectTimeout="
-                            + CONNECT_TIMEOUT_MS + "&socketTimeout=" + CONNECT_TIMEOUT_MS + "&loginTimeout=" + 1;
+                            + CONNECT_TIMEOUT_MS + "&socketTimeout=" + CONNECT_TIMEOUT_MS + "&loginTimeout=" + LOGIN_TIMEOUT_SECONDS;
                     connection = DriverManager.getConnection(url, config.getUser(), config.getPwd());
-                    CONNECTION_POOL.put(key, connection);
+                    CONNECTION_POOL.put(connectionKey, connection);
                 }
                 
                 statement = connection.createStatement();
-                statement.setQueryTimeout(1);
+                statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
                 
                 resultSet = statement.executeQuery(config.getCmd());
                 int resultColumnIndex = 2;
@@ -161,11 +189,13 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                 healthCheckCommon.reEvaluateCheckRT(System.currentTimeMillis() - startTime, task,
                         switchDomain.getMysqlHealthParams());
             } catch (SQLException e) {
+                evictConnection();
                 // fail immediately
                 healthCheckCommon.checkFailNow(task, service, "mysql:" + e.getMessage());
                 healthCheckCommon.reEvaluateCheckRT(switchDomain.getHttpHealthParams().getMax(), task,
                         switchDomain.getMysqlHealthParams());
             } catch (Throwable t) {
+                evictConnection();
                 Throwable cause = t;
                 int maxStackDepth = 50;
                 for (int deepth = 0; deepth < maxStackDepth && cause != null; deepth++) {
@@ -186,7 +216,10 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                 healthCheckCommon.reEvaluateCheckRT(switchDomain.getMysqlHealthParams().getMax(), task,
                         switchDomain.getMysqlHealthParams());
             } finally {
-                instance.setCheckRt(System.currentTimeMillis() - startTime);
+                permit.release();
+                long checkRt = System.currentTimeMillis() - startTime;
+                instance.setCheckRt(checkRt);
+                MetricsMonitor.getHealthCheckRtTimer(TYPE).record(checkRt, TimeUnit.MILLISECONDS);
                 if (statement != null) {
                     try {
                         statement.close();
@@ -203,5 +236,21 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                 }
             }
         }
+        
+        /**
+         * Remove the connection from pool after check failed, the broken connection should not be reused by next
+         * check.
+         */
+        private void evictConnection() {
+            Connection connection = CONNECTION_POOL.remove(connectionKey);
+            if (null == connection) {
+                return;
+            }
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                Loggers.SRV_LOG.warn("[MYSQL-CHECK] failed to close connection of {}", connectionKey, e);
+            }
+        }
     }
 }
@@ -107,10 +107,25 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
                     .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getTcpHealthParams());
             return;
         }
-        taskQueue.add(new Beat(task, service, metadata, instance));
+        HealthCheckTargetLimiter.Permit permit = HealthCheckTargetLimiter.getInstance()
+                .tryAcquire(instance.getIp(), getCheckPort(instance, metadata),
+                        switchDomain.getHealthCheckTargetMaxConcurrency(), CONNECT_TIMEOUT_MS);
+        if (null == permit) {
+            instance.finishCheck();
+            SRV_LOG.warn("[HEALTH-CHECK-V2] tcp check skipped for too many checks to target, service: {} : {} : {}:{}",
+                    service.getNameSpaceGroupedServiceName(), instance.getCluster(), instance.getIp(), instance.getPort());
+            healthCheckCommon
+                    .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getTcpHealthParams());
+            return;
+        }
+        taskQueue.add(new Beat(task, service, metadata, instance, permit));
         MetricsMonitor.getTcpHealthCheckMonitor().incrementAndGet();
     }
     
+    private static int getCheckPort(HealthCheckInstancePublishInfo instance, ClusterMetadata metadata) {
+        return metadata.isUseInstancePortForCheck() ? instance.getPort() : metadata.getHealthyCheckPort();
+    }
+    
     @Override
     public String getType() {
         return TYPE;
@@ -224,14 +239,17 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
         
         private final HealthCheckInstancePublishInfo instance;
         
+        private final HealthCheckTargetLimiter.Permit permit;
+        
         long startTime = System.currentTimeMillis();
         
         public Beat(HealthCheckTaskV2 task, Service service, ClusterMetadata metadata,
-                HealthCheckInstancePublishInfo instance) {
+                HealthCheckInstancePublishInfo instance, HealthCheckTargetLimiter.Permit permit) {
             this.task = task;
             this.service = service;
             this.metadata = metadata;
             this.instance = instance;
+            this.permit = permit;
         }
         
         public void setStartTime(long time) {
@@ -266,10 +284,14 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
          * finish check only, no ip state will be changed.
          */
         public void finishCheck() {
+            permit.release();
             instance.finishCheck();
         }
         
         public void finishCheck(boolean success, boolean now, long rt, String msg) {
+            permit.release();
+            MetricsMonitor.getHealthCheckRtTimer(TYPE)
+                    .record(System.currentTimeMillis() - startTime, TimeUnit.MILLISECONDS);
             if (success) {
                 healthCheckCommon.checkOk(task, service, msg);
             } else {
@@ -328,25 +350,30 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
         
         @Override
         public void run() {
-            if (key != null && key.isValid()) {
-                SocketChannel channel = (SocketChannel) key.channel();
-                Beat beat = (Beat) key.attachment();
-                
-                if (channel.isConnected()) {
-                    return;
-                }
-                
-                try {
-                    channel.finishConnect();
-                } catch (Exception ignore) {
-                }
-                
-                try {
-                    beat.finishCheck(false, false, beat.getTask().getCheckRtNormalized() * 2, "tcp:timeout");
-                    key.cancel();
-                    key.channel().close();
-                } catch (Exception ignore) {
-                }
+            if (key == null) {
+                return;
+            }
+            Beat beat = (Beat) key.attachment();
+            if (!key.isValid()) {
+                // The key is cancelled by a new beat of the same instance, and this beat will never finish.
+                beat.permit.release();
+                return;
+            }
+            SocketChannel channel = (SocketChannel) key.channel();
+            if (channel.isConnected()) {
+                return;
+            }
+            
+            try {
+                channel.finishConnect();
+            } catch (Exception ignore) {
+            }
+            
+            try {
+                beat.finishCheck(false, false, beat.getTask().getCheckRtNormalized() * 2, "tcp:timeout");
+                key.cancel();
+                key.channel().close();
+            } catch (Exception ignore) {
             }
         }
     }
@@ -370,15 +397,14 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
             
             SocketChannel channel = null;
             try {
-                HealthCheckInstancePublishInfo instance = beat.getInstance();
-                
                 BeatKey beatKey = keyMap.get(beat.toString());
                 if (beatKey != null && beatKey.key.isValid()) {
                     if (System.currentTimeMillis() - beatKey.birthTime < TCP_KEEP_ALIVE_MILLIS) {
-                        instance.finishCheck();
+                        beat.finishCheck();
                         return null;
                     }
                     
+                    ((Beat) beatKey.key.attachment()).permit.release();
                     beatKey.key.cancel();
                     beatKey.key.channel().close();
                 }
@@ -391,9 +417,9 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
                 channel.socket().setKeepAlive(true);
                 channel.socket().setTcpNoDelay(true);
                 
+                HealthCheckInstancePublishInfo instance = beat.getInstance();
                 ClusterMetadata cluster = beat.getMetadata();
-                int port = cluster.isUseInstancePortForCheck() ? instance.getPort() : cluster.getHealthyCheckPort();
-                channel.connect(new InetSocketAddress(instance.getIp(), port));
+                channel.connect(new InetSocketAddress(instance.getIp(), getCheckPort(instance, cluster)));
                 
                 SelectionKey key = channel.register(selector, SelectionKey.OP_CONNECT | SelectionKey.OP_READ);
                 key.attach(beat);
@@ -43,6 +43,9 @@ public class GlobalExecutor {
     
     public static final int DEFAULT_THREAD_COUNT = EnvUtil.getAvailableProcessors(0.5);
     
+    public static final int NAMING_HEALTH_THREAD_COUNT = Integer
+            .max(Integer.getInteger("com.alibaba.nacos.naming.health.thread.num", DEFAULT_THREAD_COUNT), 1);
+    
     private static final ScheduledExecutorService NAMING_TIMER_EXECUTOR = ExecutorFactory.Managed
             .newScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
                     EnvUtil.getAvailableProcessors(2), new NameThreadFactory("com.alibaba.nacos.naming.timer"));
@@ -60,9 +63,8 @@ public class GlobalExecutor {
                     new NameThreadFactory("com.alibaba.nacos.naming.tcp.check.worker"));
     
     private static final ScheduledExecutorService NAMING_HEALTH_EXECUTOR = ExecutorFactory.Managed
-            .newScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
-                    Integer.max(Integer.getInteger("com.alibaba.nacos.naming.health.thread.num", DEFAULT_THREAD_COUNT),
-                            1), new NameThreadFactory("com.alibaba.nacos.naming.health"));
+            .newScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class), NAMING_HEALTH_THREAD_COUNT,
+                    new NameThreadFactory("com.alibaba.nacos.naming.health"));
     
     private static final ScheduledExecutorService RETRANSMITTER_EXECUTOR = ExecutorFactory.Managed
             .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
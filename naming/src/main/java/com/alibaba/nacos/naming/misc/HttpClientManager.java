@@ -49,6 +49,11 @@ public class HttpClientManager {
     
     private static final int CON_TIME_OUT_MILLIS = 5000;
     
+    /**
+     * Timeout of connection request, connecting and reading of health check http client.
+     */
+    public static final int PROCESSOR_TIMEOUT_MILLIS = 500;
+    
     private static final HttpClientFactory SYNC_HTTP_CLIENT_FACTORY = new SyncHttpClientFactory();
     
     private static final HttpClientFactory ASYNC_HTTP_CLIENT_FACTORY = new AsyncHttpClientFactory();
@@ -163,11 +168,19 @@ public class HttpClientManager {
     
     public static class ProcessorHttpClientFactory extends AbstractHttpClientFactory {
         
+        /**
+         * Health checks to the same target are limited by {@code healthCheckTargetMaxConcurrency}, keep some more
+         * connections per route to avoid waiting for the connection of pool.
+         */
+        private static final int PROCESSOR_MAX_CONN_PER_ROUTE = 8;
+        
         @Override
         protected HttpClientConfig buildHttpClientConfig() {
-            return HttpClientConfig.builder().setConnectionRequestTimeout(500).setReadTimeOutMillis(500)
-                    .setConTimeOutMillis(500).setIoThreadCount(1).setContentCompressionEnabled(false).setMaxRedirects(0)
-                    .setMaxConnTotal(5000).setMaxConnPerRoute(-1).setUserAgent("VIPServer").build();
+            return HttpClientConfig.builder().setConnectionRequestTimeout(PROCESSOR_TIMEOUT_MILLIS)
+                    .setReadTimeOutMillis(PROCESSOR_TIMEOUT_MILLIS).setConTimeOutMillis(PROCESSOR_TIMEOUT_MILLIS)
+                    .setIoThreadCount(EnvUtil.getAvailableProcessors(0.5))
+                    .setContentCompressionEnabled(false).setMaxRedirects(0).setMaxConnTotal(5000)
+                    .setMaxConnPerRoute(PROCESSOR_MAX_CONN_PER_ROUTE).setUserAgent("VIPServer").build();
         }
         
         @Override
@@ -62,6 +62,11 @@ public class SwitchDomain implements Record, Cloneable {
     
     private int checkTimes = 3;
     
+    /**
+     * Max concurrent health checks to the same ip:port, no limit if it is not positive.
+     */
+    private int healthCheckTargetMaxConcurrency = 4;
+    
     private HttpHealthParams httpHealthParams = new HttpHealthParams();
     
     private TcpHealthParams tcpHealthParams = new TcpHealthParams();
@@ -389,6 +394,14 @@ public class SwitchDomain implements Record, Cloneable {
         this.lightBeatEnabled = lightBeatEnabled;
     }
     
+    public int getHealthCheckTargetMaxConcurrency() {
+        return healthCheckTargetMaxConcurrency;
+    }
+    
+    public void setHealthCheckTargetMaxConcurrency(int healthCheckTargetMaxConcurrency) {
+        this.healthCheckTargetMaxConcurrency = healthCheckTargetMaxConcurrency;
+    }
+    
     @Override
     public String toString() {
         return JacksonUtils.toJson(this);
@@ -59,6 +59,8 @@ public class SwitchEntry {
     
     public static final String HEALTH_CHECK_TIMES = "healthCheckTimes";
     
+    public static final String HEALTH_CHECK_TARGET_MAX_CONCURRENCY = "healthCheckTargetMaxConcurrency";
+    
     public static final String DISABLE_ADD_IP = "disableAddIP";
     
     public static final String SEND_BEAT_ONLY = "sendBeatOnly";
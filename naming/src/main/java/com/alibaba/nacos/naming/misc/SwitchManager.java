@@ -216,6 +216,10 @@ public class SwitchManager extends RequestProcessor4CP {
                 tempSwitchDomain.setCheckTimes(times);
             }
             
+            if (entry.equals(SwitchEntry.HEALTH_CHECK_TARGET_MAX_CONCURRENCY)) {
+                tempSwitchDomain.setHealthCheckTargetMaxConcurrency(Integer.parseInt(value));
+            }
+            
             if (entry.equals(SwitchEntry.DISABLE_ADD_IP)) {
                 boolean disableAddIp = Boolean.parseBoolean(value);
                 
@@ -336,6 +340,7 @@ public class SwitchManager extends RequestProcessor4CP {
         switchDomain.setPushEnabled(newSwitchDomain.isPushEnabled());
         switchDomain.setEnableStandalone(newSwitchDomain.isEnableStandalone());
         switchDomain.setCheckTimes(newSwitchDomain.getCheckTimes());
+        switchDomain.setHealthCheckTargetMaxConcurrency(newSwitchDomain.getHealthCheckTargetMaxConcurrency());
         switchDomain.setHttpHealthParams(newSwitchDomain.getHttpHealthParams());
         switchDomain.setTcpHealthParams(newSwitchDomain.getTcpHealthParams());
         switchDomain.setMysqlHealthParams(newSwitchDomain.getMysqlHealthParams());
@@ -24,6 +24,7 @@ import com.alibaba.nacos.naming.misc.Loggers;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -264,6 +265,16 @@ public class MetricsMonitor {
                 .counter(METER_REGISTRY, "nacos_exception", "module", "naming", "name", "leaderSendBeatFailed");
     }
     
+    public static Timer getHealthCheckRtTimer(String type) {
+        return NacosMeterRegistryCenter
+                .timer(METER_REGISTRY, "nacos_timer", "module", "naming", "name", "healthCheckRt", "type", type);
+    }
+    
+    public static Timer getHealthCheckScheduleLagTimer() {
+        return NacosMeterRegistryCenter
+                .timer(METER_REGISTRY, "nacos_timer", "module", "naming", "name", "healthCheckScheduleLag");
+    }
+    
     /**
      * increment IpCount when use batchRegister instance.
      *
@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.push.v2;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -30,18 +31,37 @@ import java.util.Optional;
  */
 public class PushDataWrapper {
     
+    private final Service service;
+    
     private final ServiceMetadata serviceMetadata;
     
     private final ServiceInfo originalData;
     
+    private final boolean pushToAll;
+    
     private final Map<String, Object> processedDatum;
     
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this(null, serviceMetadata, originalData, false);
+    }
+    
+    public PushDataWrapper(Service service, ServiceMetadata serviceMetadata, ServiceInfo originalData,
+            boolean pushToAll) {
+        this.service = service;
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
+        this.pushToAll = pushToAll;
         processedDatum = new HashMap<>(1);
     }
     
+    public Service getService() {
+        return service;
+    }
+    
+    public boolean isPushToAll() {
+        return pushToAll;
+    }
+    
     public ServiceInfo getOriginalData() {
         return originalData;
     }
@@ -16,43 +16,234 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.utils.InstancesChecksumUtils;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Push execute service for rpc.
  *
  * @author xiweng.yy
  */
 @Component
-public class PushExecutorRpcImpl implements PushExecutor {
+public class PushExecutorRpcImpl extends SmartSubscriber implements PushExecutor {
+    
+    private static final String PUSH_PAYLOAD_KEY_PREFIX = "rpc@@";
+    
+    /**
+     * Push full data instead if the changed instances are more than half of current instances.
+     */
+    private static final int MAX_DELTA_RATIO_DIVISOR = 2;
     
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final ConnectionManager connectionManager;
+    
+    /**
+     * The last service info pushed to all subscribers of each view, which is the base of the next delta push. Only the
+     * views eligible for delta are recorded, and the views are removed when the service is removed or not subscribed
+     * by any client.
+     */
+    private final ConcurrentMap<Service, Map<String, ServiceInfo>> lastPushedViews = new ConcurrentHashMap<>();
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, ConnectionManager connectionManager) {
         this.pushService = pushService;
+        this.connectionManager = connectionManager;
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ServiceEvent.ServiceUnsubscribedEvent.class);
+        result.add(ServiceEvent.ServiceRemovedEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        lastPushedViews.remove(((ServiceEvent) event).getService());
     }
     
     @Override
     public void doPush(String clientId, Subscriber subscriber, PushDataWrapper data) {
+        PushPayload pushPayload = getPushPayload(data, subscriber);
+        if (isDeltaPushable(pushPayload, connectionManager.getConnection(clientId))) {
+            pushService.pushWithoutAck(clientId, copyDeltaRequest(pushPayload.deltaRequest));
+            return;
+        }
         pushService.pushWithoutAck(clientId,
-                NotifySubscriberRequest.buildNotifySubscriberRequest(getServiceInfo(data, subscriber)));
+                NotifySubscriberRequest.buildNotifySubscriberRequest(pushPayload.serviceInfo));
     }
     
     @Override
     public void doPushWithCallback(String clientId, Subscriber subscriber, PushDataWrapper data,
             NamingPushCallback callBack) {
-        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
-        callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        PushPayload pushPayload = getPushPayload(data, subscriber);
+        callBack.setActualServiceInfo(pushPayload.serviceInfo);
+        Connection connection = connectionManager.getConnection(clientId);
+        ServerRequest request;
+        byte[] body;
+        if (isDeltaPushable(pushPayload, connection)) {
+            request = copyDeltaRequest(pushPayload.deltaRequest);
+            body = pushPayload.getDeltaBody(getPayloadCodec(connection, request));
+        } else {
+            request = NotifySubscriberRequest.buildNotifySubscriberRequest(pushPayload.serviceInfo);
+            body = pushPayload.getBody(getPayloadCodec(connection, request));
+        }
+        pushService.pushWithCallback(clientId, request, body, callBack, GlobalExecutor.getCallbackExecutor());
+    }
+    
+    /**
+     * Get push payload for subscriber. Subscribers with same view of service share the same selected service info and
+     * pre-encoded request body of each codec, so that the same data only be selected and serialized once by each codec
+     * for one push task.
+     *
+     * @param data       push data
+     * @param subscriber subscriber
+     * @return push payload for subscriber
+     */
+    private PushPayload getPushPayload(PushDataWrapper data, Subscriber subscriber) {
+        String key = buildPushPayloadKey(data, subscriber);
+        Optional<PushPayload> cached = data.getProcessedPushData(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        ServiceInfo serviceInfo = getServiceInfo(data, subscriber);
+        NotifySubscriberDeltaRequest deltaRequest = null;
+        if (PushConfig.getInstance().isPushDeltaEnabled() && null != data.getService()) {
+            serviceInfo.setChecksum(InstancesChecksumUtils.calculate(serviceInfo.getHosts()));
+            deltaRequest = buildDeltaRequest(data, key, serviceInfo);
+        } else if (!lastPushedViews.isEmpty()) {
+            lastPushedViews.clear();
+        }
+        PushPayload result = new PushPayload(serviceInfo, deltaRequest);
+        data.addProcessedPushData(key, result);
+        return result;
+    }
+    
+    /**
+     * Build delta request from the last service info pushed to all subscribers of the same view.
+     *
+     * <p>Only the push task for all subscribers records the base, because the targeted push tasks are for new or
+     * retrying subscribers which should receive the full data. Views filtered by subscriber ip are never pushed in
+     * delta. Clients which base does not match the checksum will query the full data by themselves.
+     *
+     * @param data        push data
+     * @param key         key of the view
+     * @param serviceInfo current service info of the view
+     * @return delta request, or {@code null} if delta is not suitable for this push
+     */
+    private NotifySubscriberDeltaRequest buildDeltaRequest(PushDataWrapper data, String key, ServiceInfo serviceInfo) {
+        if (!data.isPushToAll() || !key.endsWith(Constants.SERVICE_INFO_SPLITER)) {
+            return null;
+        }
+        Service service = data.getService();
+        List<Instance> hosts = serviceInfo.getHosts();
+        if (hosts.isEmpty() || hosts.size() < PushConfig.getInstance().getPushDeltaMinInstanceCount()) {
+            // Small views are always pushed in full, so no base is needed.
+            lastPushedViews.computeIfPresent(service, (k, views) -> {
+                views.remove(key);
+                return views.isEmpty() ? null : views;
+            });
+            return null;
+        }
+        ServiceInfo previous = lastPushedViews.computeIfAbsent(service, k -> new ConcurrentHashMap<>(1))
+                .put(key, serviceInfo);
+        if (null == previous) {
+            return null;
+        }
+        Map<String, Instance> previousHosts = new HashMap<>(previous.getHosts().size());
+        for (Instance each : previous.getHosts()) {
+            previousHosts.put(InstancesChecksumUtils.getInstanceKey(each), each);
+        }
+        List<Instance> added = new ArrayList<>();
+        List<Instance> modified = new ArrayList<>();
+        for (Instance each : hosts) {
+            Instance previousInstance = previousHosts.remove(InstancesChecksumUtils.getInstanceKey(each));
+            if (null == previousInstance) {
+                added.add(each);
+            } else if (previousInstance != each && !previousInstance.equals(each)) {
+                modified.add(each);
+            }
+        }
+        List<Instance> removed = new ArrayList<>(previousHosts.values());
+        if ((added.size() + modified.size() + removed.size()) * MAX_DELTA_RATIO_DIVISOR > hosts.size()) {
+            return null;
+        }
+        return NotifySubscriberDeltaRequest
+                .buildNotifySubscriberDeltaRequest(serviceInfo, previous.getChecksum(), added, removed, modified);
+    }
+    
+    private boolean isDeltaPushable(PushPayload pushPayload, Connection connection) {
+        if (null == pushPayload.deltaRequest) {
+            return false;
+        }
+        if (null == connection || null == connection.getAbilityTable()) {
+            return false;
+        }
+        return Boolean.TRUE.equals(
+                connection.getAbilityTable().get(AbilityKey.SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH.getName()));
+    }
+    
+    /**
+     * The connection might be closed during pushing, then the push will fail later, just encode it by json.
+     */
+    private PayloadCodec getPayloadCodec(Connection connection, ServerRequest request) {
+        return null == connection ? PayloadCodecManager.getJsonCodec() : connection.getPayloadCodec(request.getClass());
+    }
+    
+    private String buildPushPayloadKey(PushDataWrapper data, Subscriber subscriber) {
+        return PUSH_PAYLOAD_KEY_PREFIX + subscriber.getCluster() + Constants.SERVICE_INFO_SPLITER
+                + getSelectorFingerprint(data.getServiceMetadata(), subscriber);
+    }
+    
+    /**
+     * Selector might filter instances by subscriber ip, so only no selector or {@link NoneSelector} can share the
+     * selected result between different subscribers.
+     */
+    private String getSelectorFingerprint(ServiceMetadata serviceMetadata, Subscriber subscriber) {
+        if (null == serviceMetadata || null == serviceMetadata.getSelector()
+                || serviceMetadata.getSelector() instanceof NoneSelector) {
+            return StringUtils.EMPTY;
+        }
+        return subscriber.getIp();
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
@@ -60,4 +251,47 @@ public class PushExecutorRpcImpl implements PushExecutor {
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
                         subscriber);
     }
+    
+    /**
+     * Each push should use its own request instance, because the request id is set to the request when pushing.
+     */
+    private static NotifySubscriberDeltaRequest copyDeltaRequest(NotifySubscriberDeltaRequest template) {
+        NotifySubscriberDeltaRequest result = new NotifySubscriberDeltaRequest();
+        result.setServiceInfo(template.getServiceInfo());
+        result.setBaseChecksum(template.getBaseChecksum());
+        result.setAddedHosts(template.getAddedHosts());
+        result.setRemovedHosts(template.getRemovedHosts());
+        result.setModifiedHosts(template.getModifiedHosts());
+        return result;
+    }
+    
+    private static class PushPayload {
+        
+        private final ServiceInfo serviceInfo;
+        
+        private final NotifySubscriberDeltaRequest deltaRequest;
+        
+        /**
+         * Pre-encoded bodies keyed by codec type, clients might negotiate different codecs.
+         */
+        private final Map<String, byte[]> bodies = new ConcurrentHashMap<>(2);
+        
+        private final Map<String, byte[]> deltaBodies = new ConcurrentHashMap<>(2);
+        
+        private PushPayload(ServiceInfo serviceInfo, NotifySubscriberDeltaRequest deltaRequest) {
+            this.serviceInfo = serviceInfo;
+            this.deltaRequest = deltaRequest;
+        }
+        
+        private byte[] getBody(PayloadCodec codec) {
+            return bodies.computeIfAbsent(codec.getType(), type -> GrpcUtils
+                    .convertRequestBodyWithoutId(NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo),
+                            codec));
+        }
+        
+        private byte[] getDeltaBody(PayloadCodec codec) {
+            return deltaBodies.computeIfAbsent(codec.getType(),
+                    type -> GrpcUtils.convertRequestBodyWithoutId(deltaRequest, codec));
+        }
+    }
 }
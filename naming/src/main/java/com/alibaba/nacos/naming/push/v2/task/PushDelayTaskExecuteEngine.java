@@ -18,7 +18,8 @@ package com.alibaba.nacos.naming.push.v2.task;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
-import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
+import com.alibaba.nacos.common.task.engine.TimingWheelDelayTaskExecuteEngine;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
@@ -34,7 +35,7 @@ import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
  *
  * @author xiweng.yy
  */
-public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
+public class PushDelayTaskExecuteEngine extends TimingWheelDelayTaskExecuteEngine {
     
     private final ClientManager clientManager;
     
@@ -59,6 +60,7 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         this.pushExecutor = pushExecutor;
         this.switchDomain = switchDomain;
         setDefaultTaskProcessor(new PushDelayTaskProcessor(this));
+        MetricsMonitor.registerDelayTaskEngine("naming", PushDelayTaskExecuteEngine.class.getSimpleName(), this);
     }
     
     public ClientManager getClientManager() {
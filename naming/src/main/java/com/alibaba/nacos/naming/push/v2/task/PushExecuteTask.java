@@ -81,7 +81,7 @@ public class PushExecuteTask extends AbstractExecuteTask {
     private PushDataWrapper generatePushData() {
         ServiceInfo serviceInfo = delayTaskEngine.getServiceStorage().getPushData(service);
         ServiceMetadata serviceMetadata = delayTaskEngine.getMetadataManager().getServiceMetadata(service).orElse(null);
-        return new PushDataWrapper(serviceMetadata, serviceInfo);
+        return new PushDataWrapper(service, serviceMetadata, serviceInfo, delayTask.isPushToAll());
     }
     
     private Collection<String> getTargetClientIds() {
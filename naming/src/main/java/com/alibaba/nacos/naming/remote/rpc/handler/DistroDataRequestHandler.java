@@ -23,6 +23,7 @@ import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.core.remote.RequestHandler;
 import com.alibaba.nacos.core.remote.grpc.InvokeSource;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
@@ -53,7 +54,7 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
                 case VERIFY:
                     return handleVerify(request.getDistroData(), meta);
                 case SNAPSHOT:
-                    return handleSnapshot();
+                    return handleSnapshot(request.getDistroData());
                 case ADD:
                 case CHANGE:
                 case DELETE:
@@ -80,9 +81,12 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
-    private DistroDataResponse handleSnapshot() {
+    private DistroDataResponse handleSnapshot(DistroData request) {
         DistroDataResponse result = new DistroDataResponse();
-        DistroData distroData = distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE);
+        DistroSnapshotChunk chunk = null == request || null == request.getDistroKey() ? null
+                : DistroSnapshotChunk.parse(request.getDistroKey().getResourceKey());
+        DistroData distroData = null == chunk ? distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE)
+                : distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE, chunk.getChunk(), chunk.getChunkCount());
         result.setDistroData(distroData);
         return result;
     }
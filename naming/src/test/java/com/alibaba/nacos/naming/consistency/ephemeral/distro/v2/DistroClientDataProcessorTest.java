@@ -18,9 +18,11 @@ package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
 
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -58,9 +60,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -99,6 +103,7 @@ class DistroClientDataProcessorTest {
     void setUp() throws Exception {
         distroClientDataProcessor = new DistroClientDataProcessor(clientManager, distroProtocol);
         EnvUtil.setIsStandalone(false);
+        EnvUtil.setLocalAddress("127.0.0.1:8848");
         client = new ConnectionBasedClient(CLIENT_ID, true, 0L);
         when(clientManager.getClient(CLIENT_ID)).thenReturn(client);
         when(clientManager.isResponsibleClient(client)).thenReturn(true);
@@ -129,6 +134,8 @@ class DistroClientDataProcessorTest {
     @AfterEach
     void tearDown() throws Exception {
         NotifyCenter.deregisterSubscriber(distroClientDataProcessor);
+        DistroConfig.getInstance().setVerifyBucketCount(0);
+        EnvUtil.setLocalAddress(null);
     }
     
     @Test
@@ -184,6 +191,52 @@ class DistroClientDataProcessorTest {
         verify(distroProtocol, never()).sync(any(), any());
     }
     
+    @Test
+    void testOnBucketVerifyFailedEvent() {
+        DistroConfig.getInstance().setVerifyBucketCount(4);
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        String bucketKey = DistroClientVerifyBuckets.buildBucketKey(DistroClientVerifyBuckets.bucketOf(CLIENT_ID, 4));
+        distroClientDataProcessor.onEvent(new ClientEvent.ClientVerifyFailedEvent(bucketKey, MOCK_TARGET_SERVER));
+        // clients of the failed bucket are verified in the next round.
+        verify(distroProtocol, never()).verifyToTarget(any(), any(), anyString());
+        distroClientDataProcessor.getVerifyData();
+        verify(distroProtocol).verifyToTarget(eq(DistroClientDataProcessor.TYPE),
+                argThat(list -> 1 == list.size() && CLIENT_ID.equals(list.get(0).getDistroKey().getResourceKey())),
+                eq(MOCK_TARGET_SERVER));
+        verify(distroProtocol, never()).syncToTarget(any(), any(), anyString(), anyLong());
+        // failed buckets are verified only once.
+        distroClientDataProcessor.getVerifyData();
+        verify(distroProtocol).verifyToTarget(any(), any(), anyString());
+    }
+    
+    @Test
+    void testOnBucketVerifyFailedEventForMultipleBuckets() {
+        DistroConfig.getInstance().setVerifyBucketCount(4);
+        String anotherClientId = findClientIdOfOtherBucket(4);
+        Client anotherClient = new ConnectionBasedClient(anotherClientId, true, 0L);
+        when(clientManager.getClient(anotherClientId)).thenReturn(anotherClient);
+        when(clientManager.isResponsibleClient(anotherClient)).thenReturn(true);
+        when(clientManager.allClientId()).thenReturn(Arrays.asList(CLIENT_ID, anotherClientId));
+        for (String each : Arrays.asList(CLIENT_ID, anotherClientId)) {
+            String bucketKey = DistroClientVerifyBuckets.buildBucketKey(DistroClientVerifyBuckets.bucketOf(each, 4));
+            distroClientDataProcessor.onEvent(new ClientEvent.ClientVerifyFailedEvent(bucketKey, MOCK_TARGET_SERVER));
+        }
+        distroClientDataProcessor.getVerifyData();
+        verify(clientManager).allClientId();
+        verify(distroProtocol).verifyToTarget(eq(DistroClientDataProcessor.TYPE), argThat(list -> 2 == list.size()),
+                eq(MOCK_TARGET_SERVER));
+    }
+    
+    private String findClientIdOfOtherBucket(int bucketCount) {
+        int bucket = DistroClientVerifyBuckets.bucketOf(CLIENT_ID, bucketCount);
+        for (int i = 0; ; i++) {
+            String result = CLIENT_ID + i;
+            if (DistroClientVerifyBuckets.bucketOf(result, bucketCount) != bucket) {
+                return result;
+            }
+        }
+    }
+    
     @Test
     void testOnClientChangedEventWithoutClient() {
         distroClientDataProcessor.onEvent(new ClientEvent.ClientChangedEvent(null));
@@ -349,6 +402,28 @@ class DistroClientDataProcessorTest {
         assertTrue(distroClientDataProcessor.processVerifyData(distroData, MOCK_TARGET_SERVER));
     }
     
+    @Test
+    void testProcessBucketVerifyData() {
+        client.setRevision(10L);
+        int bucket = DistroClientVerifyBuckets.bucketOf(CLIENT_ID, 4);
+        DistroClientBucketVerifyInfo bucketVerifyInfo = new DistroClientBucketVerifyInfo(bucket, 4,
+                DistroClientVerifyBuckets.hash(CLIENT_ID, 10L), 1);
+        when(serializer.deserialize(any(), eq(DistroClientBucketVerifyInfo.class))).thenReturn(bucketVerifyInfo);
+        DistroData bucketData = new DistroData(
+                new DistroKey(DistroClientVerifyBuckets.buildBucketKey(bucket), DistroClientDataProcessor.TYPE,
+                        MOCK_TARGET_SERVER), new byte[0]);
+        // client is not verified from source server yet.
+        assertFalse(distroClientDataProcessor.processVerifyData(bucketData, MOCK_TARGET_SERVER));
+        DistroClientVerifyInfo verifyInfo = new DistroClientVerifyInfo(CLIENT_ID, 10L);
+        when(serializer.deserialize(any(), eq(DistroClientVerifyInfo.class))).thenReturn(verifyInfo);
+        when(clientManager.verifyClient(any())).thenReturn(true);
+        assertTrue(distroClientDataProcessor.processVerifyData(distroData, MOCK_TARGET_SERVER));
+        assertTrue(distroClientDataProcessor.processVerifyData(bucketData, MOCK_TARGET_SERVER));
+        verify(clientManager, times(2)).verifyClient(any());
+        client.setRevision(11L);
+        assertFalse(distroClientDataProcessor.processVerifyData(bucketData, MOCK_TARGET_SERVER));
+    }
+    
     @Test
     void testProcessSnapshot() {
         ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
@@ -376,6 +451,20 @@ class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    void testGetDatumSnapshotByChunk() {
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        int chunk = DistroClientVerifyBuckets.bucketOf(CLIENT_ID, 2);
+        DistroData actual = distroClientDataProcessor.getDatumSnapshot(chunk, 2);
+        assertEquals(new DistroSnapshotChunk(chunk, 2).toResourceKey(), actual.getDistroKey().getResourceKey());
+        assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
+        verify(serializer).serialize(
+                argThat(snapshot -> ((ClientSyncDatumSnapshot) snapshot).getClientSyncDataList().size() == 1));
+        distroClientDataProcessor.getDatumSnapshot(1 - chunk, 2);
+        verify(serializer).serialize(
+                argThat(snapshot -> ((ClientSyncDatumSnapshot) snapshot).getClientSyncDataList().isEmpty()));
+    }
+    
     @Test
     void testGetVerifyData() {
         client.setRevision(10L);
@@ -386,4 +475,20 @@ class DistroClientDataProcessorTest {
         assertEquals(CLIENT_ID, list.iterator().next().getDistroKey().getResourceKey());
         assertEquals(DistroClientDataProcessor.TYPE, list.iterator().next().getDistroKey().getResourceType());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testGetBucketVerifyData() {
+        DistroConfig.getInstance().setVerifyBucketCount(4);
+        client.setRevision(10L);
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        List<DistroData> list = distroClientDataProcessor.getVerifyData();
+        assertEquals(1, list.size());
+        DistroData actual = list.get(0);
+        assertEquals(DataOperation.VERIFY, actual.getType());
+        assertTrue(DistroClientVerifyBuckets.isBucketKey(actual.getDistroKey().getResourceKey()));
+        assertEquals(DistroClientVerifyBuckets.bucketOf(CLIENT_ID, 4),
+                DistroClientVerifyBuckets.parseBucket(actual.getDistroKey().getResourceKey()));
+        verify(serializer).serialize(argThat((DistroClientBucketVerifyInfo info) -> 1 == info.getClientCount()
+                && DistroClientVerifyBuckets.hash(CLIENT_ID, 10L) == info.getDigest()));
+    }
+}
@@ -30,6 +30,7 @@ import com.alibaba.nacos.naming.misc.SwitchManager;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.sys.env.Constants;
 import com.alibaba.nacos.sys.env.EnvUtil;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -45,6 +46,7 @@ import java.util.Collection;
 import java.util.HashSet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -132,6 +134,27 @@ class OperatorControllerTest {
         assertEquals(1, objectNode.get("responsibleClientCount").asInt());
     }
     
+    @Test
+    void testClientsFootprint() {
+        Collection<String> clients = new HashSet<>();
+        clients.add("127.0.0.1:8081#true");
+        clients.add("127.0.0.1:8082#false");
+        Mockito.when(clientManager.allClientId()).thenReturn(clients);
+        Client client = new IpPortBasedClient("127.0.0.1:8081#true", true);
+        client.addServiceInstance(Service.newService("", "", ""), new InstancePublishInfo());
+        Mockito.when(clientManager.getClient("127.0.0.1:8081#true")).thenReturn(client);
+        
+        ObjectNode objectNode = operatorController.clientsFootprint();
+        
+        JsonNode footprint = objectNode.get("ephemeralIpPortClient");
+        assertEquals(1, footprint.get("clientCount").asInt());
+        assertEquals(1, footprint.get("compactClientCount").asInt());
+        assertEquals(1, footprint.get("publisherCount").asInt());
+        assertEquals(0, footprint.get("subscriberCount").asInt());
+        assertTrue(footprint.get("estimatedStorageBytes").asLong() > 0);
+        assertFalse(objectNode.has("persistentIpPortClient"));
+    }
+    
     @Test
     void testGetResponsibleServer4Client() {
         Mockito.when(distroMapper.mapSrv(Mockito.anyString())).thenReturn("test");
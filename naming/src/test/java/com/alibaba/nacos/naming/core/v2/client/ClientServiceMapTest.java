@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.client;
+
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientServiceMapTest {
+    
+    private final ClientServiceMap<String> serviceMap = new ClientServiceMap<>();
+    
+    @Test
+    void testPutAndGetInline() {
+        Service service = Service.newService("ns", "group", "inlineService");
+        assertNull(serviceMap.get(service));
+        assertNull(serviceMap.put(service, "v1"));
+        assertEquals("v1", serviceMap.put(service, "v2"));
+        assertEquals("v2", serviceMap.get(Service.newService("ns", "group", "inlineService")));
+        assertEquals(1, serviceMap.size());
+        assertTrue(serviceMap.isInline());
+        assertTrue(serviceMap.keys().contains(service));
+        assertTrue(serviceMap.values().contains("v2"));
+    }
+    
+    @Test
+    void testRemoveInline() {
+        Service service1 = Service.newService("ns", "group", "removeService1");
+        Service service2 = Service.newService("ns", "group", "removeService2");
+        serviceMap.put(service1, "v1");
+        serviceMap.put(service2, "v2");
+        final Collection<Service> keys = serviceMap.keys();
+        assertEquals("v1", serviceMap.remove(service1));
+        assertNull(serviceMap.remove(service1));
+        assertNull(serviceMap.get(service1));
+        assertEquals("v2", serviceMap.get(service2));
+        // keys are weakly consistent snapshot
+        assertEquals(2, keys.size());
+        assertEquals(1, serviceMap.keys().size());
+        assertEquals("v2", serviceMap.remove(service2));
+        assertTrue(serviceMap.isEmpty());
+    }
+    
+    @Test
+    void testGrowIntoMap() {
+        Map<Service, String> expected = new HashMap<>();
+        for (int i = 0; i <= ClientServiceMap.INLINE_CAPACITY; i++) {
+            Service service = Service.newService("ns", "group", "growService" + i);
+            serviceMap.put(service, "v" + i);
+            expected.put(service, "v" + i);
+        }
+        assertFalse(serviceMap.isInline());
+        assertEquals(expected.size(), serviceMap.size());
+        Map<Service, String> actual = new HashMap<>();
+        serviceMap.forEach(actual::put);
+        assertEquals(expected, actual);
+        assertEquals("v0", serviceMap.remove(Service.newService("ns", "group", "growService0")));
+        assertEquals(ClientServiceMap.INLINE_CAPACITY, serviceMap.size());
+    }
+    
+    @Test
+    void testKeepFirstPutService() {
+        Service ephemeralService = Service.newService("ns", "group", "keepService", true);
+        serviceMap.put(ephemeralService, "v1");
+        serviceMap.put(Service.newService("ns", "group", "keepService", false), "v2");
+        assertSame(ephemeralService, serviceMap.keys().iterator().next());
+        assertEquals("v2", serviceMap.get(ephemeralService));
+    }
+    
+    @Test
+    void testEstimateFootprint() {
+        long empty = serviceMap.estimateFootprint();
+        serviceMap.put(Service.newService("ns", "group", "footprintService0"), "v");
+        long inline = serviceMap.estimateFootprint();
+        assertTrue(inline > empty);
+        for (int i = 1; i <= ClientServiceMap.INLINE_CAPACITY; i++) {
+            serviceMap.put(Service.newService("ns", "group", "footprintService" + i), "v");
+        }
+        assertTrue(serviceMap.estimateFootprint() > inline);
+    }
+}
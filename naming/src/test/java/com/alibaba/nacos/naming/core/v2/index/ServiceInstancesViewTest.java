@@ -0,0 +1,178 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.utils.InstanceUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServiceInstancesViewTest {
+    
+    private static final Service SERVICE = Service.newService("namespaceId", "groupName", "serviceName");
+    
+    private final Map<String, InstancePublishInfo> publishInfos = new HashMap<>();
+    
+    private final Map<String, InstanceMetadata> instanceMetadata = new HashMap<>();
+    
+    private final AtomicInteger parseCount = new AtomicInteger();
+    
+    private final AtomicInteger metadataLookupCount = new AtomicInteger();
+    
+    private final AtomicLong metadataRevision = new AtomicLong();
+    
+    private ServiceInstancesView view;
+    
+    @BeforeEach
+    void setUp() {
+        view = new ServiceInstancesView(instanceInfo -> {
+            parseCount.incrementAndGet();
+            return InstanceUtil.parseToApiInstance(SERVICE, instanceInfo);
+        }, metadataId -> {
+            metadataLookupCount.incrementAndGet();
+            return instanceMetadata.get(metadataId);
+        }, metadataRevision::get);
+        publishInfos.put("client1", newPublishInfo("1.1.1.1", "A"));
+        publishInfos.put("client2", newPublishInfo("1.1.1.2", "B"));
+    }
+    
+    @Test
+    void testRefreshOnlyParseChangedClient() {
+        List<Instance> first = view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertEquals(2, first.size());
+        assertEquals(2, parseCount.get());
+        assertEquals(new HashSet<>(Arrays.asList("A", "B")), view.getClusters());
+        List<Instance> second = view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertSame(first, second);
+        assertEquals(2, parseCount.get());
+        publishInfos.put("client2", newPublishInfo("1.1.1.3", "B"));
+        List<Instance> third = view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertNotSame(second, third);
+        assertEquals(3, parseCount.get());
+        assertEquals(2, third.size());
+        assertThrows(UnsupportedOperationException.class, () -> third.remove(0));
+    }
+    
+    @Test
+    void testRefreshWhenHealthyChangedInPlace() {
+        view.refresh(publishInfos.keySet(), publishInfos::get);
+        publishInfos.get("client1").setHealthy(false);
+        List<Instance> result = view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertEquals(3, parseCount.get());
+        assertEquals(1, result.stream().filter(Instance::isHealthy).count());
+    }
+    
+    @Test
+    void testRefreshWhenMetadataChanged() {
+        view.refresh(publishInfos.keySet(), publishInfos::get);
+        instanceMetadata.put(publishInfos.get("client1").getMetadataId(), new InstanceMetadata());
+        metadataRevision.incrementAndGet();
+        view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertEquals(3, parseCount.get());
+    }
+    
+    @Test
+    void testRefreshWithoutMetadataLookupIfRevisionNotChanged() {
+        view.refresh(publishInfos.keySet(), publishInfos::get);
+        int lookupCount = metadataLookupCount.get();
+        view.refresh(publishInfos.keySet(), publishInfos::get);
+        view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertEquals(lookupCount, metadataLookupCount.get());
+        assertEquals(2, parseCount.get());
+        metadataRevision.incrementAndGet();
+        view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertEquals(lookupCount + 2, metadataLookupCount.get());
+        assertEquals(2, parseCount.get());
+    }
+    
+    @Test
+    void testRefreshWhenClientRemoved() {
+        view.refresh(publishInfos.keySet(), publishInfos::get);
+        publishInfos.remove("client2");
+        List<Instance> result = view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertEquals(1, result.size());
+        assertEquals(1, view.getClientCount());
+        assertFalse(view.getClusters().contains("B"));
+    }
+    
+    @Test
+    void testRefreshBatchAndDuplicatedInstances() {
+        BatchInstancePublishInfo batchInstancePublishInfo = new BatchInstancePublishInfo();
+        batchInstancePublishInfo.setInstancePublishInfos(
+                Arrays.asList(newPublishInfo("1.1.1.1", "A"), newPublishInfo("1.1.1.4", "C")));
+        publishInfos.put("client3", batchInstancePublishInfo);
+        List<Instance> result = view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertEquals(3, result.size());
+        assertTrue(view.getClusters().contains("C"));
+    }
+    
+    @Test
+    void testRefreshOnlyReplaceChangedSlots() {
+        publishInfos.put("client3", newPublishInfo("1.1.1.3", "C"));
+        List<Instance> first = view.refresh(publishInfos.keySet(), publishInfos::get);
+        final Instance unchanged = first.stream().filter(each -> "1.1.1.3".equals(each.getIp())).findFirst().get();
+        publishInfos.remove("client1");
+        publishInfos.put("client2", newPublishInfo("1.1.1.5", "B"));
+        List<Instance> second = view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertEquals(2, second.size());
+        assertEquals(new HashSet<>(Arrays.asList("1.1.1.3", "1.1.1.5")),
+                second.stream().map(Instance::getIp).collect(Collectors.toSet()));
+        assertTrue(second.stream().anyMatch(each -> each == unchanged));
+        assertEquals(3, first.size());
+    }
+    
+    @Test
+    void testRefreshWhenDuplicatedHolderRemoved() {
+        publishInfos.put("client3", newPublishInfo("1.1.1.1", "A"));
+        assertEquals(2, view.refresh(publishInfos.keySet(), publishInfos::get).size());
+        publishInfos.remove("client1");
+        List<Instance> result = view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertEquals(2, result.size());
+        assertTrue(result.stream().anyMatch(each -> "1.1.1.1".equals(each.getIp())));
+        publishInfos.remove("client3");
+        result = view.refresh(publishInfos.keySet(), publishInfos::get);
+        assertEquals(1, result.size());
+        assertFalse(view.getClusters().contains("A"));
+    }
+    
+    private InstancePublishInfo newPublishInfo(String ip, String cluster) {
+        InstancePublishInfo result = new InstancePublishInfo(ip, 8848);
+        result.setCluster(cluster);
+        result.setHealthy(true);
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HealthCheckWheelTest {
+    
+    private HealthCheckWheel wheel;
+    
+    @BeforeEach
+    void setUp() {
+        wheel = new HealthCheckWheel(10L, 2);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        wheel.shutdown();
+    }
+    
+    @Test
+    void testSchedule() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        final long start = System.currentTimeMillis();
+        wheel.schedule("a", latch::countDown, 50L, TimeUnit.MILLISECONDS);
+        wheel.schedule("b", latch::countDown, 0L, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(3L, TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() - start >= 50L);
+    }
+    
+    @Test
+    void testScheduleWithFixedDelayAndCancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(3);
+        HealthCheckWheel.Timeout timeout = wheel.scheduleWithFixedDelay("a", () -> {
+            count.incrementAndGet();
+            latch.countDown();
+        }, 10L, 20L, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(3L, TimeUnit.SECONDS));
+        timeout.cancel();
+        assertTrue(timeout.isCancelled());
+        TimeUnit.MILLISECONDS.sleep(50L);
+        int countAfterCancel = count.get();
+        TimeUnit.MILLISECONDS.sleep(100L);
+        assertEquals(countAfterCancel, count.get());
+    }
+    
+    @Test
+    void testCancelBeforeRun() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        wheel.schedule("a", count::incrementAndGet, 20L, TimeUnit.MILLISECONDS).cancel();
+        TimeUnit.MILLISECONDS.sleep(100L);
+        assertEquals(0, count.get());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class HealthCheckTargetLimiterTest {
+    
+    private static final long TIMEOUT_MILLIS = 10000L;
+    
+    private final HealthCheckTargetLimiter limiter = new HealthCheckTargetLimiter();
+    
+    @Test
+    void testTryAcquire() {
+        HealthCheckTargetLimiter.Permit first = limiter.tryAcquire("1.1.1.1", 8080, 2, TIMEOUT_MILLIS);
+        HealthCheckTargetLimiter.Permit second = limiter.tryAcquire("1.1.1.1", 8080, 2, TIMEOUT_MILLIS);
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(limiter.tryAcquire("1.1.1.1", 8080, 2, TIMEOUT_MILLIS));
+        assertNotNull(limiter.tryAcquire("1.1.1.1", 8081, 2, TIMEOUT_MILLIS));
+        assertEquals(2, limiter.getInFlightCount("1.1.1.1", 8080));
+        first.release();
+        // release more than once should take effect only once
+        first.release();
+        assertEquals(1, limiter.getInFlightCount("1.1.1.1", 8080));
+        assertNotNull(limiter.tryAcquire("1.1.1.1", 8080, 2, TIMEOUT_MILLIS));
+        second.release();
+        assertEquals(1, limiter.getInFlightCount("1.1.1.1", 8080));
+    }
+    
+    @Test
+    void testTryAcquireWithoutLimit() {
+        assertSame(HealthCheckTargetLimiter.NO_LIMIT_PERMIT, limiter.tryAcquire("1.1.1.1", 8080, 0, TIMEOUT_MILLIS));
+        assertEquals(0, limiter.getInFlightCount("1.1.1.1", 8080));
+        HealthCheckTargetLimiter.NO_LIMIT_PERMIT.release();
+        assertEquals(0, limiter.getInFlightCount("1.1.1.1", 8080));
+    }
+    
+    @Test
+    void testExpiredPermitNotCounted() throws InterruptedException {
+        // The permits are never released, such as the check is finished without callback.
+        assertNotNull(limiter.tryAcquire("1.1.1.1", 8080, 2, 50L));
+        assertNotNull(limiter.tryAcquire("1.1.1.1", 8080, 2, 50L));
+        assertNull(limiter.tryAcquire("1.1.1.1", 8080, 2, 50L));
+        TimeUnit.MILLISECONDS.sleep(100L);
+        assertEquals(0, limiter.getInFlightCount("1.1.1.1", 8080));
+        HealthCheckTargetLimiter.Permit permit = limiter.tryAcquire("1.1.1.1", 8080, 2, TIMEOUT_MILLIS);
+        assertNotNull(permit);
+        assertEquals(1, limiter.getInFlightCount("1.1.1.1", 8080));
+        permit.release();
+        assertEquals(0, limiter.getInFlightCount("1.1.1.1", 8080));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.lang.reflect.Constructor;
+import java.nio.channels.SelectionKey;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TcpHealthCheckProcessorTest {
+    
+    @Mock
+    private HealthCheckCommonV2 healthCheckCommon;
+    
+    @Mock
+    private SwitchDomain switchDomain;
+    
+    @Mock
+    private HealthCheckTaskV2 healthCheckTaskV2;
+    
+    @Mock
+    private Service service;
+    
+    @Mock
+    private ClusterMetadata clusterMetadata;
+    
+    @Mock
+    private HealthCheckInstancePublishInfo healthCheckInstancePublishInfo;
+    
+    private TcpHealthCheckProcessor tcpHealthCheckProcessor;
+    
+    @BeforeEach
+    void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        tcpHealthCheckProcessor = new TcpHealthCheckProcessor(healthCheckCommon, switchDomain);
+    }
+    
+    @Test
+    void testTimeOutTaskReleasePermitOfCancelledKey() throws Exception {
+        HealthCheckTargetLimiter limiter = HealthCheckTargetLimiter.getInstance();
+        HealthCheckTargetLimiter.Permit permit = limiter.tryAcquire("127.0.0.2", 8848, 1, 10000L);
+        assertNotNull(permit);
+        Object beat = newInnerInstance("Beat", new Class<?>[] {TcpHealthCheckProcessor.class, HealthCheckTaskV2.class,
+                Service.class, ClusterMetadata.class, HealthCheckInstancePublishInfo.class,
+                HealthCheckTargetLimiter.Permit.class}, tcpHealthCheckProcessor, healthCheckTaskV2, service,
+                clusterMetadata, healthCheckInstancePublishInfo, permit);
+        // The key of beat is cancelled by the next beat of the same instance.
+        SelectionKey key = mock(SelectionKey.class);
+        when(key.attachment()).thenReturn(beat);
+        when(key.isValid()).thenReturn(false);
+        Runnable timeOutTask = (Runnable) newInnerInstance("TimeOutTask", new Class<?>[] {SelectionKey.class}, key);
+        timeOutTask.run();
+        assertEquals(0, limiter.getInFlightCount("127.0.0.2", 8848));
+        verify(key, never()).channel();
+        verify(healthCheckInstancePublishInfo, never()).finishCheck();
+        verifyNoInteractions(healthCheckCommon);
+    }
+    
+    private Object newInnerInstance(String simpleName, Class<?>[] parameterTypes, Object... args) throws Exception {
+        Class<?> innerClass = Arrays.stream(TcpHealthCheckProcessor.class.getDeclaredClasses())
+                .filter(each -> simpleName.equals(each.getSimpleName())).findFirst().get();
+        Constructor<?> constructor = innerClass.getDeclaredConstructor(parameterTypes);
+        constructor.setAccessible(true);
+        return constructor.newInstance(args);
+    }
+}
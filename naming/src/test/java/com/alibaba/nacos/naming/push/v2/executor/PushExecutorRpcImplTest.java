@@ -16,14 +16,25 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.common.event.ServerConfigChangeEvent;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.constants.PushConstants;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
@@ -32,20 +43,30 @@ import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +78,9 @@ class PushExecutorRpcImplTest {
     @Mock
     private RpcPushService pushService;
     
+    @Mock
+    private ConnectionManager connectionManager;
+    
     @Mock
     private Subscriber subscriber;
     
@@ -80,7 +104,7 @@ class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, connectionManager);
         EnvUtil.setEnvironment(new MockEnvironment());
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
@@ -97,19 +121,130 @@ class PushExecutorRpcImplTest {
     @Test
     void testDoPushWithCallback() {
         doAnswer(new CallbackAnswer()).when(pushService)
-                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), eq(pushCallBack),
-                        eq(GlobalExecutor.getCallbackExecutor()));
+                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), any(byte[].class),
+                        eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
         pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushWithCallbackShareBodyForSameView() {
+        String anotherClientId = UUID.randomUUID().toString();
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        pushExecutor.doPushWithCallback(anotherClientId, subscriber, pushData, pushCallBack);
+        ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(pushService).pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class),
+                bodyCaptor.capture(), eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+        verify(pushService).pushWithCallback(eq(anotherClientId), any(NotifySubscriberRequest.class),
+                bodyCaptor.capture(), eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+        assertSame(bodyCaptor.getAllValues().get(0), bodyCaptor.getAllValues().get(1));
+    }
+    
+    @Test
+    void testDoPushWithCallbackDelta() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(PushConstants.PUSH_DELTA_ENABLED, "true");
+        environment.setProperty(PushConstants.PUSH_DELTA_MIN_INSTANCE_COUNT, "1");
+        EnvUtil.setEnvironment(environment);
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+        try {
+            Connection connection = mock(Connection.class);
+            when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+            when(connection.getAbilityTable()).thenReturn(
+                    Collections.singletonMap(AbilityKey.SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH.getName(), true));
+            when(connection.getPayloadCodec(any())).thenReturn(PayloadCodecManager.getJsonCodec());
+            String anotherClientId = UUID.randomUUID().toString();
+            Service service = Service.newService("N", "G", "S");
+            pushExecutor.doPushWithCallback(rpcClientId, subscriber,
+                    new PushDataWrapper(service, serviceMetadata, buildServiceInfo(1, 2, 3, 4), true), pushCallBack);
+            PushDataWrapper secondPushData = new PushDataWrapper(service, serviceMetadata,
+                    buildServiceInfo(1, 2, 3, 5), true);
+            pushExecutor.doPushWithCallback(rpcClientId, subscriber, secondPushData, pushCallBack);
+            pushExecutor.doPushWithCallback(anotherClientId, subscriber, secondPushData, pushCallBack);
+            ArgumentCaptor<ServerRequest> requestCaptor = ArgumentCaptor.forClass(ServerRequest.class);
+            verify(pushService, times(2)).pushWithCallback(eq(rpcClientId), requestCaptor.capture(),
+                    any(byte[].class), eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+            verify(pushService).pushWithCallback(eq(anotherClientId), any(NotifySubscriberRequest.class),
+                    any(byte[].class), eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+            NotifySubscriberRequest fullRequest = (NotifySubscriberRequest) requestCaptor.getAllValues().get(0);
+            assertTrue(requestCaptor.getAllValues().get(1) instanceof NotifySubscriberDeltaRequest);
+            NotifySubscriberDeltaRequest deltaRequest = (NotifySubscriberDeltaRequest) requestCaptor.getAllValues()
+                    .get(1);
+            assertEquals(fullRequest.getServiceInfo().getChecksum(), deltaRequest.getBaseChecksum());
+            assertEquals(5, deltaRequest.getAddedHosts().get(0).getPort());
+            assertEquals(4, deltaRequest.getRemovedHosts().get(0).getPort());
+            assertTrue(deltaRequest.getModifiedHosts().isEmpty());
+            assertTrue(deltaRequest.getServiceInfo().getHosts().isEmpty());
+        } finally {
+            EnvUtil.setEnvironment(new MockEnvironment());
+            PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+        }
+    }
+    
+    @Test
+    void testDoPushWithCallbackNotRecordSmallView() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(PushConstants.PUSH_DELTA_ENABLED, "true");
+        environment.setProperty(PushConstants.PUSH_DELTA_MIN_INSTANCE_COUNT, "5");
+        EnvUtil.setEnvironment(environment);
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+        try {
+            Service service = Service.newService("N", "G", "S");
+            pushExecutor.doPushWithCallback(rpcClientId, subscriber,
+                    new PushDataWrapper(service, serviceMetadata, buildServiceInfo(1, 2, 3, 4), true), pushCallBack);
+            assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(pushExecutor, "lastPushedViews")).isEmpty());
+        } finally {
+            EnvUtil.setEnvironment(new MockEnvironment());
+            PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+        }
+    }
+    
+    @Test
+    void testEvictLastPushedViews() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(PushConstants.PUSH_DELTA_ENABLED, "true");
+        environment.setProperty(PushConstants.PUSH_DELTA_MIN_INSTANCE_COUNT, "1");
+        EnvUtil.setEnvironment(environment);
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+        try {
+            Service service = Service.newService("N", "G", "S");
+            Service anotherService = Service.newService("N", "G", "S2");
+            pushExecutor.doPushWithCallback(rpcClientId, subscriber,
+                    new PushDataWrapper(service, serviceMetadata, buildServiceInfo(1, 2), true), pushCallBack);
+            pushExecutor.doPushWithCallback(rpcClientId, subscriber,
+                    new PushDataWrapper(anotherService, serviceMetadata, buildServiceInfo(1, 2), true), pushCallBack);
+            Map<?, ?> lastPushedViews = (Map<?, ?>) ReflectionTestUtils.getField(pushExecutor, "lastPushedViews");
+            assertEquals(2, lastPushedViews.size());
+            pushExecutor.onEvent(new ServiceEvent.ServiceUnsubscribedEvent(service));
+            assertFalse(lastPushedViews.containsKey(service));
+            pushExecutor.onEvent(new ServiceEvent.ServiceRemovedEvent(anotherService));
+            assertTrue(lastPushedViews.isEmpty());
+        } finally {
+            EnvUtil.setEnvironment(new MockEnvironment());
+            PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+        }
+    }
+    
+    private ServiceInfo buildServiceInfo(int... ports) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (int each : ports) {
+            Instance instance = new Instance();
+            instance.setIp("1.1.1.1");
+            instance.setPort(each);
+            hosts.add(instance);
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
         public Void answer(InvocationOnMock invocationOnMock) throws Throwable {
             NotifySubscriberRequest pushRequest = invocationOnMock.getArgument(1);
             assertEquals(pushData.getOriginalData().toString(), pushRequest.getServiceInfo().toString());
-            PushCallBack callBack = invocationOnMock.getArgument(2);
+            PushCallBack callBack = invocationOnMock.getArgument(3);
             callBack.onSuccess();
             return null;
         }
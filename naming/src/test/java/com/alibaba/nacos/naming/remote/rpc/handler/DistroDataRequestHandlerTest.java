@@ -22,8 +22,11 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -69,6 +72,14 @@ class DistroDataRequestHandlerTest {
         DistroDataResponse response1 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         assertEquals(response1.getDistroData(), distroData);
         
+        DistroData chunkData = new DistroData();
+        Mockito.when(distroProtocol.onSnapshot(Mockito.any(), Mockito.eq(1), Mockito.eq(4))).thenReturn(chunkData);
+        distroDataRequest.setDistroData(new DistroData(
+                new DistroKey(new DistroSnapshotChunk(1, 4).toResourceKey(), DistroClientDataProcessor.TYPE),
+                new byte[0]));
+        DistroDataResponse chunkResponse = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        assertEquals(chunkResponse.getDistroData(), chunkData);
+        
         distroDataRequest.setDataOperation(DELETE);
         Mockito.when(distroProtocol.onReceive(Mockito.any())).thenReturn(false);
         DistroDataResponse response2 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
@@ -22,6 +22,7 @@ import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.persistence.model.Page;
+import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.plugin.auth.api.Permission;
 import com.alibaba.nacos.plugin.auth.api.Resource;
@@ -34,6 +35,10 @@ import com.alibaba.nacos.plugin.auth.impl.persistence.RoleInfo;
 import com.alibaba.nacos.plugin.auth.impl.persistence.RolePersistService;
 import com.alibaba.nacos.plugin.auth.impl.users.NacosUser;
 import com.alibaba.nacos.plugin.auth.impl.users.NacosUserDetailsServiceImpl;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -42,10 +47,13 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
 
@@ -60,6 +68,8 @@ public class NacosRoleServiceImpl {
     
     private static final int DEFAULT_PAGE_NO = 1;
     
+    private static final int DECISION_CACHE_MAX_SIZE = 10000;
+    
     @Autowired
     private AuthConfigs authConfigs;
     
@@ -78,6 +88,34 @@ public class NacosRoleServiceImpl {
     
     private volatile Map<String, List<PermissionInfo>> permissionInfoMap = new ConcurrentHashMap<>();
     
+    /**
+     * Compiled patterns of permission resources, rebuilt when permissions are reloaded.
+     */
+    private volatile Map<String, Pattern> resourcePatternMap = new ConcurrentHashMap<>();
+    
+    /**
+     * Decisions of (user, action, resource), replaced by a new cache when roles or permissions may be changed, so the
+     * decisions computing with old roles and permissions are put into the discarded cache.
+     */
+    private volatile Cache<DecisionKey, Boolean> decisionCache = newDecisionCache();
+    
+    private final LongAdder decisionCacheHitCount = new LongAdder();
+    
+    private final LongAdder decisionCacheMissCount = new LongAdder();
+    
+    public NacosRoleServiceImpl() {
+        List<Tag> tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "auth"));
+        tags.add(new ImmutableTag("name", "permissionDecisionCacheHit"));
+        NacosMeterRegistryCenter.gauge(NacosMeterRegistryCenter.CORE_STABLE_REGISTRY, "nacos_monitor", tags,
+                decisionCacheHitCount);
+        tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "auth"));
+        tags.add(new ImmutableTag("name", "permissionDecisionCacheMiss"));
+        NacosMeterRegistryCenter.gauge(NacosMeterRegistryCenter.CORE_STABLE_REGISTRY, "nacos_monitor", tags,
+                decisionCacheMissCount);
+    }
+    
     @Scheduled(initialDelay = 5000, fixedDelay = 15000)
     private void reload() {
         try {
@@ -106,6 +144,8 @@ public class NacosRoleServiceImpl {
             roleSet = tmpRoleSet;
             roleInfoMap = tmpRoleInfoMap;
             permissionInfoMap = tmpPermissionInfoMap;
+            resourcePatternMap = compileResourcePatterns(tmpPermissionInfoMap);
+            invalidateDecisionCache();
         } catch (Exception e) {
             Loggers.AUTH.warn("[LOAD-ROLES] load failed", e);
         }
@@ -126,6 +166,8 @@ public class NacosRoleServiceImpl {
             return true;
         }
         
+        // Get the cache before roles, so that the decision is not put into the new cache with old roles.
+        final Cache<DecisionKey, Boolean> currentDecisionCache = decisionCache;
         List<RoleInfo> roleInfoList = getRoles(nacosUser.getUserName());
         if (CollectionUtils.isEmpty(roleInfoList)) {
             return false;
@@ -145,16 +187,32 @@ public class NacosRoleServiceImpl {
         }
         
         // For other roles, use a pattern match to decide if pass or not.
+        String resource = joinResource(permission.getResource());
+        if (!authConfigs.isCachingEnabled()) {
+            return matchPermission(roleInfoList, permission.getAction(), resource);
+        }
+        DecisionKey decisionKey = new DecisionKey(nacosUser.getUserName(), permission.getAction(), resource);
+        Boolean cachedResult = currentDecisionCache.getIfPresent(decisionKey);
+        if (null != cachedResult) {
+            decisionCacheHitCount.increment();
+            return cachedResult.booleanValue();
+        }
+        decisionCacheMissCount.increment();
+        boolean result = matchPermission(roleInfoList, permission.getAction(), resource);
+        currentDecisionCache.put(decisionKey, result);
+        return result;
+    }
+    
+    private boolean matchPermission(List<RoleInfo> roleInfoList, String action, String resource) {
         for (RoleInfo roleInfo : roleInfoList) {
             List<PermissionInfo> permissionInfoList = getPermissions(roleInfo.getRole());
             if (CollectionUtils.isEmpty(permissionInfoList)) {
                 continue;
             }
             for (PermissionInfo permissionInfo : permissionInfoList) {
-                String permissionResource = permissionInfo.getResource().replaceAll("\\*", ".*");
                 String permissionAction = permissionInfo.getAction();
-                if (permissionAction.contains(permission.getAction()) && Pattern.matches(permissionResource,
-                        joinResource(permission.getResource()))) {
+                if (permissionAction.contains(action) && getResourcePattern(permissionInfo.getResource())
+                        .matcher(resource).matches()) {
                     return true;
                 }
             }
@@ -162,6 +220,51 @@ public class NacosRoleServiceImpl {
         return false;
     }
     
+    private Pattern getResourcePattern(String permissionResource) {
+        return resourcePatternMap.computeIfAbsent(permissionResource, NacosRoleServiceImpl::compileResourcePattern);
+    }
+    
+    private static Pattern compileResourcePattern(String permissionResource) {
+        return Pattern.compile(permissionResource.replaceAll("\\*", ".*"));
+    }
+    
+    private static Map<String, Pattern> compileResourcePatterns(Map<String, List<PermissionInfo>> permissionInfoMap) {
+        Map<String, Pattern> result = new ConcurrentHashMap<>(16);
+        for (List<PermissionInfo> permissionInfoList : permissionInfoMap.values()) {
+            if (CollectionUtils.isEmpty(permissionInfoList)) {
+                continue;
+            }
+            for (PermissionInfo permissionInfo : permissionInfoList) {
+                try {
+                    result.computeIfAbsent(permissionInfo.getResource(), NacosRoleServiceImpl::compileResourcePattern);
+                } catch (PatternSyntaxException e) {
+                    Loggers.AUTH.warn("[LOAD-ROLES] invalid permission resource {} of role {}",
+                            permissionInfo.getResource(), permissionInfo.getRole());
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static Cache<DecisionKey, Boolean> newDecisionCache() {
+        return CacheBuilder.newBuilder().maximumSize(DECISION_CACHE_MAX_SIZE).build();
+    }
+    
+    private void invalidateDecisionCache() {
+        decisionCache = newDecisionCache();
+    }
+    
+    /**
+     * Get the hit ratio of permission decision cache since server started.
+     *
+     * @return hit ratio between 0 and 1
+     */
+    public double getDecisionCacheHitRatio() {
+        long hitCount = decisionCacheHitCount.sum();
+        long total = hitCount + decisionCacheMissCount.sum();
+        return 0 == total ? 0D : (double) hitCount / total;
+    }
+    
     /**
      * If API is update user password, don't do permission check, because there is permission check in API logic.
      */
@@ -244,6 +347,7 @@ public class NacosRoleServiceImpl {
 
         rolePersistService.addRole(role, username);
         roleSet.add(role);
+        invalidateDecisionCache();
     }
     
     /**
@@ -262,6 +366,7 @@ public class NacosRoleServiceImpl {
         rolePersistService.addRole(AuthConstants.GLOBAL_ADMIN_ROLE, username);
         roleSet.add(AuthConstants.GLOBAL_ADMIN_ROLE);
         authConfigs.setHasGlobalAdminRole(true);
+        invalidateDecisionCache();
     }
     
     /**
@@ -272,6 +377,7 @@ public class NacosRoleServiceImpl {
      */
     public void deleteRole(String role, String userName) {
         rolePersistService.deleteRole(role, userName);
+        invalidateDecisionCache();
     }
     
     /**
@@ -282,6 +388,7 @@ public class NacosRoleServiceImpl {
     public void deleteRole(String role) {
         rolePersistService.deleteRole(role);
         roleSet.remove(role);
+        invalidateDecisionCache();
     }
     
     public Page<PermissionInfo> getPermissionsFromDatabase(String role, int pageNo, int pageSize) {
@@ -304,10 +411,12 @@ public class NacosRoleServiceImpl {
             throw new IllegalArgumentException("role " + role + " not found!");
         }
         permissionPersistService.addPermission(role, resource, action);
+        invalidateDecisionCache();
     }
     
     public void deletePermission(String role, String resource, String action) {
         permissionPersistService.deletePermission(role, resource, action);
+        invalidateDecisionCache();
     }
     
     public List<String> findRolesLikeRoleName(String role) {
@@ -419,4 +528,36 @@ public class NacosRoleServiceImpl {
                 .anyMatch(roleInfo -> role.equals(roleInfo.getRole()));
     }
     
+    private static final class DecisionKey {
+        
+        private final String username;
+        
+        private final String action;
+        
+        private final String resource;
+        
+        private DecisionKey(String username, String action, String resource) {
+            this.username = username;
+            this.action = action;
+            this.resource = resource;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DecisionKey that = (DecisionKey) o;
+            return Objects.equals(username, that.username) && Objects.equals(action, that.action) && Objects
+                    .equals(resource, that.resource);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(username, action, resource);
+        }
+    }
 }
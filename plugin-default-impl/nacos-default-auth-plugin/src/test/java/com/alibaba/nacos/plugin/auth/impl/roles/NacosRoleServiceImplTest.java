@@ -127,6 +127,38 @@ class NacosRoleServiceImplTest {
         assertTrue(res3);
     }
     
+    @Test
+    void hasPermissionWithDecisionCache() {
+        when(authConfigs.isCachingEnabled()).thenReturn(true);
+        RoleInfo roleInfo = new RoleInfo();
+        roleInfo.setRole("role1");
+        roleInfo.setUsername("user1");
+        Page<RoleInfo> roleInfoPage = new Page<>();
+        roleInfoPage.setPageItems(Collections.singletonList(roleInfo));
+        when(rolePersistService.getRolesByUserNameAndRoleName("user1", "", 1, Integer.MAX_VALUE))
+                .thenReturn(roleInfoPage);
+        PermissionInfo permissionInfo = new PermissionInfo();
+        permissionInfo.setRole("role1");
+        permissionInfo.setResource("ns1:*:config/*");
+        permissionInfo.setAction("r");
+        Page<PermissionInfo> permissionInfoPage = new Page<>();
+        permissionInfoPage.setPageItems(Collections.singletonList(permissionInfo));
+        when(permissionPersistService.getPermissions("role1", 1, Integer.MAX_VALUE)).thenReturn(permissionInfoPage);
+        NacosUser nacosUser = new NacosUser();
+        nacosUser.setUserName("user1");
+        Permission permission = new Permission(new Resource("ns1", "group", "dataId", "config", null), "r");
+        
+        assertTrue(nacosRoleService.hasPermission(nacosUser, permission));
+        assertTrue(nacosRoleService.hasPermission(nacosUser, permission));
+        assertEquals(0.5D, nacosRoleService.getDecisionCacheHitRatio(), 0.001D);
+        assertFalse(nacosRoleService.hasPermission(nacosUser,
+                new Permission(new Resource("ns2", "group", "dataId", "config", null), "r")));
+        
+        nacosRoleService.deletePermission("role1", "ns1:*:config/*", "r");
+        assertTrue(nacosRoleService.hasPermission(nacosUser, permission));
+        assertEquals(0.25D, nacosRoleService.getDecisionCacheHitRatio(), 0.001D);
+    }
+    
     @Test
     void getRoles() {
         List<RoleInfo> nacos = nacosRoleService.getRoles("role-admin");
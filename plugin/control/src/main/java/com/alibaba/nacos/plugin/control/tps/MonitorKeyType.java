@@ -0,0 +1,59 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps;
+
+/**
+ * Type of the monitor key, which the tps of one point is limited by.
+ *
+ * @author Nacos
+ */
+public enum MonitorKeyType {
+    // limit by client ip.
+    CLIENT_IP("clientIp", "limit tps of each client ip."),
+    // limit by connection id.
+    CONNECTION_ID("connectionId", "limit tps of each connection."),
+    // limit by value of connection label, such as app name.
+    LABEL("label", "limit tps of each value of the connection label.");
+    
+    String type;
+    
+    String desc;
+    
+    MonitorKeyType(String type, String desc) {
+        this.type = type;
+        this.desc = desc;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    /**
+     * Get monitor key type by type name, ignore case.
+     *
+     * @param type type name
+     * @return monitor key type, or {@link #CLIENT_IP} if not matched
+     */
+    public static MonitorKeyType of(String type) {
+        for (MonitorKeyType each : values()) {
+            if (each.type.equalsIgnoreCase(type)) {
+                return each;
+            }
+        }
+        return CLIENT_IP;
+    }
+}
@@ -20,6 +20,7 @@ import com.alibaba.nacos.plugin.control.Loggers;
 import com.alibaba.nacos.plugin.control.tps.request.BarrierCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
+import com.alibaba.nacos.plugin.control.tps.rule.KeyRuleDetail;
 import com.alibaba.nacos.plugin.control.tps.rule.RuleDetail;
 import com.alibaba.nacos.plugin.control.tps.rule.TpsControlRule;
 
@@ -41,7 +42,14 @@ public class DefaultNacosTpsBarrier extends TpsBarrier {
      * @return check current tps is allowed.
      */
     public TpsCheckResponse applyTps(TpsCheckRequest tpsCheckRequest) {
-        
+        // check key first, the request denied by its key does not take the budget of point.
+        MonitorKeyBarrier currentKeyBarrier = this.keyBarrier;
+        if (null != currentKeyBarrier) {
+            TpsCheckResponse keyCheckResponse = currentKeyBarrier.applyTps(tpsCheckRequest);
+            if (!keyCheckResponse.isSuccess()) {
+                return keyCheckResponse;
+            }
+        }
         BarrierCheckRequest pointCheckRequest = new BarrierCheckRequest();
         pointCheckRequest.setCount(tpsCheckRequest.getCount());
         pointCheckRequest.setPointName(super.getPointName());
@@ -58,22 +66,47 @@ public class DefaultNacosTpsBarrier extends TpsBarrier {
         Loggers.CONTROL.info("Apply tps control rule start,pointName=[{}]  ", this.getPointName());
         
         //1.reset all monitor point for null.
-        if (newControlRule == null || newControlRule.getPointRule() == null) {
+        if (newControlRule == null) {
             Loggers.CONTROL.info("Clear all tps control rule ,pointName=[{}]  ", this.getPointName());
             super.getPointBarrier().clearLimitRule();
+            this.keyBarrier = null;
             return;
         }
         
         //2.check point rule.
         RuleDetail newPointRule = newControlRule.getPointRule();
+        if (newPointRule == null) {
+            Loggers.CONTROL.info("Clear point tps control rule ,pointName=[{}]  ", this.getPointName());
+            super.getPointBarrier().clearLimitRule();
+        } else {
+            Loggers.CONTROL.info("Update  point  control rule ,pointName=[{}],original maxTps={}, new maxTps={}"
+                            + ",original monitorType={}, original monitorType={}, ", this.getPointName(),
+                    this.pointBarrier.getMaxCount(), newPointRule.getMaxCount(), this.pointBarrier.getMonitorType(),
+                    newPointRule.getMonitorType());
+            this.pointBarrier.applyRuleDetail(newPointRule);
+        }
         
-        Loggers.CONTROL.info("Update  point  control rule ,pointName=[{}],original maxTps={}, new maxTps={}"
-                        + ",original monitorType={}, original monitorType={}, ", this.getPointName(),
-                this.pointBarrier.getMaxCount(), newPointRule.getMaxCount(), this.pointBarrier.getMonitorType(),
-                newPointRule.getMonitorType());
-        this.pointBarrier.applyRuleDetail(newPointRule);
+        //3.check monitor key rule.
+        applyKeyRule(newControlRule.getKeyRule());
         
         Loggers.CONTROL.info("Apply tps control rule end,pointName=[{}]  ", this.getPointName());
         
     }
+    
+    private void applyKeyRule(KeyRuleDetail newKeyRule) {
+        if (newKeyRule == null) {
+            if (this.keyBarrier != null) {
+                Loggers.CONTROL.info("Clear key tps control rule ,pointName=[{}]  ", this.getPointName());
+            }
+            this.keyBarrier = null;
+            return;
+        }
+        Loggers.CONTROL.info("Update key control rule ,pointName=[{}],new rule={}", this.getPointName(), newKeyRule);
+        MonitorKeyBarrier currentKeyBarrier = this.keyBarrier;
+        if (currentKeyBarrier == null) {
+            currentKeyBarrier = new MonitorKeyBarrier(this.getPointName(), ruleBarrierCreator);
+        }
+        currentKeyBarrier.applyRuleDetail(newKeyRule);
+        this.keyBarrier = currentKeyBarrier;
+    }
 }
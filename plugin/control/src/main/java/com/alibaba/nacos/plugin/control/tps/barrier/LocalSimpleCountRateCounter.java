@@ -19,7 +19,7 @@ package com.alibaba.nacos.plugin.control.tps.barrier;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * local simple count rate counter.
@@ -56,27 +56,29 @@ public class LocalSimpleCountRateCounter extends RateCounter {
     
     @Override
     public long add(long timestamp, long count) {
-        return createSlotIfAbsent(timestamp).countHolder.count.addAndGet(count);
+        LongAdder currentCount = createSlotIfAbsent(timestamp).countHolder.count;
+        currentCount.add(count);
+        return currentCount.sum();
     }
-
+    
     @Override
     public boolean tryAdd(long timestamp, long countDelta, long upperLimit) {
-        if (createSlotIfAbsent(timestamp).countHolder.count.addAndGet(countDelta) <= upperLimit) {
+        SlotCountHolder countHolder = createSlotIfAbsent(timestamp).countHolder;
+        countHolder.count.add(countDelta);
+        if (countHolder.count.sum() <= upperLimit) {
             return true;
-        } else {
-            createSlotIfAbsent(timestamp).countHolder.interceptedCount.addAndGet(countDelta);
-            return false;
         }
+        countHolder.interceptedCount.add(countDelta);
+        return false;
     }
-
+    
     public void minus(long timestamp, long count) {
-        AtomicLong currentCount = createSlotIfAbsent(timestamp).countHolder.count;
-        currentCount.addAndGet(count * -1);
+        createSlotIfAbsent(timestamp).countHolder.count.add(count * -1);
     }
     
     public long getCount(long timestamp) {
         TpsSlot point = getPoint(timestamp);
-        return point == null ? 0L : point.countHolder.count.longValue();
+        return point == null ? 0L : point.countHolder.count.sum();
     }
     
     /**
@@ -120,7 +122,7 @@ public class LocalSimpleCountRateCounter extends RateCounter {
     
     static class TpsSlot {
         
-        long time = 0L;
+        volatile long time = 0L;
         
         private SlotCountHolder countHolder = new SlotCountHolder();
         
@@ -128,8 +130,8 @@ public class LocalSimpleCountRateCounter extends RateCounter {
             synchronized (this) {
                 if (this.time != second) {
                     this.time = second;
-                    countHolder.count.set(0L);
-                    countHolder.interceptedCount.set(0);
+                    countHolder.count.reset();
+                    countHolder.interceptedCount.reset();
                 }
             }
         }
@@ -141,11 +143,15 @@ public class LocalSimpleCountRateCounter extends RateCounter {
         
     }
     
+    /**
+     * Striped counters of the slot, concurrent callers add into different cells instead of contending on one atomic.
+     * The sum is not an atomic snapshot, so the limit may be exceeded by the in-flight adds of the same moment.
+     */
     static class SlotCountHolder {
         
-        AtomicLong count = new AtomicLong();
+        LongAdder count = new LongAdder();
         
-        AtomicLong interceptedCount = new AtomicLong();
+        LongAdder interceptedCount = new LongAdder();
         
         @Override
         public String toString() {
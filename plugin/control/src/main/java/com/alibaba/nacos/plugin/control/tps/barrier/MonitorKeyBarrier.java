@@ -0,0 +1,203 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.plugin.control.tps.MonitorKeyType;
+import com.alibaba.nacos.plugin.control.tps.barrier.creator.RuleBarrierCreator;
+import com.alibaba.nacos.plugin.control.tps.request.BarrierCheckRequest;
+import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
+import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
+import com.alibaba.nacos.plugin.control.tps.response.TpsResultCode;
+import com.alibaba.nacos.plugin.control.tps.rule.KeyRuleDetail;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * tps barrier of monitor keys for tps point.
+ *
+ * <p>Each client ip, connection id or label value of the point is counted by its own rule barrier, so one noisy
+ * client can't exhaust the budget of the whole point. The key table is bounded by
+ * {@link KeyRuleDetail#getMaxKeySize()}, the least recently used keys are evicted when it is full.
+ *
+ * @author Nacos
+ */
+public class MonitorKeyBarrier {
+    
+    /**
+     * Evict 1/10 of the keys at once, so the eviction is not triggered by every new key.
+     */
+    private static final int EVICT_RATIO = 10;
+    
+    private final String pointName;
+    
+    private final RuleBarrierCreator ruleBarrierCreator;
+    
+    private final Map<String, KeyBarrierHolder> keyBarriers = new ConcurrentHashMap<>(16);
+    
+    private final ReentrantLock evictLock = new ReentrantLock();
+    
+    private volatile KeyRuleDetail keyRule;
+    
+    public MonitorKeyBarrier(String pointName, RuleBarrierCreator ruleBarrierCreator) {
+        this.pointName = pointName;
+        this.ruleBarrierCreator = ruleBarrierCreator;
+    }
+    
+    /**
+     * apply tps of the monitor key of request.
+     *
+     * @param tpsCheckRequest tpsCheckRequest.
+     * @return check current tps of the key is allowed.
+     */
+    public TpsCheckResponse applyTps(TpsCheckRequest tpsCheckRequest) {
+        KeyRuleDetail currentRule = keyRule;
+        String key = resolveKey(currentRule, tpsCheckRequest);
+        if (StringUtils.isBlank(key)) {
+            return new TpsCheckResponse(true, TpsResultCode.CHECK_SKIP, "skip");
+        }
+        RuleBarrier keyBarrier = getOrCreateKeyBarrier(currentRule, key, tpsCheckRequest.getTimestamp());
+        BarrierCheckRequest keyCheckRequest = new BarrierCheckRequest();
+        keyCheckRequest.setCount(tpsCheckRequest.getCount());
+        keyCheckRequest.setPointName(pointName);
+        keyCheckRequest.setTimestamp(tpsCheckRequest.getTimestamp());
+        TpsCheckResponse response = keyBarrier.applyTps(keyCheckRequest);
+        if (response.isSuccess()) {
+            return response;
+        }
+        return new TpsCheckResponse(false, TpsResultCode.DENY_BY_KEY,
+                "tps over limit of " + currentRule.getKeyType() + " " + key + " :" + keyBarrier.getMaxCount());
+    }
+    
+    /**
+     * apply rule detail of monitor key, the counted keys are cleared if the type of key changed.
+     *
+     * @param newKeyRule newKeyRule.
+     */
+    public synchronized void applyRuleDetail(KeyRuleDetail newKeyRule) {
+        KeyRuleDetail oldKeyRule = this.keyRule;
+        this.keyRule = newKeyRule;
+        if (null != oldKeyRule && isKeyChanged(oldKeyRule, newKeyRule)) {
+            keyBarriers.clear();
+            return;
+        }
+        for (KeyBarrierHolder each : keyBarriers.values()) {
+            each.barrier.applyRuleDetail(newKeyRule);
+        }
+    }
+    
+    private boolean isKeyChanged(KeyRuleDetail oldKeyRule, KeyRuleDetail newKeyRule) {
+        boolean typeChanged = MonitorKeyType.of(oldKeyRule.getKeyType()) != MonitorKeyType.of(newKeyRule.getKeyType());
+        return typeChanged || !Objects.equals(oldKeyRule.getLabelKey(), newKeyRule.getLabelKey());
+    }
+    
+    public KeyRuleDetail getKeyRule() {
+        return keyRule;
+    }
+    
+    /**
+     * get count of keys counted currently.
+     *
+     * @return key size.
+     */
+    public int getKeySize() {
+        return keyBarriers.size();
+    }
+    
+    /**
+     * get rule barrier of the key, read only, return null if not counted.
+     *
+     * @param key monitor key.
+     * @return rule barrier of the key.
+     */
+    public RuleBarrier getKeyBarrier(String key) {
+        KeyBarrierHolder holder = keyBarriers.get(key);
+        return null == holder ? null : holder.barrier;
+    }
+    
+    static String resolveKey(KeyRuleDetail keyRule, TpsCheckRequest tpsCheckRequest) {
+        switch (MonitorKeyType.of(keyRule.getKeyType())) {
+            case CONNECTION_ID:
+                return tpsCheckRequest.getConnectionId();
+            case LABEL:
+                Map<String, String> labels = tpsCheckRequest.getLabels();
+                return null == labels ? null : labels.get(keyRule.getLabelKey());
+            default:
+                return tpsCheckRequest.getClientIp();
+        }
+    }
+    
+    private RuleBarrier getOrCreateKeyBarrier(KeyRuleDetail currentRule, String key, long timestamp) {
+        KeyBarrierHolder holder = keyBarriers.get(key);
+        if (null == holder) {
+            if (keyBarriers.size() >= currentRule.getMaxKeySize()) {
+                evict(currentRule.getMaxKeySize());
+            }
+            holder = keyBarriers.computeIfAbsent(key, k -> createKeyBarrier(currentRule, k));
+        }
+        if (holder.lastAccessTime != timestamp) {
+            holder.lastAccessTime = timestamp;
+        }
+        return holder.barrier;
+    }
+    
+    private KeyBarrierHolder createKeyBarrier(KeyRuleDetail currentRule, String key) {
+        RuleBarrier barrier = ruleBarrierCreator.createRuleBarrier(pointName, key, currentRule.getPeriod());
+        barrier.applyRuleDetail(currentRule);
+        return new KeyBarrierHolder(barrier);
+    }
+    
+    /**
+     * Evict the least recently used keys, only one thread evicts at the same time and the others go on without
+     * waiting, so the size of table may exceed the max size slightly.
+     */
+    private void evict(int maxKeySize) {
+        if (!evictLock.tryLock()) {
+            return;
+        }
+        try {
+            int overflow = keyBarriers.size() - (maxKeySize - Math.max(1, maxKeySize / EVICT_RATIO));
+            if (overflow <= 0) {
+                return;
+            }
+            List<Map.Entry<String, KeyBarrierHolder>> entries = new ArrayList<>(keyBarriers.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccessTime));
+            for (int i = 0; i < overflow && i < entries.size(); i++) {
+                keyBarriers.remove(entries.get(i).getKey(), entries.get(i).getValue());
+            }
+        } finally {
+            evictLock.unlock();
+        }
+    }
+    
+    private static class KeyBarrierHolder {
+        
+        private final RuleBarrier barrier;
+        
+        private volatile long lastAccessTime;
+        
+        KeyBarrierHolder(RuleBarrier barrier) {
+            this.barrier = barrier;
+        }
+    }
+}
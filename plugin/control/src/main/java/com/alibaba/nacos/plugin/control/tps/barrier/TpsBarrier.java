@@ -38,6 +38,11 @@ public abstract class TpsBarrier {
     
     protected RuleBarrier pointBarrier;
     
+    /**
+     * barrier of monitor keys, null if no key rule applied.
+     */
+    protected volatile MonitorKeyBarrier keyBarrier;
+    
     public TpsBarrier(String pointName) {
         this.pointName = pointName;
         this.ruleBarrierCreator = new LocalSimpleCountBarrierCreator();
@@ -56,6 +61,10 @@ public abstract class TpsBarrier {
         return pointBarrier;
     }
     
+    public MonitorKeyBarrier getKeyBarrier() {
+        return keyBarrier;
+    }
+    
     public String getPointName() {
         return pointName;
     }
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.plugin.control.tps.request;
 
+import java.util.Map;
+
 /**
  * tps request.
  *
@@ -33,8 +35,13 @@ public class TpsCheckRequest {
     
     private long count = 1;
     
-    public TpsCheckRequest() {
+    /**
+     * labels of the connection, such as app name.
+     */
+    private Map<String, String> labels;
     
+    public TpsCheckRequest() {
+        
     }
     
     public TpsCheckRequest(String pointName, String connectionId, String clientIp) {
@@ -75,6 +82,14 @@ public class TpsCheckRequest {
         this.clientIp = clientIp;
     }
     
+    public Map<String, String> getLabels() {
+        return labels;
+    }
+    
+    public void setLabels(Map<String, String> labels) {
+        this.labels = labels;
+    }
+    
     public String getPointName() {
         return pointName;
     }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.rule;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.plugin.control.tps.MonitorKeyType;
+
+/**
+ * rule detail of monitor key, every key of the point is counted and limited separately.
+ *
+ * @author Nacos
+ */
+public class KeyRuleDetail extends RuleDetail {
+    
+    private static final int DEFAULT_MAX_KEY_SIZE = 10000;
+    
+    /**
+     * clientIp/connectionId/label.
+     */
+    String keyType = MonitorKeyType.CLIENT_IP.getType();
+    
+    /**
+     * label name of connection when key type is label, app name by default.
+     */
+    String labelKey = Constants.APPNAME;
+    
+    /**
+     * max count of keys counted, the least recently used keys are evicted when exceeded.
+     */
+    int maxKeySize = DEFAULT_MAX_KEY_SIZE;
+    
+    public String getKeyType() {
+        return keyType;
+    }
+    
+    public void setKeyType(String keyType) {
+        this.keyType = keyType;
+    }
+    
+    public String getLabelKey() {
+        return labelKey;
+    }
+    
+    public void setLabelKey(String labelKey) {
+        this.labelKey = labelKey;
+    }
+    
+    public int getMaxKeySize() {
+        return maxKeySize;
+    }
+    
+    public void setMaxKeySize(int maxKeySize) {
+        this.maxKeySize = maxKeySize;
+    }
+    
+    @Override
+    public String toString() {
+        return "KeyRule{" + "keyType='" + keyType + '\'' + ", labelKey='" + labelKey + '\'' + ", maxKeySize="
+                + maxKeySize + ", maxTps=" + maxCount + ", monitorType='" + monitorType + '\'' + '}';
+    }
+}
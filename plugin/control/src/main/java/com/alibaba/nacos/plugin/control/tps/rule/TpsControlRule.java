@@ -28,6 +28,8 @@ public class TpsControlRule {
     
     private RuleDetail pointRule;
     
+    private KeyRuleDetail keyRule;
+    
     public String getPointName() {
         return pointName;
     }
@@ -44,8 +46,17 @@ public class TpsControlRule {
         this.pointRule = pointRule;
     }
     
+    public KeyRuleDetail getKeyRule() {
+        return keyRule;
+    }
+    
+    public void setKeyRule(KeyRuleDetail keyRule) {
+        this.keyRule = keyRule;
+    }
+    
     @Override
     public String toString() {
-        return "TpsControlRule{" + "pointName='" + pointName + '\'' + ", pointRule=" + pointRule + "}'";
+        return "TpsControlRule{" + "pointName='" + pointName + '\'' + ", pointRule=" + pointRule + ", keyRule=" + keyRule
+                + "}'";
     }
 }
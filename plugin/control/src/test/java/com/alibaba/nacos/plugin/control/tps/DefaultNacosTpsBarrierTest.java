@@ -16,18 +16,27 @@
 
 package com.alibaba.nacos.plugin.control.tps;
 
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.plugin.control.rule.parser.NacosTpsControlRuleParser;
 import com.alibaba.nacos.plugin.control.tps.barrier.DefaultNacosTpsBarrier;
 import com.alibaba.nacos.plugin.control.tps.barrier.TpsBarrier;
 import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
+import com.alibaba.nacos.plugin.control.tps.response.TpsResultCode;
+import com.alibaba.nacos.plugin.control.tps.rule.KeyRuleDetail;
 import com.alibaba.nacos.plugin.control.tps.rule.RuleDetail;
 import com.alibaba.nacos.plugin.control.tps.rule.TpsControlRule;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultNacosTpsBarrierTest {
@@ -69,4 +78,89 @@ class DefaultNacosTpsBarrierTest {
         
     }
     
+    @Test
+    void testKeyPassAndDeny() {
+        TpsControlRule tpsControlRule = new TpsControlRule();
+        tpsControlRule.setPointName("test_barrier");
+        tpsControlRule.setKeyRule(buildKeyRule(MonitorKeyType.LABEL.getType(), 2, 100));
+        TpsBarrier tpsBarrier = new DefaultNacosTpsBarrier("test_barrier");
+        tpsBarrier.applyRule(tpsControlRule);
+        
+        long timeMillis = System.currentTimeMillis();
+        TpsCheckRequest noisyRequest = buildRequest(timeMillis, "conn1", "127.0.0.1");
+        noisyRequest.setLabels(Collections.singletonMap(Constants.APPNAME, "noisy"));
+        assertTrue(tpsBarrier.applyTps(noisyRequest).isSuccess());
+        assertTrue(tpsBarrier.applyTps(noisyRequest).isSuccess());
+        TpsCheckResponse deniedResponse = tpsBarrier.applyTps(noisyRequest);
+        assertFalse(deniedResponse.isSuccess());
+        assertEquals(TpsResultCode.DENY_BY_KEY, deniedResponse.getCode());
+        
+        // other app and request without label are not limited by noisy app.
+        TpsCheckRequest quietRequest = buildRequest(timeMillis, "conn2", "127.0.0.1");
+        quietRequest.setLabels(Collections.singletonMap(Constants.APPNAME, "quiet"));
+        assertTrue(tpsBarrier.applyTps(quietRequest).isSuccess());
+        assertTrue(tpsBarrier.applyTps(buildRequest(timeMillis, "conn3", "127.0.0.1")).isSuccess());
+        // denied requests of key do not take the budget of point.
+        assertEquals(4, tpsBarrier.getPointBarrier().getMetrics(timeMillis).getCounter().getPassCount());
+        
+        tpsControlRule.setKeyRule(null);
+        tpsBarrier.applyRule(tpsControlRule);
+        assertNull(tpsBarrier.getKeyBarrier());
+        assertTrue(tpsBarrier.applyTps(noisyRequest).isSuccess());
+    }
+    
+    @Test
+    void testKeyEvicted() {
+        TpsControlRule tpsControlRule = new TpsControlRule();
+        tpsControlRule.setPointName("test_barrier");
+        tpsControlRule.setKeyRule(buildKeyRule(MonitorKeyType.CONNECTION_ID.getType(), 5, 10));
+        TpsBarrier tpsBarrier = new DefaultNacosTpsBarrier("test_barrier");
+        tpsBarrier.applyRule(tpsControlRule);
+        
+        long timeMillis = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++) {
+            tpsBarrier.applyTps(buildRequest(timeMillis + i, "conn" + i, "127.0.0.1"));
+        }
+        assertEquals(10, tpsBarrier.getKeyBarrier().getKeySize());
+        tpsBarrier.applyTps(buildRequest(timeMillis + 10, "conn10", "127.0.0.1"));
+        assertEquals(10, tpsBarrier.getKeyBarrier().getKeySize());
+        assertNull(tpsBarrier.getKeyBarrier().getKeyBarrier("conn0"));
+        assertNotNull(tpsBarrier.getKeyBarrier().getKeyBarrier("conn1"));
+        assertNotNull(tpsBarrier.getKeyBarrier().getKeyBarrier("conn10"));
+        
+        // change key type clears counted keys.
+        tpsControlRule.setKeyRule(buildKeyRule(MonitorKeyType.CLIENT_IP.getType(), 5, 10));
+        tpsBarrier.applyRule(tpsControlRule);
+        assertEquals(0, tpsBarrier.getKeyBarrier().getKeySize());
+    }
+    
+    @Test
+    void testParseKeyRule() {
+        String ruleContent = "{\"pointName\":\"test_barrier\",\"pointRule\":{\"maxCount\":100,"
+                + "\"monitorType\":\"intercept\"},\"keyRule\":{\"keyType\":\"connectionId\","
+                + "\"maxCount\":10,\"monitorType\":\"intercept\",\"maxKeySize\":1000}}";
+        TpsControlRule tpsControlRule = new NacosTpsControlRuleParser().parseRule(ruleContent);
+        assertEquals(100, tpsControlRule.getPointRule().getMaxCount());
+        KeyRuleDetail keyRule = tpsControlRule.getKeyRule();
+        assertEquals(MonitorKeyType.CONNECTION_ID, MonitorKeyType.of(keyRule.getKeyType()));
+        assertEquals(Constants.APPNAME, keyRule.getLabelKey());
+        assertEquals(10, keyRule.getMaxCount());
+        assertEquals(1000, keyRule.getMaxKeySize());
+        assertEquals(TimeUnit.SECONDS, keyRule.getPeriod());
+    }
+    
+    private KeyRuleDetail buildKeyRule(String keyType, long maxCount, int maxKeySize) {
+        KeyRuleDetail keyRule = new KeyRuleDetail();
+        keyRule.setKeyType(keyType);
+        keyRule.setMaxCount(maxCount);
+        keyRule.setMaxKeySize(maxKeySize);
+        keyRule.setMonitorType(MonitorType.INTERCEPT.getType());
+        return keyRule;
+    }
+    
+    private TpsCheckRequest buildRequest(long timeMillis, String connectionId, String clientIp) {
+        TpsCheckRequest tpsCheckRequest = new TpsCheckRequest("test_barrier", connectionId, clientIp);
+        tpsCheckRequest.setTimestamp(timeMillis);
+        return tpsCheckRequest;
+    }
 }
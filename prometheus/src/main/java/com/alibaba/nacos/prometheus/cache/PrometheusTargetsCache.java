@@ -0,0 +1,222 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.prometheus.cache;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.prometheus.utils.PrometheusUtils;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of prometheus http service discovery documents.
+ *
+ * <p>The targets of each service are encoded once and reused until the instance list of the service is replaced in
+ * naming service storage, which is checked by identity without walking the instances. The document of one scope is
+ * concatenated by the encoded targets of its services, and reused with its ETag until any of them is changed.
+ *
+ * @author Nacos
+ */
+public class PrometheusTargetsCache extends Subscriber<ServiceEvent.ServiceChangedEvent> {
+    
+    private static final Document EMPTY_DOCUMENT = new Document(null, new byte[0]);
+    
+    private final Map<Service, ServiceTargets> serviceTargets = new ConcurrentHashMap<>();
+    
+    private final Map<String, Document> documents = new ConcurrentHashMap<>();
+    
+    /**
+     * Get encoded targets of service.
+     *
+     * @param service   service
+     * @param instances current instances of service from naming service storage
+     * @return encoded targets
+     */
+    public ServiceTargets getServiceTargets(Service service, List<? extends Instance> instances) {
+        ServiceTargets cached = serviceTargets.get(service);
+        if (null != cached && cached.instances == instances) {
+            return cached;
+        }
+        ServiceTargets result = new ServiceTargets(service, instances, encodeTargets(instances));
+        serviceTargets.put(service, result);
+        return result;
+    }
+    
+    /**
+     * Get document of the scope, which is rebuilt only if the targets are changed.
+     *
+     * @param scope   scope of document, such as namespace
+     * @param targets current targets of all services in the scope
+     * @return document
+     */
+    public Document getDocument(String scope, List<ServiceTargets> targets) {
+        if (targets.isEmpty()) {
+            documents.remove(scope);
+            return EMPTY_DOCUMENT;
+        }
+        Document cached = documents.get(scope);
+        if (null != cached && cached.isBuiltFrom(targets)) {
+            return cached;
+        }
+        Document result = new Document(targets, concatTargets(targets));
+        documents.put(scope, result);
+        return result;
+    }
+    
+    /**
+     * Remove the cached targets and documents of services not existed any more.
+     *
+     * @param services all existed services
+     */
+    public void retainServices(Set<Service> services) {
+        serviceTargets.keySet().retainAll(services);
+        // The scope of removed services might be never requested again, such as the namespace is removed.
+        documents.values().removeIf(each -> !each.isOfServices(services));
+    }
+    
+    @Override
+    public void onEvent(ServiceEvent.ServiceChangedEvent event) {
+        // The instance list is replaced after pushing, so the targets are rebuilt by identity check, the changed
+        // event only releases the outdated targets in time.
+        serviceTargets.remove(event.getService());
+    }
+    
+    @Override
+    public Class<? extends Event> subscribeType() {
+        return ServiceEvent.ServiceChangedEvent.class;
+    }
+    
+    private static byte[] encodeTargets(List<? extends Instance> instances) {
+        ArrayNode arrayNode = JacksonUtils.createEmptyArrayNode();
+        PrometheusUtils.assembleArrayNodes(new HashSet<>(instances), arrayNode);
+        if (arrayNode.size() == 0) {
+            return new byte[0];
+        }
+        String json = arrayNode.toString();
+        // remove the brackets of array, the targets of services are joined into one array of document
+        return json.substring(1, json.length() - 1).getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private static byte[] concatTargets(List<ServiceTargets> targets) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write('[');
+        boolean first = true;
+        for (ServiceTargets each : targets) {
+            if (each.content.length == 0) {
+                continue;
+            }
+            if (!first) {
+                outputStream.write(',');
+            }
+            outputStream.write(each.content, 0, each.content.length);
+            first = false;
+        }
+        outputStream.write(']');
+        return outputStream.toByteArray();
+    }
+    
+    /**
+     * Encoded targets of one service.
+     */
+    public static class ServiceTargets {
+        
+        private final Service service;
+        
+        private final List<? extends Instance> instances;
+        
+        private final byte[] content;
+        
+        private ServiceTargets(Service service, List<? extends Instance> instances, byte[] content) {
+            this.service = service;
+            this.instances = instances;
+            this.content = content;
+        }
+    }
+    
+    /**
+     * Encoded service discovery document.
+     */
+    public static class Document {
+        
+        private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.UTF_8);
+        
+        private final List<ServiceTargets> targets;
+        
+        private final byte[] content;
+        
+        private final String etag;
+        
+        private Document(List<ServiceTargets> targets, byte[] content) {
+            this.targets = targets;
+            this.content = content.length == 0 ? EMPTY_ARRAY : content;
+            this.etag = buildEtag(this.content);
+        }
+        
+        private boolean isBuiltFrom(List<ServiceTargets> targets) {
+            if (this.targets.size() != targets.size()) {
+                return false;
+            }
+            for (int i = 0; i < targets.size(); i++) {
+                if (this.targets.get(i) != targets.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private boolean isOfServices(Set<Service> services) {
+            for (ServiceTargets each : targets) {
+                if (!services.contains(each.service)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private static String buildEtag(byte[] content) {
+            String digest;
+            try {
+                digest = MD5Utils.md5Hex(content);
+            } catch (NoSuchAlgorithmException e) {
+                digest = Integer.toHexString(Arrays.hashCode(content));
+            }
+            return "\"" + digest + "\"";
+        }
+        
+        public byte[] getContent() {
+            return content;
+        }
+        
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
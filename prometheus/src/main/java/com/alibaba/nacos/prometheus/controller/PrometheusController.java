@@ -18,20 +18,24 @@ package com.alibaba.nacos.prometheus.controller;
 
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
-import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.naming.core.InstanceOperatorClientImpl;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.prometheus.api.ApiConstants;
-import com.alibaba.nacos.prometheus.utils.PrometheusUtils;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.alibaba.nacos.prometheus.cache.PrometheusTargetsCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -41,19 +45,36 @@ import java.util.function.Predicate;
 /**
  * Support Prometheus SD Controller.
  *
+ * <p>The responses are cached by {@link PrometheusTargetsCache} with ETag, and {@code 304 Not Modified} is returned if
+ * any entity tag in the {@code If-None-Match} of request matches by weak comparison.
+ *
  * @author karsonto
  */
 @RestController
 @ConditionalOnProperty(name = "nacos.prometheus.metrics.enabled", havingValue = "true")
 public class PrometheusController {
     
+    private static final String ALL_SCOPE = "";
+    
+    private static final String SCOPE_SEPARATOR = "@@";
+    
+    private static final String ETAG_SEPARATOR = ",";
+    
+    private static final String ANY_ETAG = "*";
+    
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    
     @Autowired
     private InstanceOperatorClientImpl instanceServiceV2;
     
     private final ServiceManager serviceManager;
     
+    private final PrometheusTargetsCache targetsCache;
+    
     public PrometheusController() {
         this.serviceManager = ServiceManager.getInstance();
+        this.targetsCache = new PrometheusTargetsCache();
+        NotifyCenter.registerSubscriber(targetsCache, NamingEventPublisherFactory.getInstance());
     }
     
     /**
@@ -62,24 +83,21 @@ public class PrometheusController {
      * @throws NacosException NacosException.
      */
     @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_PATH, produces = "application/json; charset=UTF-8")
-    public ResponseEntity<String> metric() throws NacosException {
-        ArrayNode arrayNode = JacksonUtils.createEmptyArrayNode();
-        Set<Instance> targetSet = new HashSet<>();
+    public ResponseEntity<byte[]> metric(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws NacosException {
+        List<PrometheusTargetsCache.ServiceTargets> targets = new ArrayList<>();
+        Set<Service> allServices = new HashSet<>();
         Set<String> allNamespaces = serviceManager.getAllNamespaces();
         for (String namespace : allNamespaces) {
             Set<Service> singletons = serviceManager.getSingletons(namespace);
             for (Service service : singletons) {
-                
-                List<? extends Instance> instances = instanceServiceV2.listAllInstances(namespace,
-                        service.getGroupedServiceName());
-                
-                targetSet.addAll(instances);
-                
+                allServices.add(service);
+                targets.add(getServiceTargets(namespace, service));
             }
         }
-        
-        PrometheusUtils.assembleArrayNodes(targetSet, arrayNode);
-        return ResponseEntity.ok().body(arrayNode.toString());
+        targetsCache.retainServices(allServices);
+        return buildResponse(targetsCache.getDocument(ALL_SCOPE, targets), ifNoneMatch);
     }
     
     
@@ -89,11 +107,12 @@ public class PrometheusController {
      * @throws NacosException NacosException.
      */
     @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_NAMESPACE_PATH, produces = "application/json; charset=UTF-8")
-    public ResponseEntity<String> metricNamespace(@PathVariable("namespaceId") String namespaceId)
+    public ResponseEntity<byte[]> metricNamespace(@PathVariable("namespaceId") String namespaceId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
             throws NacosException {
-        ArrayNode arrayNode = getServiceArrayNode(namespaceId, s -> true);
+        PrometheusTargetsCache.Document document = getServiceDocument(namespaceId, namespaceId, s -> true);
         
-        return ResponseEntity.ok().body(arrayNode.toString());
+        return buildResponse(document, ifNoneMatch);
     }
     
     /**
@@ -102,36 +121,66 @@ public class PrometheusController {
      * @throws NacosException NacosException.
      */
     @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_SERVICE_PATH, produces = "application/json; charset=UTF-8")
-    public ResponseEntity<String> metricNamespaceService(@PathVariable("namespaceId") String namespaceId,
-            @PathVariable("service") String service) throws NacosException {
-        ArrayNode arrayNode = getServiceArrayNode(namespaceId, s -> s.getName().equals(service));
+    public ResponseEntity<byte[]> metricNamespaceService(@PathVariable("namespaceId") String namespaceId,
+            @PathVariable("service") String service,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws NacosException {
+        PrometheusTargetsCache.Document document = getServiceDocument(namespaceId + SCOPE_SEPARATOR + service,
+                namespaceId, s -> s.getName().equals(service));
         
-        return ResponseEntity.ok().body(arrayNode.toString());
+        return buildResponse(document, ifNoneMatch);
     }
     
-    private ArrayNode getServiceArrayNode(String namespaceId, Predicate<Service> serviceFilter) throws NacosException {
-        ArrayNode arrayNode = JacksonUtils.createEmptyArrayNode();
+    private PrometheusTargetsCache.Document getServiceDocument(String scope, String namespaceId,
+            Predicate<Service> serviceFilter) throws NacosException {
+        List<PrometheusTargetsCache.ServiceTargets> targets = new ArrayList<>();
         Set<String> allNamespaces = serviceManager.getAllNamespaces();
         if (!allNamespaces.contains(namespaceId)) {
-            return arrayNode;
+            return targetsCache.getDocument(scope, targets);
         }
         
-        Set<Instance> targetSet = new HashSet<>();
-        
         Set<Service> singletons = serviceManager.getSingletons(namespaceId);
         for (Service existService : singletons) {
             if (!serviceFilter.test(existService)) {
                 continue;
             }
-            List<? extends Instance> instances = instanceServiceV2.listAllInstances(namespaceId,
-                    existService.getGroupedServiceName());
-            
-            targetSet.addAll(instances);
-            
+            targets.add(getServiceTargets(namespaceId, existService));
         }
         
-        PrometheusUtils.assembleArrayNodes(targetSet, arrayNode);
-        
-        return arrayNode;
+        return targetsCache.getDocument(scope, targets);
+    }
+    
+    private PrometheusTargetsCache.ServiceTargets getServiceTargets(String namespaceId, Service service)
+            throws NacosException {
+        List<? extends Instance> instances = instanceServiceV2.listAllInstances(namespaceId,
+                service.getGroupedServiceName());
+        return targetsCache.getServiceTargets(service, instances);
+    }
+    
+    private ResponseEntity<byte[]> buildResponse(PrometheusTargetsCache.Document document, String ifNoneMatch) {
+        if (isEtagMatched(document.getEtag(), ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(document.getEtag()).build();
+        }
+        return ResponseEntity.ok().eTag(document.getEtag()).body(document.getContent());
+    }
+    
+    private static boolean isEtagMatched(String etag, String ifNoneMatch) {
+        if (null == ifNoneMatch) {
+            return false;
+        }
+        // If-None-Match is a list of entity tags, which are compared by weak comparison.
+        for (String each : ifNoneMatch.split(ETAG_SEPARATOR)) {
+            String entityTag = each.trim();
+            if (ANY_ETAG.equals(entityTag)) {
+                return true;
+            }
+            if (entityTag.startsWith(WEAK_ETAG_PREFIX)) {
+                entityTag = entityTag.substring(WEAK_ETAG_PREFIX.length());
+            }
+            if (etag.equals(entityTag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
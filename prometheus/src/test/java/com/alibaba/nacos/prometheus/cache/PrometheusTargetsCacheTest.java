@@ -0,0 +1,65 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.prometheus.cache;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PrometheusTargetsCacheTest {
+    
+    private final PrometheusTargetsCache targetsCache = new PrometheusTargetsCache();
+    
+    @Test
+    void testGetDocumentReused() {
+        Service service = Service.newService("A", "B", "C");
+        List<PrometheusTargetsCache.ServiceTargets> targets = Collections.singletonList(
+                targetsCache.getServiceTargets(service, buildInstances()));
+        PrometheusTargetsCache.Document document = targetsCache.getDocument("A", targets);
+        assertSame(document, targetsCache.getDocument("A", targets));
+    }
+    
+    @Test
+    void testRetainServicesRemoveDocuments() {
+        Service service = Service.newService("A", "B", "C");
+        Service removed = Service.newService("A", "B", "D");
+        List<PrometheusTargetsCache.ServiceTargets> targets = Collections.singletonList(
+                targetsCache.getServiceTargets(service, buildInstances()));
+        List<PrometheusTargetsCache.ServiceTargets> removedTargets = Collections.singletonList(
+                targetsCache.getServiceTargets(removed, buildInstances()));
+        PrometheusTargetsCache.Document document = targetsCache.getDocument("A@@C", targets);
+        PrometheusTargetsCache.Document removedDocument = targetsCache.getDocument("A@@D", removedTargets);
+        targetsCache.retainServices(new HashSet<>(Collections.singletonList(service)));
+        assertSame(document, targetsCache.getDocument("A@@C", targets));
+        assertNotSame(removedDocument, targetsCache.getDocument("A@@D", removedTargets));
+    }
+    
+    private List<Instance> buildInstances() {
+        Instance instance = new Instance();
+        instance.setIp("127.0.0.1");
+        instance.setPort(8080);
+        instance.setClusterName("A");
+        return Collections.singletonList(instance);
+    }
+}
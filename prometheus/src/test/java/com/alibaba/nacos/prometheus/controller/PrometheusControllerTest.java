@@ -31,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
@@ -43,6 +44,8 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
 
 /**
@@ -128,6 +131,45 @@ public class PrometheusControllerTest {
         assertEquals(testInstanceList.size(), JacksonUtils.toObj(response.getContentAsString()).size());
     }
     
+    @Test
+    public void testMetricNotModified() throws Exception {
+        when(instanceServiceV2.listAllInstances(nameSpace, NamingUtils.getGroupedName(name, group))).thenReturn(testInstanceList);
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(ApiConstants.PROMETHEUS_CONTROLLER_PATH);
+        MockHttpServletResponse response = mockMvc.perform(builder).andReturn().getResponse();
+        assertEquals(200, response.getStatus());
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        
+        builder = MockMvcRequestBuilders.get(ApiConstants.PROMETHEUS_CONTROLLER_PATH).header(HttpHeaders.IF_NONE_MATCH, etag);
+        response = mockMvc.perform(builder).andReturn().getResponse();
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentLength());
+        
+        List changedInstanceList = new ArrayList<>(testInstanceList);
+        changedInstanceList.add(prepareInstance("A", "127.0.0.1", 8082, Collections.singletonMap("__meta_key", "value3")));
+        when(instanceServiceV2.listAllInstances(nameSpace, NamingUtils.getGroupedName(name, group))).thenReturn(changedInstanceList);
+        builder = MockMvcRequestBuilders.get(ApiConstants.PROMETHEUS_CONTROLLER_PATH).header(HttpHeaders.IF_NONE_MATCH, etag);
+        response = mockMvc.perform(builder).andReturn().getResponse();
+        assertEquals(200, response.getStatus());
+        assertNotEquals(etag, response.getHeader(HttpHeaders.ETAG));
+        assertEquals(changedInstanceList.size(), JacksonUtils.toObj(response.getContentAsString()).size());
+    }
+    
+    @Test
+    public void testMetricNotModifiedWithEtagList() throws Exception {
+        when(instanceServiceV2.listAllInstances(nameSpace, NamingUtils.getGroupedName(name, group))).thenReturn(testInstanceList);
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(ApiConstants.PROMETHEUS_CONTROLLER_PATH);
+        String etag = mockMvc.perform(builder).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        
+        for (String each : new String[] {"\"other\", W/" + etag, "W/\"other\",  " + etag, "*"}) {
+            builder = MockMvcRequestBuilders.get(ApiConstants.PROMETHEUS_CONTROLLER_PATH).header(HttpHeaders.IF_NONE_MATCH, each);
+            assertEquals(304, mockMvc.perform(builder).andReturn().getResponse().getStatus());
+        }
+        builder = MockMvcRequestBuilders.get(ApiConstants.PROMETHEUS_CONTROLLER_PATH).header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/\"another\"");
+        assertEquals(200, mockMvc.perform(builder).andReturn().getResponse().getStatus());
+    }
+    
     @Test
     public void testEmptyMetricNamespaceService() throws Exception {
         String prometheusNamespaceServicePath = ApiConstants.PROMETHEUS_CONTROLLER_SERVICE_PATH.replace("{namespaceId}", nameSpace);